@@ -60,6 +60,20 @@ public class Tracing {
         ignite.close();
     }
 
+    @Test
+    void enableTailSampling() {
+        //tag::enable-tail-sampling[]
+        Ignite ignite = Ignition.start();
+
+        // Trace only the transactions that last longer than 500 milliseconds or fail.
+        ignite.tracingConfiguration().set(
+                new TracingConfigurationCoordinates.Builder(Scope.TX).build(),
+                new TracingConfigurationParameters.Builder().withSamplingRate(0).withLatencyThreshold(500).build());
+
+        //end::enable-tail-sampling[]
+        ignite.close();
+    }
+
     void exportToZipkin() {
         //tag::export-to-zipkin[]
         //register Zipkin exporter
@@ -54,12 +54,14 @@ import org.apache.ignite.spi.systemview.view.ComputeJobView;
 import org.apache.ignite.spi.systemview.view.ComputeTaskView;
 import org.apache.ignite.spi.systemview.view.ConfigurationView;
 import org.apache.ignite.spi.systemview.view.ContinuousQueryView;
+import org.apache.ignite.spi.systemview.view.HotKeyView;
 import org.apache.ignite.spi.systemview.view.MetastorageView;
 import org.apache.ignite.spi.systemview.view.MetricsView;
 import org.apache.ignite.spi.systemview.view.NodeAttributeView;
 import org.apache.ignite.spi.systemview.view.NodeMetricsView;
 import org.apache.ignite.spi.systemview.view.PagesListView;
 import org.apache.ignite.spi.systemview.view.PagesTimestampHistogramView;
+import org.apache.ignite.spi.systemview.view.PartitionAccessView;
 import org.apache.ignite.spi.systemview.view.PartitionStateView;
 import org.apache.ignite.spi.systemview.view.ScanQueryView;
 import org.apache.ignite.spi.systemview.view.ServiceView;
@@ -150,6 +152,8 @@ public class SystemViewRowAttributeWalkerGenerator {
         gen.generateAndWrite(MetricsView.class, DFLT_SRC_DIR);
         gen.generateAndWrite(PagesTimestampHistogramView.class, DFLT_SRC_DIR);
         gen.generateAndWrite(ConfigurationView.class, DFLT_SRC_DIR);
+        gen.generateAndWrite(PartitionAccessView.class, DFLT_SRC_DIR);
+        gen.generateAndWrite(HotKeyView.class, DFLT_SRC_DIR);
 
         gen.generateAndWrite(SqlSchemaView.class, DFLT_SRC_DIR);
         gen.generateAndWrite(SqlTableView.class, DFLT_SRC_DIR);
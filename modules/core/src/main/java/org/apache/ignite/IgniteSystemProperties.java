@@ -36,13 +36,16 @@ import org.apache.ignite.internal.binary.BinaryArray;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.client.GridClient;
 import org.apache.ignite.internal.marshaller.optimized.OptimizedMarshaller;
+import org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
 import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
 import org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter;
+import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsFlightRecorder;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker;
 import org.apache.ignite.internal.processors.rest.GridRestCommand;
+import org.apache.ignite.internal.processors.tracing.TailSampledTrace;
 import org.apache.ignite.internal.util.GridLogThrottle;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteExperimental;
@@ -73,11 +76,13 @@ import static org.apache.ignite.internal.processors.cache.CacheObjectsReleaseFut
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_RETRIES_COUNT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_START_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_READ_LOAD_BALANCING;
+import static org.apache.ignite.internal.processors.cache.GridCacheMapEntry.DFLT_ENTRY_LOCK_SPINS;
 import static org.apache.ignite.internal.processors.cache.GridCacheMvccManager.DFLT_MAX_NESTED_LISTENER_CALLS;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_DIAGNOSTIC_WARN_LIMIT;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_MERGE_DELAY;
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
+import static org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager.DFLT_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
@@ -85,11 +90,13 @@ import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBina
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemander.DFLT_REBALANCE_PRELOAD_PARALLELISM;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_LONG_OPERATIONS_DUMP_TIMEOUT_LIMIT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_PARTITION_RELEASE_FUTURE_DUMP_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_ATOMIC_CACHE_DELETE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_CACHE_REMOVE_ENTRIES_TTL;
+import static org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker.DFLT_CACHE_HOT_SPOTS_TOP_KEYS;
 import static org.apache.ignite.internal.processors.cache.mvcc.MvccCachingManager.DFLT_MVCC_TX_SIZE_CACHING_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
@@ -123,21 +130,27 @@ import static org.apache.ignite.internal.processors.cache.transactions.TxDeadloc
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_DIAGNOSTIC_ENABLED;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_UPDATE_NOTIFIER;
 import static org.apache.ignite.internal.processors.cluster.baseline.autoadjust.BaselineTopologyUpdater.DFLT_BASELINE_AUTO_ADJUST_LOG_INTERVAL;
+import static org.apache.ignite.internal.processors.datastreamer.DataStreamerImpl.DFLT_DATA_STREAMER_SORTED_BATCH_APPLY;
 import static org.apache.ignite.internal.processors.datastructures.GridAtomicCacheQueueImpl.DFLT_ATOMIC_CACHE_QUERY_RETRY_TIMEOUT;
 import static org.apache.ignite.internal.processors.diagnostic.DiagnosticProcessor.DFLT_DUMP_PAGE_LOCK_ON_FAILURE;
 import static org.apache.ignite.internal.processors.failure.FailureProcessor.DFLT_FAILURE_HANDLER_RESERVE_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.job.GridJobProcessor.DFLT_JOBS_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.jobmetrics.GridJobMetricsProcessor.DFLT_JOBS_METRICS_CONCURRENCY_LEVEL;
 import static org.apache.ignite.internal.processors.metastorage.persistence.DistributedMetaStorageImpl.DFLT_MAX_HISTORY_BYTES;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.DFLT_LATENCY_HISTOGRAMS_ENABLED;
 import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter.DFLT_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter.DFLT_CACHED_STRINGS_THRESHOLD;
 import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter.DFLT_FILE_MAX_SIZE;
 import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter.DFLT_FLUSH_SIZE;
+import static org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsFlightRecorder.DFLT_FLIGHT_RECORDER_BUFFER_SIZE;
+import static org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsFlightRecorder.DFLT_FLIGHT_RECORDER_SAMPLING_RATE;
+import static org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsFlightRecorder.DFLT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD;
 import static org.apache.ignite.internal.processors.query.QueryUtils.DFLT_INDEXING_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TIMEOUT;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TOKEN_INVALIDATE_INTERVAL;
 import static org.apache.ignite.internal.processors.rest.handlers.task.GridTaskCommandHandler.DFLT_MAX_TASK_RESULTS;
+import static org.apache.ignite.internal.processors.tracing.TailSampledTrace.DFLT_TAIL_SAMPLING_MAX_SPANS;
 import static org.apache.ignite.internal.util.GridLogThrottle.DFLT_LOG_THROTTLE_CAPACITY;
 import static org.apache.ignite.internal.util.GridReflectionCache.DFLT_REFLECTION_CACHE_SIZE;
 import static org.apache.ignite.internal.util.GridUnsafe.DFLT_MEMORY_PER_BYTE_COPY_THRESHOLD;
@@ -529,6 +542,16 @@ public final class IgniteSystemProperties {
         defaults = "" + DFLT_PRELOAD_RESEND_TIMEOUT)
     public static final String IGNITE_PRELOAD_RESEND_TIMEOUT = "IGNITE_PRELOAD_RESEND_TIMEOUT";
 
+    /**
+     * If {@code true}, partition refresh messages sent by the coordinator outside of exchange contain only
+     * the partition maps of cache groups changed since the previous refresh message received by a node. Nodes
+     * which missed a previous refresh message or a new topology version still receive the maps of all the groups.
+     * Default is {@code false}.
+     */
+    @SystemProperty("Enables sending only the changed partition maps of cache groups in partition refresh " +
+        "messages sent by the coordinator outside of exchange")
+    public static final String IGNITE_PARTITIONS_REFRESH_DELTA = "IGNITE_PARTITIONS_REFRESH_DELTA";
+
     /**
      * System property to specify how often in milliseconds marshal buffers
      * should be rechecked and potentially trimmed. Default value is {@code 10,000ms}.
@@ -1142,6 +1165,16 @@ public final class IgniteSystemProperties {
         "This property is intended for integration or performance tests")
     public static final String IGNITE_PREFER_WAL_REBALANCE = "IGNITE_PREFER_WAL_REBALANCE";
 
+    /**
+     * Maximum number of partitions of a single supply message which are preloaded in parallel on the demander node.
+     * The partitions are striped over the striped rebalance pool, so the actual parallelism is also limited by
+     * the rebalance thread pool size. Partitions rebalanced from WAL history are always preloaded serially.
+     * Default is {@code 1}: the partitions of a supply message are preloaded serially.
+     */
+    @SystemProperty(value = "Maximum number of partitions of a single supply message which are preloaded in " +
+        "parallel on the demander node", type = Integer.class, defaults = "" + DFLT_REBALANCE_PRELOAD_PARALLELISM)
+    public static final String IGNITE_REBALANCE_PRELOAD_PARALLELISM = "IGNITE_REBALANCE_PRELOAD_PARALLELISM";
+
     /**
      * Threshold of the checkpoint quantity since the last earliest checkpoint map snapshot.
      * After this thresold is reached, a snapshot of the earliest checkpoint map will be captured.
@@ -1231,6 +1264,28 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD =
             "IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD";
 
+    /**
+     * If enabled, the default data streamer receiver applies a batch partition by partition: rows of a partition
+     * are sorted by key hash and written to data pages in one pass under a single partition reservation.
+     * Caches with an expiry policy are always loaded entry by entry.
+     * <p>
+     * Default value is {@code true}.
+     */
+    @SystemProperty(value = "Enables partition-wise sorted apply of batches by the default data streamer receiver",
+        type = Boolean.class, defaults = "" + DFLT_DATA_STREAMER_SORTED_BATCH_APPLY)
+    public static final String IGNITE_DATA_STREAMER_SORTED_BATCH_APPLY = "IGNITE_DATA_STREAMER_SORTED_BATCH_APPLY";
+
+    /**
+     * Time in nanoseconds a striped pool thread keeps polling its queue before parking. While a thread spins,
+     * a task is handed off to it without unparking, which reduces message processing latency at the cost of
+     * CPU usage. Use {@code Long.MAX_VALUE} to never park striped pool threads.
+     * <p>
+     * Default value is {@code 0}: a thread parks after a short spin.
+     */
+    @SystemProperty(value = "Time in nanoseconds a striped pool thread keeps polling its queue before parking",
+        type = Long.class, defaults = "0")
+    public static final String IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS = "IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS";
+
     /**
      * If this property is set, then Ignite will use Async File IO factory by default.
      */
@@ -1531,6 +1586,22 @@ public final class IgniteSystemProperties {
         type = Long.class, defaults = "" + DFLT_UNWIND_THROTTLING_TIMEOUT)
     public static final String IGNITE_UNWIND_THROTTLING_TIMEOUT = "IGNITE_UNWIND_THROTTLING_TIMEOUT";
 
+    /**
+     * Number of threads removing expired entries of caches with eager TTL. Partitions of persistent caches and
+     * in-memory cache groups are distributed between the threads.
+     */
+    @SystemProperty(value = "Number of threads removing expired entries of caches with eager TTL",
+        type = Integer.class, defaults = "" + DFLT_TTL_CLEANUP_WORKERS)
+    public static final String IGNITE_TTL_CLEANUP_WORKERS = "IGNITE_TTL_CLEANUP_WORKERS";
+
+    /**
+     * Number of attempts to acquire a cache entry lock held by another thread before the waiting thread is parked.
+     * Spinning is disabled on single CPU machines.
+     */
+    @SystemProperty(value = "Number of attempts to acquire a busy cache entry lock before the thread is parked",
+        type = Integer.class, defaults = "" + DFLT_ENTRY_LOCK_SPINS)
+    public static final String IGNITE_ENTRY_LOCK_SPINS = "IGNITE_ENTRY_LOCK_SPINS";
+
     /**
      * Threshold for throttling operations logging.
      */
@@ -1677,6 +1748,19 @@ public final class IgniteSystemProperties {
         "by disabling statistics per each cache, but in this case some cache metrics will be unavailable via JMX too")
     public static final String IGNITE_DISCOVERY_DISABLE_CACHE_METRICS_UPDATE = "IGNITE_DISCOVERY_DISABLE_CACHE_METRICS_UPDATE";
 
+    /**
+     * When set to {@code true}, latencies of cache get, put, invoke and commit operations, SQL queries and checkpoints
+     * are collected into log-linear histograms. Their 50th, 90th, 99th and 99.9th percentiles are exported as metrics,
+     * for example, {@code cache.<name>.GetLatencyP99}.
+     * <p>
+     * Latencies of cache operations are collected only for caches with statistics enabled.
+     * <p>
+     * Default value is {@code false}.
+     */
+    @SystemProperty(value = "Enables latency histograms of cache operations, SQL queries and checkpoints with " +
+        "percentile metrics", defaults = "" + DFLT_LATENCY_HISTOGRAMS_ENABLED)
+    public static final String IGNITE_LATENCY_HISTOGRAMS_ENABLED = "IGNITE_LATENCY_HISTOGRAMS_ENABLED";
+
     /**
      * Maximum number of different partitions to be extracted from between expression within sql query.
      * In case of limit exceeding all partitions will be used.
@@ -2030,6 +2114,70 @@ public final class IgniteSystemProperties {
         "stopped when the threshold is exceeded", type = Integer.class, defaults = "" + DFLT_CACHED_STRINGS_THRESHOLD)
     public static final String IGNITE_PERF_STAT_CACHED_STRINGS_THRESHOLD = "IGNITE_PERF_STAT_CACHED_STRINGS_THRESHOLD";
 
+    /**
+     * Enables the performance statistics flight recorder which keeps a sample of operations in a rolling in-memory
+     * window. The window is dumped to the performance statistics directory on demand and on critical failures.
+     */
+    @SystemProperty("Enables the performance statistics flight recorder which keeps a sample of operations in " +
+        "a rolling in-memory window. The window is dumped to the performance statistics directory on demand and " +
+        "on critical failures")
+    public static final String IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED = "IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED";
+
+    /**
+     * Performance statistics flight recorder window size in bytes. The default value is
+     * {@link PerformanceStatisticsFlightRecorder#DFLT_FLIGHT_RECORDER_BUFFER_SIZE}.
+     */
+    @SystemProperty(value = "Performance statistics flight recorder window size in bytes", type = Integer.class,
+        defaults = "" + DFLT_FLIGHT_RECORDER_BUFFER_SIZE)
+    public static final String IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE =
+        "IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE";
+
+    /**
+     * Fraction of operations recorded by the performance statistics flight recorder, from 0 to 1. The default value
+     * is {@link PerformanceStatisticsFlightRecorder#DFLT_FLIGHT_RECORDER_SAMPLING_RATE}.
+     */
+    @SystemProperty(value = "Fraction of operations recorded by the performance statistics flight recorder, " +
+        "from 0 to 1", type = Double.class, defaults = "" + DFLT_FLIGHT_RECORDER_SAMPLING_RATE)
+    public static final String IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE =
+        "IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE";
+
+    /**
+     * Duration in milliseconds starting from which an operation is always recorded by the performance statistics
+     * flight recorder. Negative value disables recording of slow operations. The default value is
+     * {@link PerformanceStatisticsFlightRecorder#DFLT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD}.
+     */
+    @SystemProperty(value = "Duration in milliseconds starting from which an operation is always recorded by " +
+        "the performance statistics flight recorder. Negative value disables recording of slow operations",
+        type = Long.class, defaults = "" + DFLT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD)
+    public static final String IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD =
+        "IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD";
+
+    /**
+     * Enables tracking of cache hot spots: the number of reads and writes per partition and the most frequently
+     * accessed keys of each cache on the local node. The statistics are exposed by the {@code partitionAccess} and
+     * {@code hotKeys} system views and by the cache metrics.
+     */
+    @SystemProperty("Enables tracking of cache hot spots: the number of reads and writes per partition and " +
+        "the most frequently accessed keys of each cache on the local node")
+    public static final String IGNITE_CACHE_HOT_SPOTS_ENABLED = "IGNITE_CACHE_HOT_SPOTS_ENABLED";
+
+    /**
+     * Number of the most frequently accessed keys tracked per cache if cache hot spots tracking is enabled.
+     * The default value is {@link CacheHotSpotTracker#DFLT_CACHE_HOT_SPOTS_TOP_KEYS}.
+     */
+    @SystemProperty(value = "Number of the most frequently accessed keys tracked per cache if cache hot spots " +
+        "tracking is enabled", type = Integer.class, defaults = "" + DFLT_CACHE_HOT_SPOTS_TOP_KEYS)
+    public static final String IGNITE_CACHE_HOT_SPOTS_TOP_KEYS = "IGNITE_CACHE_HOT_SPOTS_TOP_KEYS";
+
+    /**
+     * Maximum number of spans of a trace buffered on a node by the tail-based tracing sampling. Spans above the limit
+     * are not traced. The default value is {@link TailSampledTrace#DFLT_TAIL_SAMPLING_MAX_SPANS}.
+     */
+    @SystemProperty(value = "Maximum number of spans of a trace buffered on a node by the tail-based tracing " +
+        "sampling. Spans above the limit are not traced", type = Integer.class,
+        defaults = "" + DFLT_TAIL_SAMPLING_MAX_SPANS)
+    public static final String IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS = "IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS";
+
     /**
      * Calcite-based SQL engine. Buffer size (count of rows) for query execution nodes.
      */
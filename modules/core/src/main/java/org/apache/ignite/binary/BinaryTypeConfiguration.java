@@ -55,6 +55,9 @@ public class BinaryTypeConfiguration implements Serializable {
     /** Enum names to ordinals mapping. */
     private Map<String, Integer> enumValues;
 
+    /** Compact layout flag. */
+    private boolean compactLayout;
+
     /**
      * Constructor.
      */
@@ -75,6 +78,7 @@ public class BinaryTypeConfiguration implements Serializable {
         serializer = other.serializer;
         enumValues = other.enumValues != null ? new LinkedHashMap<>(other.enumValues) : null;
         typeName = other.typeName;
+        compactLayout = other.compactLayout;
     }
 
     /**
@@ -208,6 +212,34 @@ public class BinaryTypeConfiguration implements Serializable {
         return enumValues;
     }
 
+    /**
+     * Gets whether objects of this type are written in the compact layout.
+     *
+     * @return {@code True} if compact layout is used.
+     */
+    public boolean isCompactLayout() {
+        return compactLayout;
+    }
+
+    /**
+     * Sets whether objects of this type are written in the compact layout. Applies only with the compact footer
+     * (see {@link BinaryConfiguration#isCompactFooter()}). Offsets of the leading fields of primitive types, i.e.
+     * fields declared with primitive types or written with the {@link BinaryWriter} methods of primitive types, are
+     * not written, they are calculated from the field types. Write such fields first with {@link Binarylizable}
+     * types to benefit from the layout. This significantly reduces size of the objects with many numeric fields.
+     * <p>
+     * Objects written in the compact layout can be read by Java nodes and clients only, so it must not be enabled
+     * for types used by .NET or C++ platforms.
+     *
+     * @param compactLayout {@code True} to write objects in the compact layout.
+     * @return {@code this} for chaining.
+     */
+    public BinaryTypeConfiguration setCompactLayout(boolean compactLayout) {
+        this.compactLayout = compactLayout;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(BinaryTypeConfiguration.class, this, super.toString());
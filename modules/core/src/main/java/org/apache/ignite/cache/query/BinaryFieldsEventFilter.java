@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.query;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.internal.cache.query.BinaryFieldsCriteria;
+import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryEvent;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Remote filter of continuous query events which checks fields of the new value against conjunction (AND)
+ * criteria built with {@link IndexQueryCriteriaBuilder}. The fields are read from the serialized binary form
+ * of the value, so values are not deserialized on remote nodes and their classes are not required there.
+ * <p>
+ * A {@code null} field is considered less than any other value. Numbers are compared by their numeric values
+ * regardless of their types, other values are compared if they are {@link Comparable} instances of the same class.
+ * Events of removed entries are checked against the removed values. Events with values which are not binary objects
+ * do not pass the filter.
+ * <h1 class="header">Example</h1>
+ * <pre name="code" class="java">
+ * ContinuousQuery&lt;Long, Quote&gt; qry = new ContinuousQuery&lt;&gt;();
+ *
+ * qry.setRemoteFilterFactory(FactoryBuilder.factoryOf(
+ *     new BinaryFieldsEventFilter&lt;&gt;(eq("instrument", "IGN"), gt("price", 100))));
+ * </pre>
+ *
+ * @see ContinuousQuery#setRemoteFilterFactory(javax.cache.configuration.Factory)
+ * @see IndexQueryCriteriaBuilder
+ */
+public class BinaryFieldsEventFilter<K, V> implements CacheEntryEventSerializableFilter<K, V> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Criteria. */
+    @GridToStringInclude
+    private final BinaryFieldsCriteria criteria;
+
+    /**
+     * @param criteria Conjunction (AND) criteria.
+     */
+    public BinaryFieldsEventFilter(IndexQueryCriterion... criteria) {
+        this(Arrays.asList(criteria));
+    }
+
+    /**
+     * @param criteria Conjunction (AND) criteria.
+     */
+    public BinaryFieldsEventFilter(List<IndexQueryCriterion> criteria) {
+        this.criteria = new BinaryFieldsCriteria(criteria);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean evaluate(CacheEntryEvent<? extends K, ? extends V> evt) {
+        Object val = evt instanceof CacheContinuousQueryEvent ?
+            ((CacheContinuousQueryEvent<?, ?>)evt).binaryValue() : evt.getValue();
+
+        return criteria.matches(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BinaryFieldsEventFilter.class, this);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.query;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.cache.query.BinaryFieldsCriteria;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteBiPredicate;
+
+/**
+ * Filter of scan and index queries which checks fields of the value against conjunction (AND) criteria built with
+ * {@link IndexQueryCriteriaBuilder}. The fields are read from the serialized binary form of the value, so values
+ * are not deserialized to be checked and their classes are not required on the server nodes.
+ * <p>
+ * A scan query reads only the fields of the criteria from the data pages to check an entry. The entry is copied
+ * to heap only if it passes the filter. Values stored in several data pages, values with collection, map or array
+ * fields and values of caches with an expiry policy are copied to heap before they are checked.
+ * <p>
+ * A {@code null} field is considered less than any other value. Numbers are compared by their numeric values
+ * regardless of their types, other values are compared if they are {@link Comparable} instances of the same class.
+ * Values which are not binary objects do not pass the filter. All the nodes the query is executed on must
+ * support the filter.
+ * <h1 class="header">Example</h1>
+ * <pre name="code" class="java">
+ * ScanQuery&lt;Long, Quote&gt; qry = new ScanQuery&lt;&gt;(
+ *     new BinaryFieldsScanFilter&lt;&gt;(eq("instrument", "IGN"), gt("price", 100)));
+ * </pre>
+ *
+ * @see ScanQuery#setFilter(IgniteBiPredicate)
+ * @see IndexQuery#setFilter(IgniteBiPredicate)
+ * @see IndexQueryCriteriaBuilder
+ */
+public class BinaryFieldsScanFilter<K, V> implements IgniteBiPredicate<K, V> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Criteria. */
+    @GridToStringInclude
+    private final BinaryFieldsCriteria criteria;
+
+    /**
+     * @param criteria Conjunction (AND) criteria.
+     */
+    public BinaryFieldsScanFilter(IndexQueryCriterion... criteria) {
+        this(Arrays.asList(criteria));
+    }
+
+    /**
+     * @param criteria Conjunction (AND) criteria.
+     */
+    public BinaryFieldsScanFilter(List<IndexQueryCriterion> criteria) {
+        this.criteria = new BinaryFieldsCriteria(criteria);
+    }
+
+    /**
+     * @return Conjunction (AND) criteria.
+     */
+    public List<IndexQueryCriterion> criteria() {
+        return criteria.criteria();
+    }
+
+    /**
+     * Checks the fields of a binary value. Scan and index queries check the binary form of the value even if
+     * they do not keep values binary.
+     *
+     * @param k Key.
+     * @param v Value.
+     * @return {@code True} if the value is a binary object which fields match the criteria.
+     */
+    @Override public boolean apply(K k, V v) {
+        return criteria.matches(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BinaryFieldsScanFilter.class, this);
+    }
+}
@@ -117,6 +117,9 @@ public final class ContinuousQuery<K, V> extends AbstractContinuousQuery<K, V> {
     /** Remote filter. */
     private CacheEntryEventSerializableFilter<K, V> rmtFilter;
 
+    /** Whether only the latest event per key should be sent. */
+    private boolean conflate;
+
     /**
      * Creates new continuous query.
      */
@@ -196,6 +199,41 @@ public final class ContinuousQuery<K, V> extends AbstractContinuousQuery<K, V> {
         return rmtFilter;
     }
 
+    /**
+     * Sets conflation flag.
+     * <p>
+     * If {@code true}, then a remote node sends only the latest event for each key among the events collected
+     * in its buffer, that is, among the events of at most {@link #getPageSize()} updates accumulated within
+     * {@link #getTimeInterval()}. The listener receives the latest value of the key, intermediate updates
+     * are skipped. Note that the old value of the delivered event is the value preceding the latest update.
+     * <p>
+     * Events of the entries updated on the node that executes the query and events of local queries
+     * (see {@link #setLocal(boolean)}) are not buffered, so they are not conflated.
+     * <p>
+     * A query with conflation fails to start if some nodes of the cluster do not support it.
+     * <p>
+     * Default value is {@code false}.
+     *
+     * @param conflate Conflation flag.
+     * @return {@code this} for chaining.
+     * @see #setTimeInterval(long)
+     * @see #setPageSize(int)
+     */
+    public ContinuousQuery<K, V> setConflate(boolean conflate) {
+        this.conflate = conflate;
+
+        return this;
+    }
+
+    /**
+     * Gets conflation flag.
+     *
+     * @return Conflation flag.
+     */
+    public boolean isConflate() {
+        return conflate;
+    }
+
     /** {@inheritDoc} */
     @Override public ContinuousQuery<K, V> setTimeInterval(long timeInterval) {
         return (ContinuousQuery<K, V>)super.setTimeInterval(timeInterval);
@@ -20,6 +20,8 @@ package org.apache.ignite.internal;
 import java.util.BitSet;
 import java.util.Collection;
 import org.apache.ignite.IgniteEncryption;
+import org.apache.ignite.cache.query.BinaryFieldsScanFilter;
+import org.apache.ignite.cache.query.ContinuousQuery;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi;
@@ -27,6 +29,7 @@ import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeWaitMessage;
 import org.apache.ignite.spi.discovery.DiscoverySpi;
+import org.apache.ignite.spi.tracing.TracingConfigurationParameters;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PME_FREE_SWITCH_DISABLED;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
@@ -142,7 +145,19 @@ public enum IgniteFeatures {
     PERFORMANCE_STATISTICS(48),
 
     /** Restore cache group from the snapshot. */
-    SNAPSHOT_RESTORE_CACHE_GROUP(49);
+    SNAPSHOT_RESTORE_CACHE_GROUP(49),
+
+    /** Conflation of continuous query events. See {@link ContinuousQuery#setConflate(boolean)}. */
+    CONT_QRY_CONFLATION(50),
+
+    /** Tail-based sampling of traces. See {@link TracingConfigurationParameters#latencyThreshold()}. */
+    TRACING_TAIL_SAMPLING(51),
+
+    /** Binary fields filter of scan and index queries. See {@link BinaryFieldsScanFilter}. */
+    BINARY_FIELDS_SCAN_FILTER(52),
+
+    /** Validation of the read set of read-only optimistic serializable transactions without the prepare phase. */
+    TX_READ_VALIDATE(53);
 
     /**
      * Unique feature identifier.
@@ -75,6 +75,7 @@ import org.apache.ignite.internal.processors.platform.PlatformJavaObjectFactoryP
 import org.apache.ignite.internal.processors.platform.websession.PlatformDotNetSessionData;
 import org.apache.ignite.internal.processors.platform.websession.PlatformDotNetSessionLockResult;
 import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.lang.GridMapEntry;
 import org.apache.ignite.internal.util.typedef.F;
@@ -159,6 +160,9 @@ public class BinaryContext {
     /** Affinity key field names. */
     private final ConcurrentMap<Integer, BinaryIdentityResolver> identities = new ConcurrentHashMap<>(0);
 
+    /** IDs of types written in the compact layout. */
+    private final Set<Integer> compactLayoutTypes = new GridConcurrentHashSet<>();
+
     /** */
     private BinaryMetadataHandler metaHnd;
 
@@ -413,6 +417,9 @@ public class BinaryContext {
 
                         descs.add(clsName0, mapper, serializer, identity, affField,
                             typeCfg.isEnum(), typeCfg.getEnumValues(), true);
+
+                        if (typeCfg.isCompactLayout())
+                            compactLayoutTypes.add(mapper.typeId(clsName0));
                     }
                 }
                 else {
@@ -427,6 +434,9 @@ public class BinaryContext {
 
                     descs.add(clsName, mapper, serializer, identity, affField,
                         typeCfg.isEnum(), typeCfg.getEnumValues(), false);
+
+                    if (typeCfg.isCompactLayout())
+                        compactLayoutTypes.add(mapper.typeId(clsName));
                 }
             }
         }
@@ -1366,6 +1376,14 @@ public class BinaryContext {
         return compactFooter;
     }
 
+    /**
+     * @param typeId Type ID.
+     * @return Whether objects of the type are written in the compact layout.
+     */
+    public boolean isCompactLayout(int typeId) {
+        return compactLayoutTypes.contains(typeId);
+    }
+
     /**
      * Get schema registry for type ID.
      *
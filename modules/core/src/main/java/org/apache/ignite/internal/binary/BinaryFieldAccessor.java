@@ -81,6 +81,9 @@ public abstract class BinaryFieldAccessor {
             case P_DOUBLE:
                 return new DoublePrimitiveAccessor(field, id);
 
+            case STRING:
+                return new StringAccessor(field, id);
+
             case BYTE:
             case BOOLEAN:
             case SHORT:
@@ -90,7 +93,6 @@ public abstract class BinaryFieldAccessor {
             case FLOAT:
             case DOUBLE:
             case DECIMAL:
-            case STRING:
             case UUID:
             case DATE:
             case TIMESTAMP:
@@ -245,6 +247,8 @@ public abstract class BinaryFieldAccessor {
             byte val = GridUnsafe.getByteField(obj, offset);
 
             writer.writeByteFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -275,6 +279,8 @@ public abstract class BinaryFieldAccessor {
             boolean val = GridUnsafe.getBooleanField(obj, offset);
 
             writer.writeBooleanFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -305,6 +311,8 @@ public abstract class BinaryFieldAccessor {
             short val = GridUnsafe.getShortField(obj, offset);
 
             writer.writeShortFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -335,6 +343,8 @@ public abstract class BinaryFieldAccessor {
             char val = GridUnsafe.getCharField(obj, offset);
 
             writer.writeCharFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -365,6 +375,8 @@ public abstract class BinaryFieldAccessor {
             int val = GridUnsafe.getIntField(obj, offset);
 
             writer.writeIntFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -395,6 +407,8 @@ public abstract class BinaryFieldAccessor {
             long val = GridUnsafe.getLongField(obj, offset);
 
             writer.writeLongFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -425,6 +439,8 @@ public abstract class BinaryFieldAccessor {
             float val = GridUnsafe.getFloatField(obj, offset);
 
             writer.writeFloatFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -455,6 +471,8 @@ public abstract class BinaryFieldAccessor {
             double val = GridUnsafe.getDoubleField(obj, offset);
 
             writer.writeDoubleFieldPrimitive(val);
+
+            writer.markFixedField();
         }
 
         /** {@inheritDoc} */
@@ -465,6 +483,42 @@ public abstract class BinaryFieldAccessor {
         }
     }
 
+    /**
+     * String field accessor.
+     */
+    private static class StringAccessor extends BinaryFieldAccessor {
+        /** Offset. */
+        private final long offset;
+
+        /**
+         * Constructor.
+         *
+         * @param field Field.
+         * @param id Field ID.
+         */
+        public StringAccessor(Field field, int id) {
+            super(field, id, BinaryWriteMode.STRING);
+
+            offset = GridUnsafe.objectFieldOffset(field);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void write0(Object obj, BinaryWriterExImpl writer) throws BinaryObjectException {
+            writer.writeFieldIdNoSchemaUpdate(id);
+
+            String val = (String)GridUnsafe.getObjectField(obj, offset);
+
+            writer.writeStringField(val);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
+            String val = reader.readString(id);
+
+            GridUnsafe.putObjectField(obj, offset, val);
+        }
+    }
+
     /**
      * Default accessor.
      */
@@ -472,6 +526,12 @@ public abstract class BinaryFieldAccessor {
         /** Target field. */
         private final Field field;
 
+        /** Field type. */
+        private final Class<?> type;
+
+        /** Field offset. */
+        private final long offset;
+
         /** Dynamic accessor flag. */
         private final boolean dynamic;
 
@@ -487,6 +547,9 @@ public abstract class BinaryFieldAccessor {
 
             this.field = field;
             this.dynamic = dynamic;
+
+            type = field.getType();
+            offset = GridUnsafe.objectFieldOffset(field);
         }
 
         /** {@inheritDoc} */
@@ -496,14 +559,7 @@ public abstract class BinaryFieldAccessor {
 
             writer.writeFieldIdNoSchemaUpdate(id);
 
-            Object val;
-
-            try {
-                val = field.get(obj);
-            }
-            catch (IllegalAccessException e) {
-                throw new BinaryObjectException("Failed to get value for field: " + field, e);
-            }
+            Object val = GridUnsafe.getObjectField(obj, offset);
 
             switch (mode(val)) {
                 case BYTE:
@@ -702,13 +758,12 @@ public abstract class BinaryFieldAccessor {
         @Override public void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
             Object val = dynamic ? reader.readField(id) : readFixedType(reader);
 
-            try {
-                if (val != null || !field.getType().isPrimitive())
-                    field.set(obj, val);
-            }
-            catch (IllegalAccessException e) {
-                throw new BinaryObjectException("Failed to set value for field: " + field, e);
-            }
+            // The check is done by reflection otherwise, a value of another type must not get into the field.
+            if (val != null && !type.isInstance(val))
+                throw new BinaryObjectException("Failed to set value for field [field=" + field +
+                    ", valType=" + val.getClass().getName() + ']');
+
+            GridUnsafe.putObjectField(obj, offset, val);
         }
 
         /**
@@ -883,12 +938,12 @@ public abstract class BinaryFieldAccessor {
                     break;
 
                 case ENUM:
-                    val = reader.readEnum(id, field.getType());
+                    val = reader.readEnum(id, type);
 
                     break;
 
                 case ENUM_ARR:
-                    val = reader.readEnumArray(id, field.getType().getComponentType());
+                    val = reader.readEnumArray(id, type.getComponentType());
 
                     break;
 
@@ -107,6 +107,14 @@ public abstract class BinaryObjectExImpl implements BinaryObjectEx {
      */
     @Nullable public abstract <F> F fieldByOrder(int order);
 
+    /**
+     * Get position of the field.
+     *
+     * @param order Field order.
+     * @return Field position.
+     */
+    public abstract int fieldPosition(int order);
+
     /**
      * Create field comparator.
      *
@@ -149,6 +157,17 @@ public abstract class BinaryObjectExImpl implements BinaryObjectEx {
      */
     public abstract BinarySchema createSchema();
 
+    /**
+     * Get registered schema of the object or create it.
+     *
+     * @return Schema.
+     */
+    protected BinarySchema schema() {
+        BinarySchema schema = context().schemaRegistry(typeId()).schema(schemaId());
+
+        return schema != null ? schema : createSchema();
+    }
+
     /**
      * Get binary context.
      *
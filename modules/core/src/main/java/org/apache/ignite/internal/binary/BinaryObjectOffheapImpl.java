@@ -218,7 +218,8 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
         int orderBase = start + schemaOff + fieldIdLen;
         int orderMultiplier = fieldIdLen + fieldOffLen;
 
-        return new BinarySerializedFieldComparator(this, null, ptr, start, orderBase, orderMultiplier, fieldOffLen);
+        return new BinarySerializedFieldComparator(this, null, ptr, start, orderBase, orderMultiplier, fieldOffLen,
+            BinaryUtils.isCompactLayout(flags));
     }
 
     /** {@inheritDoc} */
@@ -251,24 +252,7 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
 
         Object val;
 
-        // Calculate field position.
-        int schemaOff = BinaryPrimitives.readInt(ptr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
-
-        short flags = BinaryPrimitives.readShort(ptr, start + GridBinaryMarshaller.FLAGS_POS);
-
-        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
-        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
-
-        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
-
-        int fieldPos;
-
-        if (fieldOffLen == BinaryUtils.OFFSET_1)
-            fieldPos = start + ((int)BinaryPrimitives.readByte(ptr, fieldOffsetPos) & 0xFF);
-        else if (fieldOffLen == BinaryUtils.OFFSET_2)
-            fieldPos = start + ((int)BinaryPrimitives.readShort(ptr, fieldOffsetPos) & 0xFFFF);
-        else
-            fieldPos = start + BinaryPrimitives.readInt(ptr, fieldOffsetPos);
+        int fieldPos = fieldPosition(order);
 
         // Read header and try performing fast lookup for well-known types (the most common types go first).
         byte hdr = BinaryPrimitives.readByte(ptr, fieldPos);
@@ -400,6 +384,29 @@ public class BinaryObjectOffheapImpl extends BinaryObjectExImpl implements Exter
         return (F)val;
     }
 
+    /** {@inheritDoc} */
+    @Override public int fieldPosition(int order) {
+        short flags = BinaryPrimitives.readShort(ptr, start + GridBinaryMarshaller.FLAGS_POS);
+
+        if (BinaryUtils.isCompactLayout(flags))
+            return start + BinaryUtils.compactLayoutFieldOffset(new BinaryOffheapInputStream(ptr, size), start, order,
+                schema());
+
+        int schemaOff = BinaryPrimitives.readInt(ptr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+
+        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
+        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+
+        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+
+        if (fieldOffLen == BinaryUtils.OFFSET_1)
+            return start + ((int)BinaryPrimitives.readByte(ptr, fieldOffsetPos) & 0xFF);
+        else if (fieldOffLen == BinaryUtils.OFFSET_2)
+            return start + ((int)BinaryPrimitives.readShort(ptr, fieldOffsetPos) & 0xFFFF);
+        else
+            return start + BinaryPrimitives.readInt(ptr, fieldOffsetPos);
+    }
+
     /** {@inheritDoc} */
     @Override protected boolean writeFieldByOrder(int fieldOffset, ByteBuffer buf) {
         return false;
@@ -141,6 +141,9 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
     /** Offset size in bytes. */
     private final int fieldOffLen;
 
+    /** Whether object is written in the compact layout. */
+    private final boolean compactLayout;
+
     /** Object schema. */
     private final BinarySchema schema;
 
@@ -234,6 +237,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
             userType = BinaryUtils.isUserType(flags);
             fieldIdLen = BinaryUtils.fieldIdLength(flags);
             fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+            compactLayout = BinaryUtils.isCompactLayout(flags);
 
             // Calculate footer borders and raw offset.
             if (BinaryUtils.hasSchema(flags)) {
@@ -297,6 +301,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
             userType = false;
             fieldIdLen = 0;
             fieldOffLen = 0;
+            compactLayout = false;
             schema = null;
         }
 
@@ -2013,7 +2018,9 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         BinarySchema schema = ctx.schemaRegistry(typeId).schema(schemaId);
 
         if (schema == null) {
-            if (fieldIdLen != BinaryUtils.FIELD_ID_LEN) {
+            // Footer of an object in the compact layout contains neither field IDs nor offsets of all the fields,
+            // so the schema is always taken from the metadata.
+            if (fieldIdLen != BinaryUtils.FIELD_ID_LEN || compactLayout) {
                 BinaryTypeImpl type = (BinaryTypeImpl)ctx.metadata(typeId, schemaId);
 
                 BinaryMetadata meta = type != null ? type.metadata() : null;
@@ -2067,6 +2074,9 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
     private BinarySchema createSchema() {
         assert fieldIdLen == BinaryUtils.FIELD_ID_LEN;
 
+        // Compact layout requires compact footer, so the footer of such object never contains field IDs.
+        assert !compactLayout;
+
         BinarySchema.Builder builder = BinarySchema.Builder.newBuilder();
 
         int searchPos = footerStart;
@@ -2095,7 +2105,8 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
 
         assert dataStart != start;
 
-        if (footerLen == 0)
+        // Footer of an object in the compact layout is empty if all fields are fixed length ones, so check the schema.
+        if (schema == null)
             return false;
 
         if (userType) {
@@ -2169,7 +2180,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         assert !raw; // Assert, not exception, because this is called only from internals for Serializable types.
         assert dataStart != start;
 
-        if (footerLen == 0)
+        if (schema == null)
             return false;
 
         if (userType) {
@@ -2211,9 +2222,15 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      */
     private boolean trySetUserFieldPosition(int order) {
         if (order != BinarySchema.ORDER_NOT_FOUND) {
-            int offsetPos = footerStart + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+            int pos;
 
-            int pos = start + BinaryUtils.fieldOffsetRelative(in, offsetPos, fieldOffLen);
+            if (compactLayout)
+                pos = start + BinaryUtils.compactLayoutFieldOffset(in, start, order, schema);
+            else {
+                int offsetPos = footerStart + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+
+                pos = start + BinaryUtils.fieldOffsetRelative(in, offsetPos, fieldOffLen);
+            }
 
             streamPosition(pos);
 
@@ -2230,8 +2247,10 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      * @return {@code True} if field was found and stream was positioned accordingly.
      */
     private boolean trySetSystemFieldPosition(int id) {
-        // System types are never written with compact footers because they do not have metadata.
+        // System types are never written with compact footers or in the compact layout because they do not have
+        // metadata.
         assert fieldIdLen == BinaryUtils.FIELD_ID_LEN;
+        assert !compactLayout;
 
         int searchPos = footerStart;
         int searchTail = searchPos + footerLen;
@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Schema describing binary object content. We rely on the following assumptions:
@@ -57,6 +58,9 @@ public class BinarySchema implements Externalizable {
     /** Interned names of associated fields. */
     private String[] names;
 
+    /** Offsets of the leading fixed length fields of objects written in the compact layout. */
+    private volatile int[] fixedOffs;
+
     /** ID-to-order data. */
     private int[] idToOrderData;
 
@@ -279,6 +283,25 @@ public class BinarySchema implements Externalizable {
         return ids;
     }
 
+    /**
+     * Gets cached offsets of the leading fixed length fields of objects written in the compact layout.
+     *
+     * @return Relative offsets of the fields followed by the offset of the end of the fields or {@code null}.
+     * @see BinaryUtils#compactLayoutFieldOffset(BinaryPositionReadable, int, int, BinarySchema)
+     */
+    @Nullable public int[] fixedOffsets() {
+        return fixedOffs;
+    }
+
+    /**
+     * Caches offsets of the leading fixed length fields of objects written in the compact layout.
+     *
+     * @param fixedOffs Relative offsets of the fields followed by the offset of the end of the fields.
+     */
+    public void fixedOffsets(int[] fixedOffs) {
+        this.fixedOffs = fixedOffs;
+    }
+
     /**
      * Parse values.
      *
@@ -48,6 +48,9 @@ public class BinarySerializedFieldComparator {
     /** Field offset length. */
     private final int fieldOffLen;
 
+    /** Whether object is written in the compact layout. */
+    private final boolean compactLayout;
+
     /** Current field order. */
     private int curFieldOrder;
 
@@ -64,9 +67,10 @@ public class BinarySerializedFieldComparator {
      * @param orderBase Order base.
      * @param orderMultiplier Order multiplier.
      * @param fieldOffLen Field offset length.
+     * @param compactLayout Whether object is written in the compact layout.
      */
     public BinarySerializedFieldComparator(BinaryObjectExImpl obj, byte[] arr, long ptr, int startOff, int orderBase,
-        int orderMultiplier, int fieldOffLen) {
+        int orderMultiplier, int fieldOffLen, boolean compactLayout) {
         assert arr != null && ptr == 0L || arr == null && ptr != 0L;
 
         this.obj = obj;
@@ -76,6 +80,7 @@ public class BinarySerializedFieldComparator {
         this.orderBase = orderBase;
         this.orderMultiplier = orderMultiplier;
         this.fieldOffLen = fieldOffLen;
+        this.compactLayout = compactLayout;
     }
 
     /**
@@ -88,6 +93,8 @@ public class BinarySerializedFieldComparator {
 
         if (order == BinarySchema.ORDER_NOT_FOUND)
             curFieldPos = POS_NOT_FOUND;
+        else if (compactLayout)
+            curFieldPos = obj.fieldPosition(order);
         else {
             int pos = orderBase + order * orderMultiplier;
 
@@ -142,6 +142,9 @@ public class BinaryUtils {
     @SuppressWarnings("unused")
     public static final short FLAG_CUSTOM_DOTNET_TYPE = 0x0040;
 
+    /** Flag: compact layout, footer contains offsets of the fields following the leading fixed length fields only. */
+    public static final short FLAG_COMPACT_LAYOUT = 0x0080;
+
     /** Offset which fits into 1 byte. */
     public static final int OFFSET_1 = 1;
 
@@ -345,6 +348,16 @@ public class BinaryUtils {
         return isFlagSet(flags, FLAG_COMPACT_FOOTER);
     }
 
+    /**
+     * Check if compact layout flag is set.
+     *
+     * @param flags Flags.
+     * @return {@code True} if set.
+     */
+    public static boolean isCompactLayout(short flags) {
+        return isFlagSet(flags, FLAG_COMPACT_LAYOUT);
+    }
+
     /**
      * Check whether particular flag is set.
      *
@@ -974,6 +987,130 @@ public class BinaryUtils {
         return res;
     }
 
+    /**
+     * Get length of the field value with the given type if the length does not depend on the value.
+     *
+     * @param type Field type.
+     * @return Field length including the type byte or {@code -1} if the field has variable length.
+     */
+    public static int fixedFieldLength(byte type) {
+        switch (type) {
+            case GridBinaryMarshaller.NULL:
+                return 1;
+
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.BOOLEAN:
+                return 2;
+
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.CHAR:
+                return 3;
+
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.FLOAT:
+                return 5;
+
+            case GridBinaryMarshaller.LONG:
+            case GridBinaryMarshaller.DOUBLE:
+            case GridBinaryMarshaller.DATE:
+            case GridBinaryMarshaller.TIME:
+                return 9;
+
+            case GridBinaryMarshaller.TIMESTAMP:
+                return 13;
+
+            case GridBinaryMarshaller.UUID:
+                return 17;
+
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * @param type Field type.
+     * @return {@code True} if the field is a value of a primitive type.
+     */
+    public static boolean isPrimitiveType(int type) {
+        switch (type) {
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.LONG:
+            case GridBinaryMarshaller.FLOAT:
+            case GridBinaryMarshaller.DOUBLE:
+            case GridBinaryMarshaller.CHAR:
+            case GridBinaryMarshaller.BOOLEAN:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Get relative offset of the field of an object written in the compact layout. Fields are located in schema
+     * order. The footer contains offsets of the fields following the leading fixed length fields, offsets of the
+     * leading fields are calculated from their types once per schema and are cached in the schema.
+     * <p>
+     * The leading fields are fields written as values of primitive types, so these fields have the same types,
+     * hence the same offsets, in all objects of the schema. Cached offsets are used only if the total length
+     * of the leading fields of the object matches, otherwise the offsets are calculated again.
+     *
+     * @param in Input stream.
+     * @param start Object start position inside the stream.
+     * @param order Field order.
+     * @param schema Object schema.
+     * @return Relative field offset.
+     */
+    public static int compactLayoutFieldOffset(BinaryPositionReadable in, int start, int order, BinarySchema schema) {
+        short flags = in.readShortPositioned(start + GridBinaryMarshaller.FLAGS_POS);
+
+        assert isCompactLayout(flags);
+
+        int fieldOffLen = fieldOffsetLength(flags);
+
+        int len = in.readIntPositioned(start + GridBinaryMarshaller.TOTAL_LEN_POS);
+        int footerOff = in.readIntPositioned(start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
+        int footerEnd = hasRaw(flags) ? len - 4 : len;
+
+        int fixedCnt = schema.fieldIds().length - (footerEnd - footerOff) / fieldOffLen;
+
+        if (order >= fixedCnt)
+            return fieldOffsetRelative(in, start + footerOff + (order - fixedCnt) * fieldOffLen, fieldOffLen);
+
+        // Offset of the first field following the leading ones or of the end of the fields.
+        int fixedEnd;
+
+        if (fixedCnt < schema.fieldIds().length)
+            fixedEnd = fieldOffsetRelative(in, start + footerOff, fieldOffLen);
+        else
+            fixedEnd = hasRaw(flags) ? in.readIntPositioned(start + len - 4) : footerOff;
+
+        int[] offs = schema.fixedOffsets();
+
+        if (offs == null || offs.length != fixedCnt + 1 || offs[fixedCnt] != fixedEnd) {
+            offs = new int[fixedCnt + 1];
+
+            // Compact layout is used for registered types only, so fields start right after the header.
+            offs[0] = GridBinaryMarshaller.DFLT_HDR_LEN;
+
+            for (int i = 0; i < fixedCnt; i++) {
+                int fieldLen = fixedFieldLength(in.readBytePositioned(start + offs[i]));
+
+                assert fieldLen > 0 : fieldLen;
+
+                offs[i + 1] = offs[i] + fieldLen;
+            }
+
+            assert offs[fixedCnt] == fixedEnd;
+
+            schema.fixedOffsets(offs);
+        }
+
+        return offs[order];
+    }
+
     /**
      * Merge old and new metas.
      *
@@ -80,6 +80,9 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** Amount of written fields. */
     private int fieldCnt;
 
+    /** Amount of leading fields written by the methods of primitive types. */
+    private int fixedFieldCnt;
+
     /** */
     private BinaryInternalMapper mapper;
 
@@ -300,7 +303,15 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
             // Write the schema.
             flags |= BinaryUtils.FLAG_HAS_SCHEMA;
 
-            int offsetByteCnt = schema.write(out, fieldCnt, useCompactFooter);
+            int offsetByteCnt;
+
+            if (useCompactFooter && fixedFieldCnt > 0 && registered && ctx.isCompactLayout(typeId)) {
+                flags |= BinaryUtils.FLAG_COMPACT_LAYOUT;
+
+                offsetByteCnt = schema.writeCompactLayout(out, fieldCnt, fixedFieldCnt);
+            }
+            else
+                offsetByteCnt = schema.write(out, fieldCnt, useCompactFooter);
 
             if (offsetByteCnt == BinaryUtils.OFFSET_1)
                 flags |= BinaryUtils.FLAG_OFFSET_ONE_BYTE;
@@ -1364,7 +1375,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeByte(String fieldName, byte val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeByteField(val);
+        writeByteFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1375,7 +1387,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeShort(String fieldName, short val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeShortField(val);
+        writeShortFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1386,7 +1399,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeInt(String fieldName, int val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeIntField(val);
+        writeIntFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1397,7 +1411,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeLong(String fieldName, long val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeLongField(val);
+        writeLongFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1408,7 +1423,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeFloat(String fieldName, float val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeFloatField(val);
+        writeFloatFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1419,7 +1435,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeDouble(String fieldName, double val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeDoubleField(val);
+        writeDoubleFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1430,7 +1447,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeChar(String fieldName, char val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeCharField(val);
+        writeCharFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1441,7 +1459,8 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
     /** {@inheritDoc} */
     @Override public void writeBoolean(String fieldName, boolean val) throws BinaryObjectException {
         writeFieldId(fieldName);
-        writeBooleanField(val);
+        writeBooleanFieldPrimitive(val);
+        markFixedField();
     }
 
     /** {@inheritDoc} */
@@ -1866,6 +1885,16 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
         fieldCnt++;
     }
 
+    /**
+     * Marks the field written last as a fixed length field which type does not depend on the value, i.e. a field
+     * written by a method of a primitive type. Offsets of the leading fixed length fields are not written to the
+     * footer of an object in the compact layout.
+     */
+    public void markFixedField() {
+        if (fixedFieldCnt == fieldCnt - 1)
+            fixedFieldCnt++;
+    }
+
     /**
      * Write field ID without schema ID update. This method should be used when schema ID is stable because class
      * is seializable.
@@ -139,6 +139,50 @@ public class BinaryWriterSchemaHolder {
         return res;
     }
 
+    /**
+     * Write collected frames in the compact layout: offsets of the leading fixed length fields are not written,
+     * they are calculated from the types of the fields.
+     *
+     * @param out Output stream.
+     * @param fieldCnt Count.
+     * @param fixedCnt Count of the leading fixed length fields.
+     * @return Amount of bytes dedicated to each field offset. Could be 1, 2 or 4.
+     * @see BinaryUtils#compactLayoutFieldOffset(BinaryPositionReadable, int, int, BinarySchema)
+     */
+    public int writeCompactLayout(BinaryOutputStream out, int fieldCnt, int fixedCnt) {
+        int startIdx = idx - fieldCnt * 2;
+        assert startIdx >= 0;
+        assert fixedCnt > 0 && fixedCnt <= fieldCnt;
+
+        // Ensure there are at least 4 bytes for each field to allow for unsafe writes.
+        out.unsafeEnsure((fieldCnt - fixedCnt) << 2);
+
+        int lastOffset = data[idx - 1];
+
+        int res;
+
+        if (lastOffset < MAX_OFFSET_1) {
+            for (int curIdx = startIdx + fixedCnt * 2 + 1; curIdx < idx; curIdx += 2)
+                out.unsafeWriteByte((byte)data[curIdx]);
+
+            res = BinaryUtils.OFFSET_1;
+        }
+        else if (lastOffset < MAX_OFFSET_2) {
+            for (int curIdx = startIdx + fixedCnt * 2 + 1; curIdx < idx; curIdx += 2)
+                out.unsafeWriteShort((short)data[curIdx]);
+
+            res = BinaryUtils.OFFSET_2;
+        }
+        else {
+            for (int curIdx = startIdx + fixedCnt * 2 + 1; curIdx < idx; curIdx += 2)
+                out.unsafeWriteInt(data[curIdx]);
+
+            res = BinaryUtils.OFFSET_4;
+        }
+
+        return res;
+    }
+
     /**
      * Pop current object's frame.
      */
@@ -254,10 +254,12 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                 int idx = 0;
 
                 while (reader.position() < rawPos) {
-                    int fieldId = schema.fieldId(idx++);
-                    int fieldLen =
+                    int fieldLen = BinaryUtils.isCompactLayout(flags) ?
+                        compactLayoutFieldPositionAndLength(idx, schema, rawPos).get2() :
                         fieldPositionAndLength(footerPos, footerEnd, rawPos, fieldIdLen, fieldOffsetLen).get2();
 
+                    int fieldId = schema.fieldId(idx++);
+
                     int postPos = reader.position() + fieldLen; // Position where reader will be placed afterwards.
 
                     footerPos += fieldIdLen + fieldOffsetLen;
@@ -269,6 +271,9 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                             writer.writeFieldId(fieldId);
 
                             serializer.writeValue(writer, assignedVal);
+
+                            if (primitive(assignedVal))
+                                writer.markFixedField();
                         }
                     }
                     else {
@@ -278,6 +283,9 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                             writer.writeFieldId(fieldId);
 
                             writer.write(reader.array(), reader.position(), fieldLen);
+
+                            if (BinaryUtils.isPrimitiveType(type))
+                                writer.markFixedField();
                         }
                         else {
                             writer.writeFieldId(fieldId);
@@ -320,6 +328,9 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
 
                     serializer.writeValue(writer, val);
 
+                    if (primitive(val))
+                        writer.markFixedField();
+
                     if (reader == null)
                         // Metadata has already been checked.
                         fieldsMeta = checkMetadata(meta, fieldsMeta, val, name, fieldId);
@@ -484,6 +495,34 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
         return F.t(fieldPos, fieldLen);
     }
 
+    /**
+     * @param val Value.
+     * @return {@code True} if the value is written as a value of a primitive type.
+     */
+    private static boolean primitive(@Nullable Object val) {
+        Byte type = val != null ? BinaryUtils.PLAIN_CLASS_TO_FLAG.get(val.getClass()) : null;
+
+        return type != null && BinaryUtils.isPrimitiveType(type);
+    }
+
+    /**
+     * Get position and length of the field of an object written in the compact layout.
+     *
+     * @param order Field order.
+     * @param schema Object schema.
+     * @param rawPos Raw data position (absolute).
+     * @return Tuple with field position and length.
+     */
+    private IgniteBiTuple<Integer, Integer> compactLayoutFieldPositionAndLength(int order, BinarySchema schema,
+        int rawPos) {
+        int fieldPos = start + BinaryUtils.compactLayoutFieldOffset(reader, start, order, schema);
+
+        int nextFieldPos = order + 1 == schema.fieldIds().length ? rawPos :
+            start + BinaryUtils.compactLayoutFieldOffset(reader, start, order + 1, schema);
+
+        return F.t(fieldPos, nextFieldPos - fieldPos);
+    }
+
     /**
      * Initialize read cache if needed.
      */
@@ -505,6 +544,17 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
 
             int rawPos = BinaryUtils.rawOffsetAbsolute(reader, start);
 
+            if (BinaryUtils.isCompactLayout(flags)) {
+                for (int idx = 0; idx < schema.fieldIds().length; idx++) {
+                    IgniteBiTuple<Integer, Integer> posAndLen = compactLayoutFieldPositionAndLength(idx, schema, rawPos);
+
+                    readCache.put(schema.fieldId(idx), reader.getValueQuickly(posAndLen.get1(), posAndLen.get2()));
+                }
+
+                // Footer contains offsets of some fields only, so it can not be iterated.
+                footerPos = footerEnd;
+            }
+
             int idx = 0;
 
             while (footerPos + fieldIdLen < footerEnd) {
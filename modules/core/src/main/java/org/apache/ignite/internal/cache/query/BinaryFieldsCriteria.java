@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.binary.BinaryField;
+import org.apache.ignite.cache.query.IndexQueryCriteriaBuilder;
+import org.apache.ignite.cache.query.IndexQueryCriterion;
+import org.apache.ignite.internal.binary.BinaryObjectExImpl;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Conjunction (AND) of criteria built with {@link IndexQueryCriteriaBuilder} which are checked against fields of
+ * serialized binary objects.
+ * <p>
+ * A {@code null} field is considered less than any other value. Numbers are compared by their numeric values
+ * regardless of their types, other values are compared if they are {@link Comparable} instances of the same class.
+ */
+public class BinaryFieldsCriteria implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Criteria. */
+    @GridToStringInclude
+    private final List<IndexQueryCriterion> criteria;
+
+    /** Fields of the criteria by type IDs. */
+    private transient volatile ConcurrentMap<Integer, BinaryField[]> fields;
+
+    /**
+     * @param criteria Conjunction (AND) criteria.
+     */
+    public BinaryFieldsCriteria(List<IndexQueryCriterion> criteria) {
+        A.notEmpty(criteria, "criteria");
+
+        for (IndexQueryCriterion c : criteria) {
+            A.ensure(c instanceof RangeIndexQueryCriterion || c instanceof InIndexQueryCriterion,
+                "criteria must be built with IndexQueryCriteriaBuilder");
+        }
+
+        this.criteria = Collections.unmodifiableList(new ArrayList<>(criteria));
+    }
+
+    /**
+     * @return Criteria.
+     */
+    public List<IndexQueryCriterion> criteria() {
+        return criteria;
+    }
+
+    /**
+     * @return Names of the checked fields, in the order of the criteria.
+     */
+    public String[] fieldNames() {
+        String[] names = new String[criteria.size()];
+
+        for (int i = 0; i < names.length; i++)
+            names[i] = criteria.get(i).field();
+
+        return names;
+    }
+
+    /**
+     * @param val Value.
+     * @return {@code True} if the value is a binary object which fields match the criteria.
+     */
+    public boolean matches(Object val) {
+        if (!(val instanceof BinaryObjectExImpl))
+            return false;
+
+        BinaryObjectExImpl obj = (BinaryObjectExImpl)val;
+
+        BinaryField[] flds = fields(obj);
+
+        for (int i = 0; i < flds.length; i++) {
+            if (!matches(criteria.get(i), flds[i].value(obj)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param vals Values of the fields returned by {@link #fieldNames()}.
+     * @return {@code True} if the values match the criteria.
+     */
+    public boolean matches(Object[] vals) {
+        assert vals.length == criteria.size();
+
+        for (int i = 0; i < vals.length; i++) {
+            if (!matches(criteria.get(i), vals[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param obj Binary object.
+     * @return Fields of the criteria for the type of the object.
+     */
+    private BinaryField[] fields(BinaryObjectExImpl obj) {
+        ConcurrentMap<Integer, BinaryField[]> fields0 = fields;
+
+        if (fields0 == null)
+            fields = fields0 = new ConcurrentHashMap<>();
+
+        BinaryField[] flds = fields0.get(obj.typeId());
+
+        if (flds == null) {
+            flds = new BinaryField[criteria.size()];
+
+            for (int i = 0; i < flds.length; i++)
+                flds[i] = obj.type().field(criteria.get(i).field());
+
+            fields0.putIfAbsent(obj.typeId(), flds);
+        }
+
+        return flds;
+    }
+
+    /**
+     * @param c Criterion.
+     * @param val Field value.
+     * @return {@code True} if the value matches the criterion.
+     */
+    private static boolean matches(IndexQueryCriterion c, Object val) {
+        if (c instanceof InIndexQueryCriterion) {
+            for (Object v : ((InIndexQueryCriterion)c).values()) {
+                if (compare(val, v) == 0)
+                    return true;
+            }
+
+            return false;
+        }
+
+        RangeIndexQueryCriterion r = (RangeIndexQueryCriterion)c;
+
+        if (r.lower() != null || r.lowerNull()) {
+            Integer cmp = compare(val, r.lower());
+
+            if (cmp == null || cmp < 0 || cmp == 0 && !r.lowerIncl())
+                return false;
+        }
+
+        if (r.upper() != null || r.upperNull()) {
+            Integer cmp = compare(val, r.upper());
+
+            if (cmp == null || cmp > 0 || cmp == 0 && !r.upperIncl())
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param val Field value.
+     * @param bound Criterion value.
+     * @return Comparison result or {@code null} if the values are not comparable.
+     */
+    private static Integer compare(Object val, Object bound) {
+        if (val == null || bound == null)
+            return val == null ? (bound == null ? 0 : -1) : 1;
+
+        if (val instanceof Number && bound instanceof Number) {
+            Number n1 = (Number)val;
+            Number n2 = (Number)bound;
+
+            if (n1 instanceof BigDecimal || n1 instanceof BigInteger || n2 instanceof BigDecimal ||
+                n2 instanceof BigInteger)
+                return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
+
+            if (n1 instanceof Double || n1 instanceof Float || n2 instanceof Double || n2 instanceof Float)
+                return Double.compare(n1.doubleValue(), n2.doubleValue());
+
+            return Long.compare(n1.longValue(), n2.longValue());
+        }
+
+        if (val instanceof Comparable && val.getClass() == bound.getClass())
+            return ((Comparable<Object>)val).compareTo(bound);
+
+        return F.eq(val, bound) ? 0 : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BinaryFieldsCriteria.class, this);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.query.BinaryFieldsScanFilter;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.IndexQueryCriterion;
 import org.apache.ignite.internal.cache.query.RangeIndexQueryCriterion;
@@ -104,8 +105,10 @@ public class IndexQueryProcessor {
                     V v = unwrap(r.cacheDataRow().value(), true);
 
                     if (filter != null) {
-                        K k0 = keepBinary ? k : unwrap(r.cacheDataRow().key(), false);
-                        V v0 = keepBinary ? v : unwrap(r.cacheDataRow().value(), false);
+                        boolean binFilter = keepBinary || filter instanceof BinaryFieldsScanFilter;
+
+                        K k0 = binFilter ? k : unwrap(r.cacheDataRow().key(), false);
+                        V v0 = binFilter ? v : unwrap(r.cacheDataRow().value(), false);
 
                         if (!filter.apply(k0, v0))
                             continue;
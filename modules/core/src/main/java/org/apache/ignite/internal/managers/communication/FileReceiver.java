@@ -19,8 +19,10 @@ package org.apache.ignite.internal.managers.communication;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -36,7 +38,8 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 /**
  * Class represents the data receiver which is pulling data from channel using
  * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} until the
- * whole file will be completely received.
+ * whole file will be completely received. If the source is not a plain {@link SocketChannel} or the file IO doesn't
+ * support direct transfers, the data is copied through an intermediate direct buffer instead.
  */
 class FileReceiver extends TransmissionReceiver {
     /** Handler to notify when a file has been received. */
@@ -49,6 +52,13 @@ class FileReceiver extends TransmissionReceiver {
     @GridToStringExclude
     private FileIO fileIo;
 
+    /** Intermediate buffer used when the zero-copy transfer is not available. */
+    @GridToStringExclude
+    private ByteBuffer buf;
+
+    /** {@code True} if the zero-copy transfer can be used. */
+    private boolean zeroCopy = true;
+
     /**
      * @param meta Initial file meta info.
      * @param stopChecker Node stop or prcoess interrupt checker.
@@ -101,7 +111,7 @@ class FileReceiver extends TransmissionReceiver {
 
         long batchSize = Math.min(chunkSize, meta.count() - transferred);
 
-        long read = fileIo.transferFrom(ch, meta.offset() + transferred, batchSize);
+        long read = zeroCopy && ch instanceof SocketChannel ? transferChunk(ch, batchSize) : copyChunk(ch, batchSize);
 
         if (read == 0)
             throw new IOException("Channel is reached the end of stream. Probably, channel is closed on the remote node");
@@ -110,6 +120,51 @@ class FileReceiver extends TransmissionReceiver {
             transferred += read;
     }
 
+    /**
+     * @param ch Channel to read data from.
+     * @param batchSize Maximum number of bytes to read.
+     * @return Number of bytes read.
+     * @throws IOException If fails.
+     */
+    private long transferChunk(ReadableByteChannel ch, long batchSize) throws IOException {
+        try {
+            return fileIo.transferFrom(ch, meta.offset() + transferred, batchSize);
+        }
+        catch (UnsupportedOperationException e) {
+            zeroCopy = false;
+
+            if (log.isDebugEnabled())
+                log.debug("Zero-copy transfer is not supported by file IO, switching to buffered copy: " + meta.name());
+
+            return copyChunk(ch, batchSize);
+        }
+    }
+
+    /**
+     * @param ch Channel to read data from.
+     * @param batchSize Maximum number of bytes to read.
+     * @return Number of bytes read, {@code 0} if the end of stream is reached.
+     * @throws IOException If fails.
+     */
+    private long copyChunk(ReadableByteChannel ch, long batchSize) throws IOException {
+        if (buf == null)
+            buf = ByteBuffer.allocateDirect(chunkSize);
+
+        buf.clear();
+        buf.limit((int)batchSize);
+
+        int read = ch.read(buf);
+
+        if (read <= 0)
+            return 0;
+
+        buf.flip();
+
+        fileIo.writeFully(buf, meta.offset() + transferred);
+
+        return read;
+    }
+
     /** {@inheritDoc} */
     @Override public void close() {
         U.closeQuiet(fileIo);
@@ -21,7 +21,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
@@ -43,6 +45,8 @@ import static org.apache.ignite.internal.util.IgniteUtils.assertParameter;
  * transferred to send its state to remote node when reconnection required.
  * <p>
  * The <em>FileSender</em> uses the zero-copy streaming approach, see <em>FileChannel#transferTo</em> for details.
+ * If the target is not a plain {@link SocketChannel} (e.g. it is wrapped with encryption) or the file IO doesn't
+ * support direct transfers, the data is copied through an intermediate direct buffer instead.
  *
  * @see FileChannel#transferTo(long, long, WritableByteChannel)
  */
@@ -51,6 +55,13 @@ class FileSender extends AbstractTransmission {
     @GridToStringExclude
     private FileIO fileIo;
 
+    /** Intermediate buffer used when the zero-copy transfer is not available. */
+    @GridToStringExclude
+    private ByteBuffer buf;
+
+    /** {@code True} if the zero-copy transfer can be used. */
+    private boolean zeroCopy = true;
+
     /**
      * @param file File which is going to be sent by chunks.
      * @param off File offset.
@@ -154,12 +165,58 @@ class FileSender extends AbstractTransmission {
     private void writeChunk(WritableByteChannel ch) throws IOException {
         long batchSize = Math.min(chunkSize, meta.count() - transferred);
 
-        long sent = fileIo.transferTo(meta.offset() + transferred, batchSize, ch);
+        long sent = zeroCopy && ch instanceof SocketChannel ? transferChunk(ch, batchSize) : copyChunk(ch, batchSize);
 
         if (sent > 0)
             transferred += sent;
     }
 
+    /**
+     * @param ch Channel to write data to.
+     * @param batchSize Number of bytes to write.
+     * @return Number of bytes written.
+     * @throws IOException If fails.
+     */
+    private long transferChunk(WritableByteChannel ch, long batchSize) throws IOException {
+        try {
+            return fileIo.transferTo(meta.offset() + transferred, batchSize, ch);
+        }
+        catch (UnsupportedOperationException e) {
+            zeroCopy = false;
+
+            if (log.isDebugEnabled())
+                log.debug("Zero-copy transfer is not supported by file IO, switching to buffered copy: " + meta.name());
+
+            return copyChunk(ch, batchSize);
+        }
+    }
+
+    /**
+     * @param ch Channel to write data to.
+     * @param batchSize Number of bytes to write.
+     * @return Number of bytes written.
+     * @throws IOException If fails.
+     */
+    private long copyChunk(WritableByteChannel ch, long batchSize) throws IOException {
+        if (buf == null)
+            buf = ByteBuffer.allocateDirect(chunkSize);
+
+        buf.clear();
+        buf.limit((int)batchSize);
+
+        int read = fileIo.readFully(buf, meta.offset() + transferred);
+
+        if (read <= 0)
+            throw new IOException("Unexpected end of file [name=" + meta.name() + ", pos=" + transferred + ']');
+
+        buf.flip();
+
+        while (buf.hasRemaining())
+            ch.write(buf);
+
+        return read;
+    }
+
     /** {@inheritDoc} */
     @Override public void close() {
         U.closeQuiet(fileIo);
@@ -27,6 +27,7 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.management.ThreadMXBean;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.channels.Channel;
@@ -100,6 +101,7 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactor
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.platform.message.PlatformMessageFilter;
 import org.apache.ignite.internal.processors.pool.PoolProcessor;
 import org.apache.ignite.internal.processors.security.OperationSecurityContext;
@@ -259,6 +261,24 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
     /** Received bytes count metric name. */
     public static final String RCVD_BYTES_CNT = "ReceivedBytesCount";
 
+    /** Sent file bytes count metric name. */
+    public static final String FILE_SENT_BYTES_CNT = "FileSentBytesCount";
+
+    /** Total file sending time metric name. */
+    public static final String FILE_SEND_TIME = "FileSendTime";
+
+    /** Total CPU time spent on file sending metric name. */
+    public static final String FILE_SEND_CPU_TIME = "FileSendCpuTime";
+
+    /** Received file bytes count metric name. */
+    public static final String FILE_RCVD_BYTES_CNT = "FileReceivedBytesCount";
+
+    /** Total file receiving time metric name. */
+    public static final String FILE_RCV_TIME = "FileReceiveTime";
+
+    /** Total CPU time spent on file receiving metric name. */
+    public static final String FILE_RCV_CPU_TIME = "FileReceiveCpuTime";
+
     /** Empty array of message factories. */
     public static final MessageFactory[] EMPTY = {};
 
@@ -307,6 +327,24 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
      */
     private final FileIOFactory fileIoFactory = new RandomAccessFileIOFactory();
 
+    /** Number of bytes sent by file transmissions. */
+    private LongAdderMetric fileSentBytes;
+
+    /** Total time in nanoseconds spent on sending files. */
+    private LongAdderMetric fileSendTime;
+
+    /** Total CPU time in nanoseconds spent on sending files. */
+    private LongAdderMetric fileSendCpuTime;
+
+    /** Number of bytes received by file transmissions. */
+    private LongAdderMetric fileRcvdBytes;
+
+    /** Total time in nanoseconds spent on receiving files. */
+    private LongAdderMetric fileRcvTime;
+
+    /** Total CPU time in nanoseconds spent on receiving files. */
+    private LongAdderMetric fileRcvCpuTime;
+
     /** The maximum number of retry attempts (read or write attempts). */
     private final int retryCnt;
 
@@ -503,6 +541,23 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
 
         ioMetric.register(RCVD_BYTES_CNT, spi::getReceivedBytesCount, "Received bytes count.");
 
+        fileSentBytes = ioMetric.longAdderMetric(FILE_SENT_BYTES_CNT, "Number of bytes sent by file transmissions.");
+
+        fileSendTime = ioMetric.longAdderMetric(FILE_SEND_TIME,
+            "Total time in nanoseconds spent on sending files.");
+
+        fileSendCpuTime = ioMetric.longAdderMetric(FILE_SEND_CPU_TIME,
+            "Total CPU time in nanoseconds spent on sending files.");
+
+        fileRcvdBytes = ioMetric.longAdderMetric(FILE_RCVD_BYTES_CNT,
+            "Number of bytes received by file transmissions.");
+
+        fileRcvTime = ioMetric.longAdderMetric(FILE_RCV_TIME,
+            "Total time in nanoseconds spent on receiving files.");
+
+        fileRcvCpuTime = ioMetric.longAdderMetric(FILE_RCV_CPU_TIME,
+            "Total CPU time in nanoseconds spent on receiving files.");
+
         getSpi().setListener(commLsnr = new CommunicationListenerEx<Serializable>() {
             @Override public void onMessage(UUID nodeId, Serializable msg, IgniteRunnable msgC) {
                 try {
@@ -2954,8 +3009,18 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
 
                 try {
                     long startTime = U.currentTimeMillis();
+                    long startNanos = System.nanoTime();
+                    long startCpu = currentThreadCpuTime();
+                    long startTransferred = rcvCtx.rcv.transferred();
 
-                    rcvCtx.rcv.receive(ch);
+                    try {
+                        rcvCtx.rcv.receive(ch);
+                    }
+                    finally {
+                        fileRcvdBytes.add(rcvCtx.rcv.transferred() - startTransferred);
+                        fileRcvTime.add(System.nanoTime() - startNanos);
+                        fileRcvCpuTime.add(currentThreadCpuTime() - startCpu);
+                    }
 
                     // Write processing ack.
                     out.writeBoolean(true);
@@ -3064,6 +3129,15 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
         }
     }
 
+    /**
+     * @return CPU time of the current thread in nanoseconds or {@code 0} if it is not supported by JVM.
+     */
+    private static long currentThreadCpuTime() {
+        ThreadMXBean threads = U.getThreadMx();
+
+        return threads.isCurrentThreadCpuTimeSupported() ? Math.max(threads.getCurrentThreadCpuTime(), 0) : 0;
+    }
+
     /**
      * @param channel Socket channel to configure blocking mode.
      * @param timeout Ignite network configuration timeout.
@@ -3351,7 +3425,18 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Serializa
                                 throw rcvMeta.error();
                         }
 
-                        snd.send(channel, out, rcvMeta);
+                        long startNanos = System.nanoTime();
+                        long startCpu = currentThreadCpuTime();
+                        long startTransferred = snd.transferred();
+
+                        try {
+                            snd.send(channel, out, rcvMeta);
+                        }
+                        finally {
+                            fileSentBytes.add(snd.transferred() - startTransferred);
+                            fileSendTime.add(System.nanoTime() - startNanos);
+                            fileSendCpuTime.add(currentThreadCpuTime() - startCpu);
+                        }
 
                         // Read file received acknowledge.
                         boolean written = in.readBoolean();
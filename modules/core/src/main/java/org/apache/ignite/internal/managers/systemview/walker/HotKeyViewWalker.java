@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.systemview.walker;
+
+import org.apache.ignite.spi.systemview.view.HotKeyView;
+import org.apache.ignite.spi.systemview.view.SystemViewRowAttributeWalker;
+
+/**
+ * Generated by {@code org.apache.ignite.codegen.SystemViewRowAttributeWalkerGenerator}.
+ * {@link HotKeyView} attributes walker.
+ * 
+ * @see HotKeyView
+ */
+public class HotKeyViewWalker implements SystemViewRowAttributeWalker<HotKeyView> {
+    /** {@inheritDoc} */
+    @Override public void visitAll(AttributeVisitor v) {
+        v.accept(0, "cacheName", String.class);
+        v.accept(1, "cacheId", int.class);
+        v.accept(2, "key", String.class);
+        v.accept(3, "keyHashCode", int.class);
+        v.accept(4, "partitionId", int.class);
+        v.accept(5, "accesses", long.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void visitAll(HotKeyView row, AttributeWithValueVisitor v) {
+        v.accept(0, "cacheName", String.class, row.cacheName());
+        v.acceptInt(1, "cacheId", row.cacheId());
+        v.accept(2, "key", String.class, row.key());
+        v.acceptInt(3, "keyHashCode", row.keyHashCode());
+        v.acceptInt(4, "partitionId", row.partitionId());
+        v.acceptLong(5, "accesses", row.accesses());
+    }
+
+    /** {@inheritDoc} */
+    @Override public int count() {
+        return 6;
+    }
+}
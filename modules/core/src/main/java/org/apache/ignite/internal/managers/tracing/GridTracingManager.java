@@ -20,9 +20,11 @@ package org.apache.ignite.internal.managers.tracing;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.managers.GridManagerAdapter;
 import org.apache.ignite.internal.processors.tracing.DeferredSpan;
 import org.apache.ignite.internal.processors.tracing.NoopSpan;
@@ -31,6 +33,8 @@ import org.apache.ignite.internal.processors.tracing.Span;
 import org.apache.ignite.internal.processors.tracing.SpanImpl;
 import org.apache.ignite.internal.processors.tracing.SpanTags;
 import org.apache.ignite.internal.processors.tracing.SpanType;
+import org.apache.ignite.internal.processors.tracing.TailSampledSpan;
+import org.apache.ignite.internal.processors.tracing.TailSampledTrace;
 import org.apache.ignite.internal.processors.tracing.Tracing;
 import org.apache.ignite.internal.processors.tracing.configuration.GridTracingConfigurationManager;
 import org.apache.ignite.internal.processors.tracing.messages.TraceableMessagesHandler;
@@ -47,11 +51,17 @@ import org.apache.ignite.spi.tracing.TracingSpi;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.IgniteFeatures.TRACING_TAIL_SAMPLING;
 import static org.apache.ignite.internal.processors.tracing.SpanTags.NODE;
 import static org.apache.ignite.internal.util.GridClientByteUtils.bytesToInt;
+import static org.apache.ignite.internal.util.GridClientByteUtils.bytesToLong;
 import static org.apache.ignite.internal.util.GridClientByteUtils.bytesToShort;
+import static org.apache.ignite.internal.util.GridClientByteUtils.bytesToUuid;
 import static org.apache.ignite.internal.util.GridClientByteUtils.intToBytes;
+import static org.apache.ignite.internal.util.GridClientByteUtils.longToBytes;
 import static org.apache.ignite.internal.util.GridClientByteUtils.shortToBytes;
+import static org.apache.ignite.internal.util.GridClientByteUtils.uuidToBytes;
+import static org.apache.ignite.spi.tracing.TracingConfigurationParameters.LATENCY_THRESHOLD_DISABLED;
 import static org.apache.ignite.spi.tracing.TracingConfigurationParameters.SAMPLING_RATE_NEVER;
 
 /**
@@ -88,6 +98,15 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
     /** */
     private static final int SPI_SPECIFIC_SERIALIZED_SPAN_BYTES_LENGTH = 4;
 
+    /**
+     * Special flag of the span that is subject to the tail-based sampling. Instead of the spi specific span, such span
+     * is serialized with the latency threshold (8 bytes) and the ID (16 bytes) of its trace.
+     */
+    private static final byte TAIL_SAMPLED_FLAG = 1;
+
+    /** */
+    private static final int TAIL_SAMPLED_TRACE_BYTES_LENGTH = 8 + 16;
+
     /** Traceable messages handler. */
     private final TraceableMessagesHandler msgHnd;
 
@@ -110,6 +129,12 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
     /** Flag that indicates that noop tracing spi is used. */
     private boolean noop = true;
 
+    /** Topology version {@link #tailSamplingSupported} is actual for. */
+    private volatile long tailSamplingTopVer = -1;
+
+    /** Whether all nodes support the tail-based sampling. */
+    private volatile boolean tailSamplingSupported;
+
     /**
      * Constructor.
      *
@@ -184,8 +209,7 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
 
         // Optimization for zero sampling rate == 0.
         if ((parentSpan == NoopSpan.INSTANCE || parentSpan == null) &&
-            tracingConfiguration.get(new TracingConfigurationCoordinates.Builder(spanType.scope()).build()).
-                samplingRate() == SAMPLING_RATE_NEVER)
+            disabled(tracingConfiguration.get(new TracingConfigurationCoordinates.Builder(spanType.scope()).build())))
             return NoopSpan.INSTANCE;
 
         return enrichWithLocalNodeParameters(
@@ -203,8 +227,7 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
 
         // Optimization for zero sampling rate == 0.
         if ((serializedParentSpan.length == 0 || serializedParentSpan == null) &&
-            tracingConfiguration.get(new TracingConfigurationCoordinates.Builder(spanType.scope()).build()).
-                samplingRate() == SAMPLING_RATE_NEVER)
+            disabled(tracingConfiguration.get(new TracingConfigurationCoordinates.Builder(spanType.scope()).build())))
             return NoopSpan.INSTANCE;
 
         // 1 byte: special flags;
@@ -223,7 +246,7 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
             if (serializedParentSpan == null || serializedParentSpan.length == 0)
                 return create(spanType, NoopSpan.INSTANCE);
 
-            // First byte of the serializedSpan is reserved for special flags - it's not used right now.
+            // First byte of the serializedSpan is reserved for special flags, see TAIL_SAMPLED_FLAG.
 
             // Deserialize and compare spi types. If they don't match (span was serialized with another spi) then
             // propagate serializedSpan as DeferredSpan.
@@ -302,15 +325,28 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
                 mergedIncludedScopes.add(parentSpanType.scope());
                 mergedIncludedScopes.remove(spanType.scope());
 
-                span = new SpanImpl(
-                    getSpi().create(
-                        spanType.spanName(),
-                        Arrays.copyOfRange(
-                            serializedParentSpan,
-                            SPI_SPECIFIC_SERIALIZED_SPAN_BODY_OFF,
-                            SPI_SPECIFIC_SERIALIZED_SPAN_BODY_OFF + spiSpecificSpanSize)),
-                    spanType,
-                    mergedIncludedScopes);
+                byte[] spiSpecificSerializedSpan = Arrays.copyOfRange(
+                    serializedParentSpan,
+                    SPI_SPECIFIC_SERIALIZED_SPAN_BODY_OFF,
+                    SPI_SPECIFIC_SERIALIZED_SPAN_BODY_OFF + spiSpecificSpanSize);
+
+                if ((serializedParentSpan[SPECIAL_FLAGS_OFF] & TAIL_SAMPLED_FLAG) != 0) {
+                    // Remote part of the trace is sampled with the same threshold on this node.
+                    TailSampledTrace trace = new TailSampledTrace(
+                        getSpi(),
+                        bytesToUuid(spiSpecificSerializedSpan, 8),
+                        bytesToLong(spiSpecificSerializedSpan, 0));
+
+                    span = createTailSampledSpan(trace, null, spanType, mergedIncludedScopes);
+                }
+                else {
+                    span = new SpanImpl(
+                        getSpi().create(
+                            spanType.spanName(),
+                            spiSpecificSerializedSpan),
+                        spanType,
+                        mergedIncludedScopes);
+                }
             }
             else {
                 // do nothing;
@@ -341,9 +377,8 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
 
         // Optimization for zero sampling rate == 0.
         if ((parentSpan == NoopSpan.INSTANCE || parentSpan == null) &&
-            tracingConfiguration.get(
-                new TracingConfigurationCoordinates.Builder(spanType.scope()).withLabel(lb).build()).
-                samplingRate() == SAMPLING_RATE_NEVER)
+            disabled(tracingConfiguration.get(
+                new TracingConfigurationCoordinates.Builder(spanType.scope()).withLabel(lb).build())))
             return NoopSpan.INSTANCE;
 
         return enrichWithLocalNodeParameters(
@@ -377,8 +412,33 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
         if (span instanceof DeferredSpan)
             return ((DeferredSpan)span).serializedSpan();
 
-        // Spi specific serialized span.
-        byte[] spiSpecificSerializedSpan = getSpi().serialize(((SpanImpl)span).spiSpecificSpan());
+        // Nodes without the tail-based sampling support can't parse the trace of a not exported span.
+        if (span instanceof TailSampledSpan && ((TailSampledSpan)span).spiSpecificSpan() == null &&
+            !tailSamplingSupported())
+            return NoopTracing.NOOP_SERIALIZED_SPAN;
+
+        byte flags = 0;
+
+        SpiSpecificSpan spiSpecificSpan = span instanceof TailSampledSpan ?
+            ((TailSampledSpan)span).spiSpecificSpan() : ((SpanImpl)span).spiSpecificSpan();
+
+        byte[] spiSpecificSerializedSpan;
+
+        if (spiSpecificSpan != null) {
+            // Spi specific serialized span.
+            spiSpecificSerializedSpan = getSpi().serialize(spiSpecificSpan);
+        }
+        else {
+            // Trace of the span that is subject to the tail-based sampling and is not exported yet.
+            TailSampledTrace trace = ((TailSampledSpan)span).trace();
+
+            flags |= TAIL_SAMPLED_FLAG;
+
+            spiSpecificSerializedSpan = new byte[TAIL_SAMPLED_TRACE_BYTES_LENGTH];
+
+            longToBytes(trace.threshold(), spiSpecificSerializedSpan, 0);
+            uuidToBytes(trace.id(), spiSpecificSerializedSpan, 8);
+        }
 
         int serializedSpanLen = SPI_SPECIFIC_SERIALIZED_SPAN_BODY_OFF + PARENT_SPAN_TYPE_BYTES_LENGTH +
             INCLUDED_SCOPES_SIZE_BYTE_LENGTH + spiSpecificSerializedSpan.length + SCOPE_INDEX_BYTE_LENGTH *
@@ -386,7 +446,8 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
 
         byte[] serializedSpanBytes = new byte[serializedSpanLen];
 
-        // Skip special flags bytes.
+        // Special flags.
+        serializedSpanBytes[SPECIAL_FLAGS_OFF] = flags;
 
         // Spi type idx.
         serializedSpanBytes[SPI_TYPE_OFF] = getSpi().type();
@@ -471,14 +532,25 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
                 TracingConfigurationParameters tracingConfigurationParameters = tracingConfiguration.get(
                     new TracingConfigurationCoordinates.Builder(spanTypeToCreate.scope()).withLabel(lb).build());
 
-                return shouldSample(tracingConfigurationParameters.samplingRate()) ?
-                    new SpanImpl(
+                if (shouldSample(tracingConfigurationParameters.samplingRate())) {
+                    return new SpanImpl(
                         getSpi().create(
                             spanTypeToCreate.spanName(),
                             (SpiSpecificSpan)null),
                         spanTypeToCreate,
-                        tracingConfigurationParameters.includedScopes()) :
-                    NoopSpan.INSTANCE;
+                        tracingConfigurationParameters.includedScopes());
+                }
+
+                long latencyThreshold = tracingConfigurationParameters.latencyThreshold();
+
+                if (latencyThreshold == LATENCY_THRESHOLD_DISABLED || !tailSamplingSupported())
+                    return NoopSpan.INSTANCE;
+
+                return createTailSampledSpan(
+                    new TailSampledTrace(getSpi(), UUID.randomUUID(), latencyThreshold),
+                    null,
+                    spanTypeToCreate,
+                    tracingConfigurationParameters.includedScopes());
             }
             else
                 return NoopSpan.INSTANCE;
@@ -493,6 +565,16 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
                 mergedIncludedScopes.add(parentSpan.type().scope());
                 mergedIncludedScopes.remove(spanTypeToCreate.scope());
 
+                if (parentSpan instanceof TailSampledSpan) {
+                    TailSampledSpan tailSampledParent = (TailSampledSpan)parentSpan;
+
+                    return createTailSampledSpan(
+                        tailSampledParent.trace(),
+                        tailSampledParent,
+                        spanTypeToCreate,
+                        mergedIncludedScopes);
+                }
+
                 return new SpanImpl(
                     getSpi().create(
                         spanTypeToCreate.spanName(),
@@ -521,6 +603,51 @@ public class GridTracingManager extends GridManagerAdapter<TracingSpi> implement
         return tracingConfiguration;
     }
 
+    /**
+     * Creates the span that is subject to the tail-based sampling.
+     *
+     * @param trace Trace.
+     * @param parent Parent span or {@code null} for the local root span.
+     * @param spanType Span type.
+     * @param includedScopes Included scopes.
+     * @return Created span or {@link NoopSpan} if the span won't be traced.
+     */
+    private Span createTailSampledSpan(
+        TailSampledTrace trace,
+        @Nullable TailSampledSpan parent,
+        SpanType spanType,
+        Set<Scope> includedScopes
+    ) {
+        Span span = trace.createSpan(parent, spanType, includedScopes);
+
+        return span != null ? span : NoopSpan.INSTANCE;
+    }
+
+    /**
+     * @return {@code true} if all nodes support the tail-based sampling, so spans that are subject to it can be
+     * propagated to them.
+     */
+    private boolean tailSamplingSupported() {
+        long topVer = ctx.discovery().topologyVersion();
+
+        if (topVer != tailSamplingTopVer) {
+            tailSamplingSupported = IgniteFeatures.allNodesSupport(ctx.config().getDiscoverySpi(),
+                TRACING_TAIL_SAMPLING);
+
+            tailSamplingTopVer = topVer;
+        }
+
+        return tailSamplingSupported;
+    }
+
+    /**
+     * @param params Tracing configuration parameters.
+     * @return {@code true} if neither sampling rate nor tail-based sampling is configured.
+     */
+    private static boolean disabled(TracingConfigurationParameters params) {
+        return params.samplingRate() == SAMPLING_RATE_NEVER && params.latencyThreshold() == LATENCY_THRESHOLD_DISABLED;
+    }
+
     /**
      * @param samlingRate Sampling rate.
      * @return {@code true} if according to given sampling-rate span should be sampled.
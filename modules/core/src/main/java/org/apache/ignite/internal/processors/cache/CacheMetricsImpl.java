@@ -29,11 +29,13 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker;
 import org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongGauge;
 import org.apache.ignite.internal.processors.metric.impl.MetricUtils;
@@ -48,6 +50,7 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.MAX_OP_LATENCY;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
 
 /**
@@ -186,6 +189,18 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Number of currently evicting non-affinity partitions. Not available in the old metrics framework. */
     private final AtomicLongMetric evictingPartitions;
 
+    /** Expiration lag. Not available in the old metrics framework. */
+    private final AtomicLongMetric expirationLag;
+
+    /** Number of entry lock acquisitions which found the lock held by another thread. */
+    private final LongAdderMetric entryLockContended;
+
+    /** Number of entry lock acquisitions which parked the thread. */
+    private final LongAdderMetric entryLockParked;
+
+    /** Total time threads were parked waiting for entry locks, in nanoseconds. */
+    private final LongAdderMetric entryLockWaitTime;
+
     /** Get time. */
     private final HistogramMetricImpl getTime;
 
@@ -210,6 +225,18 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Rollback time. */
     private final HistogramMetricImpl rollbackTime;
 
+    /** Get latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric getLatency;
+
+    /** Put latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric putLatency;
+
+    /** Invoke latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric invokeLatency;
+
+    /** Commit latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric commitLatency;
+
     /** Cache metrics. */
     @GridToStringExclude
     private transient CacheMetricsImpl delegate;
@@ -385,6 +412,19 @@ public class CacheMetricsImpl implements CacheMetrics {
         evictingPartitions = mreg.longMetric("EvictingPartitionsLeft",
             "The number of non-affinity partitions scheduled for eviction.");
 
+        expirationLag = mreg.longMetric("ExpirationLag",
+            "Delay in milliseconds between the expire time of the oldest entry removed by the latest eager TTL " +
+                "cleanup and the cleanup time.");
+
+        entryLockContended = mreg.longAdderMetric("EntryLockContended",
+            "The number of entry lock acquisitions which found the lock held by another thread.");
+
+        entryLockParked = mreg.longAdderMetric("EntryLockParked",
+            "The number of entry lock acquisitions which parked the thread after spinning.");
+
+        entryLockWaitTime = mreg.longAdderMetric("EntryLockWaitTime",
+            "The total time threads were parked waiting for entry locks, in nanoseconds.");
+
         mreg.register("IsIndexRebuildInProgress", this::isIndexRebuildInProgress,
             "True if index rebuild is in progress.");
 
@@ -410,6 +450,43 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         rollbackTime = mreg.histogram("RollbackTime", HISTOGRAM_BUCKETS, "Rollback time in nanoseconds.");
 
+        if (cctx.kernalContext().metric().latencyHistogramsEnabled()) {
+            getLatency = mreg.logLinearHistogram("GetLatency", MAX_OP_LATENCY,
+                "Get latency for which this node is the initiator, in nanoseconds.");
+
+            putLatency = mreg.logLinearHistogram("PutLatency", MAX_OP_LATENCY,
+                "Put latency for which this node is the initiator, in nanoseconds.");
+
+            invokeLatency = mreg.logLinearHistogram("InvokeLatency", MAX_OP_LATENCY,
+                "Invoke latency for which this node is the initiator, in nanoseconds.");
+
+            commitLatency = mreg.logLinearHistogram("CommitLatency", MAX_OP_LATENCY,
+                "Commit latency, in nanoseconds.");
+        }
+        else {
+            getLatency = null;
+            putLatency = null;
+            invokeLatency = null;
+            commitLatency = null;
+        }
+
+        CacheHotSpotTracker hotSpots = isNear ? null : cctx.hotSpotTracker();
+
+        if (hotSpots != null) {
+            mreg.register("HotSpotPartition", hotSpots::hotPartition,
+                "The most accessed partition of the cache on this node, -1 if there were no accesses.");
+
+            mreg.register("HotSpotPartitionAccesses", hotSpots::hotPartitionAccesses,
+                "The number of reads and writes of the most accessed partition.");
+
+            mreg.register("HotSpotPartitionSkew", hotSpots::skew,
+                "The ratio of the accesses to the most accessed partition to the average accesses of " +
+                    "the accessed partitions.");
+
+            mreg.register("HotSpotKeyAccesses", hotSpots::hotKeyAccesses,
+                "The estimated number of reads and writes of the most accessed key.");
+        }
+
         mreg.register("TxKeyCollisions", this::getTxKeyCollisions, String.class, "Tx key collisions. " +
             "Show keys and collisions queue size. Due transactional payload some keys become hot. Metric shows " +
             "corresponding keys.");
@@ -743,6 +820,19 @@ public class CacheMetricsImpl implements CacheMetrics {
         commitTime.reset();
         rollbackTime.reset();
 
+        if (getLatency != null) {
+            getLatency.reset();
+            putLatency.reset();
+            invokeLatency.reset();
+            commitLatency.reset();
+        }
+
+        expirationLag.reset();
+
+        entryLockContended.reset();
+        entryLockParked.reset();
+        entryLockWaitTime.reset();
+
         clearRebalanceCounters();
 
         if (delegate != null)
@@ -751,6 +841,9 @@ public class CacheMetricsImpl implements CacheMetrics {
         txKeyCollisionInfo = null;
 
         idxRebuildKeyProcessed.reset();
+
+        if (!cctx.isNear() && cctx.hotSpotTracker() != null)
+            cctx.hotSpotTracker().reset();
     }
 
     /** {@inheritDoc} */
@@ -1046,9 +1139,11 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         recalculateInvokeMaxTimeNanos(duration);
 
+        if (invokeLatency != null)
+            invokeLatency.value(duration);
+
         if (delegate != null)
             delegate.addInvokeTimeNanos(duration);
-
     }
 
     /**
@@ -1124,6 +1219,9 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         commitTime.value(duration);
 
+        if (commitLatency != null)
+            commitLatency.value(duration);
+
         if (delegate != null)
             delegate.onTxCommit(duration);
     }
@@ -1153,6 +1251,9 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         getTime.value(duration);
 
+        if (getLatency != null)
+            getLatency.value(duration);
+
         if (delegate != null)
             delegate.addGetTimeNanos(duration);
     }
@@ -1181,6 +1282,9 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         putTime.value(duration);
 
+        if (putLatency != null)
+            putLatency.value(duration);
+
         if (delegate != null)
             delegate.addPutTimeNanos(duration);
     }
@@ -1538,6 +1642,45 @@ public class CacheMetricsImpl implements CacheMetrics {
         evictingPartitions.decrement();
     }
 
+    /** */
+    public long expirationLag() {
+        return expirationLag.value();
+    }
+
+    /**
+     * Expired entries cleanup callback.
+     *
+     * @param lag Delay in milliseconds between the expire time of the oldest removed entry and the cleanup time.
+     */
+    public void onExpired(long lag) {
+        expirationLag.value(Math.max(lag, 0));
+    }
+
+    /** */
+    public long entryLockContended() {
+        return entryLockContended.value();
+    }
+
+    /** */
+    public long entryLockParked() {
+        return entryLockParked.value();
+    }
+
+    /**
+     * Contended entry lock acquisition callback.
+     *
+     * @param parked {@code True} if the thread was parked.
+     * @param waitTime Time the thread was parked, in nanoseconds.
+     */
+    public void onEntryLockContended(boolean parked, long waitTime) {
+        entryLockContended.increment();
+
+        if (parked) {
+            entryLockParked.increment();
+            entryLockWaitTime.add(waitTime);
+        }
+    }
+
     /**
      * First rebalance supply message callback.
      * @param keysCnt Estimated number of keys.
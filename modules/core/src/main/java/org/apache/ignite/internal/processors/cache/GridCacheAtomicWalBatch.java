@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.failure.FailureType;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Collects updates of ATOMIC cache entries to log them as a single {@link DataRecord}.
+ * <p>
+ * Entries have to stay locked until the batch is flushed, otherwise the records of concurrent updates of the same key
+ * may be reordered in WAL.
+ * <p>
+ * Entries are updated in the data pages before the batch is flushed. The checkpoint read lock is held until the
+ * batch is flushed, so the pages are not written to disk without the record. If the record can not be logged, the
+ * node is failed by the failure handler.
+ */
+public class GridCacheAtomicWalBatch {
+    /** Maximum number of entries logged by a single record. */
+    static final int MAX_ENTRIES = 256;
+
+    /** Maximum total size of keys and values logged by a single record. */
+    static final int MAX_BYTES = 1024 * 1024;
+
+    /** Cache group. */
+    private final CacheGroupContext grp;
+
+    /** Collected entries. */
+    private List<DataEntry> entries = new ArrayList<>();
+
+    /** Total size of keys and values of collected entries. */
+    private int bytes;
+
+    /**
+     * @param grp Cache group.
+     */
+    public GridCacheAtomicWalBatch(CacheGroupContext grp) {
+        assert grp.logDataRecords() : grp.cacheOrGroupName();
+
+        this.grp = grp;
+    }
+
+    /**
+     * Adds entry to the batch, the batch is flushed if it becomes too big.
+     *
+     * @param entry Entry.
+     * @param coCtx Cache object context.
+     * @throws IgniteCheckedException If failed.
+     */
+    void add(DataEntry entry, CacheObjectContext coCtx) throws IgniteCheckedException {
+        entries.add(entry);
+
+        bytes += entry.key().valueBytesLength(coCtx);
+
+        if (entry.value() != null)
+            bytes += entry.value().valueBytesLength(coCtx);
+
+        if (entries.size() >= MAX_ENTRIES || bytes >= MAX_BYTES)
+            flush();
+    }
+
+    /**
+     * Logs collected entries.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void flush() throws IgniteCheckedException {
+        if (entries.isEmpty())
+            return;
+
+        List<DataEntry> entries0 = entries;
+
+        entries = new ArrayList<>();
+        bytes = 0;
+
+        try {
+            grp.wal().log(new DataRecord(entries0));
+        }
+        catch (IgniteCheckedException e) {
+            IgniteCheckedException err = new IgniteCheckedException("Failed to log ATOMIC cache updates [grp=" +
+                grp.cacheOrGroupName() + ", size=" + entries0.size() + ']', e);
+
+            // Entries have already been updated in the data pages, so the node can not continue without the record.
+            grp.shared().kernalContext().failure().process(new FailureContext(FailureType.CRITICAL_ERROR, err));
+
+            throw err;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheAtomicWalBatch.class, this, "size", entries.size());
+    }
+}
@@ -77,6 +77,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTransactionalCache;
 import org.apache.ignite.internal.processors.cache.dr.GridCacheDrManager;
+import org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker;
 import org.apache.ignite.internal.processors.cache.jta.CacheJtaManagerAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.query.GridCacheQueryManager;
@@ -114,6 +115,7 @@ import org.apache.ignite.marshaller.Marshaller;
 import org.apache.ignite.plugin.security.SecurityException;
 import org.apache.ignite.plugin.security.SecurityPermission;
 import org.jetbrains.annotations.Nullable;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_HOT_SPOTS_ENABLED;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISABLE_TRIGGERING_CACHE_INTERCEPTOR_ON_CONFLICT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_READ_LOAD_BALANCING;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
@@ -290,6 +292,9 @@ public class GridCacheContext<K, V> implements Externalizable {
     /** Last remove all job future. */
     private AtomicReference<IgniteInternalFuture<Boolean>> lastRmvAllJobFut = new AtomicReference<>();
 
+    /** Hot spots tracker, {@code null} if tracking is disabled. */
+    private CacheHotSpotTracker hotSpotTracker;
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -403,6 +408,9 @@ public class GridCacheContext<K, V> implements Externalizable {
 
         cacheIdBoxed = cacheId;
 
+        if (affNode && cacheType.userCache() && IgniteSystemProperties.getBoolean(IGNITE_CACHE_HOT_SPOTS_ENABLED))
+            hotSpotTracker = new CacheHotSpotTracker(grp.affinityFunction().partitions());
+
         plc = cacheType.ioPolicy();
 
         Factory<ExpiryPolicy> factory = cacheCfg.getExpiryPolicyFactory();
@@ -2289,6 +2297,13 @@ public class GridCacheContext<K, V> implements Externalizable {
         return statisticsEnabled;
     }
 
+    /**
+     * @return Hot spots tracker or {@code null} if hot spots tracking is disabled.
+     */
+    @Nullable public CacheHotSpotTracker hotSpotTracker() {
+        return hotSpotTracker;
+    }
+
     /**
      * @param statisticsEnabled Statistics enabled flag.
      */
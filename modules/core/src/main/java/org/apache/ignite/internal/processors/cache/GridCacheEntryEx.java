@@ -526,6 +526,7 @@ public interface GridCacheEntryEx {
      * @param updateCntr Update counter.
      * @param fut Dht atomic future.
      * @param transformOp {@code True} if transform operation caused update.
+     * @param walBatch Batch to collect the WAL record of the update, if {@code null} the record is logged at once.
      * @return Tuple where first value is flag showing whether operation succeeded,
      *      second value is old entry value if return value is requested, third is updated entry value,
      *      fourth is the version to enqueue for deferred delete the fifth is DR conflict context
@@ -563,7 +564,8 @@ public interface GridCacheEntryEx {
         @Nullable CacheObject prevVal,
         @Nullable Long updateCntr,
         @Nullable GridDhtAtomicAbstractUpdateFuture fut,
-        boolean transformOp
+        boolean transformOp,
+        @Nullable GridCacheAtomicWalBatch walBatch
     ) throws IgniteCheckedException, GridCacheEntryRemovedException;
 
     /**
@@ -654,6 +656,18 @@ public interface GridCacheEntryEx {
      */
     public boolean checkSerializableReadVersion(GridCacheVersion serReadVer) throws GridCacheEntryRemovedException;
 
+    /**
+     * Checks if there was read/write conflict in read-only serializable transaction which does not lock
+     * the entry. Unlike {@link #checkSerializableReadVersion(GridCacheVersion)} check also fails
+     * if the entry is locked for write by other transaction since such transaction can be already
+     * committed on other nodes.
+     *
+     * @param serReadVer Version read in serializable transaction.
+     * @return {@code True} if version check passed.
+     * @throws GridCacheEntryRemovedException If entry has been removed.
+     */
+    public boolean validateSerializableRead(GridCacheVersion serReadVer) throws GridCacheEntryRemovedException;
+
     /**
      * Retrieves the last committed MVCC entry version.
      * @param onheapOnly {@code True} if a specified peek mode instructs to look only in the on-heap storage.
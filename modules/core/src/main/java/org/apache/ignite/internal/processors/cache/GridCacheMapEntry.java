@@ -107,6 +107,8 @@ import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ENTRY_LOCK_SPINS;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.IgniteSystemProperties.getLong;
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_EXPIRED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_LOCKED;
@@ -149,6 +151,13 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     /** Entry lock time awaiting. */
     private static final long ENTRY_LOCK_TIMEOUT = getLong(ENTRY_LOCK_TIMEOUT_ENV, DFLT_LOCK_TIMEOUT_ENV);
 
+    /** @see GridCacheMapEntry#ENTRY_LOCK_SPINS */
+    public static final int DFLT_ENTRY_LOCK_SPINS = 64;
+
+    /** Number of attempts to acquire a busy entry lock before the thread is parked. No spinning on a single CPU. */
+    private static final int ENTRY_LOCK_SPINS = Runtime.getRuntime().availableProcessors() > 1 ?
+        Math.max(getInteger(IGNITE_ENTRY_LOCK_SPINS, DFLT_ENTRY_LOCK_SPINS), 0) : 0;
+
     /** */
     private static final byte IS_DELETED_MASK = 0x01;
 
@@ -1915,7 +1924,8 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         @Nullable final CacheObject prevVal,
         @Nullable final Long updateCntr,
         @Nullable final GridDhtAtomicAbstractUpdateFuture fut,
-        boolean transformOp
+        boolean transformOp,
+        @Nullable GridCacheAtomicWalBatch walBatch
     ) throws IgniteCheckedException, GridCacheEntryRemovedException, GridClosureException {
         assert cctx.atomic() && !detached();
 
@@ -1961,7 +1971,8 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                 conflictResolve,
                 intercept,
                 updateCntr,
-                cctx.disableTriggeringCacheInterceptorOnConflict()
+                cctx.disableTriggeringCacheInterceptorOnConflict(),
+                walBatch
             );
 
             key.valueBytes(cctx.cacheObjectContext());
@@ -2753,6 +2764,34 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean validateSerializableRead(GridCacheVersion serReadVer)
+        throws GridCacheEntryRemovedException {
+        lockEntry();
+
+        try {
+            checkObsolete();
+
+            GridCacheMvcc mvcc = mvccExtras();
+
+            if (mvcc != null) {
+                // Read candidates of other serializable transactions do not change the entry.
+                for (GridCacheMvccCandidate cand : mvcc.localCandidatesNoCopy(false)) {
+                    if (!cand.read())
+                        return false;
+                }
+
+                if (!mvcc.remoteCandidates().isEmpty())
+                    return false;
+            }
+
+            return checkSerializableReadVersion(serReadVer);
+        }
+        finally {
+            unlockEntry();
+        }
+    }
+
     /**
      * Gets hash value for the entry key.
      *
@@ -3989,6 +4028,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param expireTime Expire time.
      * @param updCntr Update counter.
      * @param primary {@code True} if node is primary for entry in the moment of logging.
+     * @param walBatch Batch to collect the record, if {@code null} the record is logged at once.
      */
     protected void logUpdate(
         GridCacheOperation op,
@@ -3996,14 +4036,15 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         GridCacheVersion writeVer,
         long expireTime,
         long updCntr,
-        boolean primary
+        boolean primary,
+        @Nullable GridCacheAtomicWalBatch walBatch
     ) throws IgniteCheckedException {
         // We log individual updates only in ATOMIC cache.
         assert cctx.atomic();
 
         try {
-            if (cctx.group().logDataRecords())
-                cctx.group().wal().log(new DataRecord(new DataEntry(
+            if (cctx.group().logDataRecords()) {
+                DataEntry entry = new DataEntry(
                     cctx.cacheId(),
                     key,
                     val,
@@ -4013,7 +4054,13 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                     expireTime,
                     partition(),
                     updCntr,
-                    DataEntry.flags(primary))));
+                    DataEntry.flags(primary));
+
+                if (walBatch != null)
+                    walBatch.add(entry, cctx.cacheObjectContext());
+                else
+                    cctx.group().wal().log(new DataRecord(entry));
+            }
         }
         catch (StorageException e) {
             throw new IgniteCheckedException("Failed to log ATOMIC cache update [key=" + key + ", op=" + op +
@@ -4732,7 +4779,41 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public void lockEntry() {
+        if (!lock.tryLock())
+            lockEntryContended();
+    }
+
+    /**
+     * Acquires the entry lock held by another thread. Spins first since the lock is usually held for a short
+     * time, then parks the thread.
+     */
+    private void lockEntryContended() {
+        for (int i = 0; i < ENTRY_LOCK_SPINS; i++) {
+            U.onSpinWait();
+
+            if (!lock.isLocked() && lock.tryLock()) {
+                onEntryLockContended(false, 0);
+
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+
         lock.lock();
+
+        onEntryLockContended(true, System.nanoTime() - start);
+    }
+
+    /**
+     * @param parked {@code True} if the thread was parked.
+     * @param waitTime Time the thread was parked, in nanoseconds.
+     */
+    private void onEntryLockContended(boolean parked, long waitTime) {
+        GridCacheAdapter<?, ?> cache = cctx.cache();
+
+        if (cache != null)
+            cache.metrics0().onEntryLockContended(parked, waitTime);
     }
 
     /** {@inheritDoc} */
@@ -5664,6 +5745,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         /** */
         private final boolean skipInterceptorOnConflict;
 
+        /** Batch to collect the WAL record of the update. */
+        @Nullable private final GridCacheAtomicWalBatch walBatch;
+
         /** */
         private GridCacheUpdateAtomicResult updateRes;
 
@@ -5704,7 +5788,8 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
             boolean conflictResolve,
             boolean intercept,
             @Nullable Long updateCntr,
-            boolean skipInterceptorOnConflict) {
+            boolean skipInterceptorOnConflict,
+            @Nullable GridCacheAtomicWalBatch walBatch) {
             assert op == UPDATE || op == DELETE || op == TRANSFORM : op;
 
             this.entry = entry;
@@ -5728,6 +5813,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
             this.intercept = intercept;
             this.updateCntr = updateCntr;
             this.skipInterceptorOnConflict = skipInterceptorOnConflict;
+            this.walBatch = walBatch;
 
             switch (op) {
                 case UPDATE:
@@ -6169,7 +6255,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             long updateCntr0 = entry.nextPartitionCounter(topVer, primary, false, updateCntr);
 
-            entry.logUpdate(op, updated, newVer, newExpireTime, updateCntr0, primary);
+            entry.logUpdate(op, updated, newVer, newExpireTime, updateCntr0, primary, walBatch);
 
             if (!entry.isNear()) {
                 newRow = entry.localPartition().dataStore().createRow(
@@ -6256,7 +6342,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             long updateCntr0 = entry.nextPartitionCounter(topVer, primary, false, updateCntr);
 
-            entry.logUpdate(op, null, newVer, 0, updateCntr0, primary);
+            entry.logUpdate(op, null, newVer, 0, updateCntr0, primary, walBatch);
 
             if (oldVal != null) {
                 assert !entry.deletedUnlocked();
@@ -158,6 +158,7 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DIAGNOSTIC_WARN_LIMIT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_DUMP_ON_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITIONS_REFRESH_DELTA;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THREAD_DUMP_ON_EXCHANGE_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.getLong;
@@ -228,6 +229,10 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
     /** Partition resend timeout after eviction. */
     private final long partResendTimeout = getLong(IGNITE_PRELOAD_RESEND_TIMEOUT, DFLT_PRELOAD_RESEND_TIMEOUT);
 
+    /** Tracker of partition maps sent by refresh messages, {@code null} if the maps of all groups are always sent. */
+    @Nullable private final PartitionsRefreshDelta refreshDelta =
+        IgniteSystemProperties.getBoolean(IGNITE_PARTITIONS_REFRESH_DELTA) ? new PartitionsRefreshDelta() : null;
+
     /** */
     private final ReadWriteLock busyLock = new ReentrantReadWriteLock();
 
@@ -1426,6 +1431,23 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         Collection<ClusterNode> nodes,
         AffinityTopologyVersion msgTopVer,
         Collection<CacheGroupContext> grps
+    ) {
+        if (refreshDelta == null)
+            sendPartitionsFullMessage(nodes, msgTopVer, grps);
+        else
+            refreshDelta.send(nodes, msgTopVer, grps);
+    }
+
+    /**
+     * @param nodes Target Nodes.
+     * @param msgTopVer Topology version. Will be added to full message.
+     * @param grps Selected cache groups.
+     * @return Nodes the message failed to be sent to.
+     */
+    private Collection<ClusterNode> sendPartitionsFullMessage(
+        Collection<ClusterNode> nodes,
+        AffinityTopologyVersion msgTopVer,
+        Collection<CacheGroupContext> grps
     ) {
         long time = System.currentTimeMillis();
 
@@ -1478,6 +1500,8 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
                     ", latency=" + latency + "ms]");
             }
         }
+
+        return failedNodes;
     }
 
     /**
@@ -3640,6 +3664,137 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         }
     }
 
+    /**
+     * Tracks the partition maps sent by the coordinator in partition refresh messages to send the nodes only the maps
+     * of cache groups whose partition states, update counters or sizes changed since the previous refresh. A node
+     * receives the maps of all the groups if it missed the previous refresh message, on a new topology version and
+     * periodically after {@link #MAX_DELTAS} refreshes.
+     */
+    private class PartitionsRefreshDelta {
+        /** Number of consecutive refreshes with changed maps only after which the maps of all groups are sent. */
+        private static final int MAX_DELTAS = 10;
+
+        /** Topology version of the sent refresh messages. */
+        private AffinityTopologyVersion topVer = AffinityTopologyVersion.NONE;
+
+        /** Partitions of cache groups received by the synced nodes. */
+        private final Map<Integer, SentPartitions> sentParts = new HashMap<>();
+
+        /** Nodes which received all the partition maps from {@link #sentMaps}. */
+        private final Set<UUID> syncedNodes = new HashSet<>();
+
+        /** Number of consecutive refreshes with changed maps only. */
+        private int deltas;
+
+        /**
+         * @param nodes Target Nodes.
+         * @param msgTopVer Topology version. Will be added to full message.
+         * @param grps Selected cache groups.
+         */
+        synchronized void send(
+            Collection<ClusterNode> nodes,
+            AffinityTopologyVersion msgTopVer,
+            Collection<CacheGroupContext> grps
+        ) {
+            if (!msgTopVer.equals(topVer) || ++deltas > MAX_DELTAS) {
+                topVer = msgTopVer;
+                deltas = 0;
+
+                sentParts.clear();
+                syncedNodes.clear();
+            }
+
+            Collection<CacheGroupContext> changed = new ArrayList<>();
+            Map<Integer, SentPartitions> curParts = new HashMap<>();
+
+            for (CacheGroupContext grp : grps) {
+                GridDhtPartitionFullMap map = grp.topology().partitionMap(true);
+
+                if (map == null)
+                    continue;
+
+                SentPartitions cur = new SentPartitions(map,
+                    CachePartitionFullCountersMap.toCountersMap(grp.topology().fullUpdateCounters()),
+                    new HashMap<>(grp.topology().globalPartSizes()));
+
+                SentPartitions sent = sentParts.get(grp.groupId());
+
+                if (sent == null || !sent.equalTo(cur))
+                    changed.add(grp);
+
+                curParts.put(grp.groupId(), cur);
+            }
+
+            Collection<ClusterNode> synced = new ArrayList<>();
+            Collection<ClusterNode> unsynced = new ArrayList<>();
+
+            for (ClusterNode node : nodes)
+                (syncedNodes.contains(node.id()) ? synced : unsynced).add(node);
+
+            Collection<ClusterNode> failed = new ArrayList<>();
+
+            if (!synced.isEmpty() && !changed.isEmpty())
+                failed.addAll(sendPartitionsFullMessage(synced, msgTopVer, changed));
+
+            if (!unsynced.isEmpty())
+                failed.addAll(sendPartitionsFullMessage(unsynced, msgTopVer, grps));
+
+            if (log.isDebugEnabled()) {
+                log.debug("Partitions refresh sent [msgTopVer=" + msgTopVer + ", changedGroups=" + changed.size() +
+                    ", groups=" + grps.size() + ", synced=" + U.nodeIds(synced) + ", unsynced=" + U.nodeIds(unsynced) +
+                    ']');
+            }
+
+            sentParts.putAll(curParts);
+
+            syncedNodes.clear();
+            syncedNodes.addAll(U.nodeIds(synced));
+
+            // Unsynced nodes received the maps of the given groups only, so they are synced by refresh of all groups.
+            if (grps.size() == cctx.cache().cacheGroups().size())
+                syncedNodes.addAll(U.nodeIds(unsynced));
+
+            syncedNodes.removeAll(U.nodeIds(failed));
+        }
+    }
+
+    /**
+     * Partitions of a cache group sent in a partition refresh message.
+     */
+    private static class SentPartitions {
+        /** Partition map. */
+        private final GridDhtPartitionFullMap map;
+
+        /** Update counters. */
+        private final Map<Integer, T2<Long, Long>> cntrs;
+
+        /** Partition sizes. */
+        private final Map<Integer, Long> sizes;
+
+        /**
+         * @param map Partition map.
+         * @param cntrs Update counters.
+         * @param sizes Partition sizes.
+         */
+        private SentPartitions(
+            GridDhtPartitionFullMap map,
+            Map<Integer, T2<Long, Long>> cntrs,
+            Map<Integer, Long> sizes
+        ) {
+            this.map = map;
+            this.cntrs = cntrs;
+            this.sizes = sizes;
+        }
+
+        /**
+         * @param other Other partitions.
+         * @return {@code True} if partition states, update counters and sizes are equal.
+         */
+        private boolean equalTo(SentPartitions other) {
+            return map.partitionStateEquals(other.map) && cntrs.equals(other.cntrs) && sizes.equals(other.sizes);
+        }
+    }
+
     /**
      *
      */
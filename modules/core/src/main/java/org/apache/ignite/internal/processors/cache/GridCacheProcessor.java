@@ -87,6 +87,8 @@ import org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi;
 import org.apache.ignite.internal.managers.encryption.GroupKeyEncrypted;
 import org.apache.ignite.internal.managers.systemview.walker.CacheGroupIoViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.CachePagesListViewWalker;
+import org.apache.ignite.internal.managers.systemview.walker.HotKeyViewWalker;
+import org.apache.ignite.internal.managers.systemview.walker.PartitionAccessViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.PartitionStateViewWalker;
 import org.apache.ignite.internal.metric.IoStatisticsType;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
@@ -108,6 +110,8 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Part
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearAtomicCache;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTransactionalCache;
 import org.apache.ignite.internal.processors.cache.dr.GridCacheDrManager;
+import org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker;
+import org.apache.ignite.internal.processors.cache.hotspot.TopKeysSketch.HotKey;
 import org.apache.ignite.internal.processors.cache.jta.CacheJtaManagerAdapter;
 import org.apache.ignite.internal.processors.cache.mvcc.DeadlockDetectionManager;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccCachingManager;
@@ -193,6 +197,8 @@ import org.apache.ignite.spi.discovery.DiscoveryDataBag.GridDiscoveryData;
 import org.apache.ignite.spi.discovery.DiscoveryDataBag.JoiningNodeDiscoveryData;
 import org.apache.ignite.spi.systemview.view.CacheGroupIoView;
 import org.apache.ignite.spi.systemview.view.CachePagesListView;
+import org.apache.ignite.spi.systemview.view.HotKeyView;
+import org.apache.ignite.spi.systemview.view.PartitionAccessView;
 import org.apache.ignite.spi.systemview.view.PartitionStateView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -205,6 +211,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_HOT_SPOTS_ENABLED;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_REMOVED_ENTRIES_TTL;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SKIP_CONFIGURATION_CONSISTENCY_CHECK;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
@@ -252,6 +259,18 @@ public class GridCacheProcessor extends GridProcessorAdapter {
     /** System view description for partition states. */
     public static final String PART_STATES_VIEW_DESC = "Distribution of cache group partitions across cluster nodes";
 
+    /** System view name for partition accesses. */
+    public static final String PART_ACCESS_VIEW = "partitionAccess";
+
+    /** System view description for partition accesses. */
+    public static final String PART_ACCESS_VIEW_DESC = "Local node reads and writes of cache partitions";
+
+    /** System view name for hot keys. */
+    public static final String HOT_KEYS_VIEW = "hotKeys";
+
+    /** System view description for hot keys. */
+    public static final String HOT_KEYS_VIEW_DESC = "Most frequently accessed cache keys on the local node";
+
     /** System view name for cache group IO. */
     public static final String CACHE_GRP_IO_VIEW = metricName("local", "cache", "groups", "io");
 
@@ -647,6 +666,24 @@ public class GridCacheProcessor extends GridProcessorAdapter {
                 return new CacheGroupIoView(grpCtx, mreg);
             }
         );
+
+        if (getBoolean(IGNITE_CACHE_HOT_SPOTS_ENABLED)) {
+            ctx.systemView().registerView(
+                PART_ACCESS_VIEW,
+                PART_ACCESS_VIEW_DESC,
+                new PartitionAccessViewWalker(),
+                this::partAccessViewSupplier,
+                Function.identity()
+            );
+
+            ctx.systemView().registerView(
+                HOT_KEYS_VIEW,
+                HOT_KEYS_VIEW_DESC,
+                new HotKeyViewWalker(),
+                this::hotKeysViewSupplier,
+                Function.identity()
+            );
+        }
     }
 
     /**
@@ -5412,6 +5449,60 @@ public class GridCacheProcessor extends GridProcessorAdapter {
             true)));
     }
 
+    /**
+     * @return Contexts of the started caches that track hot spots.
+     */
+    private List<GridCacheContext<?, ?>> hotSpotTrackingCaches() {
+        List<GridCacheContext<?, ?>> res = new ArrayList<>();
+
+        for (GridCacheAdapter<?, ?> cache : caches.values()) {
+            GridCacheContext<?, ?> cctx = cache.context();
+
+            if (cctx.isNear())
+                cctx = cctx.near().dht().context();
+
+            if (cctx.hotSpotTracker() != null)
+                res.add(cctx);
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Accessed partitions of the caches that track hot spots.
+     */
+    private Collection<PartitionAccessView> partAccessViewSupplier() {
+        List<PartitionAccessView> res = new ArrayList<>();
+
+        for (GridCacheContext<?, ?> cctx : hotSpotTrackingCaches()) {
+            CacheHotSpotTracker hotSpots = cctx.hotSpotTracker();
+
+            for (int p = 0; p < hotSpots.partitions(); p++) {
+                long reads = hotSpots.reads(p);
+                long writes = hotSpots.writes(p);
+
+                if (reads != 0 || writes != 0)
+                    res.add(new PartitionAccessView(cctx.name(), cctx.cacheId(), p, reads, writes));
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Most frequently accessed keys of the caches that track hot spots.
+     */
+    private Collection<HotKeyView> hotKeysViewSupplier() {
+        List<HotKeyView> res = new ArrayList<>();
+
+        for (GridCacheContext<?, ?> cctx : hotSpotTrackingCaches()) {
+            for (HotKey hotKey : cctx.hotSpotTracker().topKeys())
+                res.add(new HotKeyView(cctx, hotKey));
+        }
+
+        return res;
+    }
+
     /**
      * Filter map by key.
      *
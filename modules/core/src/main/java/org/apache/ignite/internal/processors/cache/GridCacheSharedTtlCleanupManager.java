@@ -19,10 +19,12 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
@@ -33,6 +35,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 
@@ -40,14 +43,21 @@ import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
+    /** @see IgniteSystemProperties#IGNITE_TTL_CLEANUP_WORKERS */
+    public static final int DFLT_TTL_CLEANUP_WORKERS = 1;
+
     /** Ttl cleanup worker thread sleep interval, ms. */
     private static final long CLEANUP_WORKER_SLEEP_INTERVAL = 500;
 
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
-    /** Cleanup worker. */
-    private CleanupWorker cleanupWorker;
+    /** Number of cleanup workers. */
+    private final int workersCnt = Math.max(1,
+        IgniteSystemProperties.getInteger(IGNITE_TTL_CLEANUP_WORKERS, DFLT_TTL_CLEANUP_WORKERS));
+
+    /** Cleanup workers. */
+    private CleanupWorker[] cleanupWorkers;
 
     /** Lock on worker thread creation. */
     private final ReentrantLock lock = new ReentrantLock();
@@ -55,6 +65,12 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     /** Map of registered ttl managers, where the cache id is used as the key. */
     private final Map<Integer, GridCacheTtlManager> mgrs = new ConcurrentHashMap<>();
 
+    /**
+     * Guards ttl managers from being unregistered and, therefore, stopped while expiration is in progress.
+     * The read lock is held by the cleanup workers, so the same cache can be processed by several of them.
+     */
+    private final ReadWriteLock mgrsLock = new ReentrantReadWriteLock();
+
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
         stopCleanupWorker();
@@ -78,7 +94,14 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * @param mgr ttl manager of cache.
      * */
     public void unregister(GridCacheTtlManager mgr) {
-        mgrs.remove(mgr.context().cacheId());
+        mgrsLock.writeLock().lock();
+
+        try {
+            mgrs.remove(mgr.context().cacheId());
+        }
+        finally {
+            mgrsLock.writeLock().unlock();
+        }
 
         if (mgrs.isEmpty())
             stopCleanupWorker();
@@ -93,7 +116,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            return cleanupWorker != null;
+            return cleanupWorkers != null;
         }
         finally {
             lock.unlock();
@@ -107,12 +130,16 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (cleanupWorker != null)
+            if (cleanupWorkers != null)
                 return;
 
-            cleanupWorker = new CleanupWorker();
+            cleanupWorkers = new CleanupWorker[workersCnt];
 
-            new IgniteThread(cleanupWorker).start();
+            for (int i = 0; i < workersCnt; i++) {
+                cleanupWorkers[i] = new CleanupWorker(i);
+
+                new IgniteThread(cleanupWorkers[i]).start();
+            }
         }
         finally {
             lock.unlock();
@@ -126,11 +153,14 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (null != cleanupWorker) {
-                U.cancel(cleanupWorker);
-                U.join(cleanupWorker, log);
+            if (null != cleanupWorkers) {
+                for (CleanupWorker worker : cleanupWorkers)
+                    U.cancel(worker);
+
+                for (CleanupWorker worker : cleanupWorkers)
+                    U.join(worker, log);
 
-                cleanupWorker = null;
+                cleanupWorkers = null;
             }
         }
         finally {
@@ -142,12 +172,19 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * Entry cleanup worker.
      */
     private class CleanupWorker extends GridWorker {
+        /** Index of the worker, see {@link GridCacheTtlManager#expire(int, int, int)}. */
+        private final int stripe;
+
         /**
          * Creates cleanup worker.
+         *
+         * @param stripe Index of the worker.
          */
-        CleanupWorker() {
-            super(cctx.igniteInstanceName(), "ttl-cleanup-worker", cctx.logger(GridCacheSharedTtlCleanupManager.class),
-                cctx.kernalContext().workersRegistry());
+        CleanupWorker(int stripe) {
+            super(cctx.igniteInstanceName(), stripe == 0 ? "ttl-cleanup-worker" : "ttl-cleanup-worker-" + stripe,
+                cctx.logger(GridCacheSharedTtlCleanupManager.class), cctx.kernalContext().workersRegistry());
+
+            this.stripe = stripe;
         }
 
         /** {@inheritDoc} */
@@ -180,29 +217,27 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                 assert !cctx.kernalContext().recoveryMode();
 
-                final AtomicBoolean expiredRemains = new AtomicBoolean();
-
                 while (!isCancelled()) {
-                    expiredRemains.set(false);
+                    boolean expiredRemains = false;
 
-                    for (Map.Entry<Integer, GridCacheTtlManager> mgr : mgrs.entrySet()) {
+                    for (Integer processedCacheID : mgrs.keySet()) {
                         updateHeartbeat();
 
-                        Integer processedCacheID = mgr.getKey();
-
                         cctx.database().checkpointReadLock();
 
+                        // Need to be sure that the cache to be processed will not be unregistered and,
+                        // therefore, stopped during the process of expiration is in progress.
+                        mgrsLock.readLock().lock();
+
                         try {
-                            // Need to be sure that the cache to be processed will not be unregistered and,
-                            // therefore, stopped during the process of expiration is in progress.
-                            mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
-                                    expiredRemains.set(true);
-
-                                return m;
-                            });
+                            GridCacheTtlManager m = mgrs.get(processedCacheID);
+
+                            if (m != null && m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT, stripe, workersCnt))
+                                expiredRemains = true;
                         }
                         finally {
+                            mgrsLock.readLock().unlock();
+
                             cctx.database().checkpointReadUnlock();
                         }
 
@@ -212,7 +247,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
-                    if (!expiredRemains.get())
+                    if (!expiredRemains)
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
 
                     onIdle();
@@ -203,6 +203,22 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @return {@code True} if unprocessed expired entries remains.
      */
     public boolean expire(int amount) {
+        return expire(amount, 0, 1);
+    }
+
+    /**
+     * Processes specified amount of expired entries of the given stripe. Several threads may expire entries of the
+     * same cache concurrently if each of them processes its own stripe.
+     *
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Index of the stripe to process.
+     * @param stripes Total number of stripes.
+     * @return {@code True} if unprocessed expired entries remains.
+     * @see IgniteCacheOffheapManager#expire(GridCacheContext, IgniteInClosure2X, int, int, int)
+     */
+    public boolean expire(int amount, int stripe, int stripes) {
+        assert stripe >= 0 && stripe < stripes : "stripe=" + stripe + ", stripes=" + stripes;
+
         // TTL manager is not initialized or eagerTtl disabled for cache.
         if (!eagerTtlEnabled)
             return false;
@@ -212,7 +228,7 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         long now = U.currentTimeMillis();
 
         try {
-            if (pendingEntries != null) {
+            if (pendingEntries != null && stripe == 0) {
                 GridNearCacheAdapter nearCache = cctx.near();
 
                 GridCacheVersion obsoleteVer = null;
@@ -240,18 +256,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
             if (!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
 
-            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis())
+            // Clean up of a single stripe is throttled by the underlying data stores.
+            if (!hasPendingEntries || (stripes == 1 && nextCleanTime > U.currentTimeMillis()))
                 return false;
 
-            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount);
+            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount, stripe, stripes);
 
             if (more)
                 return true;
 
             // There is nothing to clean, so the next clean up can be postponed.
-            nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
+            if (stripes == 1)
+                nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
 
-            if (amount != -1 && pendingEntries != null) {
+            if (amount != -1 && pendingEntries != null && stripe == 0) {
                 EntryWrapper e = pendingEntries.firstx();
 
                 return e != null && e.expireTime <= now;
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.processors.cache.persistence.RowStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.partstorage.PartitionMetaStorage;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataRowProjection;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
 import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccUpdateResult;
@@ -161,14 +162,26 @@ public interface IgniteCacheOffheapManager {
     public boolean containsKey(GridCacheMapEntry entry);
 
     /**
+     * Removes expired entries of the given stripe. Expired entries are removed from the pending entries tree by
+     * ranges, the closure is applied to each of the removed entries. Stripes split expiration between several
+     * threads: partitions of a persistent cache are distributed between stripes, while a cache of an in-memory
+     * group is expired by a single stripe.
+     *
      * @param cctx Cache context.
      * @param c Closure.
      * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Index of the stripe to process.
+     * @param stripes Total number of stripes.
      * @return {@code True} if unprocessed expired entries remains.
      * @throws IgniteCheckedException If failed.
      */
-    public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
-        throws IgniteCheckedException;
+    public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
+    ) throws IgniteCheckedException;
 
     /**
      * Gets the number of entries pending expire.
@@ -411,6 +424,7 @@ public interface IgniteCacheOffheapManager {
      * @param topVer Topology version.
      * @param mvccSnapshot MVCC snapshot.
      * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param proj Projection of the value fields, see {@link CacheDataRowProjection}.
      * @return Rows iterator.
      * @throws IgniteCheckedException If failed.
      */
@@ -419,7 +433,8 @@ public interface IgniteCacheOffheapManager {
         boolean backup,
         AffinityTopologyVersion topVer,
         @Nullable MvccSnapshot mvccSnapshot,
-        Boolean dataPageScanEnabled
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowProjection proj
     ) throws IgniteCheckedException;
 
     /**
@@ -427,11 +442,13 @@ public interface IgniteCacheOffheapManager {
      * @param part Partition.
      * @param mvccSnapshot MVCC snapshot.
      * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param proj Projection of the value fields, see {@link CacheDataRowProjection}.
      * @return Partition data iterator.
      * @throws IgniteCheckedException If failed.
      */
     public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, final int part,
-        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled) throws IgniteCheckedException;
+        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled, @Nullable CacheDataRowProjection proj)
+        throws IgniteCheckedException;
 
     /**
      * @param part Partition number.
@@ -57,6 +57,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Ign
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.IgniteRebalanceIteratorImpl;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.hotspot.CacheHotSpotTracker;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshotWithoutTxs;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccUtils;
@@ -77,6 +78,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 import org.apache.ignite.internal.processors.cache.query.GridCacheQueryManager;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataRowProjection;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataRowStore;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
 import org.apache.ignite.internal.processors.cache.tree.DataRow;
@@ -431,6 +433,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         OffheapInvokeClosure c)
         throws IgniteCheckedException {
         dataStore(part).invoke(cctx, key, c);
+
+        CacheHotSpotTracker hotSpots = cctx.hotSpotTracker();
+
+        if (hotSpots != null)
+            hotSpots.onWrite(part.id(), key);
     }
 
     /** {@inheritDoc} */
@@ -446,6 +453,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         assert expireTime >= 0;
 
         dataStore(part).update(cctx, key, val, ver, expireTime, oldRow);
+
+        CacheHotSpotTracker hotSpots = cctx.hotSpotTracker();
+
+        if (hotSpots != null)
+            hotSpots.onWrite(part.id(), key);
     }
 
     /** {@inheritDoc} */
@@ -605,6 +617,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         GridDhtLocalPartition part
     ) throws IgniteCheckedException {
         dataStore(part).remove(cctx, key, partId);
+
+        CacheHotSpotTracker hotSpots = cctx.hotSpotTracker();
+
+        if (hotSpots != null)
+            hotSpots.onWrite(partId, key);
     }
 
     /** {@inheritDoc} */
@@ -614,6 +631,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         assert entry.localPartition() != null : entry;
 
+        CacheHotSpotTracker hotSpots = entry.context().hotSpotTracker();
+
+        if (hotSpots != null)
+            hotSpots.onRead(entry.localPartition().id(), key);
+
         return dataStore(entry.localPartition()).find(entry.context(), key);
     }
 
@@ -626,6 +648,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         assert row == null || row.value() != null : row;
 
+        CacheHotSpotTracker hotSpots = cctx.hotSpotTracker();
+
+        if (hotSpots != null && dataStore != null)
+            hotSpots.onRead(dataStore.partId(), key);
+
         return row;
     }
 
@@ -736,7 +763,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         Boolean dataPageScanEnabled
     ) {
         Iterator<CacheDataRow> it = cacheIterator(cctx.cacheId(), primary, backup,
-            topVer, mvccSnapshot, dataPageScanEnabled);
+            topVer, mvccSnapshot, dataPageScanEnabled, null);
 
         return new GridCloseableIteratorAdapter<Cache.Entry<K, V>>() {
             /** */
@@ -821,20 +848,21 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         boolean backups,
         AffinityTopologyVersion topVer,
         @Nullable MvccSnapshot mvccSnapshot,
-        Boolean dataPageScanEnabled
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowProjection proj
     ) {
-        return iterator(cacheId, cacheData(primary, backups, topVer), mvccSnapshot, dataPageScanEnabled);
+        return iterator(cacheId, cacheData(primary, backups, topVer), mvccSnapshot, dataPageScanEnabled, proj);
     }
 
     /** {@inheritDoc} */
     @Override public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, int part,
-        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled) {
+        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled, @Nullable CacheDataRowProjection proj) {
         CacheDataStore data = dataStore(part, true);
 
         if (data == null)
             return new GridEmptyCloseableIterator<>();
 
-        return iterator(cacheId, singletonIterator(data), mvccSnapshot, dataPageScanEnabled);
+        return iterator(cacheId, singletonIterator(data), mvccSnapshot, dataPageScanEnabled, proj);
     }
 
     /** {@inheritDoc} */
@@ -844,7 +872,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         if (data == null)
             return new GridEmptyCloseableIterator<>();
 
-        return iterator(CU.UNDEFINED_CACHE_ID, singletonIterator(data), null, null);
+        return iterator(CU.UNDEFINED_CACHE_ID, singletonIterator(data), null, null, null);
     }
 
     /**
@@ -853,12 +881,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
      * @param dataIt Data store iterator.
      * @param mvccSnapshot Mvcc snapshot.
      * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param proj Projection of the value fields.
      * @return Rows iterator
      */
     private GridCloseableIterator<CacheDataRow> iterator(int cacheId,
         Iterator<CacheDataStore> dataIt,
         MvccSnapshot mvccSnapshot,
-        Boolean dataPageScanEnabled
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowProjection proj
     ) {
         return new GridCloseableIteratorAdapter<CacheDataRow>() {
             /** */
@@ -895,7 +925,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                                 CacheDataTree.setDataPageScanEnabled(false);
 
                                 try {
-                                    if (mvccSnapshot == null)
+                                    if (proj != null && mvccSnapshot == null) {
+                                        cur = cacheId == CU.UNDEFINED_CACHE_ID ? ds.cursor(proj) :
+                                            ds.cursor(cacheId, null, null, proj, null);
+                                    }
+                                    else if (mvccSnapshot == null)
                                         cur = cacheId == CU.UNDEFINED_CACHE_ID ? ds.cursor() : ds.cursor(cacheId);
                                     else {
                                         cur = cacheId == CU.UNDEFINED_CACHE_ID ?
@@ -1322,12 +1356,18 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     @Override public boolean expire(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        int stripe,
+        int stripes
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
         assert pendingEntries != null;
 
+        // There is a single pending entries tree per cache group.
+        if (U.safeAbs(grp.groupId()) % stripes != stripe)
+            return false;
+
         int cleared = expireInternal(cctx, c, amount);
 
         return amount != -1 && cleared >= amount;
@@ -1356,8 +1396,13 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 return 0;
 
             try {
+                long now = U.currentTimeMillis();
+
                 List<PendingRow> rows = pendingEntries.remove(
-                    new PendingRow(cacheId, Long.MIN_VALUE, 0), new PendingRow(cacheId, U.currentTimeMillis(), 0), amount);
+                    new PendingRow(cacheId, Long.MIN_VALUE, 0), new PendingRow(cacheId, now, 0), Math.max(amount, 0));
+
+                if (!rows.isEmpty())
+                    cctx.cache().metrics0().onExpired(now - rows.get(0).expireTime);
 
                 for (PendingRow row : rows) {
                     if (row.key.partition() == -1)
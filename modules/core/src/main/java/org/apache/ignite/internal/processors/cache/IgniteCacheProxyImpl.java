@@ -654,6 +654,8 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
 
         Factory<? extends IgniteClosure> rmtTransFactory = null;
 
+        boolean conflate = false;
+
         if (qry instanceof ContinuousQuery) {
             ContinuousQuery<K, V> qry0 = (ContinuousQuery<K, V>)qry;
 
@@ -670,6 +672,8 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
             locLsnr = qry0.getLocalListener();
 
             rmtFilter = qry0.getRemoteFilter();
+
+            conflate = qry0.isConflate();
         }
         else {
             ContinuousQueryWithTransformer<K, V, ?> qry0 = (ContinuousQueryWithTransformer<K, V, ?>)qry;
@@ -708,7 +712,8 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
                 qry.isAutoUnsubscribe(),
                 loc,
                 keepBinary,
-                qry.isIncludeExpired());
+                qry.isIncludeExpired(),
+                conflate);
 
             try {
                 final QueryCursor<Cache.Entry<K, V>> cur =
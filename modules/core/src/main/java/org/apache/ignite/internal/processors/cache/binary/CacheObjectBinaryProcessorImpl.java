@@ -29,6 +29,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -345,6 +347,8 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
                     if (bCfg.getTypeConfigurations() != null) {
                         Map<Object, Object> typeCfgsMap = new HashMap<>();
 
+                        Set<String> compactLayoutTypes = new TreeSet<>();
+
                         for (BinaryTypeConfiguration c : bCfg.getTypeConfigurations()) {
                             typeCfgsMap.put(
                                 c.getTypeName() != null,
@@ -355,11 +359,18 @@ public class CacheObjectBinaryProcessorImpl extends GridProcessorAdapter impleme
                                 )
                             );
 
+                            if (c.isCompactLayout())
+                                compactLayoutTypes.add(c.getTypeName());
+
                             if (c.isEnum())
                                 BinaryUtils.validateEnumValues(c.getTypeName(), c.getEnumValues());
                         }
 
                         map.put("typeCfgs", typeCfgsMap);
+
+                        // Put only if not empty to keep the attribute equal to the one of nodes without compact layout.
+                        if (!compactLayoutTypes.isEmpty())
+                            map.put("compactLayoutTypes", compactLayoutTypes);
                     }
 
                     ctx.addNodeAttribute(IgniteNodeAttributes.ATTR_BINARY_CONFIGURATION, map);
@@ -26,6 +26,7 @@ import org.apache.ignite.internal.util.GridLeanMap;
 import org.apache.ignite.internal.util.GridLeanSet;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * DHT transaction mapping.
@@ -34,32 +35,58 @@ public class GridDhtTxMapping {
     /** Transaction nodes mapping (primary node -> related backup nodes). */
     private final Map<UUID, Collection<UUID>> txNodes = new GridLeanMap<>();
 
+    /**
+     * Primary node -> backup nodes of write entries. Backups of read entries do not take part in the commit.
+     * Created on the first read mapping, {@code null} while all entries are writes.
+     */
+    private Map<UUID, Collection<UUID>> writeTxNodes;
+
     /**
      * Adds information about next mapping.
      *
      * @param nodes Nodes.
      */
     public void addMapping(List<ClusterNode> nodes) {
+        addMapping(txNodes, nodes);
+
+        if (writeTxNodes != null)
+            addMapping(writeTxNodes, nodes);
+    }
+
+    /**
+     * Adds information about next mapping of an entry which is read but not written by the transaction.
+     *
+     * @param nodes Nodes.
+     */
+    public void addReadMapping(List<ClusterNode> nodes) {
+        if (writeTxNodes == null) {
+            writeTxNodes = new GridLeanMap<>();
+
+            for (Map.Entry<UUID, Collection<UUID>> e : txNodes.entrySet())
+                writeTxNodes.put(e.getKey(), new GridLeanSet<>(e.getValue()));
+        }
+
+        addMapping(txNodes, nodes);
+    }
+
+    /**
+     * @param txNodes Transaction nodes mapping.
+     * @param nodes Nodes.
+     */
+    private static void addMapping(Map<UUID, Collection<UUID>> txNodes, List<ClusterNode> nodes) {
         assert !F.isEmpty(nodes) : nodes;
 
         ClusterNode primary = nodes.get(0);
 
         int size = nodes.size();
 
-        if (size > 1) {
-            Collection<UUID> backups = txNodes.get(primary.id());
+        Collection<UUID> backups = txNodes.get(primary.id());
 
-            if (backups == null) {
-                backups = U.newHashSet(size - 1);
+        if (backups == null)
+            txNodes.put(primary.id(), backups = size > 1 ? U.newHashSet(size - 1) : new GridLeanSet<>());
 
-                txNodes.put(primary.id(), backups);
-            }
-
-            for (int i = 1; i < size; i++)
-                backups.add(nodes.get(i).id());
-        }
-        else
-            txNodes.put(primary.id(), new GridLeanSet<UUID>());
+        for (int i = 1; i < size; i++)
+            backups.add(nodes.get(i).id());
     }
 
     /**
@@ -68,4 +95,36 @@ public class GridDhtTxMapping {
     public Map<UUID, Collection<UUID>> transactionNodes() {
         return txNodes;
     }
+
+    /**
+     * Decides whether the transaction can be committed in one phase: all entries are mapped to a single primary
+     * node, which commits on prepare and updates the backup of the written entries in the same round. The number
+     * of such backups is limited to one, since a failed primary may leave several backups in different states
+     * that the transaction recovery cannot reconcile.
+     *
+     * @return Primary to backup mapping to commit the transaction in one phase, or {@code null} if the transaction
+     *      requires two phases.
+     */
+    @Nullable public Map<UUID, Collection<UUID>> onePhaseCommitNodes() {
+        if (txNodes.size() != 1)
+            return null;
+
+        if (writeTxNodes == null)
+            return F.first(txNodes.values()).size() <= 1 ? txNodes : null;
+
+        UUID primaryId = F.first(txNodes.keySet());
+
+        Collection<UUID> backups = writeTxNodes.get(primaryId);
+
+        if (backups == null)
+            backups = new GridLeanSet<>();
+        else if (backups.size() > 1)
+            return null;
+
+        Map<UUID, Collection<UUID>> res = new GridLeanMap<>(1);
+
+        res.put(primaryId, backups);
+
+        return res;
+    }
 }
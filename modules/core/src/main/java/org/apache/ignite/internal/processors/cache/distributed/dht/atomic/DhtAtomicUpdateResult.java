@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import org.apache.ignite.internal.processors.cache.GridCacheAtomicWalBatch;
 import org.apache.ignite.internal.processors.cache.GridCacheReturn;
 import org.apache.ignite.internal.processors.cache.GridCacheUpdateAtomicResult;
 import org.apache.ignite.internal.processors.cache.IgniteCacheExpiryPolicy;
@@ -50,6 +51,9 @@ class DhtAtomicUpdateResult {
      */
     private int processedEntriesCount;
 
+    /** Batch to collect WAL records of the updates. */
+    private GridCacheAtomicWalBatch walBatch;
+
     /**
      *
      */
@@ -159,4 +163,18 @@ class DhtAtomicUpdateResult {
     public int processedEntriesCount() {
         return processedEntriesCount;
     }
+
+    /**
+     * @param walBatch Batch to collect WAL records of the updates.
+     */
+    void walBatch(@Nullable GridCacheAtomicWalBatch walBatch) {
+        this.walBatch = walBatch;
+    }
+
+    /**
+     * @return Batch to collect WAL records of the updates.
+     */
+    @Nullable GridCacheAtomicWalBatch walBatch() {
+        return walBatch;
+    }
 }
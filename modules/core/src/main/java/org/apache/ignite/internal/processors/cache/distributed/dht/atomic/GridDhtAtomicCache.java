@@ -59,6 +59,7 @@ import org.apache.ignite.internal.processors.cache.CacheOperationContext;
 import org.apache.ignite.internal.processors.cache.CacheStoppedException;
 import org.apache.ignite.internal.processors.cache.CacheStorePartialUpdateException;
 import org.apache.ignite.internal.processors.cache.EntryGetResult;
+import org.apache.ignite.internal.processors.cache.GridCacheAtomicWalBatch;
 import org.apache.ignite.internal.processors.cache.GridCacheConcurrentMap;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
@@ -74,6 +75,7 @@ import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProce
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtFuture;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartitionedGetFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartitionedSingleGetFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtForceKeysRequest;
@@ -154,6 +156,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     /** @see IgniteSystemProperties#IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT */
     public static final int DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT = 500;
 
+    /** Result of {@link #fastLocalGet} if the key can not be read locally. */
+    private static final Object LOC_GET_MISS = new Object();
+
     /** Deferred update response buffer size. */
     private static final int DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE =
         Integer.getInteger(IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE, DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE);
@@ -496,6 +501,113 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             false).get();
     }
 
+    /** {@inheritDoc} */
+    @Override protected V get(
+        K key,
+        String taskName,
+        boolean deserializeBinary,
+        boolean needVer
+    ) throws IgniteCheckedException {
+        // Operation context carries options (expiry policy, skip store, read repair, etc.) the fast path doesn't handle.
+        if (!needVer && ctx.operationContextPerCall() == null) {
+            Object val = fastLocalGet(key, taskName, deserializeBinary);
+
+            if (val != LOC_GET_MISS)
+                return (V)val;
+        }
+
+        return super.get(key, taskName, deserializeBinary, needVer);
+    }
+
+    /**
+     * Reads a value of the key straight from the local partition without creation of a get future and a cache entry.
+     *
+     * @param key Key.
+     * @param taskName Task name.
+     * @param deserializeBinary Deserialize binary flag.
+     * @return Value, {@code null} if there is no value for the key, or {@link #LOC_GET_MISS} if the key can not be
+     *      read locally.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private Object fastLocalGet(K key, String taskName, boolean deserializeBinary)
+        throws IgniteCheckedException {
+        // Local read cannot be used with MVCC as local node can contain some visible version which is not latest.
+        if (ctx.mvccEnabled() || !ctx.affinityNode())
+            return LOC_GET_MISS;
+
+        // Expiry policy of the cache may update TTL on read, which requires an entry.
+        if (!ctx.readNoEntry(expiryPolicy(null), false))
+            return LOC_GET_MISS;
+
+        GridDhtTopologyFuture topFut = ctx.shared().exchange().lastTopologyFuture();
+
+        if (!topFut.isDone())
+            return LOC_GET_MISS;
+
+        AffinityTopologyVersion topVer = ctx.affinity().affinityTopologyVersion();
+
+        KeyCacheObject cacheKey = ctx.toCacheKeyObject(key);
+
+        int part = ctx.affinity().partition(cacheKey);
+
+        if (!ctx.config().isReadFromBackup() && !ctx.affinity().primaryByPartition(ctx.localNode(), part, topVer))
+            return LOC_GET_MISS;
+
+        // Invalid cache state is reported by the regular path.
+        if (topFut.validateCache(ctx, false, true, cacheKey, null) != null)
+            return LOC_GET_MISS;
+
+        ctx.checkSecurity(SecurityPermission.CACHE_READ);
+
+        checkJta();
+
+        if (!ctx.reserveForFastLocalGet(part, topVer))
+            return LOC_GET_MISS;
+
+        try {
+            ctx.shared().database().checkpointReadLock();
+
+            try {
+                cacheKey = (KeyCacheObject)ctx.cacheObjects().prepareForCache(cacheKey, ctx);
+
+                CacheDataRow row = ctx.offheap().read(ctx, cacheKey);
+
+                if (row == null) {
+                    // The value may be loaded from store.
+                    if (ctx.readThroughConfigured())
+                        return LOC_GET_MISS;
+
+                    if (ctx.statisticsEnabled())
+                        metrics0().onRead(false);
+
+                    return null;
+                }
+
+                long expireTime = row.expireTime();
+
+                // Expired entry is removed by the regular path.
+                if (expireTime != 0 && expireTime <= U.currentTimeMillis())
+                    return LOC_GET_MISS;
+
+                CacheObject val = row.value();
+
+                ctx.events().readEvent(cacheKey, null, null, val, taskName, !deserializeBinary);
+
+                if (ctx.statisticsEnabled())
+                    metrics0().onRead(true);
+
+                return ctx.unwrapBinaryIfNeeded(val, !deserializeBinary, true,
+                    U.deploymentClassLoader(ctx.kernalContext(), U.contextDeploymentClassLoaderId(ctx.kernalContext())));
+            }
+            finally {
+                ctx.shared().database().checkpointReadUnlock();
+            }
+        }
+        finally {
+            ctx.releaseForFastLocalGet(part, topVer);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteInternalFuture<Map<K, V>> getAllAsync(
         @Nullable final Collection<? extends K> keys,
@@ -1775,6 +1887,10 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
             DhtAtomicUpdateResult updDhtRes = new DhtAtomicUpdateResult();
 
+            // All the entries are locked, so their updates can be logged by a single WAL record.
+            if (req.size() > 1 && ctx.group().logDataRecords())
+                updDhtRes.walBatch(new GridCacheAtomicWalBatch(ctx.group()));
+
             try {
                 while (true) {
                     try {
@@ -1868,8 +1984,15 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 e.printStackTrace();
             }
             finally {
-                if (locked != null)
-                    unlockEntries(locked, req.topologyVersion());
+                try {
+                    // Updates have to be logged before the entries are unlocked.
+                    if (updDhtRes.walBatch() != null)
+                        updDhtRes.walBatch().flush();
+                }
+                finally {
+                    if (locked != null)
+                        unlockEntries(locked, req.topologyVersion());
+                }
 
                 // Enqueue if necessary after locks release.
                 if (deleted != null) {
@@ -2562,7 +2685,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                     /*prevVal*/null,
                     /*updateCntr*/null,
                     dhtFut,
-                    false);
+                    false,
+                    dhtUpdRes.walBatch());
 
                 if (dhtFut != null) {
                     if (updRes.sendToDht()) { // Send to backups even in case of remove-remove scenarios.
@@ -2847,7 +2971,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                         null,
                         null,
                         dhtFut,
-                        entryProcessor != null);
+                        entryProcessor != null,
+                        dhtUpdRes.walBatch());
 
                     assert !updRes.success() || updRes.newTtl() == CU.TTL_NOT_CHANGED || expiry != null :
                         "success=" + updRes.success() + ", newTtl=" + updRes.newTtl() + ", expiry=" + expiry;
@@ -3316,7 +3441,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                                 prevVal,
                                 updateIdx,
                                 null,
-                                req.transformOperation());
+                                req.transformOperation(),
+                                null);
 
                             if (updRes.removeVersion() != null)
                                 ctx.onDeferredDelete(entry, updRes.removeVersion());
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.distributed.dht.colocated;
 
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheAtomicWalBatch;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -79,7 +80,8 @@ public class GridDhtDetachedCacheEntry extends GridDistributedCacheEntry {
         GridCacheVersion writeVer,
         long expireTime,
         long updCntr,
-        boolean primary
+        boolean primary,
+        @Nullable GridCacheAtomicWalBatch walBatch
     ) throws IgniteCheckedException {
         // No-op for detached entries, index is updated on primary or backup nodes.
     }
@@ -40,6 +40,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheRebalanceMode;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -95,6 +96,7 @@ import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_REBALANCE_PRELOAD_PARALLELISM;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_OBJECT_LOADED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_LOADED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_STARTED;
@@ -113,6 +115,9 @@ import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metr
  * Thread pool for requesting partitions from other nodes and populating local cache.
  */
 public class GridDhtPartitionDemander {
+    /** @see IgniteSystemProperties#IGNITE_REBALANCE_PRELOAD_PARALLELISM */
+    public static final int DFLT_REBALANCE_PRELOAD_PARALLELISM = 1;
+
     /** */
     private final GridCacheSharedContext<?, ?> ctx;
 
@@ -139,6 +144,10 @@ public class GridDhtPartitionDemander {
     /** Rebalancing last cancelled time. */
     private final AtomicLong lastCancelledTime = new AtomicLong(-1);
 
+    /** Maximum number of partitions of a supply message preloaded in parallel. */
+    private final int preloadParallelism =
+        IgniteSystemProperties.getInteger(IGNITE_REBALANCE_PRELOAD_PARALLELISM, DFLT_REBALANCE_PRELOAD_PARALLELISM);
+
     /**
      * @param grp Ccahe group.
      */
@@ -583,101 +592,14 @@ public class GridDhtPartitionDemander {
             try {
                 AffinityAssignment aff = grp.affinity().cachedAffinity(topVer);
 
-                // Preload.
-                for (Map.Entry<Integer, CacheEntryInfoCollection> e : supplyMsg.infos().entrySet()) {
-                    int p = e.getKey();
-
-                    if (aff.get(p).contains(ctx.localNode())) {
-                        GridDhtLocalPartition part;
-
-                        try {
-                            part = top.localPartition(p, topVer, true);
-                        }
-                        catch (GridDhtInvalidPartitionException err) {
-                            assert !topVer.equals(top.lastTopologyChangeVersion());
-
-                            if (log.isDebugEnabled()) {
-                                log.debug("Failed to get partition for rebalancing [" +
-                                    "grp=" + grp.cacheOrGroupName() +
-                                    ", err=" + err +
-                                    ", p=" + p +
-                                    ", topVer=" + topVer +
-                                    ", lastTopVer=" + top.lastTopologyChangeVersion() + ']');
-                            }
-
-                            continue;
-                        }
-
-                        assert part != null;
-
-                        boolean last = supplyMsg.last().containsKey(p);
-
-                        if (part.state() == MOVING) {
-                            boolean reserved = part.reserve();
-
-                            assert reserved : "Failed to reserve partition [igniteInstanceName=" +
-                                ctx.igniteInstanceName() + ", grp=" + grp.cacheOrGroupName() + ", part=" + part + ']';
-
-                            part.beforeApplyBatch(last);
-
-                            try {
-                                long[] byteRcv = {0};
-
-                                GridIterableAdapter<GridCacheEntryInfo> infosWrap = new GridIterableAdapter<>(
-                                    new IteratorWrapper<GridCacheEntryInfo>(e.getValue().infos().iterator()) {
-                                        /** {@inheritDoc} */
-                                        @Override public GridCacheEntryInfo nextX() throws IgniteCheckedException {
-                                            GridCacheEntryInfo i = super.nextX();
-
-                                            byteRcv[0] += i.marshalledSize(ctx.cacheObjectContext(i.cacheId()));
-
-                                            return i;
-                                        }
-                                    }
-                                );
-
-                                try {
-                                    if (grp.mvccEnabled())
-                                        mvccPreloadEntries(topVer, node, p, infosWrap);
-                                    else {
-                                        preloadEntries(topVer, part, infosWrap);
-
-                                        rebalanceFut.onReceivedKeys(p, e.getValue().infos().size(), node);
-                                    }
-                                }
-                                catch (GridDhtInvalidPartitionException ignored) {
-                                    if (log.isDebugEnabled())
-                                        log.debug("Partition became invalid during rebalancing (will ignore): " + p);
-                                }
-
-                                fut.processed.get(p).increment();
+                int stripes = preloadStripes(fut, supplyMsg);
 
-                                fut.onReceivedBytes(p, byteRcv[0], node);
-
-                                // If message was last for this partition, then we take ownership.
-                                if (last)
-                                    ownPartition(fut, p, nodeId, supplyMsg);
-                            }
-                            finally {
-                                part.release();
-                            }
-                        }
-                        else {
-                            if (last)
-                                fut.partitionDone(nodeId, p, false);
-
-                            if (log.isDebugEnabled())
-                                log.debug("Skipping rebalancing partition (state is not MOVING): " +
-                                    '[' + demandRoutineInfo(nodeId, supplyMsg) + ", p=" + p + ']');
-                        }
-                    }
-                    else {
-                        fut.partitionDone(nodeId, p, false);
-
-                        if (log.isDebugEnabled())
-                            log.debug("Skipping rebalancing partition (affinity changed): " +
-                                '[' + demandRoutineInfo(nodeId, supplyMsg) + ", p=" + p + ']');
-                    }
+                // Preload.
+                if (stripes > 1)
+                    preloadPartitionsParallel(fut, node, supplyMsg, aff, stripes);
+                else {
+                    for (Map.Entry<Integer, CacheEntryInfoCollection> e : supplyMsg.infos().entrySet())
+                        preloadPartition(fut, node, supplyMsg, aff, e.getKey(), e.getValue(), true);
                 }
 
                 // Only request partitions based on latest topology version.
@@ -729,6 +651,285 @@ public class GridDhtPartitionDemander {
         }
     }
 
+    /**
+     * @param fut Rebalance future.
+     * @param supplyMsg Supply message.
+     * @return Number of stripes to preload the partitions of the supply message in parallel.
+     */
+    private int preloadStripes(RebalanceFuture fut, GridDhtPartitionSupplyMessage supplyMsg) {
+        int parts = supplyMsg.infos().size();
+
+        if (preloadParallelism <= 1 || parts <= 1 || grp.mvccEnabled())
+            return 1;
+
+        // Entries of historical partitions must be applied in the order they are supplied.
+        for (Integer p : supplyMsg.infos().keySet()) {
+            if (fut.historical.contains(p))
+                return 1;
+        }
+
+        return Math.min(preloadParallelism, parts);
+    }
+
+    /**
+     * Preloads the partitions of the supply message in parallel. The partitions are striped over the rebalance
+     * pool, the current thread preloads the first stripe and waits for the others. Partitions are owned after
+     * all the stripes are completed to keep the rebalance future locks acquired by the current thread only. The
+     * stripes keep the last received partitions reserved until they are owned.
+     *
+     * @param fut Rebalance future.
+     * @param node Supplier node.
+     * @param supplyMsg Supply message.
+     * @param aff Affinity assignment.
+     * @param stripes Number of stripes.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void preloadPartitionsParallel(
+        RebalanceFuture fut,
+        ClusterNode node,
+        GridDhtPartitionSupplyMessage supplyMsg,
+        AffinityAssignment aff,
+        int stripes
+    ) throws IgniteCheckedException {
+        List<List<Integer>> parts = new ArrayList<>(stripes);
+
+        for (int i = 0; i < stripes; i++)
+            parts.add(new ArrayList<>());
+
+        // Round-robin by index, so no stripe is empty whatever the partition numbers are.
+        int idx = 0;
+
+        for (Integer p : supplyMsg.infos().keySet())
+            parts.get(idx++ % stripes).add(p);
+
+        List<GridFutureAdapter<Collection<GridDhtLocalPartition>>> futs = new ArrayList<>(stripes - 1);
+
+        for (int i = 1; i < stripes; i++) {
+            List<Integer> stripeParts = parts.get(i);
+
+            if (stripeParts.isEmpty())
+                continue;
+
+            GridFutureAdapter<Collection<GridDhtLocalPartition>> stripeFut = new GridFutureAdapter<>();
+
+            futs.add(stripeFut);
+
+            ctx.kernalContext().pools().getStripedRebalanceExecutorService().execute(() -> {
+                try {
+                    stripeFut.onDone(preloadPartitions(fut, node, supplyMsg, aff, stripeParts));
+                }
+                catch (Throwable t) {
+                    stripeFut.onDone(t);
+                }
+            }, stripeParts.get(0));
+        }
+
+        Collection<GridDhtLocalPartition> owning = new ArrayList<>();
+        IgniteCheckedException err = null;
+
+        try {
+            owning.addAll(preloadPartitions(fut, node, supplyMsg, aff, parts.get(0)));
+        }
+        catch (IgniteCheckedException e) {
+            err = e;
+        }
+
+        // Partitions are reserved by the stripes, so all of them must be completed before leaving.
+        for (GridFutureAdapter<Collection<GridDhtLocalPartition>> stripeFut : futs) {
+            try {
+                owning.addAll(stripeFut.get());
+            }
+            catch (IgniteCheckedException e) {
+                if (err == null)
+                    err = e;
+                else
+                    err.addSuppressed(e);
+            }
+        }
+
+        try {
+            if (err != null)
+                throw err;
+
+            for (GridDhtLocalPartition part : owning)
+                ownPartition(fut, part.id(), node.id(), supplyMsg);
+        }
+        finally {
+            for (GridDhtLocalPartition part : owning)
+                part.release();
+        }
+    }
+
+    /**
+     * @param fut Rebalance future.
+     * @param node Supplier node.
+     * @param supplyMsg Supply message.
+     * @param aff Affinity assignment.
+     * @param parts Partitions to preload.
+     * @return Reserved partitions fully received and to be owned and released by the caller.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Collection<GridDhtLocalPartition> preloadPartitions(
+        RebalanceFuture fut,
+        ClusterNode node,
+        GridDhtPartitionSupplyMessage supplyMsg,
+        AffinityAssignment aff,
+        Collection<Integer> parts
+    ) throws IgniteCheckedException {
+        Collection<GridDhtLocalPartition> owning = new ArrayList<>();
+
+        try {
+            for (Integer p : parts) {
+                GridDhtLocalPartition part = preloadPartition(fut, node, supplyMsg, aff, p,
+                    supplyMsg.infos().get(p), false);
+
+                if (part != null)
+                    owning.add(part);
+            }
+        }
+        catch (IgniteCheckedException | RuntimeException | Error e) {
+            for (GridDhtLocalPartition part : owning)
+                part.release();
+
+            throw e;
+        }
+
+        return owning;
+    }
+
+    /**
+     * Populates the rebalancing partition with entries from the supply message.
+     *
+     * @param fut Rebalance future.
+     * @param node Supplier node.
+     * @param supplyMsg Supply message.
+     * @param aff Affinity assignment.
+     * @param p Partition id.
+     * @param infos Partition entries.
+     * @param own {@code True} to own the partition if the message is the last one for it.
+     * @return Reserved partition if {@code own} is {@code false} and the message is the last one for the partition.
+     *      The caller must own and release it.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private GridDhtLocalPartition preloadPartition(
+        RebalanceFuture fut,
+        ClusterNode node,
+        GridDhtPartitionSupplyMessage supplyMsg,
+        AffinityAssignment aff,
+        int p,
+        CacheEntryInfoCollection infos,
+        boolean own
+    ) throws IgniteCheckedException {
+        AffinityTopologyVersion topVer = supplyMsg.topologyVersion();
+        GridDhtPartitionTopology top = grp.topology();
+        UUID nodeId = node.id();
+
+        if (aff.get(p).contains(ctx.localNode())) {
+            GridDhtLocalPartition part;
+
+            try {
+                part = top.localPartition(p, topVer, true);
+            }
+            catch (GridDhtInvalidPartitionException err) {
+                assert !topVer.equals(top.lastTopologyChangeVersion());
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to get partition for rebalancing [" +
+                        "grp=" + grp.cacheOrGroupName() +
+                        ", err=" + err +
+                        ", p=" + p +
+                        ", topVer=" + topVer +
+                        ", lastTopVer=" + top.lastTopologyChangeVersion() + ']');
+                }
+
+                return null;
+            }
+
+            assert part != null;
+
+            boolean last = supplyMsg.last().containsKey(p);
+
+            if (part.state() == MOVING) {
+                boolean reserved = part.reserve();
+
+                assert reserved : "Failed to reserve partition [igniteInstanceName=" +
+                    ctx.igniteInstanceName() + ", grp=" + grp.cacheOrGroupName() + ", part=" + part + ']';
+
+                part.beforeApplyBatch(last);
+
+                boolean release = true;
+
+                try {
+                    long[] byteRcv = {0};
+
+                    GridIterableAdapter<GridCacheEntryInfo> infosWrap = new GridIterableAdapter<>(
+                        new IteratorWrapper<GridCacheEntryInfo>(infos.infos().iterator()) {
+                            /** {@inheritDoc} */
+                            @Override public GridCacheEntryInfo nextX() throws IgniteCheckedException {
+                                GridCacheEntryInfo i = super.nextX();
+
+                                byteRcv[0] += i.marshalledSize(ctx.cacheObjectContext(i.cacheId()));
+
+                                return i;
+                            }
+                        }
+                    );
+
+                    try {
+                        if (grp.mvccEnabled())
+                            mvccPreloadEntries(topVer, node, p, infosWrap);
+                        else {
+                            preloadEntries(topVer, part, infosWrap);
+
+                            rebalanceFut.onReceivedKeys(p, infos.infos().size(), node);
+                        }
+                    }
+                    catch (GridDhtInvalidPartitionException ignored) {
+                        if (log.isDebugEnabled())
+                            log.debug("Partition became invalid during rebalancing (will ignore): " + p);
+                    }
+
+                    fut.processed.get(p).increment();
+
+                    fut.onReceivedBytes(p, byteRcv[0], node);
+
+                    // If message was last for this partition, then we take ownership.
+                    if (last) {
+                        if (!own) {
+                            // The caller owns the partition while it is still reserved.
+                            release = false;
+
+                            return part;
+                        }
+
+                        ownPartition(fut, p, nodeId, supplyMsg);
+                    }
+                }
+                finally {
+                    if (release)
+                        part.release();
+                }
+            }
+            else {
+                if (last)
+                    fut.partitionDone(nodeId, p, false);
+
+                if (log.isDebugEnabled())
+                    log.debug("Skipping rebalancing partition (state is not MOVING): " +
+                        '[' + demandRoutineInfo(nodeId, supplyMsg) + ", p=" + p + ']');
+            }
+        }
+        else {
+            fut.partitionDone(nodeId, p, false);
+
+            if (log.isDebugEnabled())
+                log.debug("Skipping rebalancing partition (affinity changed): " +
+                    '[' + demandRoutineInfo(nodeId, supplyMsg) + ", p=" + p + ']');
+        }
+
+        return null;
+    }
+
     /**
      * Owns the partition recursively.
      */
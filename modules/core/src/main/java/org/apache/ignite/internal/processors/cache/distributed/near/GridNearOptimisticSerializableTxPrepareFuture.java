@@ -324,14 +324,14 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
         boolean hasNearCache = false;
 
         for (IgniteTxEntry write : writes) {
-            map(write, topVer, mappings, txMapping, remap, topLocked);
+            map(write, false, topVer, mappings, txMapping, remap, topLocked);
 
             if (write.context().isNear())
                 hasNearCache = true;
         }
 
         for (IgniteTxEntry read : reads) {
-            map(read, topVer, mappings, txMapping, remap, topLocked);
+            map(read, true, topVer, mappings, txMapping, remap, topLocked);
 
             if (read.context().isNear())
                 hasNearCache = true;
@@ -387,7 +387,7 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
 
             MiniFuture fut = (MiniFuture)fut0;
 
-            IgniteCheckedException err = prepare(fut, txMapping.transactionNodes(), locNearEntriesFut);
+            IgniteCheckedException err = prepare(fut, tx.transactionNodes(), locNearEntriesFut);
 
             if (err != null) {
                 while (it.hasNext()) {
@@ -575,6 +575,7 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
 
     /**
      * @param entry Transaction entry.
+     * @param read {@code True} if the entry is read but not written by the transaction.
      * @param topVer Topology version.
      * @param curMapping Current mapping.
      * @param txMapping Mapping.
@@ -583,6 +584,7 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
      */
     private void map(
         IgniteTxEntry entry,
+        boolean read,
         AffinityTopologyVersion topVer,
         Map<UUID, GridDistributedTxMapping> curMapping,
         GridDhtTxMapping txMapping,
@@ -601,7 +603,10 @@ public class GridNearOptimisticSerializableTxPrepareFuture extends GridNearOptim
             return;
         }
 
-        txMapping.addMapping(nodes);
+        if (read)
+            txMapping.addReadMapping(nodes);
+        else
+            txMapping.addMapping(nodes);
 
         ClusterNode primary = F.first(nodes);
 
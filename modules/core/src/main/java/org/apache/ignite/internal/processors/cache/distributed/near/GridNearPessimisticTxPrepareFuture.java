@@ -298,6 +298,8 @@ public class GridNearPessimisticTxPrepareFuture extends GridNearTxPrepareFutureA
 
         Map<UUID, Collection<UUID>> txNodes;
 
+        GridDhtTxMapping txMapping = null;
+
         if (tx.txState().mvccEnabled()) {
             Collection<GridDistributedTxMapping> mvccMappings = tx.implicitSingle()
                 ? Collections.singleton(tx.mappings().singleMapping()) : tx.mappings().mappings();
@@ -311,7 +313,7 @@ public class GridNearPessimisticTxPrepareFuture extends GridNearTxPrepareFutureA
             }
         }
         else {
-            GridDhtTxMapping txMapping = new GridDhtTxMapping();
+            txMapping = new GridDhtTxMapping();
 
             for (IgniteTxEntry txEntry : tx.allEntries()) {
                 txEntry.clearEntryReadVersion();
@@ -353,8 +355,9 @@ public class GridNearPessimisticTxPrepareFuture extends GridNearTxPrepareFutureA
 
         tx.transactionNodes(txNodes);
 
-        if (!hasNearCache)
-            checkOnePhase(txNodes);
+        // One-phase commit is not supported with MVCC.
+        if (!hasNearCache && txMapping != null)
+            checkOnePhase(txMapping);
 
         long timeout = tx.remainingTime();
 
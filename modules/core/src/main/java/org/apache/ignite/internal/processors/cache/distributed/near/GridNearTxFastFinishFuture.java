@@ -82,7 +82,7 @@ public class GridNearTxFastFinishFuture extends GridFutureAdapter<IgniteInternal
             }
         }
         finally {
-            onDone(tx);
+            onDone(tx, this.commit ? tx.commitError() : null);
         }
     }
 
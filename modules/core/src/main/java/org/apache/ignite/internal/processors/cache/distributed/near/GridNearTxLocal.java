@@ -38,6 +38,7 @@ import javax.cache.processor.EntryProcessor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.ReadRepairStrategy;
 import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
@@ -119,6 +120,7 @@ import org.apache.ignite.transactions.TransactionState;
 import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_READ;
+import static org.apache.ignite.internal.IgniteFeatures.TX_READ_VALIDATE;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.CREATE;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DELETE;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.NOOP;
@@ -163,6 +165,10 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
     @GridToStringExclude
     private volatile IgniteInternalFuture<?> prepFut;
 
+    /** Read set validation future of a read-only optimistic serializable transaction. */
+    @GridToStringExclude
+    private volatile GridNearTxReadValidateFuture readValidateFut;
+
     /** Commit future. */
     @GridToStringExclude
     private volatile NearTxFinishFuture finishFut;
@@ -3985,7 +3991,12 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
 
         boolean fastFinish;
 
-        if (fut0 != null || !FINISH_FUT_UPD.compareAndSet(this, null, fut = finishFuture(fastFinish = fastFinish(), true)))
+        final AffinityTopologyVersion topVer = topologyVersion();
+
+        final boolean validateReads = validateReadsOnCommit(topVer);
+
+        if (fut0 != null || !FINISH_FUT_UPD.compareAndSet(this, null,
+            fut = finishFuture(fastFinish = validateReads || fastFinish(), true)))
             return chainFinishFuture(finishFut, true, true, false);
 
         if (!fastFinish) {
@@ -4036,6 +4047,41 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
                 }
             });
         }
+        else if (validateReads) {
+            if (!state(PREPARING)) {
+                COMMIT_ERR_UPD.compareAndSet(this, null, timedOut() ?
+                    timeoutException() : rollbackException());
+
+                fut.finish(false, true, false);
+
+                return fut;
+            }
+
+            GridNearTxReadValidateFuture validateFut = new GridNearTxReadValidateFuture(cctx, this, topVer);
+
+            readValidateFut = validateFut;
+
+            validateFut.listen(new CI1<IgniteInternalFuture<Void>>() {
+                @Override public void apply(IgniteInternalFuture<Void> f) {
+                    try {
+                        f.get();
+
+                        fut.finish(true, false, false);
+                    }
+                    catch (IgniteCheckedException e) {
+                        COMMIT_ERR_UPD.compareAndSet(GridNearTxLocal.this, null, e);
+
+                        fut.finish(false, true, false);
+                    }
+                }
+            });
+
+            // Rollback could be started before the future was published.
+            if (isRollbackOnly())
+                validateFut.onNearTxLocalRollback();
+            else
+                validateFut.validate();
+        }
         else
             fut.finish(true, false, false);
 
@@ -4087,6 +4133,11 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         if (onTimeout && prepFut instanceof GridNearTxPrepareFutureAdapter && !prepFut.isDone())
             ((GridNearTxPrepareFutureAdapter)prepFut).onNearTxLocalTimeout();
 
+        GridNearTxReadValidateFuture readValidateFut = this.readValidateFut;
+
+        if (readValidateFut != null && !readValidateFut.isDone())
+            readValidateFut.onNearTxLocalRollback();
+
         final NearTxFinishFuture fut;
         final NearTxFinishFuture fut0 = finishFut;
 
@@ -4233,6 +4284,36 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         return fut;
     }
 
+    /**
+     * @param topVer Topology version the read entries are mapped on.
+     * @return {@code True} if transaction is a read-only optimistic serializable transaction which read set can be
+     *      validated on commit without the prepare phase.
+     */
+    private boolean validateReadsOnCommit(AffinityTopologyVersion topVer) {
+        if (!optimistic() || !serializable() || prepFut != null || queryEnlisted() || txState().mvccEnabled() ||
+            !writeMap().isEmpty() || readMap().isEmpty())
+            return false;
+
+        for (IgniteTxEntry e : readMap().values()) {
+            GridCacheContext<?, ?> cacheCtx = e.context();
+
+            // Near entries versions are validated by the regular prepare.
+            if (cacheCtx.isNear())
+                return false;
+
+            if (e.entryReadVersion() == null)
+                continue;
+
+            ClusterNode primary = cacheCtx.affinity().primaryByKey(e.key(), topVer);
+
+            // Transactions reading from nodes which can not validate reads are prepared as usual.
+            if (primary != null && !IgniteFeatures.nodeSupports(primary, TX_READ_VALIDATE))
+                return false;
+        }
+
+        return true;
+    }
+
     /**
      * @return {@code True} if 'fast finish' path can be used for transaction completion.
      */
@@ -160,33 +160,30 @@ public abstract class GridNearTxPrepareFutureAdapter extends
 
     /**
      * Checks if mapped transaction can be committed on one phase.
-     * One-phase commit can be done if transaction maps to one primary node and not more than one backup.
+     * One-phase commit can be done if transaction maps to one primary node and its writes to not more than
+     * one backup.
+     * <p>
+     * The backup count is limited since a one-phase transaction is not prepared on backups: the primary commits it
+     * and sends the updates to the backups in the same round. If the primary fails, the near node decides the outcome
+     * by checking the single backup: the transaction is committed if the backup has it, otherwise the backup marks it
+     * rolled back (see {@code GridNearTxFinishFuture#checkBackup()}). With several backups the primary can fail after
+     * one backup applied the transaction and before another one got it. The backups then disagree, and none of them
+     * has a prepared transaction the recovery could commit or roll back on the others.
      *
      * @param txMapping Transaction mapping.
+     * @see GridDhtTxMapping#onePhaseCommitNodes()
      */
     final void checkOnePhase(GridDhtTxMapping txMapping) {
-        checkOnePhase(tx.transactionNodes());
-    }
-
-    /**
-     * Checks if mapped transaction can be committed on one phase.
-     * One-phase commit can be done if transaction maps to one primary node and not more than one backup.
-     *
-     * @param txNodes Primary to backups node map.
-     */
-    final void checkOnePhase(Map<UUID, Collection<UUID>> txNodes) {
         if (tx.storeWriteThrough() || tx.txState().mvccEnabled()) // TODO IGNITE-3479 (onePhase + mvcc)
             return;
 
-        if (txNodes.size() == 1) {
-            Map.Entry<UUID, Collection<UUID>> entry = txNodes.entrySet().iterator().next();
-
-            assert entry != null;
+        Map<UUID, Collection<UUID>> txNodes = txMapping.onePhaseCommitNodes();
 
-            Collection<UUID> backups = entry.getValue();
+        if (txNodes != null) {
+            // Backups of read entries are not a part of the one phase commit.
+            tx.transactionNodes(txNodes);
 
-            if (backups.size() <= 1)
-                tx.onePhaseCommit(true);
+            tx.onePhaseCommit(true);
         }
     }
 
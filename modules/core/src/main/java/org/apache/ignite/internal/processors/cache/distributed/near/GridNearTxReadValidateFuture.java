@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheCompoundIdentityFuture;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxKey;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.C1;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteUuid;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Validates read set of a read-only optimistic serializable transaction. Instead of the prepare phase, which
+ * locks read entries on primary nodes, the read versions are sent to every primary node in a single
+ * {@link GridNearTxReadValidateRequest} and are checked there without transaction locks and WAL records.
+ * The future fails with {@link IgniteTxOptimisticCheckedException} if any of the read entries was changed,
+ * is being changed by other transaction or can not be validated because of topology change. If the transaction
+ * is rolled back during validation, e.g. on timeout, the future fails with the timeout or the rollback error.
+ */
+public class GridNearTxReadValidateFuture extends GridCacheCompoundIdentityFuture<Void> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Logger reference. */
+    private static final AtomicReference<IgniteLogger> logRef = new AtomicReference<>();
+
+    /** Logger. */
+    private static IgniteLogger log;
+
+    /** Logger. */
+    private static IgniteLogger msgLog;
+
+    /** Context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Future ID. */
+    private final IgniteUuid futId = IgniteUuid.randomUuid();
+
+    /** Transaction. */
+    private final GridNearTxLocal tx;
+
+    /** Topology version the read entries are mapped on. */
+    private final AffinityTopologyVersion topVer;
+
+    /** Trackable flag. */
+    private boolean trackable = true;
+
+    /**
+     * @param cctx Context.
+     * @param tx Transaction.
+     * @param topVer Topology version the read entries are mapped on.
+     */
+    public GridNearTxReadValidateFuture(
+        GridCacheSharedContext<?, ?> cctx,
+        GridNearTxLocal tx,
+        AffinityTopologyVersion topVer
+    ) {
+        super(null);
+
+        this.cctx = cctx;
+        this.tx = tx;
+        this.topVer = topVer;
+
+        if (log == null) {
+            msgLog = cctx.txPrepareMessageLogger();
+            log = U.logger(cctx.kernalContext(), logRef, GridNearTxReadValidateFuture.class);
+        }
+    }
+
+    /**
+     * Maps read entries to primary nodes and sends validation requests.
+     */
+    public void validate() {
+        Map<UUID, GridNearTxReadValidateRequest> reqs = new HashMap<>();
+
+        UUID locNodeId = cctx.localNodeId();
+
+        for (IgniteTxEntry e : tx.readEntries()) {
+            GridCacheVersion readVer = e.entryReadVersion();
+
+            if (readVer == null)
+                continue;
+
+            GridCacheContext<?, ?> cacheCtx = e.context();
+
+            ClusterNode primary = cacheCtx.affinity().primaryByKey(e.key(), topVer);
+
+            if (primary == null) {
+                onDone(conflictError(e.txKey(), null));
+
+                return;
+            }
+
+            GridNearTxReadValidateRequest req = reqs.get(primary.id());
+
+            if (req == null) {
+                MiniFuture fut = new MiniFuture(primary.id());
+
+                add(fut);
+
+                reqs.put(primary.id(), req = new GridNearTxReadValidateRequest(futId, fut.futureId(),
+                    tx.nearXidVersion()));
+            }
+
+            req.addEntry(e.txKey(), readVer);
+        }
+
+        if (!reqs.isEmpty()) {
+            cctx.mvcc().addFuture(this, futId);
+
+            // Transaction could be rolled back concurrently.
+            if (isDone())
+                cctx.mvcc().removeFuture(futId);
+        }
+
+        for (IgniteInternalFuture<?> f : futures()) {
+            MiniFuture fut = (MiniFuture)f;
+
+            GridNearTxReadValidateRequest req = reqs.get(fut.nodeId());
+
+            if (fut.nodeId().equals(locNodeId)) {
+                fut.onResult(new GridNearTxReadValidateResponse(futId,
+                    fut.futureId(),
+                    cctx.tm().txHandler().validateReads(req.keys(), req.readVersions())));
+
+                continue;
+            }
+
+            try {
+                cctx.io().send(fut.nodeId(), req, tx.ioPolicy());
+
+                if (msgLog.isDebugEnabled()) {
+                    msgLog.debug("Read validate fut, sent request [txId=" + tx.nearXidVersion() +
+                        ", node=" + fut.nodeId() + ']');
+                }
+            }
+            catch (ClusterTopologyCheckedException ignored) {
+                fut.onNodeLeft();
+            }
+            catch (IgniteCheckedException e) {
+                fut.onDone(e);
+            }
+        }
+
+        markInitialized();
+    }
+
+    /**
+     * Fails validation because the transaction is rolled back on timeout or by other thread.
+     */
+    public void onNearTxLocalRollback() {
+        onDone(tx.timedOut() ?
+            tx.timeoutException("Failed to validate read set within provided timeout for transaction") :
+            tx.rollbackException());
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param res Response.
+     */
+    public void onResult(UUID nodeId, GridNearTxReadValidateResponse res) {
+        if (isDone())
+            return;
+
+        for (IgniteInternalFuture<?> f : futures()) {
+            MiniFuture fut = (MiniFuture)f;
+
+            if (fut.futureId().equals(res.miniId())) {
+                assert fut.nodeId().equals(nodeId);
+
+                fut.onResult(res);
+
+                return;
+            }
+        }
+
+        if (msgLog.isDebugEnabled()) {
+            msgLog.debug("Read validate fut, failed to find mini future [txId=" + tx.nearXidVersion() +
+                ", node=" + nodeId + ", res=" + res + ']');
+        }
+    }
+
+    /**
+     * @return Transaction.
+     */
+    public GridNearTxLocal tx() {
+        return tx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteUuid futureId() {
+        return futId;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean onNodeLeft(UUID nodeId) {
+        boolean found = false;
+
+        for (IgniteInternalFuture<?> f : futures()) {
+            MiniFuture fut = (MiniFuture)f;
+
+            if (fut.nodeId().equals(nodeId)) {
+                fut.onNodeLeft();
+
+                found = true;
+            }
+        }
+
+        return found;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean trackable() {
+        return trackable;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void markNotTrackable() {
+        trackable = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean onDone(@Nullable Void res, @Nullable Throwable err) {
+        if (super.onDone(res, err)) {
+            cctx.mvcc().removeFuture(futId);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param key Key failed validation.
+     * @param nodeId Primary node ID.
+     * @return Optimistic version check error.
+     */
+    private IgniteTxOptimisticCheckedException conflictError(IgniteTxKey key, @Nullable UUID nodeId) {
+        StringBuilder msg = new StringBuilder("Failed to commit read-only transaction, read/write conflict [");
+
+        GridCacheContext<?, ?> cacheCtx = cctx.cacheContext(key.cacheId());
+
+        if (S.includeSensitive())
+            msg.append("key=").append(key.key()).append(", ");
+
+        msg.append("cache=").append(cacheCtx != null ? cacheCtx.name() : key.cacheId())
+            .append(", node=").append(nodeId)
+            .append(", tx=").append(tx.xidVersion())
+            .append(']');
+
+        return new IgniteTxOptimisticCheckedException(msg.toString());
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        Collection<String> futs = F.viewReadOnly(futures(), new C1<IgniteInternalFuture<?>, String>() {
+            @Override public String apply(IgniteInternalFuture<?> f) {
+                return "[node=" + ((MiniFuture)f).nodeId() + ", done=" + f.isDone() + "]";
+            }
+        });
+
+        return S.toString(GridNearTxReadValidateFuture.class, this,
+            "innerFuts", futs,
+            "super", super.toString());
+    }
+
+    /**
+     * Validation of the entries read from one primary node.
+     */
+    private class MiniFuture extends GridFutureAdapter<Void> {
+        /** Mini future ID. */
+        private final IgniteUuid futId = IgniteUuid.randomUuid();
+
+        /** Node ID. */
+        private final UUID nodeId;
+
+        /**
+         * @param nodeId Node ID.
+         */
+        private MiniFuture(UUID nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        /**
+         * @return Node ID.
+         */
+        private UUID nodeId() {
+            return nodeId;
+        }
+
+        /**
+         * @return Future ID.
+         */
+        private IgniteUuid futureId() {
+            return futId;
+        }
+
+        /**
+         * Primary node left, read versions can not be validated.
+         */
+        private void onNodeLeft() {
+            if (msgLog.isDebugEnabled()) {
+                msgLog.debug("Read validate fut, mini future node left [txId=" + tx.nearXidVersion() +
+                    ", node=" + nodeId + ']');
+            }
+
+            onDone(new IgniteTxOptimisticCheckedException("Failed to commit read-only transaction, " +
+                "primary node left [node=" + nodeId + ", tx=" + tx.xidVersion() + ']'));
+        }
+
+        /**
+         * @param res Response.
+         */
+        private void onResult(GridNearTxReadValidateResponse res) {
+            if (res.success())
+                onDone();
+            else
+                onDone(conflictError(F.first(res.failedKeys()), nodeId));
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(MiniFuture.class, this, "done", isDone(), "err", error());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.hotspot;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.hotspot.TopKeysSketch.HotKey;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_HOT_SPOTS_TOP_KEYS;
+
+/**
+ * Tracks the hot spots of a cache on the local node: accesses to the cache data per partition
+ * and the most frequently accessed keys.
+ * <p>
+ * Tracking is disabled by default and is enabled by {@link IgniteSystemProperties#IGNITE_CACHE_HOT_SPOTS_ENABLED}.
+ */
+public class CacheHotSpotTracker {
+    /** @see IgniteSystemProperties#IGNITE_CACHE_HOT_SPOTS_TOP_KEYS */
+    public static final int DFLT_CACHE_HOT_SPOTS_TOP_KEYS = 10;
+
+    /** Reads per partition. */
+    private final AtomicLongArray reads;
+
+    /** Writes per partition. */
+    private final AtomicLongArray writes;
+
+    /** Most frequently accessed keys. */
+    private final TopKeysSketch topKeys;
+
+    /**
+     * @param parts Number of partitions.
+     */
+    public CacheHotSpotTracker(int parts) {
+        this(parts, IgniteSystemProperties.getInteger(IGNITE_CACHE_HOT_SPOTS_TOP_KEYS, DFLT_CACHE_HOT_SPOTS_TOP_KEYS));
+    }
+
+    /**
+     * @param parts Number of partitions.
+     * @param topKeysCnt Number of tracked keys.
+     */
+    public CacheHotSpotTracker(int parts, int topKeysCnt) {
+        reads = new AtomicLongArray(parts);
+        writes = new AtomicLongArray(parts);
+        topKeys = new TopKeysSketch(Math.max(1, topKeysCnt));
+    }
+
+    /**
+     * Records the read of the key.
+     *
+     * @param part Partition.
+     * @param key Key.
+     */
+    public void onRead(int part, KeyCacheObject key) {
+        if (part < 0 || part >= reads.length())
+            return;
+
+        reads.incrementAndGet(part);
+
+        topKeys.add(key, part);
+    }
+
+    /**
+     * Records the write of the key.
+     *
+     * @param part Partition.
+     * @param key Key.
+     */
+    public void onWrite(int part, KeyCacheObject key) {
+        if (part < 0 || part >= writes.length())
+            return;
+
+        writes.incrementAndGet(part);
+
+        topKeys.add(key, part);
+    }
+
+    /** @return Number of partitions. */
+    public int partitions() {
+        return reads.length();
+    }
+
+    /**
+     * @param part Partition.
+     * @return Number of reads of the partition.
+     */
+    public long reads(int part) {
+        return reads.get(part);
+    }
+
+    /**
+     * @param part Partition.
+     * @return Number of writes to the partition.
+     */
+    public long writes(int part) {
+        return writes.get(part);
+    }
+
+    /**
+     * @return The most accessed partition or {@code -1} if there were no accesses.
+     */
+    public int hotPartition() {
+        int hot = -1;
+        long max = 0;
+
+        for (int i = 0; i < reads.length(); i++) {
+            long cnt = reads.get(i) + writes.get(i);
+
+            if (cnt > max) {
+                max = cnt;
+                hot = i;
+            }
+        }
+
+        return hot;
+    }
+
+    /**
+     * @return Number of accesses to the most accessed partition.
+     */
+    public long hotPartitionAccesses() {
+        int hot = hotPartition();
+
+        return hot < 0 ? 0 : reads.get(hot) + writes.get(hot);
+    }
+
+    /**
+     * Gets the access skew: the ratio of the accesses to the most accessed partition to the average accesses
+     * of the accessed partitions. Uniformly accessed partitions have skew close to {@code 1}.
+     *
+     * @return Access skew or {@code 0} if there were no accesses.
+     */
+    public double skew() {
+        long max = 0;
+        long total = 0;
+        int accessed = 0;
+
+        for (int i = 0; i < reads.length(); i++) {
+            long cnt = reads.get(i) + writes.get(i);
+
+            if (cnt == 0)
+                continue;
+
+            max = Math.max(max, cnt);
+            total += cnt;
+            accessed++;
+        }
+
+        return total == 0 ? 0 : (double)max * accessed / total;
+    }
+
+    /**
+     * @return Tracked keys sorted by access count estimate in descending order.
+     */
+    public List<HotKey> topKeys() {
+        return topKeys.topKeys();
+    }
+
+    /**
+     * @return Access count estimate of the most accessed key.
+     */
+    public long hotKeyAccesses() {
+        List<HotKey> keys = topKeys.topKeys();
+
+        return keys.isEmpty() ? 0 : keys.get(0).estimate();
+    }
+
+    /**
+     * Resets the collected statistics.
+     */
+    public void reset() {
+        for (int i = 0; i < reads.length(); i++) {
+            reads.set(i, 0);
+            writes.set(i, 0);
+        }
+
+        topKeys.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheHotSpotTracker.class, this);
+    }
+}
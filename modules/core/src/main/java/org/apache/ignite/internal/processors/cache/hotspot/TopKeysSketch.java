@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.hotspot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Heavy hitters sketch that estimates the most frequently accessed keys.
+ * <p>
+ * Access frequencies are counted by a count-min sketch of {@link #DEPTH} rows of {@link #WIDTH} counters,
+ * so the memory footprint doesn't depend on the number of keys. The estimate of a key never underestimates
+ * its real access count. Along with the sketch a bounded set of candidate keys with the highest estimates
+ * is maintained. A key replaces the candidate with the lowest estimate only when its own estimate
+ * becomes greater, so the candidate set is updated under the lock rarely, once the distribution of
+ * accesses settles.
+ */
+public class TopKeysSketch {
+    /** Number of sketch rows. */
+    static final int DEPTH = 4;
+
+    /** Number of counters in a sketch row. Must be a power of two. */
+    static final int WIDTH = 1024;
+
+    /** Odd multipliers used to derive independent row hashes from the key hash code. */
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    /** Counters. */
+    private final AtomicLongArray cnts = new AtomicLongArray(DEPTH * WIDTH);
+
+    /** Candidate keys. */
+    private final Map<KeyCacheObject, HotKey> candidates = new ConcurrentHashMap<>();
+
+    /** Maximum number of candidate keys. */
+    private final int cap;
+
+    /** Lowest estimate of the candidate keys if the candidate set is full, {@code 0} otherwise. */
+    private volatile long minEstimate;
+
+    /**
+     * @param cap Maximum number of tracked keys.
+     */
+    public TopKeysSketch(int cap) {
+        assert cap > 0 : cap;
+
+        this.cap = cap;
+    }
+
+    /**
+     * Records the key access.
+     *
+     * @param key Key.
+     * @param part Partition of the key.
+     */
+    public void add(KeyCacheObject key, int part) {
+        int hash = key.hashCode();
+
+        long est = Long.MAX_VALUE;
+
+        for (int i = 0; i < DEPTH; i++)
+            est = Math.min(est, cnts.incrementAndGet(index(i, hash)));
+
+        HotKey hotKey = candidates.get(key);
+
+        if (hotKey != null) {
+            hotKey.estimate(est);
+
+            return;
+        }
+
+        if (est > minEstimate)
+            offer(key, part, est);
+    }
+
+    /**
+     * Tries to add the key to the candidate set.
+     *
+     * @param key Key.
+     * @param part Partition of the key.
+     * @param est Access count estimate.
+     */
+    private synchronized void offer(KeyCacheObject key, int part, long est) {
+        if (candidates.containsKey(key))
+            return;
+
+        if (candidates.size() >= cap) {
+            HotKey min = null;
+
+            for (HotKey c : candidates.values()) {
+                if (min == null || c.estimate() < min.estimate())
+                    min = c;
+            }
+
+            if (min.estimate() >= est) {
+                minEstimate = min.estimate();
+
+                return;
+            }
+
+            candidates.remove(min.key());
+        }
+
+        candidates.put(key, new HotKey(key, part, est));
+
+        if (candidates.size() < cap)
+            return;
+
+        long newMin = Long.MAX_VALUE;
+
+        for (HotKey c : candidates.values())
+            newMin = Math.min(newMin, c.estimate());
+
+        minEstimate = newMin;
+    }
+
+    /**
+     * @return Tracked keys sorted by access count estimate in descending order.
+     */
+    public List<HotKey> topKeys() {
+        List<HotKey> res = new ArrayList<>(candidates.values());
+
+        res.sort((k1, k2) -> Long.compare(k2.estimate(), k1.estimate()));
+
+        return res;
+    }
+
+    /**
+     * Resets the sketch.
+     */
+    public synchronized void reset() {
+        candidates.clear();
+
+        minEstimate = 0;
+
+        for (int i = 0; i < cnts.length(); i++)
+            cnts.set(i, 0);
+    }
+
+    /**
+     * @param row Sketch row.
+     * @param hash Key hash code.
+     * @return Counter index.
+     */
+    private static int index(int row, int hash) {
+        int h = hash * SEEDS[row];
+
+        return row * WIDTH + ((h ^ (h >>> 16)) & (WIDTH - 1));
+    }
+
+    /** Tracked key. */
+    public static class HotKey {
+        /** Key. */
+        private final KeyCacheObject key;
+
+        /** Partition. */
+        private final int part;
+
+        /** Access count estimate. */
+        private volatile long est;
+
+        /**
+         * @param key Key.
+         * @param part Partition.
+         * @param est Access count estimate.
+         */
+        HotKey(KeyCacheObject key, int part, long est) {
+            this.key = key;
+            this.part = part;
+            this.est = est;
+        }
+
+        /** @return Key. */
+        public KeyCacheObject key() {
+            return key;
+        }
+
+        /** @return Partition. */
+        public int partition() {
+            return part;
+        }
+
+        /** @return Access count estimate. */
+        public long estimate() {
+            return est;
+        }
+
+        /** @param est Access count estimate. */
+        void estimate(long est) {
+            if (est > this.est)
+                this.est = est;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(HotKey.class, this);
+        }
+    }
+}
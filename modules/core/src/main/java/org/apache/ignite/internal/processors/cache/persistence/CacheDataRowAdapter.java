@@ -574,11 +574,9 @@ public class CacheDataRowAdapter implements CacheDataRow {
         byte type = PageUtils.getByte(addr, off);
         off++;
 
-        byte[] bytes = PageUtils.getBytes(addr, off, len);
+        readValue(coctx, type, addr + off, len);
         off += len;
 
-        val = coctx.kernalContext().cacheObjects().toCacheObject(coctx, type, bytes);
-
         int verLen;
 
         if (skipVer) {
@@ -599,6 +597,21 @@ public class CacheDataRowAdapter implements CacheDataRow {
         expireTime = PageUtils.getLong(addr, off);
     }
 
+    /**
+     * Reads the value of a row which is entirely stored in a locked data page.
+     *
+     * @param coctx Cache object context.
+     * @param type Value type.
+     * @param addr Address of the value bytes.
+     * @param len Length of the value bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected void readValue(CacheObjectContext coctx, byte type, long addr, int len) throws IgniteCheckedException {
+        byte[] bytes = PageUtils.getBytes(addr, 0, len);
+
+        val = coctx.kernalContext().cacheObjects().toCacheObject(coctx, type, bytes);
+    }
+
     /**
      * @param buf Buffer.
      * @param incomplete Incomplete.
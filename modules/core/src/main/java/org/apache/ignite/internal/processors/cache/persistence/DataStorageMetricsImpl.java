@@ -17,6 +17,7 @@
 package org.apache.ignite.internal.processors.cache.persistence;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.DataRegionMetrics;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
@@ -25,6 +26,7 @@ import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -158,6 +160,21 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** Checkpoint latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric cpLatency;
+
+    /** Checkpoint lock wait latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric cpLockWaitLatency;
+
+    /** Checkpoint lock hold latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric cpLockHoldLatency;
+
+    /** Checkpoint pages write latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric cpPagesWriteLatency;
+
+    /** Checkpoint fsync latency, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric cpFsyncLatency;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -311,6 +328,32 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        if (mmgr.latencyHistogramsEnabled()) {
+            long maxLatency = TimeUnit.HOURS.toMillis(1);
+
+            cpLatency = mreg.logLinearHistogram("CheckpointLatency", maxLatency,
+                "Checkpoint duration in milliseconds.");
+
+            cpLockWaitLatency = mreg.logLinearHistogram("CheckpointLockWaitLatency", maxLatency,
+                "Checkpoint lock wait duration in milliseconds.");
+
+            cpLockHoldLatency = mreg.logLinearHistogram("CheckpointLockHoldLatency", maxLatency,
+                "Checkpoint lock hold duration in milliseconds.");
+
+            cpPagesWriteLatency = mreg.logLinearHistogram("CheckpointPagesWriteLatency", maxLatency,
+                "Checkpoint pages write duration in milliseconds.");
+
+            cpFsyncLatency = mreg.logLinearHistogram("CheckpointFsyncLatency", maxLatency,
+                "Checkpoint fsync duration in milliseconds.");
+        }
+        else {
+            cpLatency = null;
+            cpLockWaitLatency = null;
+            cpLockHoldLatency = null;
+            cpPagesWriteLatency = null;
+            cpFsyncLatency = null;
+        }
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -719,6 +762,14 @@ public class DataStorageMetricsImpl {
         cpWriteEntryHistogram.value(writeEntryDuration);
         cpSplitAndSortPagesHistogram.value(splitAndSortPagesDuration);
         cpHistogram.value(duration);
+
+        if (cpLatency != null) {
+            cpLatency.value(duration);
+            cpLockWaitLatency.value(lockWaitDuration);
+            cpLockHoldLatency.value(lockHoldDuration);
+            cpPagesWriteLatency.value(pagesWriteDuration);
+            cpFsyncLatency.value(fsyncDuration);
+        }
     }
 
     /**
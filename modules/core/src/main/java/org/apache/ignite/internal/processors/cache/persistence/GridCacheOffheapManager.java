@@ -1193,7 +1193,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
     @Override public boolean expire(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        int stripe,
+        int stripes
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
@@ -1205,7 +1207,11 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             int cleared = 0;
 
             for (CacheDataStore store : cacheDataStores()) {
-                cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, unwindThrottlingTimeout, amount - cleared);
+                if (store.partId() % stripes != stripe)
+                    continue;
+
+                cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, unwindThrottlingTimeout,
+                    amount == -1 ? -1 : amount - cleared);
 
                 if (amount != -1 && cleared >= amount)
                     return true;
@@ -3060,45 +3066,32 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
                     long now = U.currentTimeMillis();
 
-                    GridCursor<PendingRow> cur;
+                    int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
-                    if (grp.sharedGroup())
-                        cur = pendingTree.find(new PendingRow(cctx.cacheId()), new PendingRow(cctx.cacheId(), now, 0));
-                    else
-                        cur = pendingTree.find(null, new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0));
+                    // Expired entries form a contiguous span at the beginning of the cache range,
+                    // so they are removed from the pending tree at once.
+                    List<PendingRow> rows = pendingTree.remove(
+                        new PendingRow(cacheId, Long.MIN_VALUE, 0), new PendingRow(cacheId, now, 0), Math.max(amount, 0));
 
-                    if (!cur.next())
+                    if (rows.isEmpty())
                         return 0;
 
-                    GridCacheVersion obsoleteVer = null;
-
-                    int cleared = 0;
+                    cctx.cache().metrics0().onExpired(now - rows.get(0).expireTime);
 
-                    do {
-                        PendingRow row = cur.get();
-
-                        if (amount != -1 && cleared > amount)
-                            return cleared;
+                    GridCacheVersion obsoleteVer = cctx.cache().nextVersion();
 
+                    for (PendingRow row : rows) {
                         assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
 
                         row.key.partition(partId);
 
-                        if (pendingTree.removex(row)) {
-                            if (obsoleteVer == null)
-                                obsoleteVer = cctx.cache().nextVersion();
-
-                            GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
-
-                            if (e1 != null)
-                                c.apply(e1, obsoleteVer);
-                        }
+                        GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
 
-                        cleared++;
+                        if (e1 != null)
+                            c.apply(e1, obsoleteVer);
                     }
-                    while (cur.next());
 
-                    return cleared;
+                    return rows.size();
                 }
                 finally {
                     if (part != null)
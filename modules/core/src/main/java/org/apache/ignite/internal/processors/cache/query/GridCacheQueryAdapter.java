@@ -34,11 +34,13 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.query.BinaryFieldsScanFilter;
 import org.apache.ignite.cache.query.Query;
 import org.apache.ignite.cluster.ClusterGroup;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterTopologyException;
 import org.apache.ignite.internal.IgniteClientDisconnectedCheckedException;
+import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.cluster.ClusterGroupEmptyCheckedException;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
@@ -70,6 +72,7 @@ import org.apache.ignite.lang.IgniteReducer;
 import org.apache.ignite.plugin.security.SecurityPermission;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import static org.apache.ignite.internal.IgniteFeatures.BINARY_FIELDS_SCAN_FILTER;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.INDEX;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SCAN;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SET;
@@ -554,6 +557,13 @@ public class GridCacheQueryAdapter<T> implements CacheQuery<T> {
         if (nodes.isEmpty())
             return new GridCacheQueryErrorFuture<>(cctx.kernalContext(), new ClusterGroupEmptyCheckedException());
 
+        try {
+            checkFilterSupported(nodes);
+        }
+        catch (IgniteCheckedException e) {
+            return new GridCacheQueryErrorFuture<>(cctx.kernalContext(), e);
+        }
+
         if (log.isDebugEnabled())
             log.debug("Executing query [query=" + this + ", nodes=" + nodes + ']');
 
@@ -615,6 +625,8 @@ public class GridCacheQueryAdapter<T> implements CacheQuery<T> {
             return new GridEmptyCloseableIterator();
         }
 
+        checkFilterSupported(nodes);
+
         if (log.isDebugEnabled())
             log.debug("Executing query [query=" + this + ", nodes=" + nodes + ']');
 
@@ -655,6 +667,18 @@ public class GridCacheQueryAdapter<T> implements CacheQuery<T> {
         return mvccTracker != null ? new MvccTrackingIterator(it, mvccTracker) : it;
     }
 
+    /**
+     * @param nodes Nodes to execute on.
+     * @throws IgniteCheckedException If the filter is not supported by some of the nodes.
+     */
+    private void checkFilterSupported(Collection<ClusterNode> nodes) throws IgniteCheckedException {
+        if (filter instanceof BinaryFieldsScanFilter &&
+            !IgniteFeatures.allNodesSupports(nodes, BINARY_FIELDS_SCAN_FILTER)) {
+            throw new IgniteCheckedException("Failed to execute query because some of the nodes do not support " +
+                "the filter [filter=" + filter + ", nodes=" + F.nodeIds(nodes) + ']');
+        }
+    }
+
     /**
      * @return Nodes to execute on.
      */
@@ -50,6 +50,7 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheEntry;
 import org.apache.ignite.cache.QueryIndexType;
+import org.apache.ignite.cache.query.BinaryFieldsScanFilter;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.QueryMetrics;
 import org.apache.ignite.cluster.ClusterNode;
@@ -62,6 +63,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteKernal;
 import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.cache.query.BinaryFieldsCriteria;
 import org.apache.ignite.internal.cache.query.index.IndexQueryResult;
 import org.apache.ignite.internal.cache.query.index.IndexQueryResultMeta;
 import org.apache.ignite.internal.managers.eventstorage.GridLocalEventListener;
@@ -86,6 +88,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheA
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtUnreservedPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataRowProjection;
 import org.apache.ignite.internal.processors.datastructures.DataStructuresProcessor;
 import org.apache.ignite.internal.processors.datastructures.GridSetQueryPredicate;
 import org.apache.ignite.internal.processors.datastructures.SetItemKey;
@@ -836,6 +839,13 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
 
             final boolean backups = qry.includeBackups() || cctx.isReplicated();
 
+            BinaryFieldsCriteria fieldsCriteria = keyValFilter instanceof BinaryFieldsScanFilter ?
+                new BinaryFieldsCriteria(((BinaryFieldsScanFilter<K, V>)keyValFilter).criteria()) : null;
+
+            // Only the checked fields of the values are read until an entry passes the filter.
+            CacheDataRowProjection proj = fieldsCriteria != null && !cctx.mvccEnabled() &&
+                cctx.cache().expiryPolicy(null) == null ? new CacheDataRowProjection(fieldsCriteria.fieldNames()) : null;
+
             final GridDhtLocalPartition locPart;
 
             final GridIterator<CacheDataRow> it;
@@ -856,7 +866,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 locPart = locPart0;
 
                 it = cctx.offheap().cachePartitionIterator(cctx.cacheId(), part, qry.mvccSnapshot(),
-                    qry.isDataPageScanEnabled());
+                    qry.isDataPageScanEnabled(), proj);
             }
             else {
                 locPart = null;
@@ -871,13 +881,13 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 }
 
                 it = cctx.offheap().cacheIterator(cctx.cacheId(), true, backups, topVer,
-                    qry.mvccSnapshot(), qry.isDataPageScanEnabled());
+                    qry.mvccSnapshot(), qry.isDataPageScanEnabled(), proj);
             }
 
             ScanQueryIterator iter = new ScanQueryIterator(it, qry, topVer, locPart,
                 SecurityUtils.sandboxedProxy(cctx.kernalContext(), IgniteBiPredicate.class, keyValFilter),
                 SecurityUtils.sandboxedProxy(cctx.kernalContext(), IgniteClosure.class, transformer),
-                locNode, locNode ? locIters : null, cctx, log);
+                fieldsCriteria, proj, locNode, locNode ? locIters : null, cctx, log);
 
             if (locNode) {
                 ScanQueryIterator old = locIters.addx(iter);
@@ -3022,6 +3032,12 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
         /** */
         private final InternalScanFilter<K, V> intScanFilter;
 
+        /** Criteria of the binary fields scan filter, checked instead of the filter. */
+        @Nullable private final BinaryFieldsCriteria fieldsCriteria;
+
+        /** Projection of the fields checked by {@link #fieldsCriteria}. */
+        @Nullable private final CacheDataRowProjection proj;
+
         /** */
         private final boolean statsEnabled;
 
@@ -3092,6 +3108,8 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
          * @param locPart Local partition.
          * @param scanFilter Scan filter.
          * @param transformer Transformer.
+         * @param fieldsCriteria Criteria of the binary fields scan filter.
+         * @param proj Projection of the rows returned by the iterator.
          * @param locNode Local node flag.
          * @param locIters Local iterators set.
          * @param cctx Cache context.
@@ -3104,6 +3122,8 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             GridDhtLocalPartition locPart,
             IgniteBiPredicate<K, V> scanFilter,
             IgniteClosure transformer,
+            @Nullable BinaryFieldsCriteria fieldsCriteria,
+            @Nullable CacheDataRowProjection proj,
             boolean locNode,
             @Nullable GridConcurrentHashSet<ScanQueryIterator> locIters,
             GridCacheContext cctx,
@@ -3114,6 +3134,8 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             this.topVer = topVer;
             this.locPart = locPart;
             this.intScanFilter = scanFilter != null ? new InternalScanFilter<>(scanFilter) : null;
+            this.fieldsCriteria = fieldsCriteria;
+            this.proj = proj;
             this.cctx = cctx;
 
             this.log = log;
@@ -3202,6 +3224,9 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 KeyCacheObject key = row.key();
                 CacheObject val;
 
+                // Only the projected fields of the value are read from the data page.
+                boolean projected = proj != null && row.value() == null;
+
                 if (expiryPlc != null) {
                     try {
                         CacheDataRow tmp = row;
@@ -3260,10 +3285,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                         "node", U.id8(cctx.localNode().id()), false));
                 }
 
-                if (val != null) {
-                    K key0 = (K)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, key, keepBinary, false);
-                    V val0 = (V)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, val, keepBinary, false);
-
+                if (val != null || projected) {
                     if (statsEnabled) {
                         CacheMetricsImpl metrics = cctx.cache().metrics0();
 
@@ -3272,7 +3294,30 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                         metrics.addGetTimeNanos(System.nanoTime() - start);
                     }
 
-                    if (intScanFilter == null || intScanFilter.apply(key0, val0)) {
+                    if (fieldsCriteria != null) {
+                        if (!(projected ? fieldsCriteria.matches(proj.fields(row)) : fieldsCriteria.matches(val)))
+                            continue;
+
+                        if (projected) {
+                            CacheDataRow fullRow;
+
+                            try {
+                                fullRow = cctx.offheap().read(cctx, key);
+                            }
+                            catch (IgniteCheckedException e) {
+                                throw new IgniteException(e);
+                            }
+
+                            // The entry could be updated or removed after the fields were checked.
+                            if (fullRow == null || !fieldsCriteria.matches(val = fullRow.value()))
+                                continue;
+                        }
+                    }
+
+                    K key0 = (K)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, key, keepBinary, false);
+                    V val0 = (V)CacheObjectUtils.unwrapBinaryIfNeeded(objCtx, val, keepBinary, false);
+
+                    if (fieldsCriteria != null || intScanFilter == null || intScanFilter.apply(key0, val0)) {
                         if (readEvt) {
                             cctx.gridEvents().record(new CacheQueryReadEvent<>(
                                 cctx.localNode(),
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.continuous.GridContinuousQueryBatch;
+
+/**
+ * Continuous query batch which keeps only the latest event per key. Superseded events are marked as filtered, so
+ * they are sent without keys and values, but their update counters are still delivered to the listener node to keep
+ * the partition recovery and backup acknowledgements consistent.
+ */
+class CacheContinuousQueryConflatedBatch extends GridContinuousQueryBatch {
+    /** Latest entries of the batch by keys. */
+    private final ConcurrentMap<KeyCacheObject, CacheContinuousQueryEntry> latest = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override public void add(Object obj) {
+        if (obj instanceof CacheContinuousQueryEntry)
+            conflate((CacheContinuousQueryEntry)obj);
+        else {
+            for (Object e : (List<Object>)obj)
+                conflate((CacheContinuousQueryEntry)e);
+        }
+
+        super.add(obj);
+    }
+
+    /**
+     * Marks either the given entry or the previous entry of the same key as filtered, whichever is older.
+     *
+     * @param e Entry.
+     */
+    private void conflate(CacheContinuousQueryEntry e) {
+        // Initial query and evicted entries have no update counters.
+        if (e.isFiltered() || e.key() == null || e.updateCounter() == -1L)
+            return;
+
+        // Entries of the same key can be added concurrently, so the order is decided by update counters.
+        latest.compute(e.key(), (key, prev) -> {
+            if (prev == null)
+                return e;
+
+            if (prev.updateCounter() < e.updateCounter()) {
+                prev.markFiltered();
+
+                return e;
+            }
+
+            e.markFiltered();
+
+            return prev;
+        });
+    }
+}
@@ -26,7 +26,7 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 /**
  * Continuous query event.
  */
-class CacheContinuousQueryEvent<K, V> extends CacheQueryEntryEvent<K, V> {
+public class CacheContinuousQueryEvent<K, V> extends CacheQueryEntryEvent<K, V> {
     /** */
     private static final long serialVersionUID = 0L;
 
@@ -73,6 +73,13 @@ class CacheContinuousQueryEvent<K, V> extends CacheQueryEntryEvent<K, V> {
         return (V)cctx.cacheObjectContext().unwrapBinaryIfNeeded(e.value(), e.isKeepBinary(), false, null);
     }
 
+    /**
+     * @return New value in the binary form regardless of the keep binary flag.
+     */
+    public Object binaryValue() {
+        return cctx.cacheObjectContext().unwrapBinaryIfNeeded(e.value(), true, false, null);
+    }
+
     /** {@inheritDoc} */
     @Override public V getOldValue() {
         return (V)cctx.cacheObjectContext().unwrapBinaryIfNeeded(e.oldValue(), e.isKeepBinary(), false, null);
@@ -26,6 +26,7 @@ import javax.cache.configuration.Factory;
 import javax.cache.event.CacheEntryEventFilter;
 import javax.cache.event.CacheEntryUpdatedListener;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryManager.JCacheQueryRemoteFilter;
 import org.apache.ignite.internal.processors.continuous.GridContinuousHandler;
@@ -82,10 +83,39 @@ public class CacheContinuousQueryHandlerV2<K, V> extends CacheContinuousQueryHan
         boolean ignoreExpired,
         boolean ignoreClsNotFound,
         @Nullable Byte types) {
+        this(cacheName, topic, locLsnr, null, rmtFilterFactory, oldValRequired, sync, ignoreExpired, ignoreClsNotFound,
+            types);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param cacheName Cache name.
+     * @param topic Topic for ordered messages.
+     * @param locLsnr Local listener.
+     * @param rmtFilter Remote filter, used if remote filter factory is not set.
+     * @param rmtFilterFactory Remote filter factory.
+     * @param oldValRequired Old value required flag.
+     * @param sync Synchronous flag.
+     * @param ignoreExpired Ignore expired events flag.
+     * @param ignoreClsNotFound Ignore class not found flag.
+     * @param types Event types.
+     */
+    protected CacheContinuousQueryHandlerV2(
+        String cacheName,
+        Object topic,
+        @Nullable CacheEntryUpdatedListener<K, V> locLsnr,
+        @Nullable CacheEntryEventSerializableFilter<K, V> rmtFilter,
+        @Nullable Factory<? extends CacheEntryEventFilter<K, V>> rmtFilterFactory,
+        boolean oldValRequired,
+        boolean sync,
+        boolean ignoreExpired,
+        boolean ignoreClsNotFound,
+        @Nullable Byte types) {
         super(cacheName,
             topic,
             locLsnr,
-            null,
+            rmtFilter,
             oldValRequired,
             sync,
             ignoreExpired,
@@ -102,7 +132,8 @@ public class CacheContinuousQueryHandlerV2<K, V> extends CacheContinuousQueryHan
     /** {@inheritDoc} */
     @Override protected CacheEntryEventFilter getEventFilter0() {
         if (filter == null) {
-            assert rmtFilterFactory != null;
+            if (rmtFilterFactory == null)
+                return super.getEventFilter0();
 
             Factory<? extends CacheEntryEventFilter> factory = rmtFilterFactory;
 
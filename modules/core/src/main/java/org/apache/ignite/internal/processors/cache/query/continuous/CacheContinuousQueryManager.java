@@ -90,6 +90,7 @@ import static javax.cache.event.EventType.REMOVED;
 import static javax.cache.event.EventType.UPDATED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_QUERY_OBJECT_READ;
 import static org.apache.ignite.internal.GridTopic.TOPIC_CACHE;
+import static org.apache.ignite.internal.IgniteFeatures.CONT_QRY_CONFLATION;
 import static org.apache.ignite.internal.IgniteFeatures.CONT_QRY_SECURITY_AWARE;
 import static org.apache.ignite.internal.IgniteFeatures.allNodesSupports;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_CLIENT_MODE;
@@ -520,6 +521,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
      * @param timeInterval Time interval.
      * @param autoUnsubscribe Auto unsubscribe flag.
      * @param loc Local flag.
+     * @param conflate Whether only the latest event per key should be sent in a batch.
      * @return Continuous routine ID.
      * @throws IgniteCheckedException In case of error.
      */
@@ -533,11 +535,34 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
         boolean autoUnsubscribe,
         boolean loc,
         final boolean keepBinary,
-        final boolean includeExpired
+        final boolean includeExpired,
+        final boolean conflate
     ) throws IgniteCheckedException {
         IgniteOutClosure<CacheContinuousQueryHandler> clsr;
 
-        if (rmtTransFactory != null) {
+        if (conflate) {
+            if (!loc && !allNodesSupports(cctx.discovery().allNodes(), CONT_QRY_CONFLATION))
+                throw new IgniteCheckedException("Continuous query conflation is not supported by all nodes.");
+
+            clsr = new IgniteOutClosure<CacheContinuousQueryHandler>() {
+                @Override public CacheContinuousQueryHandler apply() {
+                    assert locTransLsnr == null;
+
+                    return new CacheContinuousQueryHandlerV4(
+                        cctx.name(),
+                        TOPIC_CACHE.topic(topicPrefix, cctx.localNodeId(), seq.getAndIncrement()),
+                        locLsnr,
+                        securityAwareFilter(rmtFilter),
+                        securityAwareFilterFactory(rmtFilterFactory),
+                        true,
+                        false,
+                        !includeExpired,
+                        false,
+                        true);
+                }
+            };
+        }
+        else if (rmtTransFactory != null) {
             clsr = new IgniteOutClosure<CacheContinuousQueryHandler>() {
                 @Override public CacheContinuousQueryHandler apply() {
                     return new CacheContinuousQueryHandlerV3(
@@ -792,6 +817,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
                 true,
                 AffinityTopologyVersion.NONE,
                 null,
+                null,
                 null);
 
             locLsnr.onUpdated(new Iterable<CacheEntryEvent>() {
@@ -76,6 +76,9 @@ import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLo
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareFutureAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareResponse;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadValidateFuture;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadValidateRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadValidateResponse;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxRemote;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IncrementalSnapshotAwareMessage;
@@ -112,6 +115,7 @@ import static org.apache.ignite.internal.processors.cache.GridCacheIoManager.COM
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.NOOP;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.TRANSFORM;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.isNearEnabled;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteInternalTx.FinalizationStatus.USER_FINISH;
 import static org.apache.ignite.internal.processors.security.SecurityUtils.securitySubjectId;
@@ -280,6 +284,12 @@ public class IgniteTxHandler {
         ctx.io().addCacheHandler(GridCacheTxRecoveryResponse.class,
             (CI2<UUID, GridCacheTxRecoveryResponse>)this::processCheckPreparedTxResponse);
 
+        ctx.io().addCacheHandler(GridNearTxReadValidateRequest.class,
+            (CI2<UUID, GridNearTxReadValidateRequest>)this::processNearTxReadValidateRequest);
+
+        ctx.io().addCacheHandler(GridNearTxReadValidateResponse.class,
+            (CI2<UUID, GridNearTxReadValidateResponse>)this::processNearTxReadValidateResponse);
+
         ctx.io().addCacheHandler(IncrementalSnapshotAwareMessage.class,
             (CI2<UUID, IncrementalSnapshotAwareMessage>)this::processIncrementalSnapshotAwareMessage);
     }
@@ -2304,6 +2314,150 @@ public class IgniteTxHandler {
         fut.onResult(nodeId, res);
     }
 
+    /**
+     * @param nodeId Node ID.
+     * @param req Request.
+     */
+    private void processNearTxReadValidateRequest(UUID nodeId, GridNearTxReadValidateRequest req) {
+        if (txPrepareMsgLog.isDebugEnabled()) {
+            txPrepareMsgLog.debug("Received read validate request [txId=" + req.nearXidVersion() +
+                ", node=" + nodeId + ']');
+        }
+
+        GridNearTxReadValidateResponse res = new GridNearTxReadValidateResponse(req.futureId(),
+            req.miniId(),
+            validateReads(req.keys(), req.readVersions()));
+
+        try {
+            ctx.io().send(nodeId, res, SYSTEM_POOL);
+        }
+        catch (ClusterTopologyCheckedException ignored) {
+            if (txPrepareMsgLog.isDebugEnabled()) {
+                txPrepareMsgLog.debug("Failed to send read validate response, node failed [txId=" +
+                    req.nearXidVersion() + ", node=" + nodeId + ']');
+            }
+        }
+        catch (IgniteCheckedException e) {
+            U.error(txPrepareMsgLog, "Failed to send read validate response [txId=" + req.nearXidVersion() +
+                ", node=" + nodeId + ", res=" + res + ']', e);
+        }
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param res Response.
+     */
+    private void processNearTxReadValidateResponse(UUID nodeId, GridNearTxReadValidateResponse res) {
+        GridNearTxReadValidateFuture fut = (GridNearTxReadValidateFuture)ctx.mvcc().future(res.futureId());
+
+        if (fut == null) {
+            if (txPrepareMsgLog.isDebugEnabled()) {
+                txPrepareMsgLog.debug("Failed to find future for read validate response [node=" + nodeId +
+                    ", res=" + res + ']');
+            }
+
+            return;
+        }
+
+        fut.onResult(nodeId, res);
+    }
+
+    /**
+     * Validates versions read by a read-only optimistic serializable transaction. Entries are checked without
+     * acquiring transaction locks, validation fails if an entry was changed or is locked for write by
+     * other transaction, or if the local node is not an owning primary node for the key.
+     *
+     * @param keys Keys.
+     * @param readVers Versions read by transaction.
+     * @return Keys failed validation or {@code null} if all read versions are actual.
+     */
+    @Nullable public Collection<IgniteTxKey> validateReads(List<IgniteTxKey> keys, List<GridCacheVersion> readVers) {
+        assert keys.size() == readVers.size();
+
+        Collection<IgniteTxKey> failed = null;
+
+        for (int i = 0; i < keys.size(); i++) {
+            IgniteTxKey key = keys.get(i);
+
+            if (!validateRead(key, readVers.get(i))) {
+                if (failed == null)
+                    failed = new ArrayList<>();
+
+                failed.add(key);
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * @param txKey Key.
+     * @param readVer Version read by transaction.
+     * @return {@code True} if read version is actual.
+     */
+    private boolean validateRead(IgniteTxKey txKey, GridCacheVersion readVer) {
+        GridCacheContext<?, ?> cacheCtx = ctx.cacheContext(txKey.cacheId());
+
+        if (cacheCtx == null)
+            return false;
+
+        KeyCacheObject key = txKey.key();
+
+        GridDhtPartitionTopology top = cacheCtx.topology();
+
+        ctx.database().checkpointReadLock();
+
+        try {
+            top.readLock();
+
+            try {
+                if (!top.topologyVersionFuture().isDone())
+                    return false;
+
+                int p = cacheCtx.affinity().partition(key);
+
+                if (!cacheCtx.affinity().primaryByPartition(ctx.localNode(), p, top.readyTopologyVersion()))
+                    return false;
+
+                GridDhtLocalPartition part = top.localPartition(p);
+
+                if (part == null || part.state() != OWNING)
+                    return false;
+
+                GridDhtCacheAdapter<?, ?> dht = cacheCtx.dhtCache();
+
+                while (true) {
+                    try {
+                        GridCacheEntryEx entry = dht.entryEx(key);
+
+                        entry.unswap();
+
+                        boolean valid = entry.validateSerializableRead(readVer);
+
+                        entry.touch();
+
+                        return valid;
+                    }
+                    catch (GridCacheEntryRemovedException ignored) {
+                        if (log.isDebugEnabled())
+                            log.debug("Got removed entry on read validation (will retry): " + txKey);
+                    }
+                }
+            }
+            finally {
+                top.readUnlock();
+            }
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to validate read entry [key=" + txKey + ']', e);
+
+            return false;
+        }
+        finally {
+            ctx.database().checkpointReadUnlock();
+        }
+    }
+
     /**
      * Applies partition counter updates for transactions.
      * <p>
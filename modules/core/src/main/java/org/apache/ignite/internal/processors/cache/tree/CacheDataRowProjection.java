@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.binary.BinaryFieldImpl;
+import org.apache.ignite.internal.binary.BinaryObjectExImpl;
+import org.apache.ignite.internal.binary.BinaryObjectOffheapImpl;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Binary fields of the cache values to read from data rows. Passed as the flags of a data tree cursor, it makes the
+ * cursor return {@link ProjectedDataRow}s: the fields of a value which is entirely stored in a data page are read
+ * straight from the page memory while the page is locked, and the value itself is not copied to heap.
+ */
+public class CacheDataRowProjection {
+    /** Field names. */
+    private final String[] fields;
+
+    /** Binary fields by type ID. */
+    private final Map<Integer, BinaryFieldImpl[]> typeFields = new ConcurrentHashMap<>();
+
+    /**
+     * @param fields Field names.
+     */
+    public CacheDataRowProjection(String... fields) {
+        assert fields.length > 0;
+
+        this.fields = fields;
+    }
+
+    /**
+     * @return Field names.
+     */
+    public String[] fields() {
+        return fields;
+    }
+
+    /**
+     * @param row Data row read by a cursor with this projection.
+     * @return Projected fields of the row value, a field is {@code null} if it is absent in the value.
+     */
+    public Object[] fields(CacheDataRow row) {
+        if (row instanceof ProjectedDataRow)
+            return ((ProjectedDataRow)row).fields();
+
+        return project(row.value());
+    }
+
+    /**
+     * @param val Value.
+     * @return Projected fields of the value.
+     */
+    Object[] project(@Nullable CacheObject val) {
+        if (val instanceof BinaryObjectExImpl) {
+            Object[] res = projectBinary((BinaryObjectExImpl)val);
+
+            assert res != null;
+
+            return res;
+        }
+
+        return new Object[fields.length];
+    }
+
+    /**
+     * @param obj Binary object.
+     * @return Projected fields or {@code null} if a field of the off-heap object can refer to the memory it is stored
+     *      in, so the fields have to be read from a heap copy.
+     */
+    @Nullable Object[] projectBinary(BinaryObjectExImpl obj) {
+        BinaryFieldImpl[] binFields = typeFields.computeIfAbsent(obj.typeId(), typeId -> {
+            BinaryFieldImpl[] res = new BinaryFieldImpl[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                res[i] = obj.context().createField(typeId, fields[i]);
+
+            return res;
+        });
+
+        boolean offheap = obj instanceof BinaryObjectOffheapImpl;
+
+        Object[] res = new Object[binFields.length];
+
+        for (int i = 0; i < binFields.length; i++) {
+            Object fieldVal = binFields[i].value(obj);
+
+            if (offheap) {
+                if (fieldVal instanceof BinaryObjectOffheapImpl)
+                    fieldVal = ((BinaryObjectOffheapImpl)fieldVal).heapCopy();
+                else if (fieldVal instanceof Collection || fieldVal instanceof Map || fieldVal instanceof Object[])
+                    return null;
+            }
+
+            res[i] = fieldVal;
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheDataRowProjection.class, this);
+    }
+}
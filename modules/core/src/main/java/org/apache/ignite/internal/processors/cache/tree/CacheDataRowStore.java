@@ -132,6 +132,19 @@ public class CacheDataRowStore extends RowStore {
         return initDataRow(dataRow, cacheId);
     }
 
+    /**
+     * @param cacheId Cache ID.
+     * @param hash Hash code.
+     * @param link Link.
+     * @param proj Projection of the value fields.
+     * @return Data row.
+     */
+    protected CacheDataRow projectedRow(int cacheId, int hash, long link, CacheDataRowProjection proj) {
+        ProjectedDataRow dataRow = new ProjectedDataRow(grp, hash, link, partId, proj, SKIP_VER.get());
+
+        return initDataRow(dataRow, cacheId);
+    }
+
     /**
      * @param dataRow Data row.
      * @param cacheId Cache ID.
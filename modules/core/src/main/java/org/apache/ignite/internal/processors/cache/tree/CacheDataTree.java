@@ -47,6 +47,7 @@ import org.apache.ignite.internal.processors.cache.tree.mvcc.search.MvccDataPage
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import static java.lang.Boolean.FALSE;
@@ -162,7 +163,7 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
                 && grp.persistenceEnabled()
                 && dataPageScanEnabled.get()
                 && (c == null || c instanceof MvccDataPageClosure))
-            return scanDataPages(asRowData(x), (MvccDataPageClosure)c);
+            return scanDataPages(asRowData(x), projection(x), (MvccDataPageClosure)c);
 
         lastFindWithDataPageScan = FALSE;
         return super.find(lower, upper, c, x);
@@ -170,12 +171,16 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
 
     /**
      * @param rowData Required row data.
+     * @param proj Projection of the value fields.
      * @param c Optional MVCC closure.
      * @return Cache row cursor.
      * @throws IgniteCheckedException If failed.
      */
-    private GridCursor<CacheDataRow> scanDataPages(CacheDataRowAdapter.RowData rowData, MvccDataPageClosure c)
-        throws IgniteCheckedException {
+    private GridCursor<CacheDataRow> scanDataPages(
+        CacheDataRowAdapter.RowData rowData,
+        @Nullable CacheDataRowProjection proj,
+        MvccDataPageClosure c
+    ) throws IgniteCheckedException {
         lastFindWithDataPageScan = TRUE;
 
         checkDestroyed();
@@ -267,7 +272,8 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
 
                             for (int i = 0; i < rowsCnt; i++) {
                                 if (c == null || c.applyMvcc(io, pageAddr, i, pageSize)) {
-                                    DataRow row = mvccEnabled ? new MvccDataRow() : new DataRow();
+                                    DataRow row = mvccEnabled ? new MvccDataRow() :
+                                        proj != null ? new ProjectedDataRow(proj) : new DataRow();
 
                                     row.initFromDataPage(
                                         io,
@@ -314,10 +320,18 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
      * @return Row data.
      */
     private static CacheDataRowAdapter.RowData asRowData(Object flags) {
-        return flags != null ? (CacheDataRowAdapter.RowData)flags :
+        return flags instanceof CacheDataRowAdapter.RowData ? (CacheDataRowAdapter.RowData)flags :
             CacheDataRowAdapter.RowData.FULL;
     }
 
+    /**
+     * @param flags Flags.
+     * @return Projection of the value fields, not applied to MVCC rows.
+     */
+    @Nullable private CacheDataRowProjection projection(Object flags) {
+        return flags instanceof CacheDataRowProjection && !grp.mvccEnabled() ? (CacheDataRowProjection)flags : null;
+    }
+
     /**
      * @param grp Cache group.
      * @return Tree inner IO.
@@ -420,8 +434,13 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
 
             return rowStore.mvccRow(cacheId, hash, link, x, mvccCrdVer, mvccCntr, mvccOpCntr);
         }
-        else
-            return rowStore.dataRow(cacheId, hash, link, x);
+        else {
+            CacheDataRowProjection proj = projection(flags);
+
+            return proj != null ?
+                rowStore.projectedRow(cacheId, hash, link, proj) :
+                rowStore.dataRow(cacheId, hash, link, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.binary.BinaryObjectOffheapImpl;
+import org.apache.ignite.internal.binary.GridBinaryMarshaller;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Data row with the projected fields of the value. If the row is entirely stored in one data page, its value is
+ * not copied to heap: {@link #value()} returns {@code null} and only the projected fields are read.
+ */
+public class ProjectedDataRow extends DataRow {
+    /** Projection. */
+    private final CacheDataRowProjection proj;
+
+    /** Projected fields. */
+    private Object[] fields;
+
+    /**
+     * @param proj Projection.
+     */
+    ProjectedDataRow(CacheDataRowProjection proj) {
+        this.proj = proj;
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param hash Hash code.
+     * @param link Link.
+     * @param part Partition.
+     * @param proj Projection.
+     * @param skipVer Whether version read should be skipped.
+     */
+    ProjectedDataRow(CacheGroupContext grp, int hash, long link, int part, CacheDataRowProjection proj,
+        boolean skipVer) {
+        super(link);
+
+        this.hash = hash;
+        this.part = part;
+        this.proj = proj;
+
+        try {
+            initFromLink(grp, RowData.FULL, skipVer);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+
+        key.partition(part);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void readValue(CacheObjectContext coctx, byte type, long addr, int len)
+        throws IgniteCheckedException {
+        if (type == CacheObject.TYPE_BINARY && PageUtils.getByte(addr, 0) == GridBinaryMarshaller.OBJ) {
+            CacheObjectBinaryProcessorImpl proc = (CacheObjectBinaryProcessorImpl)coctx.kernalContext().cacheObjects();
+
+            fields = proj.projectBinary(new BinaryObjectOffheapImpl(proc.binaryContext(), addr, 0, len));
+
+            if (fields != null)
+                return;
+        }
+
+        super.readValue(coctx, type, addr, len);
+    }
+
+    /**
+     * @return Value or {@code null} if only the projected fields were read.
+     */
+    @Nullable @Override public CacheObject value() {
+        return val;
+    }
+
+    /**
+     * @return Projected fields of the value.
+     */
+    public Object[] fields() {
+        if (fields == null)
+            fields = proj.project(val);
+
+        return fields;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ProjectedDataRow.class, this, "super", super.toString());
+    }
+}
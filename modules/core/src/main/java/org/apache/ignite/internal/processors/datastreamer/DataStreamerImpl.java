@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -53,6 +55,7 @@ import org.apache.ignite.IgniteDataStreamerTimeoutException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteInterruptedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterTopologyException;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -80,6 +83,7 @@ import org.apache.ignite.internal.processors.cache.ExchangeActions;
 import org.apache.ignite.internal.processors.cache.GridCacheAdapter;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryInfo;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
 import org.apache.ignite.internal.processors.cache.GridCacheGateway;
 import org.apache.ignite.internal.processors.cache.GridCacheUtils;
@@ -92,6 +96,8 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Gri
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.mvcc.txlog.TxState;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
 import org.apache.ignite.internal.processors.dr.GridDrType;
@@ -101,6 +107,7 @@ import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.GridPeerDeployAware;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
+import org.apache.ignite.internal.util.lang.IgnitePredicateX;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.CI1;
@@ -120,6 +127,8 @@ import org.apache.ignite.plugin.security.SecurityPermission;
 import org.apache.ignite.stream.StreamReceiver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMER_SORTED_BATCH_APPLY;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
 import static org.apache.ignite.internal.GridTopic.TOPIC_DATASTREAM;
@@ -144,6 +153,13 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
      */
     private final Map<Long, ThreadBuffer> threadBufMap = new ConcurrentHashMap<>();
 
+    /** @see IgniteSystemProperties#IGNITE_DATA_STREAMER_SORTED_BATCH_APPLY */
+    public static final boolean DFLT_DATA_STREAMER_SORTED_BATCH_APPLY = true;
+
+    /** Whether the isolated receiver applies batches by partitions with batched data pages writes. */
+    private static final boolean SORTED_BATCH_APPLY =
+        IgniteSystemProperties.getBoolean(IGNITE_DATA_STREAMER_SORTED_BATCH_APPLY, DFLT_DATA_STREAMER_SORTED_BATCH_APPLY);
+
     /** Isolated receiver. */
     private static final StreamReceiver ISOLATED_UPDATER = new IsolatedUpdater();
 
@@ -2269,6 +2285,12 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             try {
                 snapshotWarning(cctx);
 
+                if (SORTED_BATCH_APPLY && plc == null && !cctx.mvccEnabled()) {
+                    receiveByPartitions(internalCache, topFut, entries);
+
+                    return;
+                }
+
                 for (Entry<KeyCacheObject, CacheObject> e : entries) {
                     cctx.shared().database().checkpointReadLock();
 
@@ -2379,6 +2401,152 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             }
         }
 
+        /**
+         * Loads entries grouped by partitions. Entries of a partition are sorted by the key hash code, which is
+         * the primary order of the data tree, and their rows are written to data pages in batches before
+         * the tree is updated. Existing entries are not overwritten, the same as for the per-entry load.
+         *
+         * @param internalCache Cache.
+         * @param topFut Topology future.
+         * @param entries Entries.
+         */
+        private static void receiveByPartitions(
+            GridCacheAdapter<KeyCacheObject, CacheObject> internalCache,
+            GridDhtTopologyFuture topFut,
+            Collection<Map.Entry<KeyCacheObject, CacheObject>> entries
+        ) {
+            GridCacheContext<?, ?> cctx = internalCache.context();
+
+            AffinityTopologyVersion topVer = topFut.topologyVersion();
+
+            GridCacheVersion ver = cctx.versions().isolatedStreamerVersion();
+
+            Map<Integer, List<KeyCacheObject>> keysByPart = new TreeMap<>();
+            Map<KeyCacheObject, CacheObject> vals = U.newHashMap(entries.size());
+
+            CacheObjectContext coCtx = cctx.cacheObjectContext();
+
+            try {
+                for (Entry<KeyCacheObject, CacheObject> e : entries) {
+                    KeyCacheObject key = e.getKey();
+
+                    key.finishUnmarshal(coCtx, cctx.deploy().globalLoader());
+
+                    // Initial value is set only once, so the first of the duplicated keys wins.
+                    if (!vals.containsKey(key)) {
+                        CacheObject val = cctx.kernalContext().cacheObjects().prepareForCache(e.getValue(), cctx);
+
+                        // Rows are written to data pages before the entries are locked, so the bytes are needed now.
+                        key.valueBytes(coCtx);
+
+                        if (val != null)
+                            val.valueBytes(coCtx);
+
+                        vals.put(key, val);
+
+                        keysByPart.computeIfAbsent(cctx.affinity().partition(key), p -> new ArrayList<>()).add(key);
+                    }
+                }
+            }
+            catch (IgniteCheckedException ex) {
+                throw new IgniteException("Failed to set initial value for cache entry.", ex);
+            }
+
+            for (Entry<Integer, List<KeyCacheObject>> partKeys : keysByPart.entrySet()) {
+                int p = partKeys.getKey();
+
+                GridDhtLocalPartition part;
+
+                try {
+                    part = cctx.topology().localPartition(p, topVer, true);
+                }
+                catch (GridDhtInvalidPartitionException ignored) {
+                    continue;
+                }
+
+                if (!part.reserve())
+                    continue;
+
+                try {
+                    // We must not allow to read from RENTING partitions.
+                    if (part.state() == GridDhtPartitionState.RENTING)
+                        continue;
+
+                    List<KeyCacheObject> keys = partKeys.getValue();
+
+                    keys.sort(Comparator.comparingInt(KeyCacheObject::hashCode));
+
+                    // The rows of the whole batch are written before the predicate is applied to them, so the batch
+                    // is validated in advance to not leave the written rows without entries.
+                    for (KeyCacheObject key : keys) {
+                        Throwable err = topFut.validateCache(cctx, false, false, key, null);
+
+                        if (err != null)
+                            throw new IgniteCheckedException(err);
+                    }
+
+                    boolean primary = cctx.affinity().primaryByPartition(cctx.localNode(), p, topVer);
+
+                    Iterator<GridCacheEntryInfo> infos = F.iterator(keys, key -> {
+                        GridCacheEntryInfo info = new GridCacheEntryInfo();
+
+                        info.key(key);
+                        info.value(vals.get(key));
+                        info.version(ver);
+                        info.cacheId(cctx.cacheId());
+
+                        return info;
+                    }, true);
+
+                    cctx.offheap().storeEntries(part, infos, new IgnitePredicateX<CacheDataRow>() {
+                        @Override public boolean applyx(CacheDataRow row) throws IgniteCheckedException {
+                            GridCacheEntryEx entry = internalCache.entryEx(row.key(), topVer);
+
+                            try {
+                                boolean set = entry.initialValue(row.value(),
+                                    ver,
+                                    null,
+                                    null,
+                                    TxState.NA,
+                                    TxState.NA,
+                                    CU.TTL_ETERNAL,
+                                    CU.EXPIRE_TIME_ETERNAL,
+                                    false,
+                                    topVer,
+                                    primary ? GridDrType.DR_LOAD : GridDrType.DR_PRELOAD,
+                                    false,
+                                    primary,
+                                    row);
+
+                                entry.touch();
+
+                                CU.unwindEvicts(cctx);
+
+                                entry.onUnlock();
+
+                                return set;
+                            }
+                            catch (GridCacheEntryRemovedException ignored) {
+                                return false;
+                            }
+                        }
+                    });
+                }
+                catch (GridDhtInvalidPartitionException ignored) {
+                    // No-op.
+                }
+                catch (IgniteCheckedException ex) {
+                    U.error(cctx.logger(DataStreamerImpl.class),
+                        "Failed to set initial values for cache entries [part=" + p + ']', ex);
+
+                    throw new IgniteException("Failed to set initial value for cache entry.", ex);
+                }
+                finally {
+                    part.release();
+                }
+            }
+        }
+
         /**
          * Sets the streamer warning flag to current snapshot process if it is active.
          *
@@ -32,6 +32,7 @@ import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
 import org.apache.ignite.plugin.extensions.communication.MessageReader;
 import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+import org.apache.ignite.spi.communication.tcp.internal.TcpBulkMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,7 +41,7 @@ import static org.apache.ignite.plugin.extensions.communication.MessageCollectio
 /**
  *
  */
-public class DataStreamerRequest implements Message {
+public class DataStreamerRequest implements Message, TcpBulkMessage {
     /** */
     private static final long serialVersionUID = 0L;
 
@@ -34,6 +34,7 @@ import org.apache.ignite.internal.processors.GridProcessorAdapter;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.persistence.CorruptedDataStructureException;
 import org.apache.ignite.internal.processors.diagnostic.DiagnosticProcessor;
+import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsProcessor;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
@@ -209,6 +210,11 @@ public class FailureProcessor extends GridProcessorAdapter {
         if (diagnosticProcessor != null)
             diagnosticProcessor.onFailure(failureCtx);
 
+        PerformanceStatisticsProcessor perfStatProc = ctx.performanceStatistics();
+
+        if (perfStatProc != null)
+            perfStatProc.onFailure(failureCtx);
+
         boolean invalidated = hnd.onFailure(ignite, failureCtx);
 
         if (invalidated) {
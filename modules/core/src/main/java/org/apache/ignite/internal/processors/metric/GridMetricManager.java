@@ -30,10 +30,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteComponentType;
 import org.apache.ignite.internal.NodeStoppingException;
@@ -59,6 +61,7 @@ import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LATENCY_HISTOGRAMS_ENABLED;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_PHY_RAM;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.fromFullName;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
@@ -155,6 +158,12 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** Prefix for {@link HistogramMetric} configuration property name. */
     public static final String HISTOGRAM_CFG_PREFIX = metricName("metrics", "histogram");
 
+    /** @see IgniteSystemProperties#IGNITE_LATENCY_HISTOGRAMS_ENABLED */
+    public static final boolean DFLT_LATENCY_HISTOGRAMS_ENABLED = false;
+
+    /** Maximum trackable latency of an operation in nanoseconds. */
+    public static final long MAX_OP_LATENCY = TimeUnit.HOURS.toNanos(1);
+
     /** Registered metrics registries. */
     private final ConcurrentHashMap<String, ReadOnlyMetricRegistry> registries = new ConcurrentHashMap<>();
 
@@ -188,6 +197,10 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** */
     private final SunOperatingSystemMXBeanAccessor sunOs;
 
+    /** Whether the latency histograms of operations are enabled. */
+    private final boolean latencyHistogramsEnabled =
+        IgniteSystemProperties.getBoolean(IGNITE_LATENCY_HISTOGRAMS_ENABLED, DFLT_LATENCY_HISTOGRAMS_ENABLED);
+
     /**
      * @param ctx Kernal context.
      */
@@ -446,6 +459,14 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
         metastorage.write(metricName(HISTOGRAM_CFG_PREFIX, name), bounds);
     }
 
+    /**
+     * @return {@code True} if the latency histograms of cache operations, queries and checkpoints are enabled.
+     * @see MetricRegistry#logLinearHistogram(String, long, String)
+     */
+    public boolean latencyHistogramsEnabled() {
+        return latencyHistogramsEnabled;
+    }
+
     /**
      * Change {@link HitRateMetric} instance configuration.
      *
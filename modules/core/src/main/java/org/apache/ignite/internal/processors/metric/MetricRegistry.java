@@ -35,6 +35,7 @@ import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.processors.metric.impl.IntGauge;
 import org.apache.ignite.internal.processors.metric.impl.IntMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderWithDelegateMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongGauge;
@@ -48,6 +49,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.metric.impl.HitRateMetric.DFLT_SIZE;
+import static org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric.DFLT_PRECISION;
+import static org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric.PERCENTILES;
+import static org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric.PERCENTILE_SUFFIXES;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.fromFullName;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 import static org.apache.ignite.internal.util.lang.GridFunc.nonThrowableSupplier;
@@ -313,6 +317,29 @@ public class MetricRegistry implements ReadOnlyMetricRegistry {
         return metric;
     }
 
+    /**
+     * Creates and registers named log-linear histogram and the gauges of its percentiles. Names of the gauges are
+     * the name of the histogram followed by one of {@link LogLinearHistogramMetric#PERCENTILE_SUFFIXES}.
+     *
+     * @param name Name.
+     * @param maxVal Maximum trackable value.
+     * @param desc Description.
+     * @return {@link LogLinearHistogramMetric}
+     */
+    public LogLinearHistogramMetric logLinearHistogram(String name, long maxVal, @Nullable String desc) {
+        LogLinearHistogramMetric metric = addMetric(name,
+            new LogLinearHistogramMetric(metricName(regName, name), desc, DFLT_PRECISION, maxVal));
+
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            double percentile = PERCENTILES[i];
+
+            register(name + PERCENTILE_SUFFIXES[i], () -> metric.value().percentile(percentile),
+                "The " + PERCENTILE_SUFFIXES[i].toLowerCase() + " of " + name + '.');
+        }
+
+        return metric;
+    }
+
     /**
      * Adds metrics if not exists already.
      *
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.metric.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.processors.metric.AbstractMetric;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.spi.metric.ObjectMetric;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Histogram metric with log-linear buckets. Each power of two range of values is split into {@code 2^precision}
+ * buckets of equal width, so the relative error of the value of a bucket does not exceed {@code 2^-precision} for
+ * any magnitude of measurements, and the bucket of a value is found in constant time.
+ * <p>
+ * Values greater than the maximum trackable value are counted in the last bucket, negative values are counted as
+ * zero.
+ *
+ * @see LogLinearHistogramSnapshot
+ */
+public class LogLinearHistogramMetric extends AbstractMetric implements ObjectMetric<LogLinearHistogramSnapshot> {
+    /** Default number of bits of a value used to address a sub-bucket. Relative error is 6.25%. */
+    public static final int DFLT_PRECISION = 4;
+
+    /** Percentiles exported as separate metrics. */
+    public static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /** Name suffixes of the metrics of {@link #PERCENTILES}. */
+    public static final String[] PERCENTILE_SUFFIXES = {"P50", "P90", "P99", "P999"};
+
+    /** Number of bits of a value used to address a sub-bucket. */
+    private final int precision;
+
+    /** Maximum trackable value. */
+    private final long maxVal;
+
+    /** Count of measurements for each bucket. */
+    private volatile AtomicLongArray counts;
+
+    /**
+     * @param name Name.
+     * @param desc Description.
+     * @param precision Number of bits of a value used to address a sub-bucket.
+     * @param maxVal Maximum trackable value.
+     */
+    public LogLinearHistogramMetric(String name, @Nullable String desc, int precision, long maxVal) {
+        super(name, desc);
+
+        A.ensure(precision > 0 && precision <= 16, "precision must be in range [1, 16]");
+        A.ensure(maxVal > 0, "maxVal must be positive");
+
+        this.precision = precision;
+        this.maxVal = maxVal;
+
+        counts = new AtomicLongArray(bucket(maxVal, precision) + 1);
+    }
+
+    /**
+     * Adds measurement.
+     *
+     * @param x Value.
+     */
+    public void value(long x) {
+        counts.incrementAndGet(bucket(Math.max(0, Math.min(x, maxVal)), precision));
+    }
+
+    /** {@inheritDoc} */
+    @Override public LogLinearHistogramSnapshot value() {
+        AtomicLongArray counts0 = counts;
+
+        long[] res = new long[counts0.length()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = counts0.get(i);
+
+        return new LogLinearHistogramSnapshot(precision, res);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Class<LogLinearHistogramSnapshot> type() {
+        return LogLinearHistogramSnapshot.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void reset() {
+        counts = new AtomicLongArray(counts.length());
+    }
+
+    /** @return Number of bits of a value used to address a sub-bucket. */
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Values below {@code 2^(precision + 1)} have buckets of their own. Higher values are shifted right, so that
+     * exactly {@code precision + 1} significant bits remain, the shift selects the power of two range and the
+     * remaining bits select the bucket in the range.
+     *
+     * @param x Non-negative value.
+     * @param precision Number of bits of a value used to address a sub-bucket.
+     * @return Index of the bucket.
+     */
+    public static int bucket(long x, int precision) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(x) - precision);
+
+        return (shift << precision) + (int)(x >>> shift);
+    }
+
+    /**
+     * @param bucket Index of the bucket.
+     * @param precision Number of bits of a value used to address a sub-bucket.
+     * @return The highest value of the bucket.
+     */
+    public static long upperBound(int bucket, int precision) {
+        int shift = Math.max(0, (bucket >>> precision) - 1);
+
+        long base = bucket - ((long)shift << precision);
+
+        return ((base + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.metric.impl;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.util.typedef.internal.A;
+
+/**
+ * Snapshot of the measurements of {@link LogLinearHistogramMetric}. Snapshots of histograms with the same precision
+ * can be merged, for example, to aggregate the measurements of several caches or nodes.
+ */
+public class LogLinearHistogramSnapshot implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Number of bits of a value used to address a sub-bucket. */
+    private final int precision;
+
+    /** Count of measurements for each bucket. */
+    private final long[] counts;
+
+    /** Total count of measurements. */
+    private final long cnt;
+
+    /**
+     * @param precision Number of bits of a value used to address a sub-bucket.
+     * @param counts Count of measurements for each bucket.
+     */
+    public LogLinearHistogramSnapshot(int precision, long[] counts) {
+        this.precision = precision;
+        this.counts = counts;
+
+        long cnt = 0;
+
+        for (long c : counts)
+            cnt += c;
+
+        this.cnt = cnt;
+    }
+
+    /** @return Number of bits of a value used to address a sub-bucket. */
+    public int precision() {
+        return precision;
+    }
+
+    /** @return Count of measurements for each bucket. */
+    public long[] counts() {
+        return counts.clone();
+    }
+
+    /** @return Total count of measurements. */
+    public long count() {
+        return cnt;
+    }
+
+    /**
+     * Gets the value at the given percentile. The value is the upper bound of the bucket the measurement of the
+     * percentile belongs to, so its relative error does not exceed {@code 2^-precision}.
+     *
+     * @param percentile Percentile, from {@code 0} to {@code 100}.
+     * @return Value at the given percentile or {@code 0} if there are no measurements.
+     */
+    public long percentile(double percentile) {
+        A.ensure(percentile >= 0 && percentile <= 100, "percentile must be in range [0, 100]");
+
+        if (cnt == 0)
+            return 0;
+
+        long rank = Math.max(1, (long)Math.ceil(percentile / 100 * cnt));
+
+        long sum = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            sum += counts[i];
+
+            if (sum >= rank)
+                return LogLinearHistogramMetric.upperBound(i, precision);
+        }
+
+        return LogLinearHistogramMetric.upperBound(counts.length - 1, precision);
+    }
+
+    /**
+     * @return Upper bound of the highest non-empty bucket or {@code 0} if there are no measurements.
+     */
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0)
+                return LogLinearHistogramMetric.upperBound(i, precision);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Merges measurements of this snapshot with the measurements of the other one.
+     *
+     * @param other Snapshot of the histogram with the same precision.
+     * @return Merged snapshot.
+     */
+    public LogLinearHistogramSnapshot merge(LogLinearHistogramSnapshot other) {
+        A.ensure(precision == other.precision, "Snapshots of histograms with different precision can't be merged " +
+            "[precision=" + precision + ", otherPrecision=" + other.precision + ']');
+
+        long[] res = new long[Math.max(counts.length, other.counts.length)];
+
+        for (int i = 0; i < counts.length; i++)
+            res[i] += counts[i];
+
+        for (int i = 0; i < other.counts.length; i++)
+            res[i] += other.counts[i];
+
+        return new LogLinearHistogramSnapshot(precision, res);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("[count=").append(cnt);
+
+        for (int i = 0; i < LogLinearHistogramMetric.PERCENTILES.length; i++) {
+            sb.append(", ").append(LogLinearHistogramMetric.PERCENTILE_SUFFIXES[i].toLowerCase()).append('=')
+                .append(percentile(LogLinearHistogramMetric.PERCENTILES[i]));
+        }
+
+        return sb.append(", max=").append(max()).append(']').toString();
+    }
+}
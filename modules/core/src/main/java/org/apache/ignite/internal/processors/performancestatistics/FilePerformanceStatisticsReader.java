@@ -513,7 +513,7 @@ public class FilePerformanceStatisticsReader {
     }
 
     /** @return UUID node of file. {@code Null} if this is not a statistics file. */
-    @Nullable private static UUID nodeId(File file) {
+    @Nullable static UUID nodeId(File file) {
         Matcher matcher = FILE_PATTERN.matcher(file.getName());
 
         if (matcher.matches())
@@ -539,12 +539,12 @@ public class FilePerformanceStatisticsReader {
     }
 
     /** Reads {@link UUID} from buffer. */
-    private static UUID readUuid(ByteBuffer buf) {
+    static UUID readUuid(ByteBuffer buf) {
         return new UUID(buf.getLong(), buf.getLong());
     }
 
     /** Reads {@link IgniteUuid} from buffer. */
-    private static IgniteUuid readIgniteUuid(ByteBuffer buf) {
+    static IgniteUuid readIgniteUuid(ByteBuffer buf) {
         UUID globalId = new UUID(buf.getLong(), buf.getLong());
 
         return new IgniteUuid(globalId, buf.getLong());
@@ -24,7 +24,6 @@ import java.nio.channels.ClosedByInterruptException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -37,37 +36,15 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentedRingByteBuffer;
-import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
-import org.apache.ignite.internal.util.GridIntIterator;
-import org.apache.ignite.internal.util.GridIntList;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
-import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.thread.IgniteThread;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_CACHED_STRINGS_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FILE_MAX_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLUSH_SIZE;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_START;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CHECKPOINT;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.JOB;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.PAGES_WRITE_THROTTLE;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.QUERY;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.QUERY_READS;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TASK;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TX_COMMIT;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TX_ROLLBACK;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheStartRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.checkpointRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.jobRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.pagesWriteThrottleRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.queryReadsRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.queryRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.taskRecordSize;
-import static org.apache.ignite.internal.processors.performancestatistics.OperationType.transactionRecordSize;
 
 /**
  * Performance statistics writer based on logging to a file.
@@ -76,7 +53,7 @@ import static org.apache.ignite.internal.processors.performancestatistics.Operat
  * <p>
  * To iterate over records use {@link FilePerformanceStatisticsReader}.
  */
-public class FilePerformanceStatisticsWriter {
+public class FilePerformanceStatisticsWriter extends AbstractPerformanceStatisticsWriter {
     /** Directory to store performance statistics files. Placed under Ignite work directory. */
     public static final String PERF_STAT_DIR = "perf_stat";
 
@@ -195,202 +172,13 @@ public class FilePerformanceStatisticsWriter {
         started = false;
     }
 
-    /**
-     * @param cacheId Cache id.
-     * @param name Cache name.
-     */
-    public void cacheStart(int cacheId, String name) {
-        boolean cached = cacheIfPossible(name);
-
-        doWrite(CACHE_START, cacheStartRecordSize(cached ? 0 : name.getBytes().length, cached), buf -> {
-            writeString(buf, name, cached);
-            buf.putInt(cacheId);
-        });
-    }
-
-    /**
-     * @param type Operation type.
-     * @param cacheId Cache id.
-     * @param startTime Start time in milliseconds.
-     * @param duration Duration in nanoseconds.
-     */
-    public void cacheOperation(OperationType type, int cacheId, long startTime, long duration) {
-        doWrite(type, cacheRecordSize(), buf -> {
-            buf.putInt(cacheId);
-            buf.putLong(startTime);
-            buf.putLong(duration);
-        });
-    }
-
-    /**
-     * @param cacheIds Cache IDs.
-     * @param startTime Start time in milliseconds.
-     * @param duration Duration in nanoseconds.
-     * @param commited {@code True} if commited.
-     */
-    public void transaction(GridIntList cacheIds, long startTime, long duration, boolean commited) {
-        doWrite(commited ? TX_COMMIT : TX_ROLLBACK, transactionRecordSize(cacheIds.size()), buf -> {
-            buf.putInt(cacheIds.size());
-
-            GridIntIterator iter = cacheIds.iterator();
-
-            while (iter.hasNext())
-                buf.putInt(iter.next());
-
-            buf.putLong(startTime);
-            buf.putLong(duration);
-        });
-    }
-
-    /**
-     * @param type Cache query type.
-     * @param text Query text in case of SQL query. Cache name in case of SCAN query.
-     * @param id Query id.
-     * @param startTime Start time in milliseconds.
-     * @param duration Duration in nanoseconds.
-     * @param success Success flag.
-     */
-    public void query(GridCacheQueryType type, String text, long id, long startTime, long duration, boolean success) {
-        boolean cached = cacheIfPossible(text);
-
-        doWrite(QUERY, queryRecordSize(cached ? 0 : text.getBytes().length, cached), buf -> {
-            writeString(buf, text, cached);
-            buf.put((byte)type.ordinal());
-            buf.putLong(id);
-            buf.putLong(startTime);
-            buf.putLong(duration);
-            buf.put(success ? (byte)1 : 0);
-        });
-    }
-
-    /**
-     * @param type Cache query type.
-     * @param queryNodeId Originating node id.
-     * @param id Query id.
-     * @param logicalReads Number of logical reads.
-     * @param physicalReads Number of physical reads.
-     */
-    public void queryReads(GridCacheQueryType type, UUID queryNodeId, long id, long logicalReads, long physicalReads) {
-        doWrite(QUERY_READS, queryReadsRecordSize(), buf -> {
-            buf.put((byte)type.ordinal());
-            writeUuid(buf, queryNodeId);
-            buf.putLong(id);
-            buf.putLong(logicalReads);
-            buf.putLong(physicalReads);
-        });
-    }
-
-    /**
-     * @param sesId Session id.
-     * @param taskName Task name.
-     * @param startTime Start time in milliseconds.
-     * @param duration Duration.
-     * @param affPartId Affinity partition id.
-     */
-    public void task(IgniteUuid sesId, String taskName, long startTime, long duration, int affPartId) {
-        boolean cached = cacheIfPossible(taskName);
-
-        doWrite(TASK, taskRecordSize(cached ? 0 : taskName.getBytes().length, cached), buf -> {
-            writeString(buf, taskName, cached);
-            writeIgniteUuid(buf, sesId);
-            buf.putLong(startTime);
-            buf.putLong(duration);
-            buf.putInt(affPartId);
-        });
-    }
-
-    /**
-     * @param sesId Session id.
-     * @param queuedTime Time job spent on waiting queue.
-     * @param startTime Start time in milliseconds.
-     * @param duration Job execution time.
-     * @param timedOut {@code True} if job is timed out.
-     */
-    public void job(IgniteUuid sesId, long queuedTime, long startTime, long duration, boolean timedOut) {
-        doWrite(JOB, jobRecordSize(), buf -> {
-            writeIgniteUuid(buf, sesId);
-            buf.putLong(queuedTime);
-            buf.putLong(startTime);
-            buf.putLong(duration);
-            buf.put(timedOut ? (byte)1 : 0);
-        });
-    }
-
     /** @return Performance statistics file. */
     File file() {
         return file;
     }
 
-    /**
-     * @param beforeLockDuration Before lock duration.
-     * @param lockWaitDuration Lock wait duration.
-     * @param listenersExecDuration Listeners execute duration.
-     * @param markDuration Mark duration.
-     * @param lockHoldDuration Lock hold duration.
-     * @param pagesWriteDuration Pages write duration.
-     * @param fsyncDuration Fsync duration.
-     * @param walCpRecordFsyncDuration Wal cp record fsync duration.
-     * @param writeCpEntryDuration Write checkpoint entry duration.
-     * @param splitAndSortCpPagesDuration Split and sort cp pages duration.
-     * @param totalDuration Total duration in milliseconds.
-     * @param cpStartTime Checkpoint start time in milliseconds.
-     * @param pagesSize Pages size.
-     * @param dataPagesWritten Data pages written.
-     * @param cowPagesWritten Cow pages written.
-     */
-    public void checkpoint(
-        long beforeLockDuration,
-        long lockWaitDuration,
-        long listenersExecDuration,
-        long markDuration,
-        long lockHoldDuration,
-        long pagesWriteDuration,
-        long fsyncDuration,
-        long walCpRecordFsyncDuration,
-        long writeCpEntryDuration,
-        long splitAndSortCpPagesDuration,
-        long totalDuration,
-        long cpStartTime,
-        int pagesSize,
-        int dataPagesWritten,
-        int cowPagesWritten
-    ) {
-        doWrite(CHECKPOINT, checkpointRecordSize(), buf -> {
-            buf.putLong(beforeLockDuration);
-            buf.putLong(lockWaitDuration);
-            buf.putLong(listenersExecDuration);
-            buf.putLong(markDuration);
-            buf.putLong(lockHoldDuration);
-            buf.putLong(pagesWriteDuration);
-            buf.putLong(fsyncDuration);
-            buf.putLong(walCpRecordFsyncDuration);
-            buf.putLong(writeCpEntryDuration);
-            buf.putLong(splitAndSortCpPagesDuration);
-            buf.putLong(totalDuration);
-            buf.putLong(cpStartTime);
-            buf.putInt(pagesSize);
-            buf.putInt(dataPagesWritten);
-            buf.putInt(cowPagesWritten);
-        });
-    }
-
-    /**
-     * @param endTime End time in milliseconds.
-     * @param duration Duration in milliseconds.
-     */
-    public void pagesWriteThrottle(long endTime, long duration) {
-        doWrite(PAGES_WRITE_THROTTLE, pagesWriteThrottleRecordSize(), buf -> {
-            buf.putLong(endTime);
-            buf.putLong(duration);
-        });
-    }
-
-    /**
-     * @param op Operation type.
-     * @param recSize Record size.
-     * @param writer Record writer.
-     */
-    private void doWrite(OperationType op, int recSize, Consumer<ByteBuffer> writer) {
+    /** {@inheritDoc} */
+    @Override protected void doWrite(OperationType op, int recSize, Consumer<ByteBuffer> writer) {
         int size = recSize + /*type*/ 1;
 
         SegmentedRingByteBuffer.WriteSegment seg = ringByteBuf.offer(size);
@@ -433,7 +221,7 @@ public class FilePerformanceStatisticsWriter {
     }
 
     /** @return Performance statistics file. */
-    private static File resolveStatisticsFile(GridKernalContext ctx) throws IgniteCheckedException {
+    static File resolveStatisticsFile(GridKernalContext ctx) throws IgniteCheckedException {
         String igniteWorkDir = U.workDirectory(ctx.config().getWorkDirectory(), ctx.config().getIgniteHome());
 
         File fileDir = U.resolveWorkDirectory(igniteWorkDir, PERF_STAT_DIR, false);
@@ -451,39 +239,8 @@ public class FilePerformanceStatisticsWriter {
         return file;
     }
 
-    /** Writes {@link UUID} to buffer. */
-    private static void writeUuid(ByteBuffer buf, UUID uuid) {
-        buf.putLong(uuid.getMostSignificantBits());
-        buf.putLong(uuid.getLeastSignificantBits());
-    }
-
-    /** Writes {@link IgniteUuid} to buffer. */
-    static void writeIgniteUuid(ByteBuffer buf, IgniteUuid uuid) {
-        buf.putLong(uuid.globalId().getMostSignificantBits());
-        buf.putLong(uuid.globalId().getLeastSignificantBits());
-        buf.putLong(uuid.localId());
-    }
-
-    /**
-     * @param buf Buffer to write to.
-     * @param str String to write.
-     * @param cached {@code True} if string cached.
-     */
-    static void writeString(ByteBuffer buf, String str, boolean cached) {
-        buf.put(cached ? (byte)1 : 0);
-
-        if (cached)
-            buf.putInt(str.hashCode());
-        else {
-            byte[] bytes = str.getBytes();
-
-            buf.putInt(bytes.length);
-            buf.put(bytes);
-        }
-    }
-
-    /** @return {@code True} if string was cached and can be written as hashcode. */
-    private boolean cacheIfPossible(String str) {
+    /** {@inheritDoc} */
+    @Override protected boolean cacheIfPossible(String str) {
         if (knownStrsSz >= cachedStrsThreshold)
             return false;
 
@@ -0,0 +1,971 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.performancestatistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteUuid;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsReader.nodeId;
+import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsReader.readIgniteUuid;
+import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsReader.readUuid;
+import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsReader.resolveFiles;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_START;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CHECKPOINT;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.JOB;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.PAGES_WRITE_THROTTLE;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.QUERY;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.QUERY_READS;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TASK;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TX_COMMIT;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheOperation;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheStartRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.checkpointRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.jobRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.pagesWriteThrottleRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.queryReadsRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.queryRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.taskRecordSize;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.transactionOperation;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.transactionRecordSize;
+
+/**
+ * Reader of the performance statistics files that maps the files into memory and indexes the records, so the
+ * records that match a {@link Filter} can be read without a full pass over the files.
+ * <p>
+ * The index is built on creation, the files are indexed in parallel. For each file and operation type the index
+ * keeps the columns of record offsets, start times and cache identifiers. The columns are split into blocks of
+ * {@link #BLOCK_SIZE} records with the minimal and maximal start time of the block, so the blocks out of the
+ * filter time range are skipped. The strings cached by the writer are resolved by the index, so the records can
+ * be read in any order.
+ * <p>
+ * {@link #readParallel(Filter, Supplier, BinaryOperator)} splits the matching records of each file into slices of
+ * consecutive records and processes the slices with fork-join tasks. Each task has its own handler, the handlers
+ * are merged by the provided reducer in the file order.
+ * <p>
+ * The reader must be closed to unmap the files.
+ *
+ * @see FilePerformanceStatisticsReader
+ */
+public class IndexedPerformanceStatisticsReader implements AutoCloseable {
+    /** Number of records in a block of the time index. */
+    static final int BLOCK_SIZE = 1024;
+
+    /** Default maximal size of the mapped file segment. */
+    private static final int DFLT_SEGMENT_SIZE = (int)U.GB;
+
+    /** Default maximal number of records processed by a fork-join task. */
+    private static final int DFLT_SLICE_SIZE = 64 * 1024;
+
+    /** Fork-join pool. */
+    private final ForkJoinPool pool;
+
+    /** Maximal number of records processed by a fork-join task. */
+    private final int sliceSize;
+
+    /** File indexes. */
+    private final List<FileIndex> files = new ArrayList<>();
+
+    /**
+     * @param filesOrDirs Files or directories.
+     * @throws IOException If read failed.
+     */
+    public IndexedPerformanceStatisticsReader(List<File> filesOrDirs) throws IOException {
+        this(filesOrDirs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param filesOrDirs Files or directories.
+     * @param pool Fork-join pool to index and read the files.
+     * @throws IOException If read failed.
+     */
+    public IndexedPerformanceStatisticsReader(List<File> filesOrDirs, ForkJoinPool pool) throws IOException {
+        this(filesOrDirs, pool, DFLT_SEGMENT_SIZE, DFLT_SLICE_SIZE);
+    }
+
+    /**
+     * @param filesOrDirs Files or directories.
+     * @param pool Fork-join pool to index and read the files.
+     * @param segSize Maximal size of the mapped file segment.
+     * @param sliceSize Maximal number of records processed by a fork-join task.
+     * @throws IOException If read failed.
+     */
+    IndexedPerformanceStatisticsReader(
+        List<File> filesOrDirs,
+        ForkJoinPool pool,
+        int segSize,
+        int sliceSize
+    ) throws IOException {
+        A.notNull(pool, "pool");
+        A.ensure(segSize > 0, "segSize > 0");
+        A.ensure(sliceSize > 0, "sliceSize > 0");
+
+        this.pool = pool;
+        this.sliceSize = sliceSize;
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+        for (File file : resolveFiles(filesOrDirs)) {
+            FileIndex idx = new FileIndex(file, nodeId(file));
+
+            files.add(idx);
+
+            tasks.add(ForkJoinTask.adapt(() -> {
+                idx.build(segSize);
+
+                return null;
+            }));
+        }
+
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> {
+                ForkJoinTask.invokeAll(tasks);
+            }));
+        }
+        catch (RuntimeException e) {
+            // Wait for the rest of the tasks before unmapping the segments.
+            for (ForkJoinTask<?> task : tasks)
+                task.quietlyJoin();
+
+            close();
+
+            IOException ioe = X.cause(e, IOException.class);
+
+            if (ioe != null)
+                throw ioe;
+
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the records that match the filter in the current thread. The records of each file are read in the order
+     * they were written.
+     *
+     * @param filter Filter.
+     * @param handlers Handlers to process deserialized operations.
+     */
+    public void read(Filter filter, PerformanceStatisticsHandler... handlers) {
+        A.notNull(filter, "filter");
+        A.notEmpty(handlers, "At least one handler expected.");
+
+        for (FileIndex idx : files) {
+            long[] offs = idx.select(filter);
+
+            idx.read(offs, 0, offs.length, handlers);
+        }
+    }
+
+    /**
+     * Reads the records that match the filter in parallel. The records are split into slices that are read by
+     * fork-join tasks. Each task reads the records of the slice in the order they were written to the handler created
+     * by the factory. Then the handlers are merged by the reducer in the order of the slices.
+     *
+     * @param filter Filter.
+     * @param hndFactory Factory of the handlers to process deserialized operations.
+     * @param reducer Reducer of the handlers.
+     * @param <H> Type of the handler.
+     * @return Reduced handler.
+     */
+    public <H extends PerformanceStatisticsHandler> H readParallel(
+        Filter filter,
+        Supplier<H> hndFactory,
+        BinaryOperator<H> reducer
+    ) {
+        A.notNull(filter, "filter");
+        A.notNull(hndFactory, "hndFactory");
+        A.notNull(reducer, "reducer");
+
+        return pool.invoke(new FilesTask<>(filter, hndFactory, reducer));
+    }
+
+    /**
+     * @param filter Filter.
+     * @return Number of records that match the filter.
+     */
+    public long count(Filter filter) {
+        A.notNull(filter, "filter");
+
+        long cnt = 0;
+
+        for (FileIndex idx : files)
+            cnt += idx.select(filter).length;
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        for (FileIndex idx : files)
+            idx.close();
+
+        files.clear();
+    }
+
+    /** Filter of the performance statistics records. */
+    public static class Filter {
+        /** Operation types. */
+        private final Set<OperationType> types = EnumSet.allOf(OperationType.class);
+
+        /** Cache identifier or {@code null} if the records of any cache match. */
+        @Nullable private Integer cacheId;
+
+        /** Start of the time range, inclusive. */
+        private long fromTime = Long.MIN_VALUE;
+
+        /** End of the time range, exclusive. */
+        private long toTime = Long.MAX_VALUE;
+
+        /**
+         * @param types Operation types to read.
+         * @return {@code this} for chaining.
+         */
+        public Filter types(OperationType... types) {
+            this.types.clear();
+
+            Collections.addAll(this.types, types);
+
+            return this;
+        }
+
+        /**
+         * Filters the records by cache. The cache operations, cache start and the transactions that involve the
+         * cache match the filter. The records of other types don't match.
+         *
+         * @param cacheId Cache identifier.
+         * @return {@code this} for chaining.
+         * @see CU#cacheId(String)
+         */
+        public Filter cacheId(int cacheId) {
+            this.cacheId = cacheId;
+
+            return this;
+        }
+
+        /**
+         * Filters the records by start time. The records without a start time ({@link OperationType#CACHE_START},
+         * {@link OperationType#QUERY_READS}) match any time range.
+         *
+         * @param fromTime Start of the time range in milliseconds, inclusive.
+         * @param toTime End of the time range in milliseconds, exclusive.
+         * @return {@code this} for chaining.
+         */
+        public Filter timeRange(long fromTime, long toTime) {
+            A.ensure(fromTime <= toTime, "fromTime <= toTime");
+
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Filter.class, this);
+        }
+    }
+
+    /** Index of the performance statistics file. */
+    private static class FileIndex {
+        /** File. */
+        private final File file;
+
+        /** Node id. */
+        private final UUID nodeId;
+
+        /** Absolute positions of the mapped segments. */
+        private final GridLongList segPos = new GridLongList();
+
+        /** Mapped segments. Each record is read from the segment it was indexed in. */
+        private final List<ByteBuffer> segs = new ArrayList<>();
+
+        /** Strings by hashcodes. */
+        private final Map<Integer, String> strs = new HashMap<>();
+
+        /** Columns by operation types. */
+        private final Map<OperationType, Column> cols = new EnumMap<>(OperationType.class);
+
+        /**
+         * @param file File.
+         * @param nodeId Node id.
+         */
+        private FileIndex(File file, UUID nodeId) {
+            this.file = file;
+            this.nodeId = nodeId;
+        }
+
+        /**
+         * Maps the file and indexes the records.
+         *
+         * @param segSize Maximal size of the mapped segment.
+         * @throws IOException If read failed.
+         */
+        private void build(int segSize) throws IOException {
+            try (FileChannel ch = FileChannel.open(file.toPath(), READ)) {
+                long size = ch.size();
+                long pos = 0;
+                long len = Math.min(size, segSize);
+
+                while (pos < size) {
+                    ByteBuffer seg = ch.map(READ_ONLY, pos, len).order(nativeOrder());
+
+                    int end = index(seg, pos);
+
+                    if (end == 0) {
+                        GridUnsafe.cleanDirectBuffer(seg);
+
+                        // The record is incomplete at the end of the file.
+                        if (len == size - pos || len == Integer.MAX_VALUE)
+                            break;
+
+                        // The record is larger than the segment.
+                        len = Math.min(size - pos, Integer.MAX_VALUE);
+
+                        continue;
+                    }
+
+                    segPos.add(pos);
+                    segs.add(seg);
+
+                    pos += end;
+                    len = Math.min(size - pos, segSize);
+                }
+            }
+
+            for (Column col : cols.values())
+                col.buildBlocks();
+        }
+
+        /**
+         * Indexes the records of the segment.
+         *
+         * @param seg Segment.
+         * @param segPos Absolute position of the segment.
+         * @return Position after the last record that fits into the segment.
+         */
+        private int index(ByteBuffer seg, long segPos) {
+            int pos = 0;
+
+            while (true) {
+                int size = indexRecord(seg, pos, segPos + pos);
+
+                if (size < 0)
+                    return pos;
+
+                pos += size;
+            }
+        }
+
+        /**
+         * @param buf Buffer.
+         * @param pos Record position in the buffer.
+         * @param off Absolute record position.
+         * @return Record size or {@code -1} if not enough bytes.
+         */
+        private int indexRecord(ByteBuffer buf, int pos, long off) {
+            int rem = buf.limit() - pos - 1;
+
+            if (rem < 0)
+                return -1;
+
+            byte opTypeByte = buf.get(pos);
+
+            OperationType opType = OperationType.of(opTypeByte);
+
+            pos++;
+
+            if (cacheOperation(opType)) {
+                if (rem < cacheRecordSize())
+                    return -1;
+
+                column(opType).add(off, buf.getLong(pos + 4), buf.getInt(pos));
+
+                return 1 + cacheRecordSize();
+            }
+            else if (transactionOperation(opType)) {
+                if (rem < 4)
+                    return -1;
+
+                int cacheIdsCnt = buf.getInt(pos);
+
+                if (rem < transactionRecordSize(cacheIdsCnt))
+                    return -1;
+
+                column(opType).add(off, buf.getLong(pos + 4 + cacheIdsCnt * 4), 0);
+
+                return 1 + transactionRecordSize(cacheIdsCnt);
+            }
+            else if (opType == QUERY || opType == TASK || opType == CACHE_START) {
+                if (rem < 5)
+                    return -1;
+
+                boolean cached = buf.get(pos) != 0;
+
+                int strLen = cached ? 0 : buf.getInt(pos + 1);
+
+                int size = opType == QUERY ? queryRecordSize(strLen, cached) :
+                    opType == TASK ? taskRecordSize(strLen, cached) : cacheStartRecordSize(strLen, cached);
+
+                if (rem < size)
+                    return -1;
+
+                if (!cached) {
+                    byte[] bytes = new byte[strLen];
+
+                    for (int i = 0; i < strLen; i++)
+                        bytes[i] = buf.get(pos + 5 + i);
+
+                    String str = new String(bytes);
+
+                    strs.putIfAbsent(str.hashCode(), str);
+                }
+
+                int strEnd = pos + 5 + strLen;
+
+                if (opType == QUERY)
+                    column(opType).add(off, buf.getLong(strEnd + 1 + 8), 0);
+                else if (opType == TASK)
+                    column(opType).add(off, buf.getLong(strEnd + 24), 0);
+                else
+                    column(opType).add(off, 0, buf.getInt(strEnd));
+
+                return 1 + size;
+            }
+            else if (opType == QUERY_READS) {
+                if (rem < queryReadsRecordSize())
+                    return -1;
+
+                column(opType).add(off, 0, 0);
+
+                return 1 + queryReadsRecordSize();
+            }
+            else if (opType == JOB) {
+                if (rem < jobRecordSize())
+                    return -1;
+
+                column(opType).add(off, buf.getLong(pos + 24 + 8), 0);
+
+                return 1 + jobRecordSize();
+            }
+            else if (opType == CHECKPOINT) {
+                if (rem < checkpointRecordSize())
+                    return -1;
+
+                column(opType).add(off, buf.getLong(pos + 8 * 11), 0);
+
+                return 1 + checkpointRecordSize();
+            }
+            else if (opType == PAGES_WRITE_THROTTLE) {
+                if (rem < pagesWriteThrottleRecordSize())
+                    return -1;
+
+                column(opType).add(off, buf.getLong(pos) - buf.getLong(pos + 8), 0);
+
+                return 1 + pagesWriteThrottleRecordSize();
+            }
+            else
+                throw new IgniteException("Unknown operation type id [typeId=" + opTypeByte + ", file=" + file + ']');
+        }
+
+        /** @return Column of the operation type. */
+        private Column column(OperationType opType) {
+            return cols.computeIfAbsent(opType, type -> new Column(
+                type != CACHE_START && type != QUERY_READS,
+                cacheOperation(type) || type == CACHE_START));
+        }
+
+        /**
+         * @param filter Filter.
+         * @return Absolute positions of the records that match the filter in the order they were written.
+         */
+        private long[] select(Filter filter) {
+            GridLongList res = new GridLongList();
+
+            for (Map.Entry<OperationType, Column> e : cols.entrySet()) {
+                OperationType opType = e.getKey();
+                Column col = e.getValue();
+
+                if (!filter.types.contains(opType))
+                    continue;
+
+                if (filter.cacheId != null && col.cacheIds == null && !transactionOperation(opType))
+                    continue;
+
+                int size = col.offs.size();
+
+                for (int blockIdx = 0; blockIdx * BLOCK_SIZE < size; blockIdx++) {
+                    if (col.times != null && (col.blockMax[blockIdx] < filter.fromTime ||
+                        col.blockMin[blockIdx] >= filter.toTime))
+                        continue;
+
+                    for (int i = blockIdx * BLOCK_SIZE; i < Math.min(size, (blockIdx + 1) * BLOCK_SIZE); i++) {
+                        if (col.times != null) {
+                            long time = col.times.get(i);
+
+                            if (time < filter.fromTime || time >= filter.toTime)
+                                continue;
+                        }
+
+                        if (filter.cacheId != null) {
+                            if (col.cacheIds != null) {
+                                if (col.cacheIds.get(i) != filter.cacheId)
+                                    continue;
+                            }
+                            else if (!transactionContainsCache(col.offs.get(i), filter.cacheId))
+                                continue;
+                        }
+
+                        res.add(col.offs.get(i));
+                    }
+                }
+            }
+
+            return res.sort().array();
+        }
+
+        /**
+         * @param off Absolute position of the transaction record.
+         * @param cacheId Cache identifier.
+         * @return {@code True} if the transaction involves the cache.
+         */
+        private boolean transactionContainsCache(long off, int cacheId) {
+            int segIdx = segment(off);
+
+            ByteBuffer seg = segs.get(segIdx);
+
+            int pos = (int)(off - segPos.get(segIdx)) + 1;
+
+            int cacheIdsCnt = seg.getInt(pos);
+
+            for (int i = 0; i < cacheIdsCnt; i++) {
+                if (seg.getInt(pos + 4 + i * 4) == cacheId)
+                    return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * @param off Absolute record position.
+         * @return Index of the segment the record was indexed in.
+         */
+        private int segment(long off) {
+            int low = 0;
+            int high = segPos.size() - 1;
+
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+
+                if (segPos.get(mid) <= off)
+                    low = mid;
+                else
+                    high = mid - 1;
+            }
+
+            return low;
+        }
+
+        /**
+         * Reads the records.
+         *
+         * @param offs Sorted absolute positions of the records.
+         * @param from Index of the first record to read, inclusive.
+         * @param to Index of the last record to read, exclusive.
+         * @param handlers Handlers to process deserialized operations.
+         */
+        private void read(long[] offs, int from, int to, PerformanceStatisticsHandler... handlers) {
+            // Segments are shared between the tasks, so each task reads with its own duplicates.
+            ByteBuffer[] bufs = new ByteBuffer[segs.size()];
+
+            for (int i = from; i < to; i++) {
+                int segIdx = segment(offs[i]);
+
+                if (bufs[segIdx] == null)
+                    bufs[segIdx] = segs.get(segIdx).duplicate().order(nativeOrder());
+
+                ByteBuffer buf = bufs[segIdx];
+
+                buf.position((int)(offs[i] - segPos.get(segIdx)));
+
+                deserialize(buf, handlers);
+            }
+        }
+
+        /**
+         * @param buf Buffer positioned at the record.
+         * @param handlers Handlers to process deserialized operations.
+         */
+        private void deserialize(ByteBuffer buf, PerformanceStatisticsHandler[] handlers) {
+            OperationType opType = OperationType.of(buf.get());
+
+            if (cacheOperation(opType)) {
+                int cacheId = buf.getInt();
+                long startTime = buf.getLong();
+                long duration = buf.getLong();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.cacheOperation(nodeId, opType, cacheId, startTime, duration);
+            }
+            else if (transactionOperation(opType)) {
+                int cacheIdsCnt = buf.getInt();
+
+                GridIntList cacheIds = new GridIntList(cacheIdsCnt);
+
+                for (int i = 0; i < cacheIdsCnt; i++)
+                    cacheIds.add(buf.getInt());
+
+                long startTime = buf.getLong();
+                long duration = buf.getLong();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.transaction(nodeId, cacheIds, startTime, duration, opType == TX_COMMIT);
+            }
+            else if (opType == QUERY) {
+                String text = readString(buf);
+                GridCacheQueryType queryType = GridCacheQueryType.fromOrdinal(buf.get());
+                long id = buf.getLong();
+                long startTime = buf.getLong();
+                long duration = buf.getLong();
+                boolean success = buf.get() != 0;
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.query(nodeId, queryType, text, id, startTime, duration, success);
+            }
+            else if (opType == QUERY_READS) {
+                GridCacheQueryType queryType = GridCacheQueryType.fromOrdinal(buf.get());
+                UUID uuid = readUuid(buf);
+                long id = buf.getLong();
+                long logicalReads = buf.getLong();
+                long physicalReads = buf.getLong();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.queryReads(nodeId, queryType, uuid, id, logicalReads, physicalReads);
+            }
+            else if (opType == TASK) {
+                String taskName = readString(buf);
+                IgniteUuid sesId = readIgniteUuid(buf);
+                long startTime = buf.getLong();
+                long duration = buf.getLong();
+                int affPartId = buf.getInt();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.task(nodeId, sesId, taskName, startTime, duration, affPartId);
+            }
+            else if (opType == JOB) {
+                IgniteUuid sesId = readIgniteUuid(buf);
+                long queuedTime = buf.getLong();
+                long startTime = buf.getLong();
+                long duration = buf.getLong();
+                boolean timedOut = buf.get() != 0;
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.job(nodeId, sesId, queuedTime, startTime, duration, timedOut);
+            }
+            else if (opType == CACHE_START) {
+                String cacheName = readString(buf);
+                int cacheId = buf.getInt();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.cacheStart(nodeId, cacheId, cacheName);
+            }
+            else if (opType == CHECKPOINT) {
+                long beforeLockDuration = buf.getLong();
+                long lockWaitDuration = buf.getLong();
+                long listenersExecDuration = buf.getLong();
+                long markDuration = buf.getLong();
+                long lockHoldDuration = buf.getLong();
+                long pagesWriteDuration = buf.getLong();
+                long fsyncDuration = buf.getLong();
+                long walCpRecordFsyncDuration = buf.getLong();
+                long writeCheckpointEntryDuration = buf.getLong();
+                long splitAndSortCpPagesDuration = buf.getLong();
+                long totalDuration = buf.getLong();
+                long cpStartTime = buf.getLong();
+                int pagesSize = buf.getInt();
+                int dataPagesWritten = buf.getInt();
+                int cowPagesWritten = buf.getInt();
+
+                for (PerformanceStatisticsHandler handler : handlers) {
+                    handler.checkpoint(nodeId,
+                        beforeLockDuration,
+                        lockWaitDuration,
+                        listenersExecDuration,
+                        markDuration,
+                        lockHoldDuration,
+                        pagesWriteDuration,
+                        fsyncDuration,
+                        walCpRecordFsyncDuration,
+                        writeCheckpointEntryDuration,
+                        splitAndSortCpPagesDuration,
+                        totalDuration,
+                        cpStartTime,
+                        pagesSize,
+                        dataPagesWritten,
+                        cowPagesWritten);
+                }
+            }
+            else {
+                assert opType == PAGES_WRITE_THROTTLE : opType;
+
+                long endTime = buf.getLong();
+                long duration = buf.getLong();
+
+                for (PerformanceStatisticsHandler handler : handlers)
+                    handler.pagesWriteThrottle(nodeId, endTime, duration);
+            }
+        }
+
+        /** Reads string from buffer. The cached strings are resolved by the index. */
+        @Nullable private String readString(ByteBuffer buf) {
+            boolean cached = buf.get() != 0;
+
+            if (cached)
+                return strs.get(buf.getInt());
+
+            byte[] bytes = new byte[buf.getInt()];
+
+            buf.get(bytes);
+
+            return new String(bytes);
+        }
+
+        /** Unmaps the segments. */
+        private void close() {
+            for (ByteBuffer seg : segs)
+                GridUnsafe.cleanDirectBuffer(seg);
+
+            segs.clear();
+            segPos.clear();
+        }
+    }
+
+    /** Column of the records of the same operation type. */
+    private static class Column {
+        /** Absolute positions of the records. */
+        private final GridLongList offs = new GridLongList();
+
+        /** Start times of the records or {@code null} if the records have no start time. */
+        @Nullable private final GridLongList times;
+
+        /** Cache identifiers of the records or {@code null} if the records have no cache identifier. */
+        @Nullable private final GridIntList cacheIds;
+
+        /** Minimal start times of the blocks. */
+        private long[] blockMin;
+
+        /** Maximal start times of the blocks. */
+        private long[] blockMax;
+
+        /**
+         * @param timed {@code True} if the records have start time.
+         * @param cached {@code True} if the records have cache identifier.
+         */
+        private Column(boolean timed, boolean cached) {
+            times = timed ? new GridLongList() : null;
+            cacheIds = cached ? new GridIntList() : null;
+        }
+
+        /**
+         * @param off Absolute position of the record.
+         * @param time Start time of the record.
+         * @param cacheId Cache identifier of the record.
+         */
+        private void add(long off, long time, int cacheId) {
+            offs.add(off);
+
+            if (times != null)
+                times.add(time);
+
+            if (cacheIds != null)
+                cacheIds.add(cacheId);
+        }
+
+        /** Builds the time index of the blocks. */
+        private void buildBlocks() {
+            if (times == null)
+                return;
+
+            int blocks = (times.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+            blockMin = new long[blocks];
+            blockMax = new long[blocks];
+
+            for (int blockIdx = 0; blockIdx < blocks; blockIdx++) {
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+
+                for (int i = blockIdx * BLOCK_SIZE; i < Math.min(times.size(), (blockIdx + 1) * BLOCK_SIZE); i++) {
+                    min = Math.min(min, times.get(i));
+                    max = Math.max(max, times.get(i));
+                }
+
+                blockMin[blockIdx] = min;
+                blockMax[blockIdx] = max;
+            }
+        }
+    }
+
+    /** Task that reads the files. */
+    private class FilesTask<H extends PerformanceStatisticsHandler> extends RecursiveTask<H> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Filter. */
+        private final Filter filter;
+
+        /** Handler factory. */
+        private final Supplier<H> hndFactory;
+
+        /** Handler reducer. */
+        private final BinaryOperator<H> reducer;
+
+        /**
+         * @param filter Filter.
+         * @param hndFactory Handler factory.
+         * @param reducer Handler reducer.
+         */
+        private FilesTask(Filter filter, Supplier<H> hndFactory, BinaryOperator<H> reducer) {
+            this.filter = filter;
+            this.hndFactory = hndFactory;
+            this.reducer = reducer;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected H compute() {
+            List<RecursiveTask<H>> tasks = new ArrayList<>(files.size());
+
+            for (FileIndex idx : files) {
+                RecursiveTask<H> task = new RecursiveTask<H>() {
+                    @Override protected H compute() {
+                        long[] offs = idx.select(filter);
+
+                        return new SliceTask<>(idx, offs, 0, offs.length, hndFactory, reducer).compute();
+                    }
+                };
+
+                tasks.add(task);
+            }
+
+            if (tasks.isEmpty())
+                return hndFactory.get();
+
+            invokeAll(tasks);
+
+            H res = tasks.get(0).join();
+
+            for (int i = 1; i < tasks.size(); i++)
+                res = reducer.apply(res, tasks.get(i).join());
+
+            return res;
+        }
+    }
+
+    /** Task that reads the slice of records of the file. */
+    private class SliceTask<H extends PerformanceStatisticsHandler> extends RecursiveTask<H> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** File index. */
+        private final FileIndex idx;
+
+        /** Sorted absolute positions of the records. */
+        private final long[] offs;
+
+        /** Index of the first record of the slice, inclusive. */
+        private final int from;
+
+        /** Index of the last record of the slice, exclusive. */
+        private final int to;
+
+        /** Handler factory. */
+        private final Supplier<H> hndFactory;
+
+        /** Handler reducer. */
+        private final BinaryOperator<H> reducer;
+
+        /**
+         * @param idx File index.
+         * @param offs Sorted absolute positions of the records.
+         * @param from Index of the first record of the slice, inclusive.
+         * @param to Index of the last record of the slice, exclusive.
+         * @param hndFactory Handler factory.
+         * @param reducer Handler reducer.
+         */
+        private SliceTask(FileIndex idx, long[] offs, int from, int to, Supplier<H> hndFactory,
+            BinaryOperator<H> reducer) {
+            this.idx = idx;
+            this.offs = offs;
+            this.from = from;
+            this.to = to;
+            this.hndFactory = hndFactory;
+            this.reducer = reducer;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected H compute() {
+            if (to - from <= sliceSize) {
+                H hnd = hndFactory.get();
+
+                idx.read(offs, from, to, hnd);
+
+                return hnd;
+            }
+
+            int mid = (from + to) >>> 1;
+
+            SliceTask<H> left = new SliceTask<>(idx, offs, from, mid, hndFactory, reducer);
+
+            left.fork();
+
+            H right = new SliceTask<>(idx, offs, mid, to, hndFactory, reducer).compute();
+
+            return reducer.apply(left.join(), right);
+        }
+    }
+}
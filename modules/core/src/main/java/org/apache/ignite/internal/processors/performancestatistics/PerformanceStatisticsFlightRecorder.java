@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.performancestatistics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteUuid;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD;
+import static org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter.resolveStatisticsFile;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_START;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.cacheStartRecordSize;
+
+/**
+ * Performance statistics flight recorder.
+ * <p>
+ * Unlike {@link FilePerformanceStatisticsWriter}, records only a sample of operations: an operation is recorded
+ * with the probability of the sampling rate or if it lasts at least the slow operation threshold. The records are
+ * kept in a rolling in-memory window of several heap buffers. When all the buffers are filled, the oldest one is
+ * reused, so the window contains the latest records.
+ * <p>
+ * The window is dumped to a file on demand or on a critical failure. The dump has the same format and location as
+ * the files of {@link FilePerformanceStatisticsWriter}, so it can be read by {@link FilePerformanceStatisticsReader}
+ * and the performance statistics report tool. The dump starts with the records of the caches known to the node,
+ * the strings are never cached since the record of their first occurrence may be evicted from the window.
+ */
+public class PerformanceStatisticsFlightRecorder extends AbstractPerformanceStatisticsWriter {
+    /** Default size of the window in bytes. */
+    public static final int DFLT_FLIGHT_RECORDER_BUFFER_SIZE = (int)(8 * U.MB);
+
+    /** Default sampling rate. */
+    public static final double DFLT_FLIGHT_RECORDER_SAMPLING_RATE = 0.01;
+
+    /** Default slow operation threshold in milliseconds. */
+    public static final long DFLT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD = 100;
+
+    /** Count of the buffers of the window. */
+    private static final int BUFFERS_CNT = 8;
+
+    /** Minimal interval between the dumps on failures in milliseconds. */
+    private static final long FAILURE_DUMP_INTERVAL = 60_000;
+
+    /** Kernal context. */
+    private final GridKernalContext ctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Factory to provide I/O interface. */
+    private final FileIOFactory fileIoFactory = new RandomAccessFileIOFactory();
+
+    /** Sampling rate. */
+    private final double samplingRate;
+
+    /** Slow operation threshold in milliseconds. Negative if disabled. */
+    private final long slowOpThreshold;
+
+    /** Slow operation threshold in nanoseconds. Negative if disabled. */
+    private final long slowOpThresholdNanos;
+
+    /** Size of a buffer of the window. */
+    private final int bufSize;
+
+    /** Buffers of the window from the oldest to the current one. Guarded by {@code this}. */
+    private final ArrayDeque<ByteBuffer> bufs = new ArrayDeque<>(BUFFERS_CNT);
+
+    /** Time of the last dump on a failure. */
+    private long lastFailureDumpTime;
+
+    /** @param ctx Kernal context. */
+    public PerformanceStatisticsFlightRecorder(GridKernalContext ctx) {
+        this.ctx = ctx;
+
+        log = ctx.log(getClass());
+
+        samplingRate = IgniteSystemProperties.getDouble(IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE,
+            DFLT_FLIGHT_RECORDER_SAMPLING_RATE);
+
+        slowOpThreshold = IgniteSystemProperties.getLong(IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD,
+            DFLT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD);
+
+        slowOpThresholdNanos = slowOpThreshold < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(slowOpThreshold);
+
+        int size = IgniteSystemProperties.getInteger(IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE,
+            DFLT_FLIGHT_RECORDER_BUFFER_SIZE);
+
+        A.ensure(samplingRate >= 0 && samplingRate <= 1, "Flight recorder sampling rate must be between 0 and 1.");
+        A.ensure(size >= BUFFERS_CNT, "Flight recorder buffer size must be at least " + BUFFERS_CNT + '.');
+
+        bufSize = size / BUFFERS_CNT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void cacheStart(int cacheId, String name) {
+        // No-op. Records of the caches are written on dump.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void cacheOperation(OperationType type, int cacheId, long startTime, long duration) {
+        if (sampleNanos(duration))
+            super.cacheOperation(type, cacheId, startTime, duration);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void transaction(GridIntList cacheIds, long startTime, long duration, boolean commited) {
+        if (sampleNanos(duration))
+            super.transaction(cacheIds, startTime, duration, commited);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void query(GridCacheQueryType type, String text, long id, long startTime, long duration,
+        boolean success) {
+        if (sampleNanos(duration))
+            super.query(type, text, id, startTime, duration, success);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void queryReads(GridCacheQueryType type, UUID queryNodeId, long id, long logicalReads,
+        long physicalReads) {
+        // No-op. Reads can't be related to the sampled queries without tracking them.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void task(IgniteUuid sesId, String taskName, long startTime, long duration, int affPartId) {
+        if (sampleMillis(duration))
+            super.task(sesId, taskName, startTime, duration, affPartId);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void job(IgniteUuid sesId, long queuedTime, long startTime, long duration, boolean timedOut) {
+        if (sampleMillis(duration))
+            super.job(sesId, queuedTime, startTime, duration, timedOut);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void checkpoint(
+        long beforeLockDuration,
+        long lockWaitDuration,
+        long listenersExecDuration,
+        long markDuration,
+        long lockHoldDuration,
+        long pagesWriteDuration,
+        long fsyncDuration,
+        long walCpRecordFsyncDuration,
+        long writeCpEntryDuration,
+        long splitAndSortCpPagesDuration,
+        long totalDuration,
+        long cpStartTime,
+        int pagesSize,
+        int dataPagesWritten,
+        int cowPagesWritten
+    ) {
+        // Checkpoints are rare, so all of them are recorded.
+        super.checkpoint(beforeLockDuration,
+            lockWaitDuration,
+            listenersExecDuration,
+            markDuration,
+            lockHoldDuration,
+            pagesWriteDuration,
+            fsyncDuration,
+            walCpRecordFsyncDuration,
+            writeCpEntryDuration,
+            splitAndSortCpPagesDuration,
+            totalDuration,
+            cpStartTime,
+            pagesSize,
+            dataPagesWritten,
+            cowPagesWritten);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void pagesWriteThrottle(long endTime, long duration) {
+        if (sampleMillis(duration))
+            super.pagesWriteThrottle(endTime, duration);
+    }
+
+    /**
+     * Dumps the window to a file.
+     *
+     * @return Dump file.
+     * @throws IgniteCheckedException If failed.
+     */
+    public File dump() throws IgniteCheckedException {
+        byte[] window;
+
+        synchronized (this) {
+            int len = 0;
+
+            for (ByteBuffer buf : bufs)
+                len += buf.position();
+
+            window = new byte[len];
+
+            int off = 0;
+
+            for (ByteBuffer buf : bufs) {
+                System.arraycopy(buf.array(), 0, window, off, buf.position());
+
+                off += buf.position();
+            }
+        }
+
+        File file = resolveStatisticsFile(ctx);
+
+        try (FileIO io = fileIoFactory.create(file)) {
+            io.writeFully(cacheStartRecords());
+            io.writeFully(ByteBuffer.wrap(window));
+
+            io.force();
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to dump the performance statistics flight recorder [file=" +
+                file.getAbsolutePath() + ']', e);
+        }
+
+        if (log.isInfoEnabled())
+            log.info("Performance statistics flight recorder dumped [file=" + file.getAbsolutePath() + ']');
+
+        return file;
+    }
+
+    /**
+     * Dumps the window on a failure unless it was dumped on a failure less than a minute ago.
+     *
+     * @param failureCtx Failure context.
+     */
+    public void onFailure(FailureContext failureCtx) {
+        long now = U.currentTimeMillis();
+
+        synchronized (this) {
+            if (now - lastFailureDumpTime < FAILURE_DUMP_INTERVAL)
+                return;
+
+            lastFailureDumpTime = now;
+        }
+
+        try {
+            File file = dump();
+
+            log.warning("Performance statistics flight recorder dumped on failure [type=" + failureCtx.type() +
+                ", file=" + file.getAbsolutePath() + ']');
+        }
+        catch (Throwable e) {
+            log.error("Failed to dump the performance statistics flight recorder on failure.", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected synchronized void doWrite(OperationType op, int recSize, Consumer<ByteBuffer> writer) {
+        int size = recSize + /*type*/ 1;
+
+        // Record can't be placed to the window.
+        if (size > bufSize)
+            return;
+
+        ByteBuffer buf = bufs.peekLast();
+
+        if (buf == null || buf.remaining() < size) {
+            if (bufs.size() < BUFFERS_CNT)
+                buf = ByteBuffer.allocate(bufSize).order(nativeOrder());
+            else {
+                buf = bufs.pollFirst();
+
+                buf.clear();
+            }
+
+            bufs.addLast(buf);
+        }
+
+        buf.put(op.id());
+
+        writer.accept(buf);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean cacheIfPossible(String str) {
+        return false;
+    }
+
+    /**
+     * @param duration Duration in nanoseconds.
+     * @return {@code True} if the operation should be recorded.
+     */
+    private boolean sampleNanos(long duration) {
+        return (slowOpThresholdNanos >= 0 && duration >= slowOpThresholdNanos) || sample();
+    }
+
+    /**
+     * @param duration Duration in milliseconds.
+     * @return {@code True} if the operation should be recorded.
+     */
+    private boolean sampleMillis(long duration) {
+        return (slowOpThreshold >= 0 && duration >= slowOpThreshold) || sample();
+    }
+
+    /** @return {@code True} if an operation is sampled. */
+    private boolean sample() {
+        return samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    /** @return Buffer with the records of the caches known to the node. */
+    private ByteBuffer cacheStartRecords() {
+        List<DynamicCacheDescriptor> descs = new ArrayList<>(ctx.cache().cacheDescriptors().values());
+
+        int size = 0;
+
+        for (DynamicCacheDescriptor desc : descs)
+            size += 1 + cacheStartRecordSize(desc.cacheName().getBytes().length, false);
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(nativeOrder());
+
+        for (DynamicCacheDescriptor desc : descs) {
+            buf.put(CACHE_START.id());
+
+            writeString(buf, desc.cacheName(), false);
+
+            buf.putInt(desc.cacheId());
+        }
+
+        buf.flip();
+
+        return buf;
+    }
+}
@@ -50,6 +50,11 @@ public class PerformanceStatisticsMBeanImpl implements PerformanceStatisticsMBea
 
     /** {@inheritDoc} */
     @Override public boolean started() {
-        return ctx.performanceStatistics().enabled();
+        return ctx.performanceStatistics().started();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String dumpFlightRecorder() throws IgniteCheckedException {
+        return ctx.performanceStatistics().dumpFlightRecorder().getAbsolutePath();
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.performancestatistics;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.EventListener;
@@ -24,6 +25,8 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteFeatures;
 import org.apache.ignite.internal.NodeStoppingException;
@@ -41,6 +44,7 @@ import org.apache.ignite.lang.IgniteFuture;
 import org.apache.ignite.lang.IgniteUuid;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED;
 import static org.apache.ignite.internal.IgniteFeatures.allNodesSupports;
 import static org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage.IGNITE_INTERNAL_KEY_PREFIX;
 import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.PERFORMANCE_STATISTICS_ROTATE;
@@ -51,6 +55,7 @@ import static org.apache.ignite.internal.util.distributed.DistributedProcess.Dis
  * Manages collecting performance statistics.
  *
  * @see FilePerformanceStatisticsWriter
+ * @see PerformanceStatisticsFlightRecorder
  * @see FilePerformanceStatisticsReader
  */
 public class PerformanceStatisticsProcessor extends GridProcessorAdapter {
@@ -60,6 +65,9 @@ public class PerformanceStatisticsProcessor extends GridProcessorAdapter {
     /** Performance statistics writer. {@code Null} if collecting statistics disabled. */
     @Nullable private volatile FilePerformanceStatisticsWriter writer;
 
+    /** Performance statistics flight recorder. {@code Null} if the flight recorder disabled. */
+    @Nullable private volatile PerformanceStatisticsFlightRecorder flightRecorder;
+
     /** Metastorage with the write access. */
     @Nullable private volatile DistributedMetaStorage metastorage;
 
@@ -86,6 +94,13 @@ public class PerformanceStatisticsProcessor extends GridProcessorAdapter {
     @Override public void start() throws IgniteCheckedException {
         super.start();
 
+        if (IgniteSystemProperties.getBoolean(IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED)) {
+            flightRecorder = new PerformanceStatisticsFlightRecorder(ctx);
+
+            if (log.isInfoEnabled())
+                log.info("Performance statistics flight recorder started.");
+        }
+
         ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(
             new DistributedMetastorageLifecycleListener() {
                 @Override public void onReadyForRead(ReadableDistributedMetaStorage metastorage) {
@@ -300,26 +315,64 @@ public class PerformanceStatisticsProcessor extends GridProcessorAdapter {
         if (ctx.isStopping())
             throw new NodeStoppingException("Operation has been cancelled (node is stopping)");
 
-        if (!enabled())
+        if (!started())
             throw new IgniteCheckedException("Performance statistics collection not started.");
 
         rotateProc.start(UUID.randomUUID(), null);
     }
 
-    /** @return {@code True} if collecting performance statistics is enabled. */
+    /**
+     * Dumps the flight recorder of the local node to a file.
+     *
+     * @return Dump file.
+     * @throws IgniteCheckedException If the flight recorder is disabled or dump failed.
+     * @see PerformanceStatisticsFlightRecorder
+     */
+    public File dumpFlightRecorder() throws IgniteCheckedException {
+        PerformanceStatisticsFlightRecorder flightRecorder = this.flightRecorder;
+
+        if (flightRecorder == null) {
+            throw new IgniteCheckedException("Performance statistics flight recorder is disabled. Set the " +
+                IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED + " system property to enable it.");
+        }
+
+        return flightRecorder.dump();
+    }
+
+    /**
+     * Dumps the flight recorder on a critical failure.
+     *
+     * @param failureCtx Failure context.
+     */
+    public void onFailure(FailureContext failureCtx) {
+        PerformanceStatisticsFlightRecorder flightRecorder = this.flightRecorder;
+
+        if (flightRecorder != null)
+            flightRecorder.onFailure(failureCtx);
+    }
+
+    /**
+     * @return {@code True} if operations are recorded, that is, collecting performance statistics is started or
+     * the flight recorder is enabled.
+     */
     public boolean enabled() {
+        return writer != null || flightRecorder != null;
+    }
+
+    /** @return {@code True} if collecting performance statistics is started. */
+    public boolean started() {
         return writer != null;
     }
 
     /** {@inheritDoc} */
     @Override public void onKernalStop(boolean cancel) {
-        if (enabled())
+        if (started())
             stopWriter();
     }
 
     /** {@inheritDoc} */
     @Override public void onDisconnected(IgniteFuture<?> reconnectFut) {
-        if (enabled())
+        if (started())
             stopWriter();
     }
 
@@ -393,12 +446,17 @@ public class PerformanceStatisticsProcessor extends GridProcessorAdapter {
             log.info("Performance statistics writer rotated[writtenFile=" + oldWriter.file() + "].");
     }
 
-    /** Writes statistics through passed writer. */
-    private void write(Consumer<FilePerformanceStatisticsWriter> c) {
+    /** Writes statistics through the started writer and the flight recorder. */
+    private void write(Consumer<AbstractPerformanceStatisticsWriter> c) {
         FilePerformanceStatisticsWriter writer = this.writer;
 
         if (writer != null)
             c.accept(writer);
+
+        PerformanceStatisticsFlightRecorder flightRecorder = this.flightRecorder;
+
+        if (flightRecorder != null)
+            c.accept(flightRecorder);
     }
 
     /** Performance statistics state listener. */
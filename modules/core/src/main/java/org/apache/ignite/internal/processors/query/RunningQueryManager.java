@@ -49,6 +49,7 @@ import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
 import org.apache.ignite.internal.processors.closure.GridClosureProcessor;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.messages.GridQueryKillRequest;
 import org.apache.ignite.internal.processors.query.messages.GridQueryKillResponse;
@@ -67,6 +68,7 @@ import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SQL;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SQL_FIELDS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.MAX_OP_LATENCY;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 import static org.apache.ignite.internal.processors.security.SecurityUtils.securitySubjectId;
 import static org.apache.ignite.internal.processors.tracing.SpanTags.ERROR;
@@ -124,6 +126,9 @@ public class RunningQueryManager {
      */
     private final AtomicLongMetric canceledQrsCnt;
 
+    /** Latency of queries, {@code null} if latency histograms are disabled. */
+    @Nullable private final LogLinearHistogramMetric qryLatency;
+
     /** Kernal context. */
     private final GridKernalContext ctx;
 
@@ -198,6 +203,9 @@ public class RunningQueryManager {
 
         canceledQrsCnt = userMetrics.longMetric("canceled", "Number of canceled queries that have been started " +
             "on this node. This metric number included in the general 'failed' metric.");
+
+        qryLatency = ctx.metric().latencyHistogramsEnabled() ? userMetrics.logLinearHistogram("latency",
+            MAX_OP_LATENCY, "Latency of user queries that have been started on this node, in nanoseconds.") : null;
     }
 
     /** */
@@ -399,6 +407,9 @@ public class RunningQueryManager {
                     if (QueryUtils.wasCancelled(failReason))
                         canceledQrsCnt.increment();
                 }
+
+                if (qryLatency != null && qry.startTimeNanos() > 0)
+                    qryLatency.value(System.nanoTime() - qry.startTimeNanos());
             }
 
             if (ctx.performanceStatistics().enabled() && qry.startTimeNanos() > 0) {
@@ -29,12 +29,13 @@ import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
 import org.apache.ignite.plugin.extensions.communication.MessageReader;
 import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+import org.apache.ignite.spi.communication.tcp.internal.TcpBulkMessage;
 
 /**
  * Next page response.
  */
 @IgniteCodeGeneratingFail
-public class GridQueryNextPageResponse implements Message {
+public class GridQueryNextPageResponse implements Message, TcpBulkMessage {
     /** */
     private static final long serialVersionUID = 0L;
 
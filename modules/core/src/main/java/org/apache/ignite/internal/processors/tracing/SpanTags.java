@@ -114,6 +114,18 @@ public class SpanTags {
     /** Query identifier. */
     public static final String SQL_QRY_ID = "sql.query.id";
 
+    /** Identifier of the trace exported by the tail-based sampling. */
+    public static final String TAIL_SAMPLED_TRACE_ID = "tail.sampled.trace.id";
+
+    /** Start time in milliseconds of the span exported by the tail-based sampling. */
+    public static final String TAIL_SAMPLED_START_TIME = "tail.sampled.start.time";
+
+    /** Duration in nanoseconds of the span exported by the tail-based sampling. */
+    public static final String TAIL_SAMPLED_DURATION = "tail.sampled.duration";
+
+    /** Number of spans of the trace that were not traced due to the tail-based sampling buffer limit. */
+    public static final String TAIL_SAMPLED_DROPPED_SPANS = "tail.sampled.dropped.spans";
+
     /** */
     private SpanTags() {}
 
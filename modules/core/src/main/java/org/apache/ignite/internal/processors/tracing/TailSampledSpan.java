@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.tracing.Scope;
+import org.apache.ignite.spi.tracing.SpanStatus;
+import org.apache.ignite.spi.tracing.SpiSpecificSpan;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.tracing.SpanTags.ERROR;
+
+/**
+ * Span of a trace that is subject to the tail-based sampling. Tags, logs and status of the span are buffered until
+ * the sampling decision is made by the {@link TailSampledTrace}.
+ */
+public class TailSampledSpan implements Span {
+    /** Trace. */
+    @GridToStringExclude
+    private final TailSampledTrace trace;
+
+    /** Parent span, {@code null} for the local root span. */
+    @GridToStringExclude
+    private final @Nullable TailSampledSpan parent;
+
+    /** Span type. */
+    private final SpanType spanType;
+
+    /** Set of extra included scopes for given span in addition to span's scope that is supported by default. */
+    private final Set<Scope> includedScopes;
+
+    /** Start time in milliseconds. */
+    private final long startTime = U.currentTimeMillis();
+
+    /** Start time in nanoseconds. */
+    private final long startNanos = System.nanoTime();
+
+    /** End time in nanoseconds. */
+    private long endNanos;
+
+    /** Buffered tags. */
+    @GridToStringExclude
+    private List<T2<String, String>> tags;
+
+    /** Buffered logs. */
+    @GridToStringExclude
+    private List<String> logs;
+
+    /** Status. */
+    private SpanStatus status;
+
+    /** Ended flag. */
+    private volatile boolean ended;
+
+    /** Spi specific span, {@code null} if the span is not exported. */
+    @GridToStringExclude
+    private SpiSpecificSpan spiSpecificSpan;
+
+    /**
+     * @param trace Trace.
+     * @param parent Parent span, {@code null} for the local root span.
+     * @param spanType Span type.
+     * @param includedScopes Set of included scopes.
+     */
+    TailSampledSpan(
+        TailSampledTrace trace,
+        @Nullable TailSampledSpan parent,
+        SpanType spanType,
+        Set<Scope> includedScopes
+    ) {
+        this.trace = trace;
+        this.parent = parent;
+        this.spanType = spanType;
+        this.includedScopes = includedScopes;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Span addTag(String tagName, Supplier<String> tagValSupplier) {
+        String tagVal = tagValSupplier.get();
+
+        synchronized (trace) {
+            if (ERROR.equals(tagName))
+                trace.onFailure();
+
+            if (spiSpecificSpan != null)
+                spiSpecificSpan.addTag(tagName, tagVal);
+            else {
+                if (tags == null)
+                    tags = new ArrayList<>();
+
+                tags.add(new T2<>(tagName, tagVal));
+            }
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Span addLog(Supplier<String> logDescSupplier) {
+        String logDesc = logDescSupplier.get();
+
+        synchronized (trace) {
+            if (spiSpecificSpan != null)
+                spiSpecificSpan.addLog(logDesc);
+            else {
+                if (logs == null)
+                    logs = new ArrayList<>();
+
+                logs.add(logDesc);
+            }
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Span setStatus(SpanStatus spanStatus) {
+        synchronized (trace) {
+            if (spanStatus != SpanStatus.OK)
+                trace.onFailure();
+
+            if (spiSpecificSpan != null)
+                spiSpecificSpan.setStatus(spanStatus);
+            else
+                status = spanStatus;
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Span end() {
+        synchronized (trace) {
+            if (ended)
+                return this;
+
+            endNanos = System.nanoTime();
+
+            ended = true;
+
+            trace.onEnd(this);
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isEnded() {
+        return ended;
+    }
+
+    /** {@inheritDoc} */
+    @Override public SpanType type() {
+        return spanType;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Set<Scope> includedScopes() {
+        return includedScopes;
+    }
+
+    /** @return Trace. */
+    public TailSampledTrace trace() {
+        return trace;
+    }
+
+    /** @return Parent span, {@code null} for the local root span. */
+    @Nullable TailSampledSpan parent() {
+        return parent;
+    }
+
+    /** @return Start time in milliseconds. */
+    long startTime() {
+        return startTime;
+    }
+
+    /** @return Duration of the ended span in nanoseconds. */
+    long duration() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * @return Spi specific span or {@code null} if the span is not exported.
+     */
+    public @Nullable SpiSpecificSpan spiSpecificSpan() {
+        synchronized (trace) {
+            return spiSpecificSpan;
+        }
+    }
+
+    /**
+     * Exports the buffered data to the spi specific span.
+     *
+     * @param spiSpecificSpan Spi specific span.
+     */
+    void export(SpiSpecificSpan spiSpecificSpan) {
+        assert Thread.holdsLock(trace);
+
+        this.spiSpecificSpan = spiSpecificSpan;
+
+        if (tags != null) {
+            for (T2<String, String> tag : tags)
+                spiSpecificSpan.addTag(tag.get1(), tag.get2());
+        }
+
+        if (logs != null) {
+            for (String log : logs)
+                spiSpecificSpan.addLog(log);
+        }
+
+        if (status != null)
+            spiSpecificSpan.setStatus(status);
+
+        tags = null;
+        logs = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(TailSampledSpan.class, this);
+    }
+}
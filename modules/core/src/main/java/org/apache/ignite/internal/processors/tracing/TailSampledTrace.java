@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.spi.tracing.Scope;
+import org.apache.ignite.spi.tracing.SpiSpecificSpan;
+import org.apache.ignite.spi.tracing.TracingConfigurationParameters;
+import org.apache.ignite.spi.tracing.TracingSpi;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_DROPPED_SPANS;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_DURATION;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_START_TIME;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_TRACE_ID;
+
+/**
+ * Local part of a trace that is subject to the tail-based sampling.
+ * <p>
+ * A trace that wasn't sampled by the sampling rate of its scope is still traced if the latency threshold is configured
+ * (see {@link TracingConfigurationParameters#latencyThreshold()}). Spans of such trace are buffered in memory instead
+ * of being created by the tracing SPI. When all the buffered spans end, the sampling decision is made: the spans are
+ * exported to the tracing SPI if any of them lasted longer than the threshold or failed, otherwise they are discarded.
+ * Spans created after the decision are exported or discarded right away.
+ * <p>
+ * The trace context is propagated to other nodes with the threshold and the trace ID, so remote parts of the trace
+ * are sampled by the same rule on their nodes. The trace ID is exported as the {@link SpanTags#TAIL_SAMPLED_TRACE_ID}
+ * tag of the local root spans to correlate the parts of the trace.
+ * <p>
+ * The number of buffered spans is limited by {@link IgniteSystemProperties#IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS},
+ * spans above the limit are not traced.
+ * <p>
+ * Limitation: {@link TracingSpi} has no way to pass explicit timestamps, so the SPI spans are created and ended when
+ * the trace is exported. In a tracing system the exported spans start at the export time and have near-zero
+ * durations. The real start time and duration of a span are available only in its
+ * {@link SpanTags#TAIL_SAMPLED_START_TIME} and {@link SpanTags#TAIL_SAMPLED_DURATION} tags.
+ * <p>
+ * Spans are buffered only if all nodes support the tail-based sampling, since the trace context of a not exported span
+ * can't be parsed by other nodes.
+ */
+public class TailSampledTrace {
+    /** @see IgniteSystemProperties#IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS */
+    public static final int DFLT_TAIL_SAMPLING_MAX_SPANS = 256;
+
+    /** Maximum number of buffered spans. */
+    private static final int MAX_SPANS =
+        IgniteSystemProperties.getInteger(IGNITE_TRACING_TAIL_SAMPLING_MAX_SPANS, DFLT_TAIL_SAMPLING_MAX_SPANS);
+
+    /** Tracing SPI. */
+    @GridToStringExclude
+    private final TracingSpi<SpiSpecificSpan> spi;
+
+    /** Trace ID. */
+    private final UUID id;
+
+    /** Latency threshold in milliseconds. */
+    private final long threshold;
+
+    /** Buffered spans in the order of creation, {@code null} after the sampling decision. */
+    @GridToStringExclude
+    private List<TailSampledSpan> spans = new ArrayList<>();
+
+    /** Number of spans that were not traced due to the limit. */
+    private int dropped;
+
+    /** Number of buffered spans that are not ended. */
+    private int active;
+
+    /** Whether any of the spans failed or lasted longer than the threshold. */
+    private boolean sample;
+
+    /** Sampling decision, {@code null} if not made yet. */
+    private Boolean sampled;
+
+    /**
+     * @param spi Tracing SPI.
+     * @param id Trace ID.
+     * @param threshold Latency threshold in milliseconds.
+     */
+    public TailSampledTrace(TracingSpi<SpiSpecificSpan> spi, UUID id, long threshold) {
+        this.spi = spi;
+        this.id = id;
+        this.threshold = threshold;
+    }
+
+    /** @return Trace ID. */
+    public UUID id() {
+        return id;
+    }
+
+    /** @return Latency threshold in milliseconds. */
+    public long threshold() {
+        return threshold;
+    }
+
+    /**
+     * Creates a span of the trace.
+     *
+     * @param parent Parent span or {@code null} for the local root span.
+     * @param spanType Span type.
+     * @param includedScopes Included scopes.
+     * @return Created span or {@code null} if the span won't be traced.
+     */
+    public synchronized @Nullable TailSampledSpan createSpan(
+        @Nullable TailSampledSpan parent,
+        SpanType spanType,
+        Set<Scope> includedScopes
+    ) {
+        if (sampled == Boolean.FALSE)
+            return null;
+
+        if (sampled == null && spans.size() >= MAX_SPANS) {
+            dropped++;
+
+            return null;
+        }
+
+        TailSampledSpan span = new TailSampledSpan(this, parent, spanType, includedScopes);
+
+        if (sampled == null) {
+            spans.add(span);
+
+            active++;
+        }
+        else
+            export(span);
+
+        return span;
+    }
+
+    /**
+     * Marks the trace as failed.
+     */
+    synchronized void onFailure() {
+        sample = true;
+    }
+
+    /**
+     * Handles the end of the span.
+     *
+     * @param span Span.
+     */
+    synchronized void onEnd(TailSampledSpan span) {
+        if (sampled == null) {
+            if (span.duration() >= threshold * 1_000_000L)
+                sample = true;
+
+            if (--active > 0)
+                return;
+
+            sampled = sample;
+
+            if (sampled) {
+                for (TailSampledSpan s : spans)
+                    export(s);
+
+                if (dropped > 0)
+                    spans.get(0).spiSpecificSpan().addTag(TAIL_SAMPLED_DROPPED_SPANS, String.valueOf(dropped));
+            }
+
+            spans = null;
+        }
+        else if (sampled)
+            exportEnd(span);
+    }
+
+    /**
+     * Creates the tracing SPI span for the buffered span.
+     *
+     * @param span Span.
+     */
+    private void export(TailSampledSpan span) {
+        SpiSpecificSpan parent = span.parent() == null ? null : span.parent().spiSpecificSpan();
+
+        SpiSpecificSpan spiSpan = spi.create(span.type().spanName(), parent);
+
+        if (span.parent() == null)
+            spiSpan.addTag(TAIL_SAMPLED_TRACE_ID, id.toString());
+
+        spiSpan.addTag(TAIL_SAMPLED_START_TIME, String.valueOf(span.startTime()));
+
+        span.export(spiSpan);
+
+        if (span.isEnded())
+            exportEnd(span);
+    }
+
+    /**
+     * Ends the tracing SPI span of the exported span.
+     *
+     * @param span Span.
+     */
+    private void exportEnd(TailSampledSpan span) {
+        SpiSpecificSpan spiSpan = span.spiSpecificSpan();
+
+        spiSpan.addTag(TAIL_SAMPLED_DURATION, String.valueOf(span.duration()));
+
+        spiSpan.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(TailSampledTrace.class, this, "spans", spans == null ? 0 : spans.size());
+    }
+}
@@ -43,6 +43,9 @@ import java.io.StringWriter;
 import java.io.UTFDataFormatException;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.management.CompilationMXBean;
 import java.lang.management.LockInfo;
 import java.lang.management.ManagementFactory;
@@ -649,6 +652,9 @@ public abstract class IgniteUtils {
      */
     private static final Field urlClsLdrField = urlClassLoaderField();
 
+    /** JDK9: Thread#onSpinWait, {@code null} on Java 8. */
+    private static final MethodHandle onSpinWaitMtd = onSpinWaitMethod();
+
     /** Dev only logging disabled. */
     private static final boolean devOnlyLogDisabled =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_DEV_ONLY_LOGGING_DISABLED);
@@ -8305,6 +8311,33 @@ public abstract class IgniteUtils {
         }
     }
 
+    /**
+     * @return {@code Thread.onSpinWait()} method handle or {@code null} if the method is not available.
+     */
+    @Nullable private static MethodHandle onSpinWaitMethod() {
+        try {
+            return MethodHandles.lookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hints the processor that the caller is busy-waiting. Calls {@code Thread.onSpinWait()} on Java 9 and later
+     * and does nothing on Java 8.
+     */
+    public static void onSpinWait() {
+        if (onSpinWaitMtd != null) {
+            try {
+                onSpinWaitMtd.invokeExact();
+            }
+            catch (Throwable ignore) {
+                // No-op.
+            }
+        }
+    }
+
     /**
      * Sleeps for given number of milliseconds.
      *
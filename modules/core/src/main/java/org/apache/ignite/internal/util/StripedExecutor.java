@@ -52,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static java.util.stream.IntStream.range;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 import static org.apache.ignite.internal.processors.pool.PoolProcessor.IS_SHUTDOWN_DESC;
 import static org.apache.ignite.internal.processors.pool.PoolProcessor.IS_TERMINATED_DESC;
@@ -724,6 +725,9 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         /** */
         private volatile boolean parked;
 
+        /** Time in nanoseconds to poll the queue before parking. */
+        private final long spinWaitNanos = IgniteSystemProperties.getLong(IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS, 0);
+
         /**
          * @param igniteInstanceName Ignite instance name.
          * @param poolName Pool name.
@@ -789,6 +793,23 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
                     return r;
             }
 
+            if (spinWaitNanos > 0) {
+                long start = System.nanoTime();
+
+                do {
+                    r = queue.poll();
+
+                    if (r != null)
+                        return r;
+
+                    if (Thread.interrupted())
+                        throw new InterruptedException();
+
+                    U.onSpinWait();
+                }
+                while (System.nanoTime() - start < spinWaitNanos);
+            }
+
             parked = true;
 
             try {
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+/**
+ * Priority class of an outbound message. When message priorities are enabled for {@link GridNioServer},
+ * each session keeps a separate write queue per priority class and selector thread dequeues them using
+ * weighted round-robin, so a backlog of large low-priority messages does not delay latency-sensitive ones.
+ * <p>
+ * Messages within one class are always written in the order they were enqueued.
+ */
+public enum GridNioMessagePriority {
+    /** Discovery-related, exchange and other internal system messages. */
+    SYSTEM(8),
+
+    /** Cache operations and transaction protocol messages. */
+    TRANSACTIONAL(4),
+
+    /** Query, compute and service messages. */
+    QUERY(2),
+
+    /** Bulk data transfer: rebalancing, data streaming, query result pages. */
+    BULK(1);
+
+    /** Number of messages written from the class queue in a single round while other classes have pending messages. */
+    private final int weight;
+
+    /**
+     * @param weight Weight.
+     */
+    GridNioMessagePriority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * @return Number of messages written from the class queue in a single round while other classes have pending
+     *      messages.
+     */
+    public int weight() {
+        return weight;
+    }
+}
@@ -239,6 +239,15 @@ public class GridNioRecoveryDescriptor {
         return acked;
     }
 
+    /**
+     * Note that the value may be stale if it is read outside of the session worker thread.
+     *
+     * @return Number of sent messages which are not acknowledged by the remote node yet.
+     */
+    public long unacknowledged() {
+        return sentCnt - acked;
+    }
+
     /**
      * Node left callback.
      *
@@ -78,6 +78,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.internal.util.worker.GridWorkerListener;
 import org.apache.ignite.lang.IgniteBiInClosure;
+import org.apache.ignite.lang.IgniteClosure;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteReducer;
@@ -268,6 +269,10 @@ public class GridNioServer<T> {
     /** Optional listener to monitor outbound message queue size. */
     private IgniteBiInClosure<GridNioSession, Integer> msgQueueLsnr;
 
+    /** Message priority resolver, {@code null} if message priorities are disabled. */
+    @GridToStringExclude
+    @Nullable private final IgniteClosure<Object, GridNioMessagePriority> msgPrioRslvr;
+
     /** */
     private final AtomicLong readerMoveCnt = new AtomicLong();
 
@@ -308,6 +313,7 @@ public class GridNioServer<T> {
      * @param writerFactory Writer factory.
      * @param skipRecoveryPred Skip recovery predicate.
      * @param msgQueueLsnr Message queue size listener.
+     * @param msgPrioRslvr Message priority resolver, {@code null} to write messages in the order they were sent.
      * @param readWriteSelectorsAssign If {@code true} then in/out connections are assigned to even/odd workers.
      * @param workerLsnr Worker lifecycle listener.
      * @param mreg Metrics registry.
@@ -334,6 +340,7 @@ public class GridNioServer<T> {
         GridNioMessageWriterFactory writerFactory,
         IgnitePredicate<Message> skipRecoveryPred,
         IgniteBiInClosure<GridNioSession, Integer> msgQueueLsnr,
+        @Nullable IgniteClosure<Object, GridNioMessagePriority> msgPrioRslvr,
         boolean readWriteSelectorsAssign,
         @Nullable GridWorkerListener workerLsnr,
         @Nullable MetricRegistry mreg,
@@ -361,6 +368,7 @@ public class GridNioServer<T> {
         this.sockSndBuf = sockSndBuf;
         this.sndQueueLimit = sndQueueLimit;
         this.msgQueueLsnr = msgQueueLsnr;
+        this.msgPrioRslvr = directMode ? msgPrioRslvr : null;
         this.selectorSpins = selectorSpins;
         this.readWriteSelectorsAssign = readWriteSelectorsAssign;
         this.lsnr = lsnr;
@@ -1111,7 +1119,7 @@ public class GridNioServer<T> {
         if (ses.procWrite.get()) {
             ses.procWrite.set(false);
 
-            if (ses.writeQueue().isEmpty()) {
+            if (ses.isWriteQueueEmpty()) {
                 if ((key.interestOps() & SelectionKey.OP_WRITE) != 0)
                     key.interestOps(key.interestOps() & (~SelectionKey.OP_WRITE));
             }
@@ -2010,7 +2018,8 @@ public class GridNioServer<T> {
             for (SessionChangeRequest req : reqs)
                 changeReqs.offer(req);
 
-            selector.wakeup();
+            if (select)
+                selector.wakeup();
         }
 
         /** {@inheritDoc} */
@@ -2237,6 +2246,8 @@ public class GridNioServer<T> {
                             else
                                 processSelectedKeysOptimized(selectedKeys.flip());
                         }
+                        else
+                            U.onSpinWait();
 
                         if (!changeReqs.isEmpty())
                             continue mainLoop;
@@ -2248,6 +2259,9 @@ public class GridNioServer<T> {
                             lastIdleCheck = now;
 
                             checkIdle(selector.keys());
+
+                            // Selector may never block in busy-poll mode, so report progress from here.
+                            updateHeartbeat();
                         }
 
                         if (isCancelled())
@@ -2702,6 +2716,7 @@ public class GridNioServer<T> {
                     (InetSocketAddress)sockCh.getRemoteAddress(),
                     fut.accepted(),
                     sndQueueLimit,
+                    msgPrioRslvr,
                     mreg,
                     writeBuf,
                     readBuf);
@@ -3846,6 +3861,9 @@ public class GridNioServer<T> {
         /** Message queue size listener. */
         private IgniteBiInClosure<GridNioSession, Integer> msgQueueLsnr;
 
+        /** Message priority resolver. */
+        private IgniteClosure<Object, GridNioMessagePriority> msgPrioRslvr;
+
         /** Name for threads identification. */
         private String srvName;
 
@@ -3891,6 +3909,7 @@ public class GridNioServer<T> {
                 writerFactory,
                 skipRecoveryPred,
                 msgQueueLsnr,
+                msgPrioRslvr,
                 readWriteSelectorsAssign,
                 workerLsnr,
                 mreg,
@@ -4140,6 +4159,20 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * Enables per-session write queues for message priority classes. Messages of different classes may be
+         * written out of order, messages of the same class keep the order they were sent in. Ignored if
+         * direct mode is not used.
+         *
+         * @param msgPrioRslvr Message priority resolver.
+         * @return Instance of this builder for chaining.
+         */
+        public Builder<T> messagePriorityResolver(IgniteClosure<Object, GridNioMessagePriority> msgPrioRslvr) {
+            this.msgPrioRslvr = msgPrioRslvr;
+
+            return this;
+        }
+
         /**
          * @param msgQueueLsnr Message queue size listener.
          * @return Instance of this builder for chaining.
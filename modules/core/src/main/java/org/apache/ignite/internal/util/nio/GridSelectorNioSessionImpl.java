@@ -21,6 +21,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -32,8 +33,10 @@ import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.tracing.MTC;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.LT;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteClosure;
 import org.apache.ignite.util.deque.FastSizeDeque;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,9 +50,29 @@ import static org.apache.ignite.internal.util.nio.GridNioServer.OUTBOUND_MESSAGE
  * socket addresses.
  */
 public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKeyAttachment {
-    /** Pending write requests. */
+    /** Message priorities. */
+    private static final GridNioMessagePriority[] PRIORITIES = GridNioMessagePriority.values();
+
+    /**
+     * Pending write requests. If message priorities are enabled, holds only system futures and resent requests,
+     * which are always written before prioritized ones.
+     */
     private final FastSizeDeque<SessionWriteRequest> queue = new FastSizeDeque<>(new ConcurrentLinkedDeque<>());
 
+    /** Pending write requests per message priority, {@code null} if message priorities are disabled. */
+    @GridToStringExclude
+    @Nullable private final FastSizeDeque<SessionWriteRequest>[] prioQueues;
+
+    /** Message priority resolver, {@code null} if message priorities are disabled. */
+    @GridToStringExclude
+    @Nullable private final IgniteClosure<Object, GridNioMessagePriority> prioRslvr;
+
+    /** Index of priority queue currently being drained. Accessed only from {@link #pollFuture()}. */
+    private int curPrio;
+
+    /** Number of requests which still can be polled from the current priority queue in this round. */
+    private int prioCredit = PRIORITIES[0].weight();
+
     /** Selection key associated with this session. */
     @GridToStringExclude
     private SelectionKey key;
@@ -101,6 +124,8 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
      * @param rmtAddr Remote address.
      * @param accepted Accepted flag.
      * @param sndQueueLimit Send queue limit.
+     * @param prioRslvr Message priority resolver, {@code null} if message priorities are disabled.
+     * @param mreg Metrics registry.
      * @param writeBuf Write buffer.
      * @param readBuf Read buffer.
      */
@@ -112,6 +137,7 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         InetSocketAddress rmtAddr,
         boolean accepted,
         int sndQueueLimit,
+        @Nullable IgniteClosure<Object, GridNioMessagePriority> prioRslvr,
         @Nullable MetricRegistry mreg,
         @Nullable ByteBuffer writeBuf,
         @Nullable ByteBuffer readBuf
@@ -132,6 +158,17 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
 
         sem = sndQueueLimit > 0 ? new Semaphore(sndQueueLimit) : null;
 
+        this.prioRslvr = prioRslvr;
+
+        if (prioRslvr != null) {
+            prioQueues = new FastSizeDeque[PRIORITIES.length];
+
+            for (int i = 0; i < prioQueues.length; i++)
+                prioQueues[i] = new FastSizeDeque<>(new ConcurrentLinkedDeque<>());
+        }
+        else
+            prioQueues = null;
+
         if (writeBuf != null) {
             writeBuf.clear();
 
@@ -316,7 +353,7 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         if (outboundMessagesQueueSizeMetric != null)
             outboundMessagesQueueSizeMetric.increment();
 
-        return queue.sizex();
+        return writeQueueSize();
     }
 
     /**
@@ -337,7 +374,7 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
 
         writeFut.messageThread(msgThread);
 
-        boolean res = queue.offer(writeFut);
+        boolean res = prioQueues != null ? queueFor(writeFut).offer(writeFut) : queue.offer(writeFut);
 
         MTC.span().addLog(() -> "Added to queue - " + traceName(writeFut.message()));
 
@@ -346,14 +383,24 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         if (outboundMessagesQueueSizeMetric != null)
             outboundMessagesQueueSizeMetric.increment();
 
-        return queue.sizex();
+        return writeQueueSize();
+    }
+
+    /**
+     * @param writeFut Write request.
+     * @return Queue for the priority of the request message.
+     */
+    private FastSizeDeque<SessionWriteRequest> queueFor(SessionWriteRequest writeFut) {
+        GridNioMessagePriority prio = prioRslvr.apply(writeFut.message());
+
+        return prioQueues[prio == null ? 0 : prio.ordinal()];
     }
 
     /**
      * @param futs Futures to resend.
      */
     void resend(Collection<SessionWriteRequest> futs) {
-        assert queue.isEmpty() : queue.size();
+        assert writeQueueSize() == 0 : writeQueueSize();
 
         boolean add = queue.addAll(futs);
 
@@ -369,6 +416,9 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     @Nullable SessionWriteRequest pollFuture() {
         SessionWriteRequest last = queue.poll();
 
+        if (last == null && prioQueues != null)
+            last = pollPrioritized();
+
         if (last != null) {
             if (outboundMessagesQueueSizeMetric != null)
                 outboundMessagesQueueSizeMetric.decrement();
@@ -396,6 +446,31 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         return last;
     }
 
+    /**
+     * Polls priority queues using weighted round-robin: up to {@link GridNioMessagePriority#weight()} requests
+     * are taken from a queue before switching to the next non-empty one.
+     *
+     * @return Polled request, {@code null} if all priority queues are empty.
+     */
+    @Nullable private SessionWriteRequest pollPrioritized() {
+        for (int i = 0; i <= prioQueues.length; i++) {
+            if (prioCredit > 0) {
+                SessionWriteRequest req = prioQueues[curPrio].poll();
+
+                if (req != null) {
+                    prioCredit--;
+
+                    return req;
+                }
+            }
+
+            curPrio = (curPrio + 1) % prioQueues.length;
+            prioCredit = PRIORITIES[curPrio].weight();
+        }
+
+        return null;
+    }
+
     /**
      * @param fut Future.
      * @return {@code True} if future was removed from queue.
@@ -405,6 +480,9 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
 
         boolean rmv = queue.removeLastOccurrence(fut);
 
+        if (!rmv && prioQueues != null)
+            rmv = queueFor(fut).removeLastOccurrence(fut);
+
         if (rmv && outboundMessagesQueueSizeMetric != null)
             outboundMessagesQueueSizeMetric.decrement();
 
@@ -417,14 +495,48 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
      * @return Number of write requests.
      */
     int writeQueueSize() {
-        return queue.sizex();
+        int size = queue.sizex();
+
+        if (prioQueues != null) {
+            for (FastSizeDeque<SessionWriteRequest> q : prioQueues)
+                size += q.sizex();
+        }
+
+        return size;
+    }
+
+    /**
+     * Checks whether there are no write requests in a queue without creating a view of the priority queues.
+     *
+     * @return {@code True} if there are no write requests.
+     */
+    boolean isWriteQueueEmpty() {
+        if (!queue.isEmpty())
+            return false;
+
+        if (prioQueues != null) {
+            for (FastSizeDeque<SessionWriteRequest> q : prioQueues) {
+                if (!q.isEmpty())
+                    return false;
+            }
+        }
+
+        return true;
     }
 
     /**
      * @return Write requests.
      */
     Collection<SessionWriteRequest> writeQueue() {
-        return queue;
+        if (prioQueues == null)
+            return queue;
+
+        List<Collection<SessionWriteRequest>> queues = new ArrayList<>(prioQueues.length + 1);
+
+        queues.add(queue);
+        queues.addAll(Arrays.asList(prioQueues));
+
+        return F.flatCollections(queues);
     }
 
     /** {@inheritDoc} */
@@ -68,6 +68,22 @@ public class GridTcpNioCommunicationClient extends GridAbstractCommunicationClie
         return ses;
     }
 
+    /**
+     * @return Number of messages waiting in the session outbound queue.
+     */
+    public int outboundMessagesQueueSize() {
+        return ses instanceof GridSelectorNioSessionImpl ? ((GridSelectorNioSessionImpl)ses).writeQueueSize() : 0;
+    }
+
+    /**
+     * @return Number of sent messages which are not acknowledged by the remote node yet.
+     */
+    public long unacknowledgedMessages() {
+        GridNioRecoveryDescriptor recoveryDesc = ses.outRecoveryDescriptor();
+
+        return recoveryDesc != null ? recoveryDesc.unacknowledged() : 0;
+    }
+
     /** {@inheritDoc} */
     @Override public void doHandshake(IgniteInClosure2X<InputStream, OutputStream> handshakeC) {
         throw new UnsupportedOperationException();
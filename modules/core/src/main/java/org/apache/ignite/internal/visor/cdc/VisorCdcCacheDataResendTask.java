@@ -182,7 +182,7 @@ public class VisorCdcCacheDataResendTask extends VisorMultiNodeTask<VisorCdcCach
             GridCacheContext<?, ?> cctx = cache.context();
 
             GridIterator<CacheDataRow> localRows = cctx.offheap()
-                .cacheIterator(cctx.cacheId(), true, false, AffinityTopologyVersion.NONE, null, null);
+                .cacheIterator(cctx.cacheId(), true, false, AffinityTopologyVersion.NONE, null, null, null);
 
             long cnt = 0;
             Set<Integer> parts = new TreeSet<>();
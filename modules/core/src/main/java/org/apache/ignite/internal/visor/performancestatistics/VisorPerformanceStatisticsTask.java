@@ -79,7 +79,7 @@ public class VisorPerformanceStatisticsTask extends VisorOneNodeTask<VisorPerfor
 
                     case STATUS:
 
-                        return ignite.context().performanceStatistics().enabled() ? STATUS_ENABLED : STATUS_DISABLED;
+                        return ignite.context().performanceStatistics().started() ? STATUS_ENABLED : STATUS_DISABLED;
 
                     default:
                         throw new IllegalArgumentException("Unknown operation: " + arg.operation());
@@ -546,6 +546,7 @@ public class ValidateIndexesClosure implements IgniteCallable<VisorValidateIndex
                         context.cacheId(),
                         part.id(),
                         qryCtx.mvccSnapshot(),
+                        null,
                         null
                     );
 
@@ -41,4 +41,12 @@ public interface PerformanceStatisticsMBean {
     /** @return {@code True} if performance statistics collection is started. */
     @MXBeanDescription("True if performance statistics collection is started.")
     public boolean started();
+
+    /**
+     * Dumps the performance statistics flight recorder of the local node to a file.
+     *
+     * @return Path of the dump file.
+     */
+    @MXBeanDescription("Dump the performance statistics flight recorder of the local node to a file.")
+    public String dumpFlightRecorder() throws IgniteCheckedException;
 }
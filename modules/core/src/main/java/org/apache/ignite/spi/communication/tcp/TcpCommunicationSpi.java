@@ -72,6 +72,7 @@ import org.apache.ignite.spi.IgniteSpiMultipleInstancesSupport;
 import org.apache.ignite.spi.IgniteSpiThread;
 import org.apache.ignite.spi.communication.CommunicationListener;
 import org.apache.ignite.spi.communication.CommunicationSpi;
+import org.apache.ignite.spi.communication.tcp.internal.AdaptiveConnectionPolicy;
 import org.apache.ignite.spi.communication.tcp.internal.ClusterStateProvider;
 import org.apache.ignite.spi.communication.tcp.internal.CommunicationDiscoveryEventListener;
 import org.apache.ignite.spi.communication.tcp.internal.CommunicationListenerEx;
@@ -487,6 +488,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
 
         metricsLsnr.onNodeLeft(consistentId);
         clientPool.onNodeLeft(nodeId);
+        connPlc.onNodeLeft(nodeId);
     }
 
     /**
@@ -663,11 +665,6 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             throw new IgniteSpiException("Failed to initialize local address: " + cfg.localAddress(), e);
         }
 
-        if (cfg.connectionsPerNode() > 1)
-            connPlc = new RoundRobinConnectionPolicy(cfg);
-        else
-            connPlc = new FirstConnectionPolicy();
-
         this.srvLsnr = resolve(ignite, new InboundConnectionHandler(
             log,
             cfg,
@@ -758,7 +755,14 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
 
         nioSrvWrapper.clientPool(clientPool);
 
-        discoLsnr = new CommunicationDiscoveryEventListener(clientPool, metricsLsnr);
+        if (cfg.bulkConnectionsPerNode() > 0 || (cfg.adaptiveConnectionsPerNode() && cfg.connectionsPerNode() > 1))
+            connPlc = new AdaptiveConnectionPolicy(cfg, clientPool);
+        else if (cfg.connectionsPerNode() > 1)
+            connPlc = new RoundRobinConnectionPolicy(cfg);
+        else
+            connPlc = new FirstConnectionPolicy();
+
+        discoLsnr = new CommunicationDiscoveryEventListener(clientPool, connPlc, metricsLsnr);
 
         try {
             // This method potentially resets local port to the value
@@ -794,6 +798,8 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             log.debug(configInfo("sockRcvBuf", cfg.socketReceiveBuffer()));
             log.debug(configInfo("msgQueueLimit", cfg.messageQueueLimit()));
             log.debug(configInfo("connectionsPerNode", cfg.connectionsPerNode()));
+            log.debug(configInfo("bulkConnectionsPerNode", cfg.bulkConnectionsPerNode()));
+            log.debug(configInfo("adaptiveConnectionsPerNode", cfg.adaptiveConnectionsPerNode()));
 
             if (failureDetectionTimeoutEnabled()) {
                 log.debug(configInfo("connTimeout", cfg.connectionTimeout()));
@@ -1093,10 +1099,10 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             if (connIdxMsg instanceof TcpConnectionIndexAwareMessage) {
                 int msgConnIdx = ((TcpConnectionIndexAwareMessage)connIdxMsg).connectionIndex();
 
-                connIdx = msgConnIdx == UNDEFINED_CONNECTION_INDEX ? connPlc.connectionIndex() : msgConnIdx;
+                connIdx = msgConnIdx == UNDEFINED_CONNECTION_INDEX ? connPlc.connectionIndex(node, connIdxMsg) : msgConnIdx;
             }
             else
-                connIdx = connPlc.connectionIndex();
+                connIdx = connPlc.connectionIndex(node, connIdxMsg);
 
             try {
                 boolean retry;
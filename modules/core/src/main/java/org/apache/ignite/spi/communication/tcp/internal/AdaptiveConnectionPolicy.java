@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.internal;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.util.nio.GridCommunicationClient;
+import org.apache.ignite.internal.util.nio.GridTcpNioCommunicationClient;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/**
+ * Connection policy which separates bulk traffic from regular messages and, if
+ * {@link TcpCommunicationConfiguration#adaptiveConnectionsPerNode()} is enabled, opens connections to a remote node
+ * on demand depending on the load of the already opened ones.
+ * <p>
+ * The connection indexes are split into two stripes: regular messages use indexes
+ * {@code [0, connectionsPerNode - bulkConnectionsPerNode)}, messages implementing {@link TcpBulkMessage} use the rest.
+ * <p>
+ * In adaptive mode each thread is bound to a connection of a stripe. A new binding is made to the least loaded active
+ * connection, and one more connection of the stripe is activated if even the least loaded one is saturated. The thread
+ * is rebound only when its current connection is quiescent (there are no queued and no unacknowledged messages), so
+ * the order of messages sent by a thread to a node is preserved. If none of the connections of a stripe was saturated
+ * for {@link #SHRINK_TIMEOUT}, the last activated connection is deactivated: threads bound to it move to the other
+ * ones once it is quiescent, and the unused connection is closed after
+ * {@link TcpCommunicationConfiguration#idleConnectionTimeout()}.
+ */
+public class AdaptiveConnectionPolicy implements ConnectionPolicy {
+    /**
+     * Number of messages queued to a connection after which it is considered as saturated. The queue grows only when
+     * messages are produced faster than they are written to the socket, so a short queue shows that the connection
+     * is a bottleneck, while single bursts of small messages do not open new connections.
+     */
+    private static final int SATURATION_THRESHOLD = 32;
+
+    /** Time in milliseconds since the last saturation of a stripe after which one of its connections is deactivated. */
+    private static final long SHRINK_TIMEOUT = 10_000;
+
+    /** Config. */
+    private final TcpCommunicationConfiguration cfg;
+
+    /** Client pool. */
+    private final ConnectionClientPool clientPool;
+
+    /** Connection stripes of remote nodes. */
+    private final ConcurrentMap<UUID, Stripe[]> stripes = new ConcurrentHashMap<>();
+
+    /**
+     * @param cfg Config.
+     * @param clientPool Client pool.
+     */
+    public AdaptiveConnectionPolicy(TcpCommunicationConfiguration cfg, ConnectionClientPool clientPool) {
+        this.cfg = cfg;
+        this.clientPool = clientPool;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int connectionIndex() {
+        return (int)(U.safeAbs(Thread.currentThread().getId()) % regularConnections());
+    }
+
+    /** {@inheritDoc} */
+    @Override public int connectionIndex(ClusterNode node, Message msg) {
+        boolean bulk = cfg.bulkConnectionsPerNode() > 0 && msg instanceof TcpBulkMessage;
+
+        int from = bulk ? regularConnections() : 0;
+        int cnt = bulk ? cfg.bulkConnectionsPerNode() : regularConnections();
+
+        if (cnt == 1)
+            return from;
+
+        if (!cfg.adaptiveConnectionsPerNode())
+            return from + (int)(U.safeAbs(Thread.currentThread().getId()) % cnt);
+
+        Stripe[] nodeStripes = stripes.computeIfAbsent(node.id(), id -> new Stripe[] {
+            new Stripe(0, regularConnections()),
+            new Stripe(regularConnections(), cfg.bulkConnectionsPerNode())
+        });
+
+        return nodeStripes[bulk ? 1 : 0].connectionIndex(node.id());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onNodeLeft(UUID nodeId) {
+        stripes.remove(nodeId);
+    }
+
+    /**
+     * @return Number of connections used for regular messages.
+     */
+    private int regularConnections() {
+        return cfg.connectionsPerNode() - cfg.bulkConnectionsPerNode();
+    }
+
+    /**
+     * @param nodeId Remote node id.
+     * @param connIdx Connection index.
+     * @return Established connection or {@code null}.
+     */
+    private GridTcpNioCommunicationClient client(UUID nodeId, int connIdx) {
+        GridCommunicationClient[] clients = clientPool.clientFor(nodeId);
+
+        GridCommunicationClient client = clients != null && connIdx < clients.length ? clients[connIdx] : null;
+
+        return client instanceof GridTcpNioCommunicationClient ? (GridTcpNioCommunicationClient)client : null;
+    }
+
+    /**
+     * @param nodeId Remote node id.
+     * @param connIdx Connection index.
+     * @return Number of messages queued to the connection.
+     */
+    private int queueSize(UUID nodeId, int connIdx) {
+        GridTcpNioCommunicationClient client = client(nodeId, connIdx);
+
+        return client != null ? client.outboundMessagesQueueSize() : 0;
+    }
+
+    /**
+     * Messages of a connection which is not (re)established yet may be resent on reconnect, so such connection
+     * is not considered as quiescent.
+     *
+     * @param nodeId Remote node id.
+     * @param connIdx Connection index.
+     * @return {@code True} if the connection has no queued and no unacknowledged messages.
+     */
+    private boolean quiescent(UUID nodeId, int connIdx) {
+        GridTcpNioCommunicationClient client = client(nodeId, connIdx);
+
+        return client != null && client.outboundMessagesQueueSize() == 0 && client.unacknowledgedMessages() == 0;
+    }
+
+    /**
+     * Range of connection indexes used for a class of messages.
+     */
+    private class Stripe {
+        /** First connection index. */
+        private final int from;
+
+        /** Maximum number of connections. */
+        private final int maxCnt;
+
+        /** Number of connections currently in use. */
+        private volatile int activeCnt = 1;
+
+        /** Time of the last saturation or of the last change of the number of connections in use. */
+        private volatile long lastSaturationTs = U.currentTimeMillis();
+
+        /** Connection index bound to the current thread, {@code -1} if the thread is not bound yet. */
+        private final ThreadLocal<int[]> threadIdx = ThreadLocal.withInitial(() -> new int[] {-1});
+
+        /**
+         * @param from First connection index.
+         * @param maxCnt Maximum number of connections.
+         */
+        private Stripe(int from, int maxCnt) {
+            this.from = from;
+            this.maxCnt = maxCnt;
+        }
+
+        /**
+         * @param nodeId Remote node id.
+         * @return Connection index for the current thread.
+         */
+        private int connectionIndex(UUID nodeId) {
+            int[] bound = threadIdx.get();
+
+            int cur = bound[0];
+
+            if (cur >= 0 && !quiescent(nodeId, cur))
+                return cur;
+
+            int active = activeCnt;
+
+            if (active > 1 && U.currentTimeMillis() - lastSaturationTs > SHRINK_TIMEOUT)
+                active = shrink(active);
+
+            int idx = from;
+            int minLoad = Integer.MAX_VALUE;
+
+            for (int i = from; i < from + active && minLoad > 0; i++) {
+                int load = queueSize(nodeId, i);
+
+                if (load < minLoad) {
+                    minLoad = load;
+                    idx = i;
+                }
+            }
+
+            if (minLoad >= SATURATION_THRESHOLD) {
+                lastSaturationTs = U.currentTimeMillis();
+
+                if (active < maxCnt) {
+                    synchronized (this) {
+                        if (activeCnt == active)
+                            activeCnt = active + 1;
+                    }
+
+                    idx = from + active;
+                }
+            }
+
+            bound[0] = idx;
+
+            return idx;
+        }
+
+        /**
+         * Deactivates the last activated connection.
+         *
+         * @param active Number of connections in use observed by the caller.
+         * @return Number of connections in use.
+         */
+        private synchronized int shrink(int active) {
+            if (activeCnt == active) {
+                activeCnt = active - 1;
+
+                lastSaturationTs = U.currentTimeMillis();
+            }
+
+            return activeCnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Stripe.class, this);
+        }
+    }
+}
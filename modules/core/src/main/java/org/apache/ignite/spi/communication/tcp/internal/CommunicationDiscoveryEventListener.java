@@ -36,19 +36,25 @@ public class CommunicationDiscoveryEventListener implements GridLocalEventListen
     /** Client pool. */
     private final ConnectionClientPool clientPool;
 
+    /** Connection policy. */
+    private final ConnectionPolicy connPlc;
+
     /** Statistics. */
     @Nullable
     private volatile TcpCommunicationMetricsListener metricsLsnr;
 
     /**
      * @param clientPool Client pool.
+     * @param connPlc Connection policy.
      * @param metricsLsnr Metrics listener.
      */
     public CommunicationDiscoveryEventListener(
         ConnectionClientPool clientPool,
+        ConnectionPolicy connPlc,
         TcpCommunicationMetricsListener metricsLsnr
     ) {
         this.clientPool = clientPool;
+        this.connPlc = connPlc;
         this.metricsLsnr = metricsLsnr;
     }
 
@@ -77,6 +83,8 @@ public class CommunicationDiscoveryEventListener implements GridLocalEventListen
         metricsLsnr.onNodeLeft(consistentId);
 
         clientPool.onNodeLeft(nodeId);
+
+        connPlc.onNodeLeft(nodeId);
     }
 
     /**
@@ -17,6 +17,10 @@
 
 package org.apache.ignite.spi.communication.tcp.internal;
 
+import java.util.UUID;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
 /**
  * Connection policy. Implementations of this interface define an algorithm of selection processing workers like
  * round-robin or first id.
@@ -26,4 +30,20 @@ public interface ConnectionPolicy {
      * @return Index from 0 to max int. Usually thread connection index.
      */
     int connectionIndex();
+
+    /**
+     * @param node Remote node.
+     * @param msg Message to send.
+     * @return Index of the connection to send the message over.
+     */
+    default int connectionIndex(ClusterNode node, Message msg) {
+        return connectionIndex();
+    }
+
+    /**
+     * @param nodeId Left node ID.
+     */
+    default void onNodeLeft(UUID nodeId) {
+        // No-op.
+    }
 }
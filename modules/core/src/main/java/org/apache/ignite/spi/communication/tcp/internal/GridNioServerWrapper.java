@@ -918,6 +918,9 @@ public class GridNioServerWrapper {
                     .tracing(tracing)
                     .readWriteSelectorsAssign(cfg.usePairedConnections());
 
+                if (cfg.messagePrioritiesEnabled())
+                    builder.messagePriorityResolver(new TcpMessagePriorityResolver());
+
                 if (metricMgr != null) {
                     builder.workerListener(workersRegistry)
                         .metricRegistry(metricMgr.registry(COMMUNICATION_METRICS_GROUP_NAME));
@@ -934,7 +937,8 @@ public class GridNioServerWrapper {
                         ", locHost=" + cfg.localHost() +
                         ", selectorsCnt=" + cfg.selectorsCount() +
                         ", selectorSpins=" + srvr.selectorSpins() +
-                        ", pairedConn=" + cfg.usePairedConnections() + ']');
+                        ", pairedConn=" + cfg.usePairedConnections() +
+                        ", msgPriorities=" + cfg.messagePrioritiesEnabled() + ']');
                 }
 
                 srvr.idleTimeout(cfg.idleConnectionTimeout());
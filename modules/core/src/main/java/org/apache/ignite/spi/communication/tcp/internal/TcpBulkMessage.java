@@ -0,0 +1,29 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.internal;
+
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/**
+ * Marker interface for potentially large messages (rebalance supply batches, query result pages, data streamer
+ * batches). If {@link TcpCommunicationConfiguration#bulkConnectionsPerNode()} is positive, such messages are sent over
+ * the connections dedicated to bulk traffic, so they don't delay small latency-sensitive messages.
+ */
+public interface TcpBulkMessage extends Message {
+    // No-op.
+}
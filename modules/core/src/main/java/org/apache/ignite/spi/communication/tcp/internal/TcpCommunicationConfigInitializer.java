@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.AddressResolver;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteEx;
@@ -261,6 +262,97 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return cfg.connectionsPerNode();
     }
 
+    /**
+     * Sets number of connections to each remote node which are dedicated to bulk messages: rebalance supply
+     * batches, query result pages and data streamer batches. These connections are taken from
+     * {@link #getConnectionsPerNode()}, so the value must be less than it. Separating bulk traffic prevents large
+     * messages from delaying small latency-sensitive ones (e.g. transaction messages) queued behind them.
+     * <p>
+     * If not provided, default value is {@code 0} which means that bulk messages share the connections with
+     * regular ones.
+     *
+     * @param bulkConnectionsPerNode Number of connections per node dedicated to bulk messages.
+     * @return {@code this} for chaining.
+     * @see #setConnectionsPerNode(int)
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setBulkConnectionsPerNode(int bulkConnectionsPerNode) {
+        cfg.bulkConnectionsPerNode(bulkConnectionsPerNode);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setBulkConnectionsPerNode(int)}.
+     *
+     * @return Number of connections per node dedicated to bulk messages.
+     */
+    public int getBulkConnectionsPerNode() {
+        return cfg.bulkConnectionsPerNode();
+    }
+
+    /**
+     * Set this to {@code true} to open connections to a remote node on demand. In this mode a thread is bound to the
+     * least loaded connection and a new connection is opened (up to {@link #getConnectionsPerNode()}) only if all
+     * of the already opened ones are saturated, i.e. have at least 32 queued outbound messages. A thread is rebound
+     * to another connection only when its current one has no queued and unacknowledged messages, so the order of
+     * messages sent by a thread is preserved. If the connections are not saturated for 10 seconds, the number of
+     * used connections is decreased by one, and the unused connection is closed after
+     * {@link #getIdleConnectionTimeout()}.
+     * <p>
+     * Set this to {@code false} to select a connection by the hash of the sending thread.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @param adaptiveConnectionsPerNode {@code true} to open connections on demand.
+     * @return {@code this} for chaining.
+     * @see #setConnectionsPerNode(int)
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setAdaptiveConnectionsPerNode(boolean adaptiveConnectionsPerNode) {
+        cfg.adaptiveConnectionsPerNode(adaptiveConnectionsPerNode);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setAdaptiveConnectionsPerNode(boolean)}.
+     *
+     * @return {@code true} if connections are opened on demand.
+     */
+    public boolean isAdaptiveConnectionsPerNode() {
+        return cfg.adaptiveConnectionsPerNode();
+    }
+
+    /**
+     * Set this to {@code true} to keep a separate outbound queue per message priority class on each connection:
+     * system, transactional, query and bulk. Queues are drained using weighted round-robin, so a backlog of bulk
+     * messages (rebalance batches, query result pages, data streamer batches) does not delay latency-sensitive
+     * messages sent over the same connection. Messages of the same class are written in the order they were sent,
+     * messages of different classes may be reordered.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @param msgPrioritiesEnabled {@code true} to enable per-class outbound queues.
+     * @return {@code this} for chaining.
+     * @see #setBulkConnectionsPerNode(int)
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setMessagePrioritiesEnabled(boolean msgPrioritiesEnabled) {
+        cfg.messagePrioritiesEnabled(msgPrioritiesEnabled);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setMessagePrioritiesEnabled(boolean)}.
+     *
+     * @return {@code true} if per-class outbound queues are enabled.
+     */
+    public boolean isMessagePrioritiesEnabled() {
+        return cfg.messagePrioritiesEnabled();
+    }
+
     /**
      * @deprecated This property is ignored and will be removed in future releases.
      */
@@ -557,6 +649,10 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
      * Defines how many non-blocking {@code selector.selectNow()} should be made before
      * falling into {@code selector.select(long)} in NIO server. Long value. Default is {@code 0}.
      * Can be set to {@code Long.MAX_VALUE} so selector threads will never block.
+     * <p>
+     * Busy polling affects only communication selector threads, REST and client connectors keep blocking selectors.
+     * To also avoid waking up a striped pool thread for each received message, see
+     * {@link IgniteSystemProperties#IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS}.
      *
      * @param selectorSpins Selector thread busy-loop iterations.
      * @return {@code this} for chaining.
@@ -819,6 +915,9 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         assertParameter(cfg.selectorsCount() > 0, "selectorsCnt > 0");
         assertParameter(cfg.connectionsPerNode() > 0, "connectionsPerNode > 0");
         assertParameter(cfg.connectionsPerNode() <= MAX_CONN_PER_NODE, "connectionsPerNode <= 1024");
+        assertParameter(cfg.bulkConnectionsPerNode() >= 0, "bulkConnectionsPerNode >= 0");
+        assertParameter(cfg.bulkConnectionsPerNode() < cfg.connectionsPerNode(),
+            "bulkConnectionsPerNode < connectionsPerNode");
 
         if (!failureDetectionTimeoutEnabled()) {
             assertParameter(cfg.reconCount() > 0, "reconnectCnt > 0");
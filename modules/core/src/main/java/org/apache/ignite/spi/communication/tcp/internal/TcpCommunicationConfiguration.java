@@ -106,6 +106,15 @@ public class TcpCommunicationConfiguration implements Serializable {
     /** Connections per node. */
     private int connectionsPerNode = DFLT_CONN_PER_NODE;
 
+    /** Number of connections per node dedicated to bulk messages. */
+    private int bulkConnectionsPerNode;
+
+    /** Open connections on demand depending on the load of the already opened ones. */
+    private boolean adaptiveConnectionsPerNode;
+
+    /** Write messages of different priority classes from separate per-connection queues. */
+    private boolean msgPrioritiesEnabled;
+
     /** {@code TCP_NODELAY} option value for created sockets. */
     private boolean tcpNoDelay = DFLT_TCP_NODELAY;
 
@@ -382,6 +391,49 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.connectionsPerNode = connectionsPerNode;
     }
 
+    /**
+     * @return Number of connections per node dedicated to bulk messages.
+     */
+    public int bulkConnectionsPerNode() {
+        return bulkConnectionsPerNode;
+    }
+
+    /**
+     * @param bulkConnectionsPerNode New number of connections per node dedicated to bulk messages.
+     */
+    public void bulkConnectionsPerNode(int bulkConnectionsPerNode) {
+        this.bulkConnectionsPerNode = bulkConnectionsPerNode;
+    }
+
+    /**
+     * @return {@code True} if connections are opened on demand depending on the load of the already opened ones.
+     */
+    public boolean adaptiveConnectionsPerNode() {
+        return adaptiveConnectionsPerNode;
+    }
+
+    /**
+     * @param adaptiveConnectionsPerNode {@code True} to open connections on demand depending on the load of
+     *      the already opened ones.
+     */
+    public void adaptiveConnectionsPerNode(boolean adaptiveConnectionsPerNode) {
+        this.adaptiveConnectionsPerNode = adaptiveConnectionsPerNode;
+    }
+
+    /**
+     * @return {@code True} if messages of different priority classes are written from separate queues.
+     */
+    public boolean messagePrioritiesEnabled() {
+        return msgPrioritiesEnabled;
+    }
+
+    /**
+     * @param msgPrioritiesEnabled {@code True} to write messages of different priority classes from separate queues.
+     */
+    public void messagePrioritiesEnabled(boolean msgPrioritiesEnabled) {
+        this.msgPrioritiesEnabled = msgPrioritiesEnabled;
+    }
+
     /**
      * @return Option value for created sockets.
      */
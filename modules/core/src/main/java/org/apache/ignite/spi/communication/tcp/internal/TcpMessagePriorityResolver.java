@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.internal;
+
+import org.apache.ignite.internal.managers.communication.GridIoMessage;
+import org.apache.ignite.internal.processors.cache.GridCacheMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsAbstractMessage;
+import org.apache.ignite.internal.util.nio.GridNioMessagePriority;
+import org.apache.ignite.lang.IgniteClosure;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.PUBLIC_POOL;
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.QUERY_POOL;
+import static org.apache.ignite.internal.managers.communication.GridIoPolicy.SERVICE_POOL;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.BULK;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.QUERY;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.SYSTEM;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.TRANSACTIONAL;
+
+/**
+ * Maps communication messages to {@link GridNioMessagePriority priority classes}:
+ * <ul>
+ *     <li>{@link TcpBulkMessage bulk messages} - {@link GridNioMessagePriority#BULK};</li>
+ *     <li>messages processed in query, public and service pools - {@link GridNioMessagePriority#QUERY};</li>
+ *     <li>cache messages except partition exchange ones - {@link GridNioMessagePriority#TRANSACTIONAL};</li>
+ *     <li>everything else, including SPI messages - {@link GridNioMessagePriority#SYSTEM}.</li>
+ * </ul>
+ */
+public class TcpMessagePriorityResolver implements IgniteClosure<Object, GridNioMessagePriority> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** {@inheritDoc} */
+    @Override public GridNioMessagePriority apply(Object msg) {
+        if (!(msg instanceof GridIoMessage))
+            return SYSTEM;
+
+        GridIoMessage ioMsg = (GridIoMessage)msg;
+
+        Message msg0 = ioMsg.message();
+
+        if (msg0 instanceof TcpBulkMessage)
+            return BULK;
+
+        switch (ioMsg.policy()) {
+            case QUERY_POOL:
+            case PUBLIC_POOL:
+            case SERVICE_POOL:
+                return QUERY;
+
+            default:
+                return msg0 instanceof GridCacheMessage && !(msg0 instanceof GridDhtPartitionsAbstractMessage) ?
+                    TRANSACTIONAL : SYSTEM;
+        }
+    }
+}
@@ -217,6 +217,12 @@ class ServerImpl extends TcpDiscoveryImpl {
     /** Maximal interval of connection check to next node in the ring. */
     private static final long MAX_CON_CHECK_INTERVAL = 500;
 
+    /** Maximal number of custom messages discarded by a single discard message. */
+    private static final int MAX_COALESCED_CUSTOM_DISCARDS = 64;
+
+    /** Maximal number of custom messages written to next node before their receipts are read. */
+    private static final int MAX_PIPELINED_CUSTOM_MSGS = 64;
+
     /** Interval of checking connection to next node in the ring. */
     private long connCheckInterval;
 
@@ -2932,12 +2938,24 @@ class ServerImpl extends TcpDiscoveryImpl {
         /** Force pending messages send. */
         private boolean forceSndPending;
 
+        /** Id of the last custom message that has passed the ring, discard message for it is not sent yet. */
+        private IgniteUuid customDiscardId;
+
+        /** Number of custom messages that have passed the ring since the last discard message was sent. */
+        private int customDiscardCnt;
+
         /** Socket. */
         private Socket sock;
 
         /** Output stream. */
         private OutputStream out;
 
+        /** Number of messages written to {@link #unackedSock} whose receipts are not read yet. */
+        private int unackedMsgs;
+
+        /** Socket the messages with unread receipts have been written to. */
+        private Socket unackedSock;
+
         /** Last time status message has been sent. */
         private long lastTimeStatusMsgSentNanos;
 
@@ -3226,6 +3244,9 @@ class ServerImpl extends TcpDiscoveryImpl {
 
             spi.stats.onMessageProcessingStarted(msg);
 
+            if (msg.verified() && locNode.id().equals(msg.verifierNodeId()))
+                spi.stats.onRingMessageReturned(msg);
+
             processMessageFailedNodes(msg);
 
             if (msg instanceof TcpDiscoveryJoinRequestMessage)
@@ -3287,6 +3308,8 @@ class ServerImpl extends TcpDiscoveryImpl {
 
             spi.stats.onMessageProcessingFinished(msg);
 
+            sendCustomDiscardMessage(false);
+
             if (msg instanceof TraceableMessage &&
                 (msg instanceof TcpDiscoveryNodeAddedMessage
                     || msg instanceof TcpDiscoveryJoinRequestMessage
@@ -3314,11 +3337,86 @@ class ServerImpl extends TcpDiscoveryImpl {
             }
         }
 
+        /**
+         * Sends a single discard message for all custom messages that have passed the ring since the previous one.
+         * While more custom messages are queued, sending is postponed so that a burst of custom messages
+         * is discarded by one ring pass instead of a pass per message.
+         *
+         * @param force If {@code true}, sends discard message regardless of the queued messages.
+         */
+        private void sendCustomDiscardMessage(boolean force) {
+            if (customDiscardId == null)
+                return;
+
+            if (!force && customDiscardCnt < MAX_COALESCED_CUSTOM_DISCARDS &&
+                queue.peek() instanceof TcpDiscoveryCustomEventMessage)
+                return;
+
+            addMessage(new TcpDiscoveryDiscardMessage(getLocalNodeId(), customDiscardId, true));
+
+            customDiscardId = null;
+            customDiscardCnt = 0;
+        }
+
+        /**
+         * Reads receipts of the pipelined messages (see {@link #pipelineReceipt(TcpDiscoveryAbstractMessage,
+         * Collection)}) when no more messages are queued. If receipts can not be read, the socket is closed and the
+         * messages are resent with the pending messages on the next send.
+         */
+        private void readUnackedReceipts() {
+            if (unackedMsgs == 0 || sock != unackedSock)
+                return;
+
+            try {
+                readUnackedReceipts(spi.getAckTimeout());
+            }
+            catch (IOException e) {
+                if (log.isDebugEnabled())
+                    log.debug("Failed to read receipts of pipelined messages [next=" + next + ", err=" + e + ']');
+
+                U.closeQuiet(sock);
+
+                sock = null;
+            }
+        }
+
+        /**
+         * @param timeout Timeout of a single receipt read.
+         * @throws IOException If failed.
+         */
+        private void readUnackedReceipts(long timeout) throws IOException {
+            while (unackedMsgs > 0) {
+                spi.readReceipt(unackedSock, timeout);
+
+                unackedMsgs--;
+            }
+        }
+
+        /**
+         * Checks whether the receipt of a message can be read later, together with the receipts of the following
+         * messages. Custom messages are written one by one while the next queued message is a custom one too, so
+         * a burst of custom events is not slowed down by a round trip to next node per message. Receipts are read
+         * one by one while failed nodes are processed, so a failure of next node is detected as soon as possible.
+         *
+         * @param msg Message written to next node.
+         * @param failedNodes Failed nodes known to local node.
+         * @return {@code True} if the receipt should not be read now.
+         */
+        private boolean pipelineReceipt(TcpDiscoveryAbstractMessage msg, Collection<TcpDiscoveryNode> failedNodes) {
+            return msg instanceof TcpDiscoveryCustomEventMessage && unackedMsgs < MAX_PIPELINED_CUSTOM_MSGS &&
+                failedNodes.isEmpty() && F.isEmpty(msg.failedNodes()) &&
+                queue.peek() instanceof TcpDiscoveryCustomEventMessage;
+        }
+
         /** {@inheritDoc} */
         @Override protected void noMessageLoop() {
             if (locNode == null)
                 return;
 
+            sendCustomDiscardMessage(true);
+
+            readUnackedReceipts();
+
             checkConnection();
 
             sendMetricsUpdateMessage();
@@ -3694,17 +3792,22 @@ class ServerImpl extends TcpDiscoveryImpl {
 
                             assert !forceSndPending || msg instanceof TcpDiscoveryNodeLeftMessage;
 
-                            if (failure || forceSndPending || newNextNode) {
+                            // Receipts of the pipelined messages are lost with the socket they were written to.
+                            boolean unackedLost = unackedMsgs > 0 && sock != unackedSock;
+
+                            if (failure || forceSndPending || newNextNode || unackedLost) {
                                 if (log.isDebugEnabled())
                                     log.debug("Pending messages will be sent [failure=" + failure +
                                         ", newNextNode=" + newNextNode +
                                         ", forceSndPending=" + forceSndPending +
+                                        ", unackedLost=" + unackedLost +
                                         ", failedNodes=" + failedNodes + ']');
 
                                 if (debugMode)
                                     debugLog(msg, "Pending messages will be sent [failure=" + failure +
                                         ", newNextNode=" + newNextNode +
                                         ", forceSndPending=" + forceSndPending +
+                                        ", unackedLost=" + unackedLost +
                                         ", failedNodes=" + failedNodes + ']');
 
                                 for (TcpDiscoveryAbstractMessage pendingMsg : pendingMsgs) {
@@ -3748,6 +3851,9 @@ class ServerImpl extends TcpDiscoveryImpl {
                                     // operations.
                                     timeoutHelper = null;
                                 }
+
+                                if (unackedLost)
+                                    unackedMsgs = 0;
                             }
 
                             if (!(msg instanceof TcpDiscoveryConnectionCheckMessage))
@@ -3777,7 +3883,22 @@ class ServerImpl extends TcpDiscoveryImpl {
 
                                 long tsNanos0 = System.nanoTime();
 
-                                int res = spi.readReceipt(sock, timeoutHelper.nextTimeoutChunk(ackTimeout0));
+                                int res;
+
+                                if (pipelineReceipt(msg, failedNodes)) {
+                                    // Receipt is read after the receipts of the following custom messages.
+                                    res = -1;
+
+                                    unackedMsgs++;
+
+                                    unackedSock = sock;
+                                }
+                                else {
+                                    if (unackedMsgs > 0)
+                                        readUnackedReceipts(timeoutHelper.nextTimeoutChunk(ackTimeout0));
+
+                                    res = spi.readReceipt(sock, timeoutHelper.nextTimeoutChunk(ackTimeout0));
+                                }
 
                                 updateLastSentMessageTime();
 
@@ -3786,6 +3907,9 @@ class ServerImpl extends TcpDiscoveryImpl {
 
                                 spi.stats.onMessageSent(msg, U.nanosToMillis(tsNanos0 - tsNanos));
 
+                                if (msg.verified() && locNode.id().equals(msg.verifierNodeId()))
+                                    spi.stats.onRingMessageSent(msg, ringMessageType(msg));
+
                                 onMessageExchanged();
 
                                 DebugLogger debugLog = messageLogger(msg);
@@ -6192,7 +6316,8 @@ class ServerImpl extends TcpDiscoveryImpl {
                     msg.message(null, msg.messageBytes());
                 }
                 else {
-                    addMessage(new TcpDiscoveryDiscardMessage(getLocalNodeId(), msg.id(), true));
+                    customDiscardId = msg.id();
+                    customDiscardCnt++;
 
                     DiscoverySpiCustomMessage msgObj = null;
 
@@ -8002,6 +8127,21 @@ class ServerImpl extends TcpDiscoveryImpl {
         }
     }
 
+    /**
+     * @param msg Message.
+     * @return Message type to collect ring round-trip time for: class of the wrapped message for custom messages.
+     */
+    private static String ringMessageType(TcpDiscoveryAbstractMessage msg) {
+        if (msg instanceof TcpDiscoveryCustomEventMessage) {
+            DiscoverySpiCustomMessage customMsg = ((TcpDiscoveryCustomEventMessage)msg).message();
+
+            if (customMsg instanceof CustomMessageWrapper)
+                return ((CustomMessageWrapper)customMsg).delegate().getClass().getSimpleName();
+        }
+
+        return msg.getClass().getSimpleName();
+    }
+
     /**
      * Superclass for all message workers.
      *
@@ -21,10 +21,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.IntMetricImpl;
 import org.apache.ignite.internal.util.GridBoundedLinkedHashMap;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteUuid;
@@ -37,6 +39,12 @@ import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metr
  * Statistics for {@link org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi}.
  */
 public class TcpDiscoveryStatistics {
+    /** Prefix of ring round-trip time metric names, followed by message type. */
+    public static final String RING_RTT_METRIC_PREFIX = "RingRoundTripTime";
+
+    /** Bounds of ring round-trip time histograms in milliseconds. */
+    private static final long[] RING_RTT_BOUNDS = new long[] {1, 5, 10, 50, 100, 250, 500, 1000, 5000};
+
     /** Coordinator since timestamp. */
     private final AtomicLong crdSinceTs = new AtomicLong();
 
@@ -64,6 +72,15 @@ public class TcpDiscoveryStatistics {
     /** Messages processing start timestamps. */
     private final Map<IgniteUuid, Long> msgsProcStartTs = new GridBoundedLinkedHashMap<>(1024);
 
+    /** Types and start timestamps of messages sent across the ring by local node as verifier. */
+    private final Map<IgniteUuid, T2<String, Long>> ringMsgsStartTs = new GridBoundedLinkedHashMap<>(1024);
+
+    /** Ring round-trip time histograms by message type. */
+    private final Map<String, HistogramMetricImpl> ringRtt = new HashMap<>();
+
+    /** Discovery metric registry. */
+    private volatile MetricRegistry discoReg;
+
     /** Average message processing time. */
     private long avgMsgProcTime;
 
@@ -106,6 +123,8 @@ public class TcpDiscoveryStatistics {
         discoReg.register(leftNodesCnt);
         discoReg.register(pendingMsgsRegistered);
         discoReg.register(rejectedSslConnectionsCnt);
+
+        this.discoReg = discoReg;
     }
 
     /**
@@ -206,6 +225,41 @@ public class TcpDiscoveryStatistics {
         sentMsgs.put(msg.getClass().getSimpleName(), ++cnt);
     }
 
+    /**
+     * Called by verifier node when a message it verified is sent across the ring.
+     *
+     * @param msg Sent message.
+     * @param type Message type to collect ring round-trip time for.
+     */
+    public synchronized void onRingMessageSent(TcpDiscoveryAbstractMessage msg, String type) {
+        assert msg != null;
+
+        if (!ringMsgsStartTs.containsKey(msg.id()))
+            ringMsgsStartTs.put(msg.id(), new T2<>(type, System.nanoTime()));
+    }
+
+    /**
+     * Called by verifier node when a message it verified has passed the whole ring.
+     *
+     * @param msg Received message.
+     */
+    public synchronized void onRingMessageReturned(TcpDiscoveryAbstractMessage msg) {
+        assert msg != null;
+
+        T2<String, Long> start = ringMsgsStartTs.remove(msg.id());
+
+        MetricRegistry discoReg = this.discoReg;
+
+        if (start == null || discoReg == null)
+            return;
+
+        HistogramMetricImpl hist = ringRtt.computeIfAbsent(start.get1(), type ->
+            discoReg.histogram(RING_RTT_METRIC_PREFIX + type, RING_RTT_BOUNDS,
+                "Time in milliseconds taken by " + type + " message to pass the whole ring."));
+
+        hist.value(U.millisSinceNanos(start.get2()));
+    }
+
     /**
      * Increments pending messages registered count.
      */
@@ -334,6 +388,8 @@ public class TcpDiscoveryStatistics {
         rcvdMsgs.clear();
         sentMsgs.clear();
         rejectedSslConnectionsCnt.reset();
+        ringMsgsStartTs.clear();
+        ringRtt.values().forEach(HistogramMetricImpl::reset);
     }
 
     /** {@inheritDoc} */
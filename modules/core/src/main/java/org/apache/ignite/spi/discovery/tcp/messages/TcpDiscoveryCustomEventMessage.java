@@ -82,6 +82,13 @@ public class TcpDiscoveryCustomEventMessage extends TcpDiscoveryAbstractTraceabl
         return msgBytes;
     }
 
+    /**
+     * @return Deserialized message if it is available, {@code null} otherwise.
+     */
+    @Nullable public DiscoverySpiCustomMessage message() {
+        return msg;
+    }
+
     /**
      * @param msg Message.
      * @param msgBytes Serialized message.
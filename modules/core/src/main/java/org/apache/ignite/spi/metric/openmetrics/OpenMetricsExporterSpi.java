@@ -0,0 +1,562 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.metric.openmetrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramSnapshot;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.IgniteSpiAdapter;
+import org.apache.ignite.spi.IgniteSpiContext;
+import org.apache.ignite.spi.IgniteSpiException;
+import org.apache.ignite.spi.metric.BooleanMetric;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.HistogramMetric;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.spi.metric.MetricExporterSpi;
+import org.apache.ignite.spi.metric.ReadOnlyMetricManager;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.thread.IgniteThreadFactory;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <h2>Overview</h2>
+ *
+ * This SPI exports metrics in the <a href="https://openmetrics.io">OpenMetrics</a> text format, which is scraped by
+ * Prometheus and compatible monitoring systems. It works by `pull` architecture: the node serves the metrics over
+ * an embedded HTTP server, by default on port {@link #DFLT_PORT} and path {@link #DFLT_PATH}. If the request does
+ * not accept {@code application/openmetrics-text}, the metrics are served in the Prometheus text format.
+ * <p>
+ * The values of the metrics are written directly to the response while iterating over the metric registries, so
+ * a scrape does not take a snapshot of all metrics and its cost is proportional to the number of metrics only.
+ * Names of the metrics and the text of their labels are rendered once and cached.
+ * <p>
+ * A metric is exported under its full name with the characters not allowed by the format replaced by {@code '_'},
+ * for example, {@code cache.myCache.CacheGets} is exported as {@code cache_myCache_CacheGets}. Each sample is
+ * labeled with the Ignite instance name and the node consistent ID. Numeric and boolean metrics are exported as
+ * gauges, {@link HistogramMetric} as histograms and {@link LogLinearHistogramMetric} as summaries.
+ *
+ * <h2>Java Example</h2>
+ * <pre>
+ * OpenMetricsExporterSpi openMetricsSpi = new OpenMetricsExporterSpi();
+ *
+ * openMetricsSpi.setPort(9464);
+ *
+ * // Export only cache metrics.
+ * openMetricsSpi.setExportFilter(mreg -&gt; mreg.name().startsWith("cache."));
+ *
+ * IgniteConfiguration cfg = new IgniteConfiguration().setMetricExporterSpi(openMetricsSpi);
+ * </pre>
+ *
+ * @see ReadOnlyMetricManager
+ * @see ReadOnlyMetricRegistry
+ */
+public class OpenMetricsExporterSpi extends IgniteSpiAdapter implements MetricExporterSpi {
+    /** Default port of the HTTP server. */
+    public static final int DFLT_PORT = 9464;
+
+    /** Default path of the metrics. */
+    public static final String DFLT_PATH = "/metrics";
+
+    /** Media type of the OpenMetrics text format. */
+    public static final String OPENMETRICS_TYPE = "application/openmetrics-text";
+
+    /** Content type of the OpenMetrics text format. */
+    private static final String OPENMETRICS_CONTENT_TYPE = OPENMETRICS_TYPE + "; version=1.0.0; charset=utf-8";
+
+    /** Content type of the Prometheus text format. */
+    private static final String TEXT_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** Size of the response buffer. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** Metric registry. */
+    private ReadOnlyMetricManager mreg;
+
+    /** Metric filter. */
+    private @Nullable Predicate<ReadOnlyMetricRegistry> filter;
+
+    /** Host of the HTTP server, {@code null} to bind to all interfaces. */
+    private @Nullable String host;
+
+    /** Port of the HTTP server. */
+    private int port = DFLT_PORT;
+
+    /** Path of the metrics. */
+    private String path = DFLT_PATH;
+
+    /** HTTP server. */
+    private HttpServer srv;
+
+    /** Executor serving the requests. */
+    private ExecutorService execSvc;
+
+    /** Rendered labels common for all samples. */
+    private volatile String labels;
+
+    /** Rendered texts of the metrics by the full metric name. */
+    private final ConcurrentHashMap<String, MetricText> texts = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override public void spiStart(@Nullable String igniteInstanceName) throws IgniteSpiException {
+        assertParameter(port >= 0 && port <= 0xFFFF, "port >= 0 && port <= 65535");
+        assertParameter(path != null && path.startsWith("/"), "path != null && path.startsWith(\"/\")");
+
+        labels = igniteInstanceName == null ? "" : label("iin", igniteInstanceName);
+
+        try {
+            srv = HttpServer.create(host == null ? new InetSocketAddress(port) : new InetSocketAddress(host, port), 0);
+        }
+        catch (IOException e) {
+            throw new IgniteSpiException("Failed to start HTTP server [host=" + host + ", port=" + port + ']', e);
+        }
+
+        execSvc = Executors.newSingleThreadExecutor(new IgniteThreadFactory(igniteInstanceName, "openmetrics-exporter"));
+
+        srv.setExecutor(execSvc);
+        srv.createContext(path, this::handle);
+
+        srv.start();
+
+        mreg.addMetricRegistryRemoveListener(reg -> reg.forEach(m -> texts.remove(m.name())));
+
+        if (log.isInfoEnabled())
+            log.info("OpenMetrics exporter started [addr=" + srv.getAddress() + ", path=" + path + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onContextInitialized0(IgniteSpiContext spiCtx) throws IgniteSpiException {
+        super.onContextInitialized0(spiCtx);
+
+        String consistentIdLabel = label("inci", spiCtx.localNode().consistentId().toString());
+
+        labels = labels.isEmpty() ? consistentIdLabel : labels + ',' + consistentIdLabel;
+
+        texts.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void spiStop() throws IgniteSpiException {
+        if (srv != null)
+            srv.stop(0);
+
+        if (execSvc != null)
+            execSvc.shutdownNow();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setMetricRegistry(ReadOnlyMetricManager reg) {
+        mreg = reg;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void setExportFilter(Predicate<ReadOnlyMetricRegistry> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Sets host of the HTTP server. By default, the server is bound to all interfaces.
+     *
+     * @param host Host.
+     * @return {@code this} for chaining.
+     */
+    public OpenMetricsExporterSpi setHost(@Nullable String host) {
+        this.host = host;
+
+        return this;
+    }
+
+    /** @return Host of the HTTP server. */
+    public @Nullable String getHost() {
+        return host;
+    }
+
+    /**
+     * Sets port of the HTTP server. If {@code 0}, an ephemeral port is used. Default is {@link #DFLT_PORT}.
+     *
+     * @param port Port.
+     * @return {@code this} for chaining.
+     */
+    public OpenMetricsExporterSpi setPort(int port) {
+        this.port = port;
+
+        return this;
+    }
+
+    /** @return Port of the HTTP server. */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets path of the metrics. Default is {@link #DFLT_PATH}.
+     *
+     * @param path Path.
+     * @return {@code this} for chaining.
+     */
+    public OpenMetricsExporterSpi setPath(String path) {
+        this.path = path;
+
+        return this;
+    }
+
+    /** @return Path of the metrics. */
+    public String getPath() {
+        return path;
+    }
+
+    /** @return Address the HTTP server is bound to or {@code null} if the SPI is not started. */
+    public @Nullable InetSocketAddress address() {
+        HttpServer srv0 = srv;
+
+        return srv0 == null ? null : srv0.getAddress();
+    }
+
+    /**
+     * Handles a request.
+     *
+     * @param exch HTTP exchange.
+     */
+    private void handle(HttpExchange exch) {
+        try {
+            if (!"GET".equals(exch.getRequestMethod())) {
+                exch.sendResponseHeaders(405, -1);
+
+                return;
+            }
+
+            String accept = exch.getRequestHeaders().getFirst("Accept");
+            String acceptEnc = exch.getRequestHeaders().getFirst("Accept-Encoding");
+
+            boolean openMetrics = accept != null && accept.contains(OPENMETRICS_TYPE);
+            boolean gzip = acceptEnc != null && acceptEnc.contains("gzip");
+
+            exch.getResponseHeaders().set("Content-Type", openMetrics ? OPENMETRICS_CONTENT_TYPE : TEXT_CONTENT_TYPE);
+
+            if (gzip)
+                exch.getResponseHeaders().set("Content-Encoding", "gzip");
+
+            // Response is sent in chunks as it is written.
+            exch.sendResponseHeaders(200, 0);
+
+            OutputStream out = gzip ? new GZIPOutputStream(exch.getResponseBody(), BUF_SIZE) : exch.getResponseBody();
+
+            try (Writer w = new BufferedWriter(new OutputStreamWriter(out, UTF_8), BUF_SIZE)) {
+                write(w);
+
+                if (openMetrics)
+                    w.write("# EOF\n");
+            }
+        }
+        catch (Throwable e) {
+            U.error(log, "Failed to export metrics [remoteAddr=" + exch.getRemoteAddress() + ']', e);
+        }
+        finally {
+            exch.close();
+        }
+    }
+
+    /**
+     * Writes metrics of all registries satisfying the filter.
+     *
+     * @param w Writer.
+     * @throws IOException If failed.
+     */
+    void write(Writer w) throws IOException {
+        for (ReadOnlyMetricRegistry reg : mreg) {
+            if (filter != null && !filter.test(reg))
+                continue;
+
+            for (Metric m : reg)
+                write(w, m);
+        }
+    }
+
+    /**
+     * @param w Writer.
+     * @param m Metric.
+     * @throws IOException If failed.
+     */
+    private void write(Writer w, Metric m) throws IOException {
+        if (m instanceof LongMetric)
+            writeGauge(w, m, Long.toString(((LongMetric)m).value()));
+        else if (m instanceof IntMetric)
+            writeGauge(w, m, Integer.toString(((IntMetric)m).value()));
+        else if (m instanceof DoubleMetric)
+            writeGauge(w, m, doubleToString(((DoubleMetric)m).value()));
+        else if (m instanceof BooleanMetric)
+            writeGauge(w, m, ((BooleanMetric)m).value() ? "1" : "0");
+        else if (m instanceof HistogramMetric)
+            writeHistogram(w, (HistogramMetric)m);
+        else if (m instanceof LogLinearHistogramMetric)
+            writeSummary(w, (LogLinearHistogramMetric)m);
+    }
+
+    /**
+     * @param w Writer.
+     * @param m Metric.
+     * @param val Value.
+     * @throws IOException If failed.
+     */
+    private void writeGauge(Writer w, Metric m, String val) throws IOException {
+        MetricText txt = text(m, "gauge");
+
+        w.write(txt.hdr);
+        w.write(txt.sample);
+        w.write(val);
+        w.write('\n');
+    }
+
+    /**
+     * @param w Writer.
+     * @param m Histogram metric.
+     * @throws IOException If failed.
+     */
+    private void writeHistogram(Writer w, HistogramMetric m) throws IOException {
+        long[] bounds = m.bounds();
+        long[] vals = m.value();
+
+        MetricText txt = text(m, "histogram");
+
+        // Bounds are replaced on reconfiguration of the histogram.
+        if (txt.bounds != bounds) {
+            String[] samples = new String[bounds.length + 1];
+
+            for (int i = 0; i < bounds.length; i++)
+                samples[i] = txt.sample(txt.name + "_bucket", label("le", Long.toString(bounds[i])));
+
+            samples[bounds.length] = txt.sample(txt.name + "_bucket", label("le", "+Inf"));
+
+            txt.samples = samples;
+            txt.bounds = bounds;
+        }
+
+        w.write(txt.hdr);
+
+        long cnt = 0;
+
+        // Histogram may be reconfigured concurrently.
+        for (int i = 0; i < Math.min(vals.length, txt.samples.length); i++) {
+            cnt += vals[i];
+
+            w.write(txt.samples[i]);
+            w.write(Long.toString(cnt));
+            w.write('\n');
+        }
+
+        w.write(txt.sample(txt.name + "_count", null));
+        w.write(Long.toString(cnt));
+        w.write('\n');
+    }
+
+    /**
+     * @param w Writer.
+     * @param m Log-linear histogram metric.
+     * @throws IOException If failed.
+     */
+    private void writeSummary(Writer w, LogLinearHistogramMetric m) throws IOException {
+        LogLinearHistogramSnapshot snapshot = m.value();
+
+        MetricText txt = text(m, "summary");
+
+        if (txt.samples == null) {
+            String[] samples = new String[LogLinearHistogramMetric.PERCENTILES.length + 1];
+
+            for (int i = 0; i < LogLinearHistogramMetric.PERCENTILES.length; i++) {
+                String quantile = BigDecimal.valueOf(LogLinearHistogramMetric.PERCENTILES[i]).movePointLeft(2)
+                    .stripTrailingZeros().toPlainString();
+
+                samples[i] = txt.sample(txt.name, label("quantile", quantile));
+            }
+
+            samples[samples.length - 1] = txt.sample(txt.name + "_count", null);
+
+            txt.samples = samples;
+        }
+
+        w.write(txt.hdr);
+
+        for (int i = 0; i < LogLinearHistogramMetric.PERCENTILES.length; i++) {
+            w.write(txt.samples[i]);
+            w.write(Long.toString(snapshot.percentile(LogLinearHistogramMetric.PERCENTILES[i])));
+            w.write('\n');
+        }
+
+        w.write(txt.samples[txt.samples.length - 1]);
+        w.write(Long.toString(snapshot.count()));
+        w.write('\n');
+    }
+
+    /**
+     * @param m Metric.
+     * @param type Type of the metric.
+     * @return Rendered text of the metric.
+     */
+    private MetricText text(Metric m, String type) {
+        MetricText txt = texts.get(m.name());
+
+        if (txt == null || txt.cls != m.getClass()) {
+            txt = new MetricText(m, type, labels);
+
+            texts.put(m.name(), txt);
+        }
+
+        return txt;
+    }
+
+    /**
+     * @param name Name of the label.
+     * @param val Value of the label.
+     * @return Rendered label.
+     */
+    private static String label(String name, String val) {
+        StringBuilder sb = new StringBuilder(name.length() + val.length() + 3).append(name).append("=\"");
+
+        for (int i = 0; i < val.length(); i++) {
+            char c = val.charAt(i);
+
+            if (c == '\\' || c == '"')
+                sb.append('\\').append(c);
+            else if (c == '\n')
+                sb.append("\\n");
+            else
+                sb.append(c);
+        }
+
+        return sb.append('"').toString();
+    }
+
+    /**
+     * @param name Full name of the metric.
+     * @return Name of the metric allowed by the format.
+     */
+    static String metricName(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 1);
+
+        if (!name.isEmpty() && Character.isDigit(name.charAt(0)))
+            sb.append('_');
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                c == '_' || c == ':';
+
+            sb.append(allowed ? c : '_');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @param val Value.
+     * @return Value in the format.
+     */
+    private static String doubleToString(double val) {
+        if (Double.isNaN(val))
+            return "NaN";
+
+        if (Double.isInfinite(val))
+            return val > 0 ? "+Inf" : "-Inf";
+
+        return Double.toString(val);
+    }
+
+    /** Rendered text of a metric. */
+    private static class MetricText {
+        /** Class of the metric. */
+        private final Class<?> cls;
+
+        /** Name of the metric. */
+        private final String name;
+
+        /** Labels common for all samples. */
+        private final String labels;
+
+        /** Metadata of the metric. */
+        private final String hdr;
+
+        /** Prefix of the sample of a gauge. */
+        private final String sample;
+
+        /** Prefixes of the samples of a histogram or a summary. */
+        private String[] samples;
+
+        /** Bounds of the histogram {@link #samples} are rendered for. */
+        private long[] bounds;
+
+        /**
+         * @param m Metric.
+         * @param type Type of the metric.
+         * @param labels Labels common for all samples.
+         */
+        MetricText(Metric m, String type, String labels) {
+            cls = m.getClass();
+            name = metricName(m.name());
+            this.labels = labels;
+
+            StringBuilder sb = new StringBuilder();
+
+            if (m.description() != null && !m.description().isEmpty()) {
+                sb.append("# HELP ").append(name).append(' ')
+                    .append(m.description().replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            }
+
+            hdr = sb.append("# TYPE ").append(name).append(' ').append(type).append('\n').toString();
+
+            sample = sample(name, null);
+        }
+
+        /**
+         * @param sampleName Name of the sample.
+         * @param label Rendered label specific for the sample.
+         * @return Prefix of the sample.
+         */
+        String sample(String sampleName, @Nullable String label) {
+            StringBuilder sb = new StringBuilder(sampleName);
+
+            if (!labels.isEmpty() || label != null) {
+                sb.append('{').append(labels);
+
+                if (label != null)
+                    sb.append(labels.isEmpty() ? "" : ",").append(label);
+
+                sb.append('}');
+            }
+
+            return sb.append(' ').toString();
+        }
+    }
+}
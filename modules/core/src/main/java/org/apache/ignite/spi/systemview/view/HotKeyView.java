@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.systemview.view;
+
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.managers.systemview.walker.Order;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.hotspot.TopKeysSketch.HotKey;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Frequently accessed cache key on the local node representation for a {@link SystemView}.
+ * Available if cache hot spots tracking is enabled by {@link IgniteSystemProperties#IGNITE_CACHE_HOT_SPOTS_ENABLED}.
+ */
+public class HotKeyView {
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Tracked key. */
+    private final HotKey hotKey;
+
+    /**
+     * @param cctx Cache context.
+     * @param hotKey Tracked key.
+     */
+    public HotKeyView(GridCacheContext<?, ?> cctx, HotKey hotKey) {
+        this.cctx = cctx;
+        this.hotKey = hotKey;
+    }
+
+    /** @return Cache name. */
+    @Order
+    public String cacheName() {
+        return cctx.name();
+    }
+
+    /** @return Cache id. */
+    @Order(1)
+    public int cacheId() {
+        return cctx.cacheId();
+    }
+
+    /**
+     * @return String representation of the key or {@code null} if sensitive data is excluded from the output.
+     * @see IgniteSystemProperties#IGNITE_TO_STRING_INCLUDE_SENSITIVE
+     */
+    @Order(2)
+    public String key() {
+        if (!S.includeSensitive())
+            return null;
+
+        Object key = hotKey.key().value(cctx.cacheObjectContext(), false);
+
+        return String.valueOf(key);
+    }
+
+    /** @return Key hash code. */
+    @Order(3)
+    public int keyHashCode() {
+        return hotKey.key().hashCode();
+    }
+
+    /** @return Partition id. */
+    @Order(4)
+    public int partitionId() {
+        return hotKey.partition();
+    }
+
+    /** @return Estimated number of reads and writes of the key. It's never less than the real number. */
+    @Order(5)
+    public long accesses() {
+        return hotKey.estimate();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.systemview.view;
+
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.managers.systemview.walker.Order;
+
+/**
+ * Accesses of a cache partition on the local node representation for a {@link SystemView}.
+ * Available if cache hot spots tracking is enabled by {@link IgniteSystemProperties#IGNITE_CACHE_HOT_SPOTS_ENABLED}.
+ */
+public class PartitionAccessView {
+    /** Cache name. */
+    private final String cacheName;
+
+    /** Cache id. */
+    private final int cacheId;
+
+    /** Partition id. */
+    private final int partId;
+
+    /** Number of reads. */
+    private final long reads;
+
+    /** Number of writes. */
+    private final long writes;
+
+    /**
+     * @param cacheName Cache name.
+     * @param cacheId Cache id.
+     * @param partId Partition id.
+     * @param reads Number of reads.
+     * @param writes Number of writes.
+     */
+    public PartitionAccessView(String cacheName, int cacheId, int partId, long reads, long writes) {
+        this.cacheName = cacheName;
+        this.cacheId = cacheId;
+        this.partId = partId;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    /** @return Cache name. */
+    @Order
+    public String cacheName() {
+        return cacheName;
+    }
+
+    /** @return Cache id. */
+    @Order(1)
+    public int cacheId() {
+        return cacheId;
+    }
+
+    /** @return Partition id. */
+    @Order(2)
+    public int partitionId() {
+        return partId;
+    }
+
+    /** @return Number of reads of the partition data. */
+    @Order(3)
+    public long reads() {
+        return reads;
+    }
+
+    /** @return Number of writes to the partition data. */
+    @Order(4)
+    public long writes() {
+        return writes;
+    }
+}
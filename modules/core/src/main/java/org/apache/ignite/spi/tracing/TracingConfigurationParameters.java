@@ -24,7 +24,7 @@ import org.apache.ignite.internal.processors.tracing.Span;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Set of tracing configuration parameters like sampling rate or included scopes.
+ * Set of tracing configuration parameters like sampling rate, included scopes or latency threshold.
  */
 public class TracingConfigurationParameters implements Serializable {
     /** */
@@ -36,6 +36,9 @@ public class TracingConfigurationParameters implements Serializable {
     /** Max valid sampling rate with special meaning that span will be always created. */
     public static final double SAMPLING_RATE_ALWAYS = 1d;
 
+    /** Latency threshold with special meaning that tail-based sampling is disabled. */
+    public static final long LATENCY_THRESHOLD_DISABLED = 0L;
+
     /**
      * Number between 0 and 1 that more or less reflects the probability of sampling a specific trace.
      * 0 and 1 have special meaning here, 0 means never 1 means always. Default value is 0 (never).
@@ -51,6 +54,13 @@ public class TracingConfigurationParameters implements Serializable {
      */
     private final Set<Scope> includedScopes;
 
+    /**
+     * Latency threshold in milliseconds of the tail-based sampling. A trace that wasn't sampled according to the
+     * sampling rate is buffered in memory and exported only if any of its spans lasts longer than the threshold
+     * or fails. 0 means that tail-based sampling is disabled. Default value is 0 (disabled).
+     */
+    private final long latencyThreshold;
+
     /**
      * Constructor.
      *
@@ -61,11 +71,14 @@ public class TracingConfigurationParameters implements Serializable {
      *  or it belongs to the parent's span included scopes, then given child span will be attached to the current trace,
      *  otherwise it'll be skipped.
      *  See {@link Span#isChainable(Scope)} for more details.
+     * @param latencyThreshold Latency threshold in milliseconds of the tail-based sampling.
+     *  0 means that tail-based sampling is disabled. Default value is 0 (disabled).
      */
     private TracingConfigurationParameters(double samplingRate,
-        Set<Scope> includedScopes) {
+        Set<Scope> includedScopes, long latencyThreshold) {
         this.samplingRate = samplingRate;
         this.includedScopes = Collections.unmodifiableSet(includedScopes);
+        this.latencyThreshold = latencyThreshold;
     }
 
     /**
@@ -88,6 +101,17 @@ public class TracingConfigurationParameters implements Serializable {
         return Collections.unmodifiableSet(includedScopes);
     }
 
+    /**
+     * @return Latency threshold in milliseconds of the tail-based sampling. A trace that wasn't sampled according to
+     * the sampling rate is buffered in memory and exported only if any of its spans lasts longer than the threshold
+     * or fails. 0 means that tail-based sampling is disabled. Default value is 0 (disabled).
+     * Note that the spans are passed to the tracing SPI on export, so their start time and duration are exported
+     * as tags, see {@code SpanTags#TAIL_SAMPLED_START_TIME} and {@code SpanTags#TAIL_SAMPLED_DURATION}.
+     */
+    public long latencyThreshold() {
+        return latencyThreshold;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -99,6 +123,8 @@ public class TracingConfigurationParameters implements Serializable {
 
         if (Double.compare(that.samplingRate, samplingRate) != 0)
             return false;
+        if (latencyThreshold != that.latencyThreshold)
+            return false;
         return includedScopes != null ? includedScopes.equals(that.includedScopes) : that.includedScopes == null;
     }
 
@@ -112,6 +138,9 @@ public class TracingConfigurationParameters implements Serializable {
         /** Counterpart of {@code TracingConfigurationParameters} includedScopes. */
         private Set<Scope> includedScopes = Collections.emptySet();
 
+        /** Counterpart of {@code TracingConfigurationParameters} latencyThreshold. */
+        private long latencyThreshold = LATENCY_THRESHOLD_DISABLED;
+
         /**
          * Builder method that allows to set sampling rate.
          *
@@ -145,13 +174,32 @@ public class TracingConfigurationParameters implements Serializable {
             return this;
         }
 
+        /**
+         * Builder method that allows to set latency threshold of the tail-based sampling.
+         *
+         * @param latencyThreshold Latency threshold in milliseconds. A trace that wasn't sampled according to
+         * the sampling rate is buffered in memory and exported only if any of its spans lasts longer than the threshold
+         * or fails. 0 means that tail-based sampling is disabled. Default value is 0 (disabled).
+         * @return {@code TracingConfigurationParameters} instance.
+         */
+        public @NotNull Builder withLatencyThreshold(long latencyThreshold) {
+            if (latencyThreshold < LATENCY_THRESHOLD_DISABLED) {
+                throw new IllegalArgumentException("Specified latency threshold=[" + latencyThreshold + "] has " +
+                    "invalid value. Should be non-negative.");
+            }
+
+            this.latencyThreshold = latencyThreshold;
+
+            return this;
+        }
+
         /**
          * Builder's build() method.
          *
          * @return {@code TracingConfigurationParameters} instance.
          */
         public TracingConfigurationParameters build() {
-            return new TracingConfigurationParameters(samplingRate, includedScopes);
+            return new TracingConfigurationParameters(samplingRate, includedScopes, latencyThreshold);
         }
     }
 }
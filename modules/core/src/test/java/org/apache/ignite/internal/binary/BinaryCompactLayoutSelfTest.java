@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinaryTypeConfiguration;
+import org.apache.ignite.binary.BinaryWriter;
+import org.apache.ignite.binary.Binarylizable;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.binary.builder.BinaryObjectBuilderImpl;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for binary objects written in the compact layout.
+ */
+public class BinaryCompactLayoutSelfTest extends GridCommonAbstractTest {
+    /** Fields of the test object. */
+    private static final String[] FIELDS = {"i", "l", "str", "d", "nullInt", "uuid", "arr", "sh", "last"};
+
+    /** Marshaller writing the test type in the compact layout. */
+    private BinaryMarshaller compactMarsh;
+
+    /** Marshaller writing the test type in the regular layout. */
+    private BinaryMarshaller regularMarsh;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        compactMarsh = createMarshaller(true);
+        regularMarsh = createMarshaller(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLayout() throws Exception {
+        TestObject obj = new TestObject();
+
+        BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+        BinaryObjectImpl regular = toBinary(regularMarsh, obj);
+
+        assertTrue(compactLayout(compact));
+        assertFalse(compactLayout(regular));
+
+        // Offsets of the leading primitive fields "i" and "l" are not written, one byte each.
+        assertEquals(regular.length() - 2, compact.length());
+
+        assertEquals(obj, compact.deserialize());
+
+        // Identity of the object does not depend on the layout.
+        assertEquals(regular, compact);
+        assertEquals(regular.hashCode(), compact.hashCode());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFields() throws Exception {
+        TestObject obj = new TestObject();
+
+        BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+        BinaryObjectImpl regular = toBinary(regularMarsh, obj);
+
+        for (String name : FIELDS) {
+            Object exp = regular.field(name);
+
+            assertFieldEquals(name, exp, compact.field(name));
+            assertFieldEquals(name, exp, compact.type().field(name).value(compact));
+        }
+    }
+
+    /**
+     * @param name Field name.
+     * @param exp Expected value.
+     * @param act Actual value.
+     */
+    private static void assertFieldEquals(String name, Object exp, Object act) {
+        if (exp instanceof byte[])
+            assertTrue(name, Arrays.equals((byte[])exp, (byte[])act));
+        else
+            assertEquals(name, exp, act);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFieldComparator() throws Exception {
+        BinaryObjectImpl compact = toBinary(compactMarsh, new TestObject());
+        BinaryObjectImpl regular = toBinary(regularMarsh, new TestObject());
+
+        for (int order = 0; order < FIELDS.length; order++) {
+            BinarySerializedFieldComparator c1 = compact.createFieldComparator();
+            BinarySerializedFieldComparator c2 = regular.createFieldComparator();
+
+            c1.findField(order);
+            c2.findField(order);
+
+            assertTrue(FIELDS[order], BinarySerializedFieldComparator.equals(c1, c2));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilder() throws Exception {
+        TestObject obj = new TestObject();
+
+        BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+
+        String str = String.join("", Collections.nCopies(300, "x"));
+
+        BinaryObject res = new BinaryObjectBuilderImpl(compact)
+            .setField("str", str)
+            .setField("nullInt", 42)
+            .build();
+
+        assertTrue(compactLayout((BinaryObjectImpl)res));
+
+        obj.str = str;
+        obj.nullInt = 42;
+
+        assertEquals(obj, res.deserialize());
+
+        for (String name : new String[] {"i", "l", "d", "uuid", "sh", "last"})
+            assertFieldEquals(name, compact.field(name), res.field(name));
+
+        // Unchanged object is copied field by field.
+        assertEquals(compact, new BinaryObjectBuilderImpl(compact).build());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReaderFieldsByName() throws Exception {
+        BinarylizableObject obj = new BinarylizableObject(1, 2L, "str", 3.0, 4);
+
+        BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+        BinaryObjectImpl regular = toBinary(regularMarsh, obj);
+
+        assertTrue(compactLayout(compact));
+
+        // Offsets of the leading primitive fields "i", "l" and "obj" are not written.
+        assertEquals(regular.length() - 3, compact.length());
+
+        // Fields are read in the order different from the order they are written in.
+        assertEquals(obj, compact.deserialize());
+        assertEquals(obj, compactMarsh.unmarshal(compactMarsh.marshal(obj), null));
+
+        for (String name : BinarylizableObject.FIELDS)
+            assertEquals(name, (Object)regular.field(name), compact.field(name));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLeadingFieldsOfSameSchema() throws Exception {
+        // The same schema, but the leading primitive fields differ: "obj" is written as an object if it is null.
+        BinarylizableObject[] objs = {
+            new BinarylizableObject(1, 2L, "str", 3.0, 4),
+            new BinarylizableObject(5, 6L, "str", 7.0, null),
+            new BinarylizableObject(8, 9L, "str", 10.0, 11)
+        };
+
+        // The second pass reads the objects with the offsets of the leading fields cached in the schema.
+        for (int i = 0; i < 2; i++) {
+            for (BinarylizableObject obj : objs) {
+                BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+                BinaryObjectImpl regular = toBinary(regularMarsh, obj);
+
+                assertEquals(obj.obj == null ? 2 : 3, regular.length() - compact.length());
+
+                assertEquals(obj, compact.deserialize());
+
+                for (String name : BinarylizableObject.FIELDS)
+                    assertEquals(name, (Object)regular.field(name), compact.field(name));
+            }
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilderOfBinarylizable() throws Exception {
+        BinarylizableObject obj = new BinarylizableObject(1, 2L, "str", 3.0, 4);
+
+        BinaryObjectImpl compact = toBinary(compactMarsh, obj);
+
+        // Primitive field becomes null, so the leading primitive fields of the result are "i" and "l" only.
+        BinaryObject res = compact.toBuilder()
+            .setField("l", 42L)
+            .setField("obj", null)
+            .setField("str", "other")
+            .build();
+
+        assertTrue(compactLayout((BinaryObjectImpl)res));
+
+        assertEquals(new BinarylizableObject(1, 42L, "other", 3.0, null), res.deserialize());
+        assertEquals(Integer.valueOf(1), res.field("i"));
+        assertEquals(Long.valueOf(42L), res.field("l"));
+        assertNull(res.field("obj"));
+        assertEquals("other", res.field("str"));
+        assertEquals(Double.valueOf(3.0), res.field("d"));
+
+        // Objects of the schema with different leading primitive fields are still read correctly.
+        assertEquals(obj, compact.deserialize());
+        assertEquals(Integer.valueOf(4), compact.field("obj"));
+
+        BinaryObject res2 = res.toBuilder().setField("obj", 5).build();
+
+        assertEquals(new BinarylizableObject(1, 42L, "other", 3.0, 5), res2.deserialize());
+        assertEquals(Integer.valueOf(5), res2.field("obj"));
+        assertEquals(Double.valueOf(3.0), res2.field("d"));
+    }
+
+    /**
+     * @param obj Binary object.
+     * @return Whether the object is written in the compact layout.
+     */
+    private static boolean compactLayout(BinaryObjectImpl obj) {
+        short flags = BinaryPrimitives.readShort(obj.array(), obj.start() + GridBinaryMarshaller.FLAGS_POS);
+
+        return BinaryUtils.isCompactLayout(flags);
+    }
+
+    /**
+     * @param marsh Marshaller.
+     * @param obj Object.
+     * @return Binary object.
+     * @throws Exception If failed.
+     */
+    private static BinaryObjectImpl toBinary(BinaryMarshaller marsh, Object obj) throws Exception {
+        GridBinaryMarshaller impl = U.field(marsh, "impl");
+
+        return new BinaryObjectImpl(impl.context(), marsh.marshal(obj), 0);
+    }
+
+    /**
+     * @param compactLayout Whether to write the test type in the compact layout.
+     * @return Binary marshaller.
+     * @throws Exception If failed.
+     */
+    private static BinaryMarshaller createMarshaller(boolean compactLayout) throws Exception {
+        BinaryContext ctx = new BinaryContext(BinaryCachingMetadataHandler.create(), new IgniteConfiguration(),
+            new NullLogger());
+
+        BinaryMarshaller marsh = new BinaryMarshaller();
+
+        BinaryConfiguration bCfg = new BinaryConfiguration();
+
+        bCfg.setTypeConfigurations(Arrays.asList(
+            new BinaryTypeConfiguration(TestObject.class.getName()).setCompactLayout(compactLayout),
+            new BinaryTypeConfiguration(BinarylizableObject.class.getName()).setCompactLayout(compactLayout)));
+
+        IgniteConfiguration iCfg = new IgniteConfiguration();
+
+        iCfg.setBinaryConfiguration(bCfg);
+
+        marsh.setContext(new MarshallerContextTestImpl(null));
+
+        marsh.setBinaryContext(ctx, iCfg);
+
+        return marsh;
+    }
+
+    /**
+     * Test object mixing fixed and variable length fields.
+     */
+    public static class TestObject {
+        /** */
+        private int i = 1;
+
+        /** */
+        private long l = 2;
+
+        /** */
+        private String str = "str";
+
+        /** */
+        private double d = 3.0;
+
+        /** */
+        private Integer nullInt;
+
+        /** */
+        private UUID uuid = new UUID(4, 5);
+
+        /** */
+        private byte[] arr = {6, 7};
+
+        /** */
+        private short sh = 8;
+
+        /** */
+        private long last = 9;
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (!(o instanceof TestObject))
+                return false;
+
+            TestObject other = (TestObject)o;
+
+            return i == other.i && l == other.l && str.equals(other.str) && d == other.d &&
+                (nullInt == null ? other.nullInt == null : nullInt.equals(other.nullInt)) &&
+                uuid.equals(other.uuid) && Arrays.equals(arr, other.arr) && sh == other.sh && last == other.last;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return i;
+        }
+    }
+
+    /**
+     * Test object writing primitive fields before and after a variable length field.
+     */
+    public static class BinarylizableObject implements Binarylizable {
+        /** Fields in the write order. */
+        private static final String[] FIELDS = {"i", "l", "obj", "str", "d"};
+
+        /** */
+        private int i;
+
+        /** */
+        private long l;
+
+        /** Written as a primitive unless {@code null}. */
+        private Integer obj;
+
+        /** */
+        private String str;
+
+        /** */
+        private double d;
+
+        /**
+         * Default constructor.
+         */
+        public BinarylizableObject() {
+            // No-op.
+        }
+
+        /**
+         * @param i Int value.
+         * @param l Long value.
+         * @param str String value.
+         * @param d Double value.
+         * @param obj Integer value.
+         */
+        BinarylizableObject(int i, long l, String str, double d, Integer obj) {
+            this.i = i;
+            this.l = l;
+            this.str = str;
+            this.d = d;
+            this.obj = obj;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeBinary(BinaryWriter writer) throws BinaryObjectException {
+            writer.writeInt("i", i);
+            writer.writeLong("l", l);
+
+            if (obj != null)
+                writer.writeInt("obj", obj);
+            else
+                writer.writeObject("obj", null);
+
+            writer.writeString("str", str);
+            writer.writeDouble("d", d);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readBinary(BinaryReader reader) throws BinaryObjectException {
+            d = reader.readDouble("d");
+            str = reader.readString("str");
+            l = reader.readLong("l");
+            obj = reader.readObject("obj");
+            i = reader.readInt("i");
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (!(o instanceof BinarylizableObject))
+                return false;
+
+            BinarylizableObject other = (BinarylizableObject)o;
+
+            return i == other.i && l == other.l && F.eq(obj, other.obj) && F.eq(str, other.str) && d == other.d;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return i;
+        }
+    }
+}
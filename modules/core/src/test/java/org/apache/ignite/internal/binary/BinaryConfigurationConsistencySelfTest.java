@@ -147,6 +147,18 @@ public class BinaryConfigurationConsistencySelfTest extends GridCommonAbstractTe
         checkNegative(customConfig(false), null);
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNegativeCompactLayoutConfigs() throws Exception {
+        BinaryConfiguration compactLayoutCfg = customConfig(true);
+
+        compactLayoutCfg.getTypeConfigurations().iterator().next().setCompactLayout(true);
+
+        checkNegative(customConfig(true), compactLayoutCfg);
+    }
+
     /**
      * @param bCfg1 BinaryConfiguration 1.
      * @param bCfg2 BinaryConfiguration 2.
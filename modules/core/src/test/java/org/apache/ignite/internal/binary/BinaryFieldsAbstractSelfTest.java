@@ -58,9 +58,9 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         bCfg.setCompactFooter(compactFooter());
 
         bCfg.setTypeConfigurations(Arrays.asList(
-            new BinaryTypeConfiguration(TestObject.class.getName()),
-            new BinaryTypeConfiguration(TestOuterObject.class.getName()),
-            new BinaryTypeConfiguration(TestInnerObject.class.getName())
+            new BinaryTypeConfiguration(TestObject.class.getName()).setCompactLayout(compactLayout()),
+            new BinaryTypeConfiguration(TestOuterObject.class.getName()).setCompactLayout(compactLayout()),
+            new BinaryTypeConfiguration(TestInnerObject.class.getName()).setCompactLayout(compactLayout())
         ));
 
         IgniteConfiguration iCfg = new IgniteConfiguration();
@@ -81,6 +81,13 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         return true;
     }
 
+    /**
+     * @return Whether to use compact layout.
+     */
+    protected boolean compactLayout() {
+        return false;
+    }
+
     /**
      * Get binary context for the current marshaller.
      *
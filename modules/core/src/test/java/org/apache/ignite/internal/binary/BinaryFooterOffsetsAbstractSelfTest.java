@@ -55,7 +55,8 @@ public abstract class BinaryFooterOffsetsAbstractSelfTest extends GridCommonAbst
 
         BinaryConfiguration bCfg = new BinaryConfiguration();
 
-        bCfg.setTypeConfigurations(Arrays.asList(new BinaryTypeConfiguration(TestObject.class.getName())));
+        bCfg.setTypeConfigurations(Arrays.asList(
+            new BinaryTypeConfiguration(TestObject.class.getName()).setCompactLayout(compactLayout())));
 
         bCfg.setCompactFooter(compactFooter());
 
@@ -73,6 +74,13 @@ public abstract class BinaryFooterOffsetsAbstractSelfTest extends GridCommonAbst
         return true;
     }
 
+    /**
+     * @return Whether to use compact layout.
+     */
+    protected boolean compactLayout() {
+        return false;
+    }
+
     /**
      * Test 1 byte.
      *
@@ -1208,6 +1208,44 @@ public class BinaryMarshallerSelfTest extends AbstractBinaryArraysTest {
         assertNull(bob.getField("a"));
     }
 
+    /**
+     * Checks that a value of a type other than the field type is not set to the field.
+     */
+    @Test
+    public void testReadFieldValueOfOtherType() throws IgniteCheckedException {
+        BinaryMarshaller m = binaryMarshaller();
+
+        BinaryObjectImpl bo = marshal(new NumberHolder(1, "a"), m);
+
+        NumberHolder res = unmarshal(bo, m);
+
+        assertEquals(1, res.num);
+        assertEquals("a", res.str);
+
+        BinaryObjectImpl modified = (BinaryObjectImpl)bo.toBuilder().setField("num", "b", Object.class).build();
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> unmarshal(modified, m), BinaryObjectException.class,
+            "Failed to set value for field");
+    }
+
+    /** */
+    private static class NumberHolder {
+        /** */
+        private final Number num;
+
+        /** */
+        private final String str;
+
+        /**
+         * @param num Number.
+         * @param str String.
+         */
+        private NumberHolder(Number num, String str) {
+            this.num = num;
+            this.str = str;
+        }
+    }
+
     /**
      *
      */
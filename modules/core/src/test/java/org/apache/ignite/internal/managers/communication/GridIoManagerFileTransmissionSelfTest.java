@@ -66,6 +66,7 @@ import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.spi.IgniteSpiException;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.After;
@@ -73,6 +74,9 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.FILE_RCVD_BYTES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.FILE_SENT_BYTES_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.FILE_SUFFIX;
 import static org.apache.ignite.internal.util.IgniteUtils.fileCount;
 import static org.apache.ignite.testframework.GridTestUtils.setFieldValue;
@@ -581,6 +585,57 @@ public class GridIoManagerFileTransmissionSelfTest extends GridCommonAbstractTes
         assertCrcEquals(fileToSend, rcvFile);
     }
 
+    /**
+     * @throws Exception If fails.
+     */
+    @Test
+    public void testFileHandlerBufferedCopyIfZeroCopyUnsupported() throws Exception {
+        final int fileSizeBytes = 5 * 1024 * 1024;
+
+        snd = startGrid(0);
+        rcv = startGrid(1);
+
+        FileIOFactory factory = new FileIOFactory() {
+            @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+                return new FileIODecorator(IO_FACTORY.create(file, modes)) {
+                    /** {@inheritDoc} */
+                    @Override public long transferTo(long position, long count, WritableByteChannel target) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    /** {@inheritDoc} */
+                    @Override public long transferFrom(ReadableByteChannel src, long position, long count) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+
+        transmissionFileIoFactory(snd, factory);
+        transmissionFileIoFactory(rcv, factory);
+
+        File fileToSend = createFileRandomData("File_5MB", fileSizeBytes);
+
+        rcv.context().io().addTransmissionHandler(topic, new DefaultTransmissionHandler(rcv, fileToSend, tempStore));
+
+        try (GridIoManager.TransmissionSender sender = snd.context()
+            .io()
+            .openTransmissionSender(rcv.localNode().id(), topic)) {
+            sender.send(fileToSend, TransmissionPolicy.FILE);
+        }
+
+        File rcvFile = new File(tempStore, fileToSend.getName() + "_" + rcv.localNode().id());
+
+        assertEquals(fileToSend.length(), rcvFile.length());
+        assertCrcEquals(fileToSend, rcvFile);
+
+        LongMetric sent = snd.context().metric().registry(COMM_METRICS).findMetric(FILE_SENT_BYTES_CNT);
+        LongMetric rcvd = rcv.context().metric().registry(COMM_METRICS).findMetric(FILE_RCVD_BYTES_CNT);
+
+        assertEquals(fileSizeBytes, sent.value());
+        assertTrue(GridTestUtils.waitForCondition(() -> rcvd.value() == fileSizeBytes, getTestTimeout()));
+    }
+
     /**
      * @throws Exception If fails.
      */
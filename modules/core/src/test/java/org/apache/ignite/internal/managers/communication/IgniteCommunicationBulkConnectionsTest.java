@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.nio.GridCommunicationClient;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.communication.tcp.internal.ConnectionClientPool;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests connections dedicated to bulk messages, adaptive number of connections per node and per-class outbound
+ * message queues.
+ */
+public class IgniteCommunicationBulkConnectionsTest extends GridCommonAbstractTest {
+    /** */
+    private static final int CONNS_PER_NODE = 4;
+
+    /** */
+    private int bulkConns;
+
+    /** */
+    private boolean adaptive;
+
+    /** */
+    private boolean msgPriorities;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        ((TcpCommunicationSpi)cfg.getCommunicationSpi())
+            .setConnectionsPerNode(CONNS_PER_NODE)
+            .setBulkConnectionsPerNode(bulkConns)
+            .setAdaptiveConnectionsPerNode(adaptive)
+            .setMessagePrioritiesEnabled(msgPriorities)
+            .setSharedMemoryPort(-1);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBulkMessagesUseDedicatedConnection() throws Exception {
+        bulkConns = 1;
+        adaptive = true;
+
+        IgniteEx srv0 = startGrids(2);
+        IgniteEx srv1 = grid(1);
+
+        IgniteCache<Integer, Integer> cache = srv0.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = srv0.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < 10_000; i++)
+                streamer.addData(i, i);
+        }
+
+        assertNotNull(client(srv0, srv1, CONNS_PER_NODE - 1));
+
+        // Regular connections are not saturated, so only the first one is used.
+        for (int i = 1; i < CONNS_PER_NODE - 1; i++)
+            assertNull("Unexpected connection: " + i, client(srv0, srv1, i));
+
+        for (int i = 0; i < 10_000; i++)
+            assertEquals(i, (int)cache.get(i));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAdaptiveConnectionsOpenedOnDemand() throws Exception {
+        adaptive = true;
+
+        IgniteEx srv0 = startGrids(2);
+        IgniteEx srv1 = grid(1);
+
+        IgniteCache<Integer, Integer> cache = srv0.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 1_000; i++)
+            cache.put(i, i);
+
+        for (int i = 1; i < CONNS_PER_NODE; i++)
+            assertNull("Unexpected connection: " + i, client(srv0, srv1, i));
+
+        AtomicInteger cnt = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            IgniteCache<Integer, Integer> cache0 = grid(cnt.getAndIncrement() % 2).cache(DEFAULT_CACHE_NAME);
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 5_000; i++) {
+                int key = rnd.nextInt(10_000);
+
+                cache0.put(key, key);
+            }
+        }, 32, "put-thread");
+
+        for (int i = 0; i < 10_000; i++) {
+            Integer val = cache.get(i);
+
+            assertTrue(val == null || val == i);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMessagePriorities() throws Exception {
+        msgPriorities = true;
+
+        IgniteEx srv0 = startGrids(2);
+
+        srv0.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        IgniteInternalFuture<?> fut = GridTestUtils.runAsync(() -> {
+            try (IgniteDataStreamer<Integer, Integer> streamer = srv0.dataStreamer(DEFAULT_CACHE_NAME)) {
+                for (int i = 0; i < 50_000; i++)
+                    streamer.addData(i, i);
+            }
+        });
+
+        GridTestUtils.runMultiThreaded(() -> {
+            IgniteCache<Integer, Integer> cache0 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 1_000; i++) {
+                int key = 50_000 + rnd.nextInt(10_000);
+
+                cache0.put(key, key);
+
+                assertEquals(key, (int)cache0.get(key));
+            }
+        }, 8, "put-thread");
+
+        fut.get();
+
+        startGrid(2);
+
+        awaitPartitionMapExchange();
+
+        for (int i = 0; i < 50_000; i++)
+            assertEquals(i, (int)grid(2).cache(DEFAULT_CACHE_NAME).get(i));
+    }
+
+    /**
+     * @param from Node to get client from.
+     * @param to Remote node.
+     * @param connIdx Connection index.
+     * @return Communication client or {@code null} if the connection is not established.
+     */
+    private static GridCommunicationClient client(IgniteEx from, IgniteEx to, int connIdx) {
+        ConnectionClientPool pool = GridTestUtils.getFieldValue(from.configuration().getCommunicationSpi(), "clientPool");
+
+        GridCommunicationClient[] clients = pool.clientFor(to.localNode().id());
+
+        return clients == null ? null : clients[connIdx];
+    }
+}
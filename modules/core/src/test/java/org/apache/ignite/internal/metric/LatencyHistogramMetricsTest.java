@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metric;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_LATENCY_HISTOGRAMS_ENABLED;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
+/**
+ * Tests the latency histograms of operations.
+ */
+public class LatencyHistogramMetricsTest extends GridCommonAbstractTest {
+    /** Latency histograms of the cache. */
+    private static final String[] CACHE_LATENCIES = {"GetLatency", "PutLatency", "InvokeLatency", "CommitLatency"};
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setMetricsEnabled(true)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setStatisticsEnabled(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_LATENCY_HISTOGRAMS_ENABLED, value = "true")
+    public void testLatencyHistograms() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        int cnt = 100;
+
+        for (int i = 0; i < cnt; i++) {
+            cache.put(i, i);
+            cache.get(i);
+            cache.invoke(i, (e, args) -> {
+                e.setValue(e.getValue() + 1);
+
+                return null;
+            });
+
+            try (Transaction tx = ignite.transactions().txStart()) {
+                cache.put(i, i);
+
+                tx.commit();
+            }
+        }
+
+        MetricRegistry mreg = ignite.context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        for (String name : CACHE_LATENCIES) {
+            LogLinearHistogramMetric h = mreg.findMetric(name);
+
+            assertTrue(name, h.value().count() >= cnt);
+
+            checkPercentiles(mreg, name);
+        }
+
+        forceCheckpoint();
+
+        MetricRegistry dsReg = ignite.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        LogLinearHistogramMetric cpLatency = dsReg.findMetric("CheckpointLatency");
+
+        assertTrue(cpLatency.value().count() > 0);
+
+        checkPercentiles(dsReg, "CheckpointLatency");
+
+        mreg.reset();
+
+        assertEquals(0, mreg.<LogLinearHistogramMetric>findMetric("GetLatency").value().count());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testLatencyHistogramsDisabledByDefault() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        ignite.cache(DEFAULT_CACHE_NAME).put(1, 1);
+
+        MetricRegistry mreg = ignite.context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        for (String name : CACHE_LATENCIES)
+            assertNull(name, mreg.findMetric(name));
+
+        assertNull(ignite.context().metric().registry(DATASTORAGE_METRIC_PREFIX).findMetric("CheckpointLatency"));
+    }
+
+    /**
+     * @param mreg Metric registry.
+     * @param name Name of the histogram.
+     */
+    private static void checkPercentiles(MetricRegistry mreg, String name) {
+        LogLinearHistogramMetric h = mreg.findMetric(name);
+
+        long prev = 0;
+
+        for (int i = 0; i < LogLinearHistogramMetric.PERCENTILES.length; i++) {
+            LongMetric p = mreg.findMetric(name + LogLinearHistogramMetric.PERCENTILE_SUFFIXES[i]);
+
+            assertNotNull(name, p);
+
+            assertTrue(name, p.value() >= prev);
+            assertTrue(name, p.value() <= h.value().max());
+
+            prev = p.value();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.metric;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.Spliterators;
 import java.util.concurrent.CountDownLatch;
@@ -33,6 +34,8 @@ import org.apache.ignite.internal.processors.metric.impl.DoubleMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.processors.metric.impl.IntMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramMetric;
+import org.apache.ignite.internal.processors.metric.impl.LogLinearHistogramSnapshot;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -290,6 +293,81 @@ public class MetricsSelfTest extends GridCommonAbstractTest {
         assertEquals(cnt * 4, res[3]);
     }
 
+    /** */
+    @Test
+    public void testLogLinearHistogram() throws Exception {
+        LogLinearHistogramMetric h = mreg.logLinearHistogram("lltest", 1_000_000, "test");
+
+        // Values are distinct in the low range.
+        for (long i = 0; i < 32; i++)
+            assertEquals(i, LogLinearHistogramMetric.upperBound(LogLinearHistogramMetric.bucket(i, 4), 4));
+
+        Random rnd = new Random();
+
+        for (int i = 0; i < 10_000; i++) {
+            long x = rnd.nextInt(1_000_000);
+
+            long ub = LogLinearHistogramMetric.upperBound(LogLinearHistogramMetric.bucket(x, 4), 4);
+
+            assertTrue("x=" + x + ", ub=" + ub, ub >= x && ub - x <= x / 16);
+        }
+
+        List<IgniteInternalFuture> futs = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            futs.add(runAsync(() -> {
+                for (int i = 1; i <= 1000; i++)
+                    h.value(i * 1000L);
+            }));
+        }
+
+        for (IgniteInternalFuture fut : futs)
+            fut.get();
+
+        h.value(-1);
+        h.value(Long.MAX_VALUE);
+
+        LogLinearHistogramSnapshot snapshot = h.value();
+
+        assertEquals(4002, snapshot.count());
+        assertEquals(0, snapshot.percentile(0));
+
+        assertPercentile(500_000, snapshot.percentile(50));
+        assertPercentile(990_000, snapshot.percentile(99));
+        assertPercentile(1_000_000, snapshot.max());
+
+        assertEquals(snapshot.percentile(99), mreg.<LongMetric>findMetric("lltestP99").value());
+        assertEquals(snapshot.percentile(99.9), mreg.<LongMetric>findMetric("lltestP999").value());
+
+        LogLinearHistogramMetric other = new LogLinearHistogramMetric("other", null, h.precision(), 10_000_000);
+
+        for (int i = 0; i < 4002; i++)
+            other.value(2_000_000);
+
+        LogLinearHistogramSnapshot merged = snapshot.merge(other.value());
+
+        assertEquals(8004, merged.count());
+        assertPercentile(1_000_000, merged.percentile(50));
+        assertPercentile(2_000_000, merged.percentile(51));
+
+        assertThrowsWithCause(
+            () -> snapshot.merge(new LogLinearHistogramMetric("other", null, 2, 100).value()),
+            IllegalArgumentException.class);
+
+        h.reset();
+
+        assertEquals(0, h.value().count());
+        assertEquals(0, mreg.<LongMetric>findMetric("lltestP50").value());
+    }
+
+    /**
+     * @param exp Expected value.
+     * @param act Value of the histogram percentile.
+     */
+    private static void assertPercentile(long exp, long act) {
+        assertTrue("exp=" + exp + ", act=" + act, act >= exp && act - exp <= exp / 16);
+    }
+
     /** */
     @Test
     public void testGetMetrics() throws Exception {
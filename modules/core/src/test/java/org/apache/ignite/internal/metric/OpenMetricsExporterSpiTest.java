@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metric;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.zip.GZIPInputStream;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.metric.openmetrics.OpenMetricsExporterSpi;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.spi.metric.openmetrics.OpenMetricsExporterSpi.OPENMETRICS_TYPE;
+
+/** */
+public class OpenMetricsExporterSpiTest extends AbstractExporterSpiTest {
+    /** */
+    private static IgniteEx ignite;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        OpenMetricsExporterSpi spi = new OpenMetricsExporterSpi();
+
+        spi.setHost("127.0.0.1");
+        spi.setPort(0);
+        spi.setExportFilter(mreg -> !mreg.name().startsWith(FILTERED_PREFIX));
+
+        cfg.setMetricExporterSpi(spi);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        ignite = startGrid(0);
+
+        createAdditionalMetrics(ignite);
+
+        MetricRegistry reg = ignite.context().metric().registry("other.histogram");
+
+        reg.histogram("hist", new long[] {10, 100}, "Histogram.").value(5);
+
+        reg.logLinearHistogram("latency", 1_000_000, "Latency.").value(1000);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        ignite = null;
+
+        super.afterTestsStopped();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testOpenMetricsFormat() throws Exception {
+        String res = scrape(OPENMETRICS_TYPE, false);
+
+        String labels = "{iin=\"" + ignite.name() + "\",inci=\"" + ignite.localNode().consistentId() + "\"}";
+
+        assertTrue(res, res.contains("# TYPE other_prefix_test gauge\nother_prefix_test" + labels + " 42\n"));
+        assertTrue(res, res.contains("other_prefix_test2" + labels + " 43\n"));
+        assertTrue(res, res.contains("other_prefix2_test3" + labels + " 44\n"));
+        assertFalse(res, res.contains("filtered_metric"));
+
+        String bucketLabels = labels.substring(0, labels.length() - 1) + ",le=";
+
+        assertTrue(res, res.contains("# HELP other_histogram_hist Histogram.\n# TYPE other_histogram_hist histogram\n"));
+        assertTrue(res, res.contains("other_histogram_hist_bucket" + bucketLabels + "\"10\"} 1\n"));
+        assertTrue(res, res.contains("other_histogram_hist_bucket" + bucketLabels + "\"100\"} 1\n"));
+        assertTrue(res, res.contains("other_histogram_hist_bucket" + bucketLabels + "\"+Inf\"} 1\n"));
+        assertTrue(res, res.contains("other_histogram_hist_count" + labels + " 1\n"));
+
+        assertTrue(res, res.contains("# TYPE other_histogram_latency summary\n"));
+        assertTrue(res, res.contains("other_histogram_latency_count" + labels + " 1\n"));
+        assertTrue(res, res.contains("other_histogram_latency" + labels.substring(0, labels.length() - 1) +
+            ",quantile=\"0.999\"} "));
+
+        assertTrue(res, res.endsWith("# EOF\n"));
+
+        // Texts of the metrics are rendered on the first scrape and cached.
+        res = scrape(OPENMETRICS_TYPE, false);
+
+        assertTrue(res, res.contains("# TYPE other_prefix_test gauge\nother_prefix_test" + labels + " 42\n"));
+        assertTrue(res, res.contains("other_histogram_hist_count" + labels + " 1\n"));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testTextFormat() throws Exception {
+        String res = scrape("text/plain", false);
+
+        assertTrue(res, res.contains("other_prefix_test{"));
+        assertFalse(res, res.contains("# EOF"));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testGzip() throws Exception {
+        String res = scrape(OPENMETRICS_TYPE, true);
+
+        assertTrue(res, res.contains("other_prefix_test{"));
+        assertTrue(res, res.endsWith("# EOF\n"));
+    }
+
+    /**
+     * @param accept Accepted media type.
+     * @param gzip Whether to request a compressed response.
+     * @return Response.
+     * @throws Exception If failed.
+     */
+    private String scrape(String accept, boolean gzip) throws Exception {
+        OpenMetricsExporterSpi spi = (OpenMetricsExporterSpi)ignite.configuration().getMetricExporterSpi()[0];
+
+        InetSocketAddress addr = spi.address();
+
+        HttpURLConnection conn = (HttpURLConnection)new URL("http://127.0.0.1:" + addr.getPort() +
+            OpenMetricsExporterSpi.DFLT_PATH).openConnection();
+
+        conn.setRequestProperty("Accept", accept);
+
+        if (gzip)
+            conn.setRequestProperty("Accept-Encoding", "gzip");
+
+        try {
+            assertEquals(200, conn.getResponseCode());
+
+            assertEquals(gzip ? "gzip" : null, conn.getHeaderField("Content-Encoding"));
+
+            try (InputStream in = gzip ? new GZIPInputStream(conn.getInputStream()) : conn.getInputStream()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+                U.copy(in, out);
+
+                return new String(out.toByteArray(), UTF_8);
+            }
+        }
+        finally {
+            conn.disconnect();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
+/**
+ * Checks entry lock contention metrics.
+ */
+public class CacheEntryLockContentionMetricsTest extends GridCommonAbstractTest {
+    /** Threads count. */
+    private static final int THREADS = 4;
+
+    /** Updates per thread. */
+    private static final int UPDATES = 20;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testHotKey() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setAtomicityMode(ATOMIC));
+
+        ReadOnlyMetricRegistry mreg = ignite.context().metric().registry(
+            cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        assertEquals(0, metric(mreg, "EntryLockContended"));
+
+        cache.put(0, 0);
+
+        // Entry processor is executed under the entry lock, so the slow one makes other threads wait.
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < UPDATES; i++) {
+                cache.invoke(0, (e, args) -> {
+                    doSleep(5);
+
+                    e.setValue(e.getValue() + 1);
+
+                    return null;
+                });
+            }
+        }, THREADS, "updater");
+
+        assertEquals(THREADS * UPDATES, (int)cache.get(0));
+
+        long contended = metric(mreg, "EntryLockContended");
+        long parked = metric(mreg, "EntryLockParked");
+
+        assertTrue("contended=" + contended, contended > 0);
+        assertTrue("parked=" + parked, parked > 0 && parked <= contended);
+        assertTrue(metric(mreg, "EntryLockWaitTime") > 0);
+
+        cache.clearStatistics();
+
+        assertEquals(0, metric(mreg, "EntryLockContended"));
+        assertEquals(0, metric(mreg, "EntryLockParked"));
+        assertEquals(0, metric(mreg, "EntryLockWaitTime"));
+    }
+
+    /**
+     * @param mreg Metric registry.
+     * @param name Metric name.
+     * @return Metric value.
+     */
+    private static long metric(ReadOnlyMetricRegistry mreg, String name) {
+        return mreg.<LongMetric>findMetric(name).value();
+    }
+}
@@ -548,7 +548,8 @@ public class GridCacheTestEntryEx extends GridMetadataAwareAdapter implements Gr
         @Nullable CacheObject prevVal,
         @Nullable Long updateCntr,
         @Nullable GridDhtAtomicAbstractUpdateFuture fut,
-        boolean transformOp)
+        boolean transformOp,
+        @Nullable GridCacheAtomicWalBatch walBatch)
         throws IgniteCheckedException, GridCacheEntryRemovedException {
         assert false;
 
@@ -665,6 +666,13 @@ public class GridCacheTestEntryEx extends GridMetadataAwareAdapter implements Gr
         return false;
     }
 
+    /** @inheritDoc */
+    @Override public boolean validateSerializableRead(GridCacheVersion ver) {
+        assert false;
+
+        return false;
+    }
+
     /** @inheritDoc */
     @Override public boolean initialValue(
         CacheObject val,
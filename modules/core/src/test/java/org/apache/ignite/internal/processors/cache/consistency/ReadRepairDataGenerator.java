@@ -391,7 +391,8 @@ public class ReadRepairDataGenerator extends JUnitAssertAware {
                             null,
                             null,
                             null,
-                            false);
+                            false,
+                            null);
                     else {
                         IgniteInternalTx tx = Mockito.mock(IgniteInternalTx.class);
 
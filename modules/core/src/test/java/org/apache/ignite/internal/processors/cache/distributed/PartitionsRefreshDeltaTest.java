@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.CacheRebalanceMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITIONS_REFRESH_DELTA;
+
+/**
+ * Checks that partition refresh messages contain only the partition maps of changed cache groups.
+ */
+@WithSystemProperty(key = IGNITE_PARTITIONS_REFRESH_DELTA, value = "true")
+public class PartitionsRefreshDeltaTest extends GridCommonAbstractTest {
+    /** */
+    private static final int CACHES = 8;
+
+    /** Name of the only cache which is rebalanced. */
+    private static final String REBALANCED_CACHE = "cache-0";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setCommunicationSpi(new TestRecordingCommunicationSpi());
+
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[CACHES];
+
+        for (int i = 0; i < CACHES; i++) {
+            ccfgs[i] = new CacheConfiguration<>("cache-" + i)
+                .setBackups(1)
+                .setRebalanceMode(i == 0 ? CacheRebalanceMode.ASYNC : CacheRebalanceMode.NONE);
+        }
+
+        cfg.setCacheConfiguration(ccfgs);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRefreshSendsChangedGroupsOnly() throws Exception {
+        IgniteEx crd = startGrids(2);
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = crd.dataStreamer(REBALANCED_CACHE)) {
+            for (int i = 0; i < 10_000; i++)
+                streamer.addData(i, i);
+        }
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(crd);
+
+        spi.record((node, msg) -> msg instanceof GridDhtPartitionsFullMessage &&
+            ((GridDhtPartitionsFullMessage)msg).exchangeId() == null);
+
+        startGrid(2);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        int grps = crd.context().cache().cacheGroups().size();
+        int rebalancedGrpId = CU.cacheId(REBALANCED_CACHE);
+
+        List<Object> msgs = spi.recordedMessages(true);
+
+        assertTrue("Partition maps of changed groups only must be sent: " + msgs, msgs.stream()
+            .map(m -> ((GridDhtPartitionsFullMessage)m).partitions())
+            .anyMatch(parts -> parts.containsKey(rebalancedGrpId) && parts.size() < grps));
+
+        GridCachePartitionExchangeManager<?, ?> exchange = crd.context().cache().context().exchange();
+
+        // Syncs all the nodes.
+        exchange.refreshPartitions();
+
+        spi.record((node, msg) -> msg instanceof GridDhtPartitionsFullMessage);
+
+        exchange.refreshPartitions();
+
+        assertTrue("Nothing must be sent if partition maps are not changed", spi.recordedMessages(true).isEmpty());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRefreshSendsGroupsWithChangedSizes() throws Exception {
+        IgniteEx crd = startGrids(2);
+
+        awaitPartitionMapExchange();
+
+        GridCachePartitionExchangeManager<?, ?> exchange = crd.context().cache().context().exchange();
+
+        // Syncs all the nodes.
+        exchange.refreshPartitions();
+
+        String changedCache = "cache-1";
+
+        GridDhtPartitionTopology top = crd.cachex(changedCache).context().topology();
+
+        top.globalPartSizes(Collections.singletonMap(0, 1L));
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(crd);
+
+        spi.record((node, msg) -> msg instanceof GridDhtPartitionsFullMessage);
+
+        exchange.refreshPartitions();
+
+        List<Object> msgs = spi.recordedMessages(true);
+
+        assertFalse("Group with changed partition sizes must be sent", msgs.isEmpty());
+
+        for (Object msg : msgs) {
+            assertEquals(Collections.singleton(CU.cacheId(changedCache)),
+                ((GridDhtPartitionsFullMessage)msg).partitions().keySet());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxPrepareRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxFinishRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
+
+/**
+ * Checks the one phase commit decision made on transaction mapping.
+ */
+public class TxOnePhaseCommitMappingTest extends GridCommonAbstractTest {
+    /** Servers count. */
+    private static final int SRVS = 4;
+
+    /** Cache with one backup. */
+    private static final String CACHE_1 = "cache1";
+
+    /** Cache with two backups. */
+    private static final String CACHE_2 = "cache2";
+
+    /** Cache without backups. */
+    private static final String CACHE_0 = "cache0";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(
+                cacheConfiguration(CACHE_0, 0),
+                cacheConfiguration(CACHE_1, 1),
+                cacheConfiguration(CACHE_2, 2));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * Backups of keys which are only read do not prevent the one phase commit.
+     */
+    @Test
+    public void testReadKeyWithOtherBackup() throws Exception {
+        Affinity<Integer> aff = grid(0).affinity(CACHE_1);
+
+        ClusterNode primary = grid(0).localNode();
+
+        int writeKey = primaryKey(grid(0).cache(CACHE_1));
+
+        ClusterNode writeBackup = F.first(backups(aff, writeKey));
+
+        int readKey = writeKey + 1;
+
+        while (!aff.isPrimary(primary, readKey) || backups(aff, readKey).contains(writeBackup))
+            readKey++;
+
+        ClusterNode readBackup = F.first(backups(aff, readKey));
+
+        IgniteEx client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.cache(CACHE_1);
+
+        cache.put(readKey, 1);
+
+        startRecording();
+
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            int val = cache.get(readKey);
+
+            cache.put(writeKey, val + 1);
+
+            tx.commit();
+        }
+
+        List<Object> msgs = recorded(client);
+
+        GridNearTxPrepareRequest req = prepareRequest(msgs);
+
+        assertTrue(req.onePhaseCommit());
+        assertFalse(req.transactionNodes().get(primary.id()).contains(readBackup.id()));
+        assertFalse(F.exist(msgs, GridNearTxFinishRequest.class::isInstance));
+
+        List<Object> dhtMsgs = recorded(grid(primary));
+
+        assertEquals(1, dhtMsgs.size());
+        assertTrue(((GridDhtTxPrepareRequest)dhtMsgs.get(0)).onePhaseCommit());
+
+        for (Ignite ignite : G.allGrids())
+            assertEquals(2, (int)ignite.<Integer, Integer>cache(CACHE_1).get(writeKey));
+    }
+
+    /**
+     * Keys written on two backups require two phases even if other keys of the same primary have no backups.
+     */
+    @Test
+    public void testWriteKeysWithAndWithoutBackups() throws Exception {
+        int key2 = primaryKey(grid(0).cache(CACHE_2));
+        int key0 = primaryKey(grid(0).cache(CACHE_0));
+
+        IgniteEx client = grid(SRVS);
+
+        startRecording();
+
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            client.cache(CACHE_2).put(key2, 1);
+            client.cache(CACHE_0).put(key0, 1);
+
+            tx.commit();
+        }
+
+        List<Object> msgs = recorded(client);
+
+        GridNearTxPrepareRequest req = prepareRequest(msgs);
+
+        assertFalse(req.onePhaseCommit());
+        assertEquals(2, req.transactionNodes().get(grid(0).localNode().id()).size());
+        assertTrue(F.exist(msgs, GridNearTxFinishRequest.class::isInstance));
+
+        for (Ignite ignite : G.allGrids()) {
+            assertEquals(1, ignite.cache(CACHE_2).get(key2));
+            assertEquals(1, ignite.cache(CACHE_0).get(key0));
+        }
+    }
+
+    /** */
+    private void startRecording() {
+        for (Ignite ignite : G.allGrids())
+            TestRecordingCommunicationSpi.spi(ignite).record(
+                GridNearTxPrepareRequest.class, GridNearTxFinishRequest.class, GridDhtTxPrepareRequest.class);
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Messages recorded on the node, recording is stopped.
+     */
+    private static List<Object> recorded(Ignite ignite) {
+        return TestRecordingCommunicationSpi.spi(ignite).recordedMessages(true);
+    }
+
+    /**
+     * @param msgs Recorded messages.
+     * @return The only near prepare request.
+     */
+    private static GridNearTxPrepareRequest prepareRequest(List<Object> msgs) {
+        Collection<Object> reqs = F.view(msgs, GridNearTxPrepareRequest.class::isInstance);
+
+        assertEquals(1, reqs.size());
+
+        return (GridNearTxPrepareRequest)F.first(reqs);
+    }
+
+    /**
+     * @param aff Affinity.
+     * @param key Key.
+     * @return Backup nodes of the key.
+     */
+    private static Collection<ClusterNode> backups(Affinity<Integer> aff, int key) {
+        return F.view(aff.mapKeyToPrimaryAndBackups(key), n -> !aff.isPrimary(n, key));
+    }
+
+    /**
+     * @param name Cache name.
+     * @param backups Backups count.
+     * @return Cache configuration.
+     */
+    private static CacheConfiguration<Integer, Integer> cacheConfiguration(String name, int backups) {
+        return new CacheConfiguration<Integer, Integer>(name)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setBackups(backups);
+    }
+}
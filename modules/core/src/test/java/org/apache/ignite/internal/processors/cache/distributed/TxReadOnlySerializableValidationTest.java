@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxPrepareRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxFinishRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxReadValidateRequest;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionOptimisticException;
+import org.apache.ignite.transactions.TransactionTimeoutException;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
+
+/**
+ * Checks validation of read-only optimistic serializable transactions without the prepare phase.
+ */
+public class TxReadOnlySerializableValidationTest extends GridCommonAbstractTest {
+    /** Servers count. */
+    private static final int SRVS = 3;
+
+    /** Keys count. */
+    private static final int KEYS = 20;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setWriteSynchronizationMode(FULL_SYNC)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+        startClientGrid(SRVS + 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+    }
+
+    /**
+     * Read-only transaction sends a single validate request to every primary node instead of prepare and finish.
+     */
+    @Test
+    public void testReadOnlyTxFromClient() throws Exception {
+        checkReadOnlyTx(grid(SRVS));
+    }
+
+    /**
+     * Read-only transaction started on a server node validates local entries without messages.
+     */
+    @Test
+    public void testReadOnlyTxFromServer() throws Exception {
+        checkReadOnlyTx(grid(0));
+    }
+
+    /**
+     * @param node Node to start transaction on.
+     */
+    private void checkReadOnlyTx(IgniteEx node) throws Exception {
+        IgniteCache<Integer, Integer> cache = node.cache(DEFAULT_CACHE_NAME);
+
+        Set<Ignite> primaries = new TreeSet<>((n1, n2) -> n1.name().compareTo(n2.name()));
+
+        for (int i = 0; i < KEYS; i++)
+            primaries.add(primaryNode(i, DEFAULT_CACHE_NAME));
+
+        TestRecordingCommunicationSpi.spi(node).record(GridNearTxPrepareRequest.class,
+            GridNearTxFinishRequest.class, GridNearTxReadValidateRequest.class);
+
+        try (Transaction tx = node.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals(i, (int)cache.get(i));
+
+            assertNull(cache.get(KEYS));
+
+            tx.commit();
+        }
+
+        List<Object> msgs = TestRecordingCommunicationSpi.spi(node).recordedMessages(true);
+
+        assertFalse(F.exist(msgs, GridNearTxPrepareRequest.class::isInstance));
+        assertFalse(F.exist(msgs, GridNearTxFinishRequest.class::isInstance));
+
+        int remotePrimaries = primaries.contains(node) ? primaries.size() - 1 : primaries.size();
+
+        assertEquals(remotePrimaries, msgs.size());
+
+        for (Ignite ignite : G.allGrids())
+            assertTrue(((IgniteEx)ignite).context().cache().context().tm().activeTransactions().isEmpty());
+    }
+
+    /**
+     * Read-only transaction fails if a read key was updated before commit.
+     */
+    @Test
+    public void testConflictWithCommittedUpdate() throws Exception {
+        Ignite client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        GridTestUtils.assertThrowsWithCause(() -> {
+            try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+                cache.get(1);
+                cache.get(2);
+
+                grid(SRVS + 1).cache(DEFAULT_CACHE_NAME).put(2, -2);
+
+                tx.commit();
+            }
+
+            return null;
+        }, TransactionOptimisticException.class);
+
+        // Key created after it was read as missing.
+        GridTestUtils.assertThrowsWithCause(() -> {
+            try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+                assertNull(cache.get(KEYS));
+
+                grid(SRVS + 1).cache(DEFAULT_CACHE_NAME).put(KEYS, KEYS);
+
+                tx.commit();
+            }
+
+            return null;
+        }, TransactionOptimisticException.class);
+
+        grid(0).cache(DEFAULT_CACHE_NAME).remove(KEYS);
+    }
+
+    /**
+     * Read-only transaction fails if a read key is locked by a prepared transaction which can be committed
+     * on other nodes.
+     */
+    @Test
+    public void testConflictWithPreparedUpdate() throws Exception {
+        Ignite client = grid(SRVS);
+        Ignite writer = grid(SRVS + 1);
+
+        int key = primaryKey(grid(0).cache(DEFAULT_CACHE_NAME));
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(grid(0));
+
+        spi.blockMessages((node, msg) -> msg instanceof GridDhtTxPrepareRequest);
+
+        IgniteInternalFuture<?> writeFut;
+
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            assertEquals(key, (int)client.<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(key));
+
+            writeFut = GridTestUtils.runAsync(() -> {
+                try (Transaction wtx = writer.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+                    writer.cache(DEFAULT_CACHE_NAME).put(key, -key);
+
+                    wtx.commit();
+                }
+            });
+
+            spi.waitForBlocked();
+
+            GridTestUtils.assertThrowsWithCause(() -> {
+                tx.commit();
+
+                return null;
+            }, TransactionOptimisticException.class);
+        }
+        finally {
+            spi.stopBlock();
+        }
+
+        writeFut.get();
+
+        assertEquals(-key, (int)client.<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(key));
+    }
+
+    /**
+     * Read-only transaction fails with timeout if a primary node does not reply to the validate request.
+     */
+    @Test
+    public void testTimeoutOnValidation() throws Exception {
+        Ignite client = grid(SRVS);
+
+        int key = primaryKey(grid(0).cache(DEFAULT_CACHE_NAME));
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(client);
+
+        spi.blockMessages(GridNearTxReadValidateRequest.class, getTestIgniteInstanceName(0));
+
+        try {
+            GridTestUtils.assertThrowsWithCause(() -> {
+                try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE, 500, 0)) {
+                    assertEquals(key, (int)client.<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(key));
+
+                    tx.commit();
+                }
+
+                return null;
+            }, TransactionTimeoutException.class);
+        }
+        finally {
+            spi.stopBlock();
+        }
+
+        for (Ignite ignite : G.allGrids())
+            assertTrue(((IgniteEx)ignite).context().cache().context().tm().activeTransactions().isEmpty());
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.store.CacheStoreAdapter;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.events.EventType;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks single key get of an atomic cache served from the local partition.
+ */
+public class AtomicCacheFastLocalGetTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 100;
+
+    /** Store loads. */
+    private static final AtomicInteger loads = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setIncludeEventTypes(EventType.EVT_CACHE_OBJECT_READ);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        startGrids(2);
+
+        loads.set(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testGet() throws Exception {
+        checkGet(cacheConfiguration().setReadFromBackup(true));
+    }
+
+    /** */
+    @Test
+    public void testGetReadFromPrimary() throws Exception {
+        checkGet(cacheConfiguration().setReadFromBackup(false));
+    }
+
+    /** */
+    @Test
+    public void testGetStatisticsAndEvents() throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.createCache(cacheConfiguration().setStatisticsEnabled(true));
+
+        AtomicInteger evts = new AtomicInteger();
+
+        ignite.events().localListen(evt -> {
+            evts.incrementAndGet();
+
+            return true;
+        }, EventType.EVT_CACHE_OBJECT_READ);
+
+        int key = primaryKey(cache);
+
+        cache.put(key, key);
+
+        assertEquals(key, (int)cache.get(key));
+        assertNull(cache.get(key + KEYS * 100));
+
+        assertEquals(1, evts.get());
+        assertEquals(1, cache.localMetrics().getCacheHits());
+        assertEquals(1, cache.localMetrics().getCacheMisses());
+    }
+
+    /** */
+    @Test
+    public void testGetReadThrough() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(cacheConfiguration()
+            .setReadThrough(true)
+            .setCacheStoreFactory(FactoryBuilder.factoryOf(TestStore.class)));
+
+        int key = primaryKey(cache);
+
+        assertEquals(-key, (int)cache.get(key));
+        assertEquals(1, loads.get());
+
+        assertEquals(-key, (int)cache.get(key));
+        assertEquals(1, loads.get());
+    }
+
+    /** */
+    @Test
+    public void testGetExpired() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(cacheConfiguration()
+            .setEagerTtl(false)
+            .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 100))));
+
+        int key = primaryKey(cache);
+
+        cache.put(key, key);
+
+        assertEquals(key, (int)cache.get(key));
+
+        doSleep(200);
+
+        assertNull(cache.get(key));
+    }
+
+    /** Checks that get refreshes TTL of the entry if the cache expiry policy updates TTL on access. */
+    @Test
+    public void testGetAccessedExpiryPolicy() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(cacheConfiguration()
+            .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 1000))));
+
+        int key = primaryKey(cache);
+
+        cache.put(key, key);
+
+        // Reads over twice the TTL keep the entry alive.
+        for (int i = 0; i < 10; i++) {
+            doSleep(200);
+
+            assertEquals(key, (int)cache.get(key));
+        }
+
+        doSleep(2000);
+
+        assertNull(cache.get(key));
+    }
+
+    /** */
+    @Test
+    public void testGetKeepBinary() throws Exception {
+        IgniteCache<Integer, TestValue> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, TestValue>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(ATOMIC)
+                .setBackups(1));
+
+        int key = primaryKey(cache);
+
+        cache.put(key, new TestValue(key));
+
+        assertEquals(key, cache.get(key).val);
+
+        BinaryObject bin = cache.<Integer, BinaryObject>withKeepBinary().get(key);
+
+        assertEquals(key, (int)bin.field("val"));
+    }
+
+    /**
+     * @param ccfg Cache configuration.
+     */
+    private void checkGet(CacheConfiguration<Integer, Integer> ccfg) {
+        grid(0).createCache(ccfg);
+
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (Ignite ignite : G.allGrids()) {
+            IgniteCache<Integer, Integer> c = ignite.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals(i, (int)c.get(i));
+
+            for (int i = KEYS; i < KEYS * 2; i++)
+                assertNull(c.get(i));
+        }
+
+        cache.put(0, -1);
+
+        for (Ignite ignite : G.allGrids())
+            assertEquals(-1, (int)ignite.<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(0));
+    }
+
+    /** */
+    private CacheConfiguration<Integer, Integer> cacheConfiguration() {
+        return new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(ATOMIC)
+            .setWriteSynchronizationMode(FULL_SYNC)
+            .setBackups(1);
+    }
+
+    /** */
+    private static class TestValue {
+        /** */
+        private final int val;
+
+        /** */
+        TestValue(int val) {
+            this.val = val;
+        }
+    }
+
+    /** */
+    public static class TestStore extends CacheStoreAdapter<Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public Integer load(Integer key) {
+            loads.incrementAndGet();
+
+            return -key;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(Cache.Entry<? extends Integer, ? extends Integer> entry) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void delete(Object key) {
+            // No-op.
+        }
+    }
+}
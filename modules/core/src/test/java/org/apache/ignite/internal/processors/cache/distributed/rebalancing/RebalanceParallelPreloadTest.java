@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.rebalancing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.affinity.AffinityFunctionContext;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.events.Event;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_REBALANCE_PRELOAD_PARALLELISM;
+import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_OBJECT_LOADED;
+
+/**
+ * Checks preloading of the partitions of a supply message in parallel.
+ */
+@WithSystemProperty(key = IGNITE_REBALANCE_PRELOAD_PARALLELISM, value = "4")
+public class RebalanceParallelPreloadTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** Names of the threads which preloaded entries. */
+    private final Set<String> preloadThreads = new GridConcurrentHashSet<>();
+
+    /** {@code True} to assign only every fourth partition to the third node. */
+    private boolean sparseAff;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setRebalanceThreadPoolSize(4);
+        cfg.setIncludeEventTypes(EVT_CACHE_REBALANCE_OBJECT_LOADED);
+        cfg.setLocalEventListeners(Collections.singletonMap((IgnitePredicate<Event>)evt -> {
+            preloadThreads.add(Thread.currentThread().getName());
+
+            return true;
+        }, new int[] {EVT_CACHE_REBALANCE_OBJECT_LOADED}));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setBackups(sparseAff ? 2 : 1)
+            .setAffinity(sparseAff ? new SparseAffinityFunction() : new RendezvousAffinityFunction(false, 64))
+            // Large batches to have many partitions in a single supply message.
+            .setRebalanceBatchSize(4 * 1024 * 1024));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testParallelPreload() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = ignite.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < KEYS; i++)
+                streamer.addData(i, i);
+        }
+
+        IgniteEx demander = startGrid(1);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        IgniteCache<Integer, Integer> cache = demander.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(Integer.valueOf(i), cache.localPeek(i));
+
+        assertTrue("Partitions must be preloaded by the striped rebalance pool: " + preloadThreads,
+            preloadThreads.stream().anyMatch(name -> name.contains("rebalance-striped")));
+    }
+
+    /**
+     * Checks the preloading of the supply message with partitions that aren't contiguous.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testParallelPreloadNonContiguousPartitions() throws Exception {
+        sparseAff = true;
+
+        IgniteEx ignite = startGrids(2);
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = ignite.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < KEYS; i++)
+                streamer.addData(i, i);
+        }
+
+        IgniteEx demander = startGrid(2);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        IgniteCache<Integer, Integer> cache = demander.cache(DEFAULT_CACHE_NAME);
+
+        int preloaded = 0;
+
+        for (int i = 0; i < KEYS; i++) {
+            if (demander.affinity(DEFAULT_CACHE_NAME).partition(i) % 4 == 0) {
+                assertEquals(Integer.valueOf(i), cache.localPeek(i));
+
+                preloaded++;
+            }
+        }
+
+        assertTrue(preloaded > 0);
+
+        assertTrue("Partitions must be preloaded by the striped rebalance pool: " + preloadThreads,
+            preloadThreads.stream().anyMatch(name -> name.contains("rebalance-striped")));
+    }
+
+    /** Assigns all the partitions to the first two nodes and every fourth partition to the third node. */
+    private static class SparseAffinityFunction extends RendezvousAffinityFunction {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        SparseAffinityFunction() {
+            super(false, 64);
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<List<ClusterNode>> assignPartitions(AffinityFunctionContext affCtx) {
+            List<ClusterNode> nodes = affCtx.currentTopologySnapshot();
+
+            List<List<ClusterNode>> assignment = new ArrayList<>(partitions());
+
+            for (int p = 0; p < partitions(); p++) {
+                List<ClusterNode> owners = new ArrayList<>(nodes.subList(0, Math.min(2, nodes.size())));
+
+                if (nodes.size() > 2 && p % 4 == 0)
+                    owners.add(nodes.get(2));
+
+                assignment.add(owners);
+            }
+
+            return assignment;
+        }
+    }
+}
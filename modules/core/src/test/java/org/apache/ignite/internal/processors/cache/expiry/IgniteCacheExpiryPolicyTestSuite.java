@@ -54,6 +54,7 @@ import org.junit.runners.Suite;
     // Eager ttl expiration tests.
     GridCacheTtlManagerNotificationTest.class,
     IgniteCacheOnlyOneTtlCleanupThreadExistsTest.class,
+    IgniteCacheStripedTtlCleanupTest.class,
 
     IgniteCacheExpireWhileRebalanceTest.class,
 
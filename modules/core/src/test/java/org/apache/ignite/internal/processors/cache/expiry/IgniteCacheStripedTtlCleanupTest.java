@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.expiry;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheMetricsImpl;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Checks expiration of entries by several cleanup workers.
+ */
+@WithSystemProperty(key = IGNITE_TTL_CLEANUP_WORKERS, value = "4")
+public class IgniteCacheStripedTtlCleanupTest extends GridCommonAbstractTest {
+    /** */
+    private static final int WORKERS = 4;
+
+    /** */
+    private static final int ENTRIES = 20_000;
+
+    /** */
+    private static final String PERSISTENT_REGION = "pds";
+
+    /** */
+    private static final String IN_MEMORY_CACHE = "in-memory";
+
+    /** */
+    private static final String PERSISTENT_CACHE = "persistent";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDataRegionConfigurations(new DataRegionConfiguration()
+                    .setName(PERSISTENT_REGION)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(
+                new CacheConfiguration<>(IN_MEMORY_CACHE)
+                    .setEagerTtl(true),
+                new CacheConfiguration<>(PERSISTENT_CACHE)
+                    .setDataRegionName(PERSISTENT_REGION)
+                    .setEagerTtl(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testInMemoryCache() throws Exception {
+        checkExpiration(IN_MEMORY_CACHE);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testPersistentCache() throws Exception {
+        checkExpiration(PERSISTENT_CACHE);
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @throws Exception If failed.
+     */
+    private void checkExpiration(String cacheName) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        assertEquals(WORKERS, cleanupWorkers());
+
+        IgniteCache<Integer, Integer> cache = ignite.<Integer, Integer>cache(cacheName)
+            .withExpiryPolicy(new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, 1)));
+
+        Map<Integer, Integer> batch = new TreeMap<>();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            batch.put(i, i);
+
+            if (batch.size() == 1000) {
+                cache.putAll(batch);
+
+                batch.clear();
+            }
+        }
+
+        CacheMetricsImpl metrics = ignite.cachex(cacheName).context().cache().metrics0();
+
+        long[] maxLag = new long[1];
+
+        assertTrue(waitForCondition(() -> {
+            maxLag[0] = Math.max(maxLag[0], metrics.expirationLag());
+
+            return cache.size() == 0;
+        }, getTestTimeout()));
+
+        assertTrue("Expiration lag must be measured", maxLag[0] > 0);
+    }
+
+    /** @return Number of the cleanup worker threads. */
+    private static int cleanupWorkers() {
+        return (int)Thread.getAllStackTraces().keySet().stream()
+            .filter(t -> t.getName().contains("ttl-cleanup-worker"))
+            .count();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.hotspot;
+
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
+import org.apache.ignite.internal.processors.cache.hotspot.TopKeysSketch.HotKey;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.systemview.view.HotKeyView;
+import org.apache.ignite.spi.systemview.view.PartitionAccessView;
+import org.apache.ignite.spi.systemview.view.SystemView;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_HOT_SPOTS_ENABLED;
+import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.HOT_KEYS_VIEW;
+import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.PART_ACCESS_VIEW;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests the cache hot spots tracking.
+ */
+public class CacheHotSpotsTest extends GridCommonAbstractTest {
+    /** Number of keys. */
+    private static final int KEYS_CNT = 100;
+
+    /** Hot key. */
+    private static final int HOT_KEY = 42;
+
+    /** Number of reads of the hot key. */
+    private static final int HOT_KEY_READS = 200;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_CACHE_HOT_SPOTS_ENABLED, value = "true")
+    public void testHotSpots() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        for (int i = 0; i < HOT_KEY_READS; i++)
+            cache.get(HOT_KEY);
+
+        int hotPart = ignite.affinity(DEFAULT_CACHE_NAME).partition(HOT_KEY);
+
+        SystemView<PartitionAccessView> parts = ignite.context().systemView().view(PART_ACCESS_VIEW);
+
+        long writes = 0;
+        boolean found = false;
+
+        for (PartitionAccessView row : parts) {
+            assertEquals(DEFAULT_CACHE_NAME, row.cacheName());
+
+            writes += row.writes();
+
+            if (row.partitionId() == hotPart) {
+                found = true;
+
+                assertTrue(row.reads() >= HOT_KEY_READS);
+            }
+        }
+
+        assertTrue(found);
+        assertTrue(writes >= KEYS_CNT);
+
+        SystemView<HotKeyView> keys = ignite.context().systemView().view(HOT_KEYS_VIEW);
+
+        HotKeyView top = keys.iterator().next();
+
+        assertEquals(DEFAULT_CACHE_NAME, top.cacheName());
+        assertEquals(String.valueOf(HOT_KEY), top.key());
+        assertEquals(hotPart, top.partitionId());
+        assertTrue(top.accesses() >= HOT_KEY_READS);
+
+        MetricRegistry mreg = ignite.context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        assertEquals(hotPart, mreg.<IntMetric>findMetric("HotSpotPartition").value());
+        assertTrue(mreg.<LongMetric>findMetric("HotSpotPartitionAccesses").value() >= HOT_KEY_READS);
+        assertTrue(mreg.<DoubleMetric>findMetric("HotSpotPartitionSkew").value() > 1);
+        assertEquals(top.accesses(), mreg.<LongMetric>findMetric("HotSpotKeyAccesses").value());
+
+        cache.clearStatistics();
+
+        assertTrue(waitForCondition(() -> !parts.iterator().hasNext() && !keys.iterator().hasNext(), 10_000));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testHotSpotsDisabledByDefault() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.getOrCreateCache(DEFAULT_CACHE_NAME).put(1, 1);
+
+        assertNull(ignite.cachex(DEFAULT_CACHE_NAME).context().hotSpotTracker());
+        assertNull(ignite.context().systemView().view(PART_ACCESS_VIEW));
+        assertNull(ignite.context().systemView().view(HOT_KEYS_VIEW));
+
+        MetricRegistry mreg = ignite.context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        assertNull(mreg.findMetric("HotSpotPartition"));
+    }
+
+    /** */
+    @Test
+    public void testTopKeysSketch() {
+        TopKeysSketch sketch = new TopKeysSketch(3);
+
+        for (int i = 0; i < 10_000; i++) {
+            // Keys 0, 1 and 2 are accessed 1000, 500 and 250 times, other keys once.
+            int key = i < 1000 ? 0 : i < 1500 ? 1 : i < 1750 ? 2 : i;
+
+            sketch.add(new KeyCacheObjectImpl(key, null, 0), 0);
+        }
+
+        List<HotKey> top = sketch.topKeys();
+
+        assertEquals(3, top.size());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, (int)top.get(i).key().value(null, false));
+            assertTrue(top.get(i).estimate() >= 1000 >> i);
+        }
+
+        sketch.reset();
+
+        assertTrue(sketch.topKeys().isEmpty());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CachePartialUpdateException;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.failure.FailureType;
+import org.apache.ignite.failure.TestFailureHandler;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
+import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.plugin.AbstractTestPluginProvider;
+import org.apache.ignite.plugin.PluginContext;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+/**
+ * Checks that multi-key updates of an ATOMIC cache are logged by batched WAL records and recovered from them, and
+ * that the node is failed if a batched record can not be logged.
+ */
+public class AtomicCacheWalBatchTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 2_000;
+
+    /** */
+    private static final int REMOVED_KEYS = 500;
+
+    /** Whether batched records fail to be logged. */
+    private static volatile boolean failBatches;
+
+    /** */
+    private TestFailureHandler failureHnd;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setPluginProviders(new FailingWalProvider())
+            .setFailureHandler(failureHnd = new TestFailureHandler(false))
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(CacheAtomicityMode.ATOMIC));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        failBatches = false;
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testBatchedRecordsRecovery() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        WALPointer start = ignite.context().cache().context().wal().lastWritePointer();
+
+        dbMgr(ignite).enableCheckpoints(false).get(getTestTimeout());
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> vals = new TreeMap<>();
+
+        for (int i = 0; i < KEYS; i++)
+            vals.put(i, i);
+
+        cache.putAll(vals);
+
+        Set<Integer> rmvKeys = new TreeSet<>();
+
+        for (int i = 0; i < REMOVED_KEYS; i++)
+            rmvKeys.add(i);
+
+        cache.removeAll(rmvKeys);
+
+        int cacheId = CU.cacheId(DEFAULT_CACHE_NAME);
+        int updates = 0;
+        int removals = 0;
+        int batches = 0;
+
+        try (WALIterator it = ignite.context().cache().context().wal().replay(start)) {
+            while (it.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> rec = it.next();
+
+                if (!(rec.get2() instanceof DataRecord))
+                    continue;
+
+                DataRecord dataRec = (DataRecord)rec.get2();
+
+                if (dataRec.entryCount() > 1)
+                    batches++;
+
+                for (DataEntry entry : dataRec.writeEntries()) {
+                    if (entry.cacheId() != cacheId)
+                        continue;
+
+                    if (entry.op() == GridCacheOperation.DELETE)
+                        removals++;
+                    else
+                        updates++;
+                }
+            }
+        }
+
+        assertEquals(KEYS, updates);
+        assertEquals(REMOVED_KEYS, removals);
+        assertTrue("Updates must be logged by batched records", batches > 0);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS - REMOVED_KEYS, cache.size());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i < REMOVED_KEYS ? null : Integer.valueOf(i), cache.get(i));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testNodeFailedIfBatchNotLogged() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        dbMgr(ignite).enableCheckpoints(false).get(getTestTimeout());
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> logged = new TreeMap<>();
+        Map<Integer, Integer> notLogged = new TreeMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            logged.put(i, i);
+            notLogged.put(i + 100, i);
+        }
+
+        cache.putAll(logged);
+
+        failBatches = true;
+
+        GridTestUtils.assertThrowsWithCause(() -> cache.putAll(notLogged), CachePartialUpdateException.class);
+
+        FailureContext failureCtx = failureHnd.failureContext();
+
+        assertNotNull(failureCtx);
+        assertEquals(FailureType.CRITICAL_ERROR, failureCtx.type());
+
+        failBatches = false;
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache0 = ignite.cache(DEFAULT_CACHE_NAME);
+
+        // Updates applied to the data pages without the record are not recovered.
+        assertEquals(logged, cache0.getAll(logged.keySet()));
+        assertTrue(cache0.getAll(notLogged.keySet()).isEmpty());
+    }
+
+    /** Provides WAL manager which fails to log batched records if {@link #failBatches} is set. */
+    private static class FailingWalProvider extends AbstractTestPluginProvider {
+        /** {@inheritDoc} */
+        @Override public String name() {
+            return "failingWal";
+        }
+
+        /** {@inheritDoc} */
+        @Override public <T> @Nullable T createComponent(PluginContext ctx, Class<T> cls) {
+            if (!IgniteWriteAheadLogManager.class.equals(cls))
+                return null;
+
+            return (T)new FileWriteAheadLogManager(((IgniteEx)ctx.grid()).context()) {
+                @Override public WALPointer log(WALRecord rec) throws IgniteCheckedException {
+                    if (failBatches && rec instanceof DataRecord && ((DataRecord)rec).entryCount() > 1)
+                        throw new StorageException("Test failure.");
+
+                    return super.log(rec);
+                }
+            };
+        }
+    }
+}
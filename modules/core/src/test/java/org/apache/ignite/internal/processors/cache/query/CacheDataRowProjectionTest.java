@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.cache.Cache;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.BinaryFieldsScanFilter;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataRowProjection;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
+import org.apache.ignite.internal.processors.cache.tree.ProjectedDataRow;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.between;
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.in;
+
+/**
+ * Checks reading of the projected value fields by data tree cursors and scan queries.
+ */
+@RunWith(Parameterized.class)
+public class CacheDataRowProjectionTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 1_000;
+
+    /** Persistence enabled flag. */
+    @Parameterized.Parameter
+    public boolean persistence;
+
+    /** @return Test parameters. */
+    @Parameterized.Parameters(name = "persistence={0}")
+    public static List<Object[]> parameters() {
+        return Arrays.asList(new Object[] {false}, new Object[] {true});
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)
+                    .setMaxSize(256L * 1024 * 1024)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+
+        startGrid(0).cluster().state(ClusterState.ACTIVE);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTreeCursor() throws Exception {
+        loadData(true);
+
+        checkProjection(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDataPageScan() throws Exception {
+        if (!persistence)
+            return;
+
+        // Data page scan does not support fragmented rows yet.
+        loadData(false);
+
+        CacheDataTree.setDataPageScanEnabled(true);
+
+        try {
+            checkProjection(true);
+        }
+        finally {
+            CacheDataTree.setDataPageScanEnabled(false);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testScanQueryBinaryFieldsFilter() throws Exception {
+        loadData(true);
+
+        Ignite client = startClientGrid(1);
+
+        BinaryFieldsScanFilter<Integer, Object> filter = new BinaryFieldsScanFilter<>(
+            between("id", 100, 299),
+            in("name", Arrays.asList("name-100", "name-110", "name-155", "name-298", "name-300")));
+
+        Set<Integer> exp = new TreeSet<>(Arrays.asList(100, 110, 155, 298));
+
+        for (Ignite ignite : Arrays.asList(grid(0), client)) {
+            IgniteCache<Integer, Object> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+            assertEquals(exp, scanKeys(cache, new ScanQuery<>(filter), Value.class));
+            assertEquals(exp, scanKeys(cache.withKeepBinary(), new ScanQuery<>(filter), BinaryObject.class));
+
+            int part = ignite.affinity(DEFAULT_CACHE_NAME).partition(155);
+
+            assertEquals(Collections.singleton(155), scanKeys(cache, new ScanQuery<>(part, filter), Value.class));
+        }
+
+        grid(0).cache(DEFAULT_CACHE_NAME).put(110, new Value(110, "name-111", 10));
+        grid(0).cache(DEFAULT_CACHE_NAME).remove(155);
+
+        exp.removeAll(Arrays.asList(110, 155));
+
+        assertEquals(exp, scanKeys(client.cache(DEFAULT_CACHE_NAME), new ScanQuery<>(filter), Value.class));
+    }
+
+    /**
+     * @param cache Cache.
+     * @param qry Scan query.
+     * @param valCls Expected class of the values.
+     * @return Keys of the entries returned by the query.
+     */
+    private Set<Integer> scanKeys(IgniteCache<Integer, Object> cache, ScanQuery<Integer, Object> qry, Class<?> valCls) {
+        Set<Integer> keys = new TreeSet<>();
+
+        for (Cache.Entry<Integer, Object> e : cache.query(qry)) {
+            assertTrue(String.valueOf(e.getValue()), valCls.isInstance(e.getValue()));
+
+            keys.add(e.getKey());
+        }
+
+        return keys;
+    }
+
+    /**
+     * @param largeVals Whether to put values which do not fit a data page.
+     */
+    private void loadData(boolean largeVals) {
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, new Value(i, "name-" + i, largeVals && i % 10 == 0 ? 10_000 : 10));
+
+        grid(0).cache(DEFAULT_CACHE_NAME).put(KEYS, "not a binary object");
+    }
+
+    /**
+     * @param dataPageScan Whether the rows are read by the data page scan.
+     * @throws Exception If failed.
+     */
+    private void checkProjection(boolean dataPageScan) throws Exception {
+        IgniteEx ignite = grid(0);
+
+        GridCacheContext<?, ?> cctx = ignite.cachex(DEFAULT_CACHE_NAME).context();
+
+        CacheDataRowProjection proj = new CacheDataRowProjection("id", "name", "tags", "nested", "absent");
+
+        int cnt = 0;
+        int offheap = 0;
+
+        for (CacheDataStore store : cctx.offheap().cacheDataStores()) {
+            GridCursor<? extends CacheDataRow> cur = store.cursor(cctx.cacheId(), null, null, proj, null);
+
+            Boolean lastScan = CacheDataTree.isLastFindWithDataPageScan();
+
+            // The flag is not set if the partition store is not initialized.
+            if (lastScan != null)
+                assertEquals(dataPageScan, lastScan.booleanValue());
+
+            while (cur.next()) {
+                CacheDataRow row = cur.get();
+
+                assertTrue(row instanceof ProjectedDataRow);
+
+                int key = row.key().value(cctx.cacheObjectContext(), false);
+
+                Object[] fields = proj.fields(row);
+
+                assertEquals(5, fields.length);
+
+                if (key == KEYS) {
+                    assertEquals("not a binary object", row.value().value(cctx.cacheObjectContext(), false));
+                    assertTrue(Arrays.stream(fields).allMatch(f -> f == null));
+                }
+                else {
+                    assertEquals(key, fields[0]);
+                    assertEquals("name-" + key, fields[1]);
+                    assertEquals(key % 2 == 0 ? Collections.singletonList("tag-" + key) : null, fields[2]);
+                    assertEquals(key, (int)((BinaryObject)fields[3]).field("id"));
+                    assertNull(fields[4]);
+
+                    if (row.value() == null)
+                        offheap++;
+                }
+
+                cnt++;
+            }
+        }
+
+        assertEquals(KEYS + 1, cnt);
+
+        // Values with collections are read from a heap copy.
+        assertTrue("Values projected off-heap: " + offheap, offheap > 0 && offheap < KEYS);
+    }
+
+    /** */
+    private static class Value {
+        /** */
+        private final int id;
+
+        /** */
+        private final String name;
+
+        /** */
+        private final List<String> tags;
+
+        /** */
+        private final Nested nested;
+
+        /** */
+        private final byte[] payload;
+
+        /**
+         * @param id ID.
+         * @param name Name.
+         * @param payloadSize Payload size.
+         */
+        private Value(int id, String name, int payloadSize) {
+            this.id = id;
+            this.name = name;
+            tags = id % 2 == 0 ? Collections.singletonList("tag-" + id) : null;
+            nested = new Nested(id);
+            payload = new byte[payloadSize];
+        }
+    }
+
+    /** */
+    private static class Nested {
+        /** */
+        private final int id;
+
+        /**
+         * @param id ID.
+         */
+        private Nested(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryEventFilter;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.cache.query.BinaryFieldsEventFilter;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.eq;
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.gt;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests continuous query conflation and filtering by binary fields.
+ */
+public class CacheContinuousQueryConflationTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 10;
+
+    /** Updates count per key. */
+    private static final int UPDATES = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        startClientGrid(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConflation() throws Exception {
+        Map<Integer, List<Integer>> vals = listen(true);
+
+        int evts = vals.values().stream().mapToInt(List::size).sum();
+
+        assertTrue("Events: " + evts, evts < KEYS * UPDATES / 10);
+
+        for (List<Integer> keyVals : vals.values()) {
+            for (int i = 1; i < keyVals.size(); i++)
+                assertTrue(keyVals.toString(), keyVals.get(i - 1) < keyVals.get(i));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConflationWithRemoteFilterFactory() throws Exception {
+        Map<Integer, List<Integer>> vals = listen(true, FactoryBuilder.factoryOf(new EvenKeysFilter()));
+
+        assertEquals(KEYS / 2, vals.size());
+
+        for (Map.Entry<Integer, List<Integer>> e : vals.entrySet()) {
+            assertEquals(0, e.getKey() % 2);
+            assertTrue(e.getValue().toString(), e.getValue().size() < UPDATES);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNoConflation() throws Exception {
+        Map<Integer, List<Integer>> vals = listen(false);
+
+        for (List<Integer> keyVals : vals.values())
+            assertEquals(UPDATES, keyVals.size());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBinaryFieldsFilter() throws Exception {
+        IgniteEx client = grid(2);
+
+        List<Double> prices = new ArrayList<>();
+
+        ContinuousQuery<Integer, BinaryObject> qry = new ContinuousQuery<Integer, BinaryObject>()
+            .setLocalListener(evts -> {
+                for (CacheEntryEvent<? extends Integer, ? extends BinaryObject> e : evts) {
+                    synchronized (prices) {
+                        prices.add(e.getValue().field("price"));
+                    }
+                }
+            });
+
+        // Quote type has no class, so the filter fails if the values are deserialized.
+        qry.setRemoteFilterFactory(FactoryBuilder.factoryOf(
+            new BinaryFieldsEventFilter<>(eq("instrument", "IGN"), gt("price", 100))));
+
+        IgniteCache<Integer, BinaryObject> cache = client.cache(DEFAULT_CACHE_NAME).withKeepBinary();
+
+        try (QueryCursor<?> ignored = cache.query(qry)) {
+            cache.put(1, quote(client, "IGN", 50));
+            cache.put(2, quote(client, "IGN", 150));
+            cache.put(3, quote(client, "OTHER", 200));
+            cache.put(4, quote(client, "IGN", 100));
+            cache.put(5, quote(client, "IGN", 100.5));
+            cache.remove(2);
+
+            assertTrue(waitForCondition(() -> {
+                synchronized (prices) {
+                    return prices.size() >= 3;
+                }
+            }, getTestTimeout()));
+
+            doSleep(500);
+
+            // The event of the removed entry contains the removed value.
+            synchronized (prices) {
+                Collections.sort(prices);
+
+                assertEqualsCollections(F.asList(100.5d, 150d, 150d), prices);
+            }
+        }
+    }
+
+    /**
+     * Updates keys from a server node and collects values received by a client.
+     *
+     * @param conflate Conflation flag.
+     * @return Received values by keys.
+     * @throws Exception If failed.
+     */
+    private Map<Integer, List<Integer>> listen(boolean conflate) throws Exception {
+        Map<Integer, List<Integer>> vals = listen(conflate, null);
+
+        assertEquals(KEYS, vals.size());
+
+        return vals;
+    }
+
+    /**
+     * Updates keys from a server node and collects values received by a client.
+     *
+     * @param conflate Conflation flag.
+     * @param rmtFilterFactory Remote filter factory.
+     * @return Received values by keys.
+     * @throws Exception If failed.
+     */
+    private Map<Integer, List<Integer>> listen(
+        boolean conflate,
+        @Nullable Factory<? extends CacheEntryEventFilter<Integer, Integer>> rmtFilterFactory
+    ) throws Exception {
+        Map<Integer, List<Integer>> vals = new ConcurrentHashMap<>();
+
+        AtomicInteger last = new AtomicInteger();
+
+        ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+            .setLocalListener(evts -> {
+                for (CacheEntryEvent<? extends Integer, ? extends Integer> e : evts) {
+                    vals.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
+
+                    if (e.getValue() == UPDATES - 1)
+                        last.incrementAndGet();
+                }
+            })
+            .setConflate(conflate)
+            .setTimeInterval(1000)
+            .setPageSize(KEYS * UPDATES);
+
+        qry.setRemoteFilterFactory(rmtFilterFactory);
+
+        try (QueryCursor<?> ignored = grid(2).cache(DEFAULT_CACHE_NAME).query(qry)) {
+            IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < UPDATES; i++) {
+                for (int k = 0; k < KEYS; k++)
+                    cache.put(k, i);
+            }
+
+            int expKeys = rmtFilterFactory == null ? KEYS : KEYS / 2;
+
+            assertTrue(waitForCondition(() -> last.get() == expKeys, getTestTimeout()));
+        }
+
+        return vals;
+    }
+
+    /** */
+    private static class EvenKeysFilter implements CacheEntryEventSerializableFilter<Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public boolean evaluate(CacheEntryEvent<? extends Integer, ? extends Integer> evt) {
+            return evt.getKey() % 2 == 0;
+        }
+    }
+
+    /**
+     * @param client Client node.
+     * @param instrument Instrument.
+     * @param price Price.
+     * @return Quote.
+     */
+    private static BinaryObject quote(IgniteEx client, String instrument, double price) {
+        return client.binary().builder("Quote")
+            .setField("instrument", instrument)
+            .setField("price", price)
+            .build();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.datastreamer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks the partition-wise batch apply of the default data streamer receiver.
+ */
+@RunWith(Parameterized.class)
+public class DataStreamerSortedBatchApplyTest extends GridCommonAbstractTest {
+    /** Servers count. */
+    private static final int SRVS = 3;
+
+    /** Keys count. */
+    private static final int KEYS = 10_000;
+
+    /** Persistence enabled flag. */
+    @Parameterized.Parameter(0)
+    public boolean persistence;
+
+    /** Cache atomicity mode. */
+    @Parameterized.Parameter(1)
+    public CacheAtomicityMode atomicityMode;
+
+    /** @return Test parameters. */
+    @Parameterized.Parameters(name = "persistence={0}, atomicityMode={1}")
+    public static List<Object[]> parameters() {
+        List<Object[]> params = new ArrayList<>();
+
+        for (boolean persistence : new boolean[] {false, true}) {
+            params.add(new Object[] {persistence, CacheAtomicityMode.ATOMIC});
+            params.add(new Object[] {persistence, CacheAtomicityMode.TRANSACTIONAL});
+        }
+
+        return params;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)
+                    .setMaxSize(256L * 1024 * 1024)))
+            .setCacheConfiguration(new CacheConfiguration<Integer, String>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(atomicityMode)
+                .setBackups(1)
+                .setWriteSynchronizationMode(FULL_SYNC));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+
+        startGrids(SRVS);
+
+        startClientGrid(SRVS);
+
+        grid(0).cluster().state(ClusterState.ACTIVE);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoadFromClient() throws Exception {
+        checkLoad(grid(SRVS));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoadFromServer() throws Exception {
+        checkLoad(grid(0));
+    }
+
+    /**
+     * Existing entries and the keys repeated in a batch keep their first values.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExistingEntriesNotOverwritten() throws Exception {
+        IgniteCache<Integer, String> cache = grid(SRVS).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i += 10)
+            cache.put(i, "put-" + i);
+
+        try (IgniteDataStreamer<Integer, String> streamer = grid(SRVS).dataStreamer(DEFAULT_CACHE_NAME)) {
+            streamer.perNodeBufferSize(KEYS);
+
+            for (int i = 0; i < KEYS; i++)
+                streamer.addData(Arrays.asList(new T2<>(i, "first-" + i), new T2<>(i, "second-" + i)));
+        }
+
+        for (Ignite ignite : G.allGrids()) {
+            IgniteCache<Integer, String> c = ignite.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals(String.valueOf(i), (i % 10 == 0 ? "put-" : "first-") + i, c.get(i));
+        }
+
+        assertPartitionsSame(idleVerify(grid(0), DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @param loader Node to stream data from.
+     * @throws Exception If failed.
+     */
+    private void checkLoad(Ignite loader) throws Exception {
+        try (IgniteDataStreamer<Integer, String> streamer = loader.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < KEYS; i++)
+                streamer.addData(i, "val-" + i);
+        }
+
+        checkData();
+
+        assertPartitionsSame(idleVerify(grid(0), DEFAULT_CACHE_NAME));
+
+        if (!persistence)
+            return;
+
+        stopAllGrids();
+
+        startGrids(SRVS);
+
+        grid(0).cluster().state(ClusterState.ACTIVE);
+
+        startClientGrid(SRVS);
+
+        awaitPartitionMapExchange();
+
+        checkData();
+    }
+
+    /** Checks the loaded data on all nodes. */
+    private void checkData() {
+        for (Ignite ignite : G.allGrids()) {
+            IgniteCache<Integer, String> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+            assertEquals(KEYS, cache.size());
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals("val-" + i, cache.get(i));
+        }
+    }
+}
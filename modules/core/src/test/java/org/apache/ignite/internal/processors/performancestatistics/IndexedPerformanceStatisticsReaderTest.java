@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.performancestatistics;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.performancestatistics.IndexedPerformanceStatisticsReader.Filter;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.transactions.Transaction;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_PUT;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_START;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.JOB;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TASK;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TX_COMMIT;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.TX_ROLLBACK;
+
+/**
+ * Tests the indexed performance statistics reader.
+ */
+public class IndexedPerformanceStatisticsReaderTest extends AbstractPerformanceStatisticsTest {
+    /** Number of operations of each type. */
+    private static final int OPS_CNT = 100;
+
+    /** Cache name. */
+    private static final String CACHE_1 = "cache1";
+
+    /** Cache name. */
+    private static final String CACHE_2 = "cache2";
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRead() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache1 = srv.createCache(
+            new CacheConfiguration<Integer, Integer>(CACHE_1).setAtomicityMode(TRANSACTIONAL));
+
+        IgniteCache<Integer, Integer> cache2 = srv.createCache(
+            new CacheConfiguration<Integer, Integer>(CACHE_2).setAtomicityMode(TRANSACTIONAL));
+
+        startCollectStatistics();
+
+        load(srv, cache1, cache2);
+
+        doSleep(100);
+
+        long fromTime = U.currentTimeMillis();
+
+        load(srv, cache1, cache2);
+
+        stopCollectStatistics();
+
+        List<File> files = statisticsFiles();
+
+        int cacheId = CU.cacheId(CACHE_1);
+
+        checkRead(files, new Filter(), new RecordsHandler(EnumSet.allOf(OperationType.class), null, Long.MIN_VALUE));
+
+        checkRead(files,
+            new Filter().cacheId(cacheId).timeRange(fromTime, Long.MAX_VALUE),
+            new RecordsHandler(EnumSet.allOf(OperationType.class), cacheId, fromTime));
+
+        checkRead(files,
+            new Filter().types(CACHE_PUT, TASK, JOB).timeRange(fromTime, Long.MAX_VALUE),
+            new RecordsHandler(EnumSet.of(CACHE_PUT, TASK, JOB), null, fromTime));
+
+        checkRead(files,
+            new Filter().types(TX_COMMIT).cacheId(cacheId),
+            new RecordsHandler(EnumSet.of(TX_COMMIT), cacheId, Long.MIN_VALUE));
+    }
+
+    /** Runs operations to be collected. */
+    private void load(IgniteEx srv, IgniteCache<Integer, Integer> cache1, IgniteCache<Integer, Integer> cache2) {
+        for (int i = 0; i < OPS_CNT; i++) {
+            cache1.put(i, i);
+            cache2.get(i);
+
+            try (Transaction tx = srv.transactions().txStart()) {
+                cache2.put(i, i);
+
+                if (i % 2 == 0)
+                    cache1.put(i, i);
+
+                tx.commit();
+            }
+
+            srv.compute().run(() -> {
+                // No-op.
+            });
+        }
+    }
+
+    /**
+     * Checks that the indexed reader reads the same records as the file reader with the filtering handler.
+     *
+     * @param files Files.
+     * @param filter Filter.
+     * @param exp Filtering handler.
+     */
+    private void checkRead(List<File> files, Filter filter, RecordsHandler exp) throws Exception {
+        readFiles(files, exp);
+
+        assertFalse(exp.records.isEmpty());
+
+        // Segments smaller than the records with strings are remapped.
+        for (int segSize : new int[] {100, (int)U.MB}) {
+            try (IndexedPerformanceStatisticsReader reader =
+                     new IndexedPerformanceStatisticsReader(files, ForkJoinPool.commonPool(), segSize, 10)) {
+                RecordsHandler act = new RecordsHandler(EnumSet.allOf(OperationType.class), null, Long.MIN_VALUE);
+
+                reader.read(filter, act);
+
+                assertEquals(exp.records, act.records);
+
+                RecordsHandler parallel = reader.readParallel(filter,
+                    () -> new RecordsHandler(EnumSet.allOf(OperationType.class), null, Long.MIN_VALUE),
+                    (hnd1, hnd2) -> {
+                        hnd1.records.addAll(hnd2.records);
+
+                        return hnd1;
+                    });
+
+                assertEquals(exp.records, parallel.records);
+
+                assertEquals(exp.records.size(), reader.count(filter));
+            }
+        }
+    }
+
+    /** Handler that collects records that match the filter. */
+    private static class RecordsHandler extends TestHandler {
+        /** Collected records. */
+        private final List<String> records = new ArrayList<>();
+
+        /** Operation types. */
+        private final Set<OperationType> types;
+
+        /** Cache identifier. */
+        @Nullable private final Integer cacheId;
+
+        /** Start of the time range. */
+        private final long fromTime;
+
+        /**
+         * @param types Operation types.
+         * @param cacheId Cache identifier.
+         * @param fromTime Start of the time range.
+         */
+        private RecordsHandler(Set<OperationType> types, @Nullable Integer cacheId, long fromTime) {
+            this.types = types;
+            this.cacheId = cacheId;
+            this.fromTime = fromTime;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void cacheStart(UUID nodeId, int cacheId, String name) {
+            if (types.contains(CACHE_START) && (this.cacheId == null || this.cacheId == cacheId))
+                records.add("cacheStart " + nodeId + ' ' + cacheId + ' ' + name);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void cacheOperation(UUID nodeId, OperationType type, int cacheId, long startTime,
+            long duration) {
+            if (types.contains(type) && (this.cacheId == null || this.cacheId == cacheId) && startTime >= fromTime)
+                records.add(type + " " + nodeId + ' ' + cacheId + ' ' + startTime + ' ' + duration);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void transaction(UUID nodeId, GridIntList cacheIds, long startTime, long duration,
+            boolean commited) {
+            if (types.contains(commited ? TX_COMMIT : TX_ROLLBACK) &&
+                (cacheId == null || cacheIds.contains(cacheId)) && startTime >= fromTime)
+                records.add("tx " + nodeId + ' ' + cacheIds + ' ' + startTime + ' ' + duration + ' ' + commited);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void task(UUID nodeId, IgniteUuid sesId, String taskName, long startTime, long duration,
+            int affPartId) {
+            if (types.contains(TASK) && cacheId == null && startTime >= fromTime)
+                records.add("task " + nodeId + ' ' + sesId + ' ' + taskName + ' ' + startTime + ' ' + duration);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void job(UUID nodeId, IgniteUuid sesId, long queuedTime, long startTime, long duration,
+            boolean timedOut) {
+            if (types.contains(JOB) && cacheId == null && startTime >= fromTime)
+                records.add("job " + nodeId + ' ' + sesId + ' ' + startTime + ' ' + duration);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.performancestatistics;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.failure.NoOpFailureHandler;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD;
+import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
+import static org.apache.ignite.internal.processors.performancestatistics.OperationType.CACHE_PUT;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+
+/**
+ * Tests performance statistics flight recorder.
+ */
+public class PerformanceStatisticsFlightRecorderTest extends AbstractPerformanceStatisticsTest {
+    /** Count of cache operations. */
+    private static final int OPS_CNT = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setCacheConfiguration(defaultCacheConfiguration());
+        cfg.setFailureHandler(new NoOpFailureHandler());
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED, value = "true")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE, value = "1")
+    public void testDump() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        assertTrue(srv.context().performanceStatistics().enabled());
+        assertFalse(statisticsMBean(srv.name()).started());
+
+        putAll(srv);
+
+        File file = new File(statisticsMBean(srv.name()).dumpFlightRecorder());
+
+        assertEquals(OPS_CNT, readPuts(file));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED, value = "true")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE, value = "0")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD, value = "-1")
+    public void testNoOperationsSampled() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        putAll(srv);
+
+        assertEquals(0, readPuts(srv.context().performanceStatistics().dumpFlightRecorder()));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED, value = "true")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE, value = "0")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SLOW_OPERATION_THRESHOLD, value = "0")
+    public void testSlowOperations() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        putAll(srv);
+
+        assertEquals(OPS_CNT, readPuts(srv.context().performanceStatistics().dumpFlightRecorder()));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED, value = "true")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE, value = "1")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_BUFFER_SIZE, value = "1024")
+    public void testRollingWindow() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        putAll(srv);
+
+        File file = srv.context().performanceStatistics().dumpFlightRecorder();
+
+        int puts = readPuts(file);
+
+        // The window keeps the latest records that fit into the buffer.
+        assertTrue("puts=" + puts, puts > 0 && puts < OPS_CNT);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_ENABLED, value = "true")
+    @WithSystemProperty(key = IGNITE_PERF_STAT_FLIGHT_RECORDER_SAMPLING_RATE, value = "1")
+    public void testDumpOnFailure() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        putAll(srv);
+
+        srv.context().failure().process(new FailureContext(CRITICAL_ERROR, new Exception("Test failure.")));
+
+        // The dumps on failures are throttled.
+        srv.context().failure().process(new FailureContext(CRITICAL_ERROR, new Exception("Test failure.")));
+
+        assertEquals(1, statisticsFiles().size());
+
+        assertEquals(OPS_CNT, readPuts(statisticsFiles().get(0)));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testDisabled() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        assertFalse(srv.context().performanceStatistics().enabled());
+
+        assertThrows(log, () -> srv.context().performanceStatistics().dumpFlightRecorder(),
+            IgniteCheckedException.class, "Performance statistics flight recorder is disabled.");
+    }
+
+    /** @param srv Ignite. */
+    private static void putAll(IgniteEx srv) {
+        IgniteCache<Integer, Integer> cache = srv.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < OPS_CNT; i++)
+            cache.put(i, i);
+    }
+
+    /**
+     * @param file Dump file.
+     * @return Count of the recorded puts to the default cache.
+     */
+    private static int readPuts(File file) throws Exception {
+        AtomicInteger puts = new AtomicInteger();
+        AtomicInteger cacheStarts = new AtomicInteger();
+
+        readFiles(singletonList(file), new TestHandler() {
+            @Override public void cacheStart(UUID nodeId, int cacheId, String name) {
+                if (DEFAULT_CACHE_NAME.equals(name))
+                    cacheStarts.incrementAndGet();
+            }
+
+            @Override public void cacheOperation(UUID nodeId, OperationType type, int cacheId, long startTime,
+                long duration) {
+                if (type == CACHE_PUT && cacheId == CU.cacheId(DEFAULT_CACHE_NAME))
+                    puts.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, cacheStarts.get());
+
+        return puts.get();
+    }
+}
@@ -17,12 +17,17 @@
 
 package org.apache.ignite.internal.util;
 
+import java.util.concurrent.CountDownLatch;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS;
+
 /**
  *
  */
@@ -158,6 +163,35 @@ public class StripedExecutorTest extends GridCommonAbstractTest {
         assertTrue(stripedExecSvc.detectStarvation());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_STRIPED_POOL_SPIN_WAIT_NANOS, value = "" + Long.MAX_VALUE)
+    public void testSpinWait() throws Exception {
+        StripedExecutor exec = new StripedExecutor(2, "foo name", "spin pool", new JavaLogger(), t -> {}, null, 2000);
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                CountDownLatch latch = new CountDownLatch(1);
+
+                exec.execute(i % 2, latch::countDown);
+
+                assertTrue(latch.await(10, SECONDS));
+            }
+
+            for (StripedExecutor.Stripe stripe : exec.stripes())
+                assertFalse((Boolean)GridTestUtils.getFieldValue(stripe, "parked"));
+
+            assertEquals(100, exec.completedTasks());
+        }
+        finally {
+            exec.shutdown();
+
+            assertTrue(exec.awaitTermination(10, SECONDS));
+        }
+    }
+
     /**
      *
      */
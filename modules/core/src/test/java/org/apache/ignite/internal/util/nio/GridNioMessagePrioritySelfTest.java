@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.lang.IgniteClosure;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.BULK;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.QUERY;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.SYSTEM;
+import static org.apache.ignite.internal.util.nio.GridNioMessagePriority.TRANSACTIONAL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests per-priority write queues of {@link GridSelectorNioSessionImpl}.
+ */
+public class GridNioMessagePrioritySelfTest extends GridCommonAbstractTest {
+    /** Resolves priority of a test message. */
+    private static final IgniteClosure<Object, GridNioMessagePriority> RSLVR = msg -> ((TestMessage)msg).prio;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWeightedRoundRobin() throws Exception {
+        GridSelectorNioSessionImpl ses = session(RSLVR);
+
+        for (int i = 0; i < 20; i++)
+            ses.offerFuture(request(BULK, i));
+
+        for (int i = 0; i < 10; i++) {
+            ses.offerFuture(request(SYSTEM, i));
+            ses.offerFuture(request(TRANSACTIONAL, i));
+            ses.offerFuture(request(QUERY, i));
+        }
+
+        assertEquals(50, ses.writeQueueSize());
+        assertEquals(50, F.size(ses.writeQueue()));
+
+        List<TestMessage> polled = pollAll(ses);
+
+        assertEquals(50, polled.size());
+        assertEquals(0, ses.writeQueueSize());
+        assertTrue(ses.writeQueue().isEmpty());
+
+        // First round: weights of the classes.
+        for (int i = 0; i < 8; i++)
+            assertEquals(SYSTEM, polled.get(i).prio);
+
+        for (int i = 8; i < 12; i++)
+            assertEquals(TRANSACTIONAL, polled.get(i).prio);
+
+        for (int i = 12; i < 14; i++)
+            assertEquals(QUERY, polled.get(i).prio);
+
+        assertEquals(BULK, polled.get(14).prio);
+
+        // Messages of the same class are written in the order they were sent.
+        int[] next = new int[GridNioMessagePriority.values().length];
+
+        for (TestMessage msg : polled)
+            assertEquals(next[msg.prio.ordinal()]++, msg.idx);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNoHeadOfLineBlocking() throws Exception {
+        GridSelectorNioSessionImpl ses = session(RSLVR);
+
+        for (int i = 0; i < 1000; i++)
+            ses.offerFuture(request(BULK, i));
+
+        assertEquals(BULK, msg(ses.pollFuture()).prio);
+
+        ses.offerFuture(request(TRANSACTIONAL, 0));
+
+        assertEquals(TRANSACTIONAL, msg(ses.pollFuture()).prio);
+
+        // System futures are always written first.
+        ses.offerFuture(request(TRANSACTIONAL, 1));
+        ses.offerSystemFuture(request(BULK, -1));
+
+        assertEquals(-1, msg(ses.pollFuture()).idx);
+        assertEquals(1000, ses.writeQueueSize());
+
+        assertTrue(ses.setClosed());
+
+        SessionWriteRequest last = request(BULK, 1000);
+
+        ses.offerFuture(last);
+
+        assertTrue(ses.removeFuture(last));
+        assertEquals(1000, ses.writeQueueSize());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPrioritiesDisabled() throws Exception {
+        GridSelectorNioSessionImpl ses = session(null);
+
+        ses.offerFuture(request(BULK, 0));
+        ses.offerFuture(request(SYSTEM, 1));
+        ses.offerFuture(request(TRANSACTIONAL, 2));
+
+        List<TestMessage> polled = pollAll(ses);
+
+        for (int i = 0; i < polled.size(); i++)
+            assertEquals(i, polled.get(i).idx);
+    }
+
+    /**
+     * @param rslvr Priority resolver.
+     * @return Session.
+     */
+    private GridSelectorNioSessionImpl session(@Nullable IgniteClosure<Object, GridNioMessagePriority> rslvr) {
+        InetSocketAddress addr = new InetSocketAddress("127.0.0.1", 0);
+
+        return new GridSelectorNioSessionImpl(log, mock(GridNioWorker.class), mock(GridNioFilterChain.class),
+            addr, addr, false, 0, rslvr, null, null, null);
+    }
+
+    /**
+     * @param ses Session.
+     * @return Messages of all polled requests.
+     */
+    private static List<TestMessage> pollAll(GridSelectorNioSessionImpl ses) {
+        List<TestMessage> res = new ArrayList<>();
+
+        SessionWriteRequest req;
+
+        while ((req = ses.pollFuture()) != null)
+            res.add(msg(req));
+
+        return res;
+    }
+
+    /**
+     * @param req Request.
+     * @return Test message.
+     */
+    private static TestMessage msg(SessionWriteRequest req) {
+        return (TestMessage)req.message();
+    }
+
+    /**
+     * @param prio Priority.
+     * @param idx Index.
+     * @return Write request.
+     */
+    private static SessionWriteRequest request(GridNioMessagePriority prio, int idx) {
+        SessionWriteRequest req = mock(SessionWriteRequest.class);
+
+        when(req.message()).thenReturn(new TestMessage(prio, idx));
+
+        return req;
+    }
+
+    /** */
+    private static class TestMessage {
+        /** */
+        private final GridNioMessagePriority prio;
+
+        /** */
+        private final int idx;
+
+        /**
+         * @param prio Priority.
+         * @param idx Index.
+         */
+        TestMessage(GridNioMessagePriority prio, int idx) {
+            this.prio = prio;
+            this.idx = idx;
+        }
+    }
+}
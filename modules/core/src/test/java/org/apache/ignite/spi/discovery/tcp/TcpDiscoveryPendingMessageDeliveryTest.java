@@ -21,8 +21,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.managers.discovery.CustomMessageWrapper;
@@ -33,6 +35,7 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.spi.discovery.tcp.messages.TcpDiscoveryAbstractMessage;
+import org.apache.ignite.spi.discovery.tcp.messages.TcpDiscoveryCustomEventMessage;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.jetbrains.annotations.Nullable;
@@ -71,6 +74,8 @@ public class TcpDiscoveryPendingMessageDeliveryTest extends GridCommonAbstractTe
             disco = new ListeningDiscoverySpi();
         else if (igniteInstanceName.startsWith("receiver"))
             disco = new DyingThreadDiscoverySpi();
+        else if (igniteInstanceName.startsWith("pipelining"))
+            disco = new PipelineCountingDiscoverySpi();
         else
             disco = new TcpDiscoverySpi();
 
@@ -228,6 +233,43 @@ public class TcpDiscoveryPendingMessageDeliveryTest extends GridCommonAbstractTe
         assertTrue("Sent: " + sentEnsuredMsgs + "; received: " + receivedEnsuredMsgs, delivered);
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPipelinedCustomMessagesDelivery() throws Exception {
+        IgniteEx coord = startGrid("pipelining-coordinator");
+        PipelineCountingDiscoverySpi coordDisco = (PipelineCountingDiscoverySpi)coord.configuration().getDiscoverySpi();
+
+        Set<TcpDiscoveryAbstractMessage> sentEnsuredMsgs = new GridConcurrentHashSet<>();
+        coordDisco.addSendMessageListener(msg -> {
+            if (coordDisco.ensured(msg))
+                sentEnsuredMsgs.add(msg);
+        });
+
+        startGrid("server");
+        startGrid("listener");
+
+        sentEnsuredMsgs.clear();
+        receivedEnsuredMsgs.clear();
+
+        log.info("Sending dummy custom messages");
+
+        for (int i = 0; i < 500; i++)
+            sendDummyCustomMessage(coordDisco, IgniteUuid.randomUuid());
+
+        assertTrue("Sent: " + sentEnsuredMsgs + "; received: " + receivedEnsuredMsgs,
+            GridTestUtils.waitForCondition(() -> {
+                log.info("Waiting for messages delivery [sentSize=" + sentEnsuredMsgs.size() +
+                    ", rcvdSize=" + receivedEnsuredMsgs.size() + ']');
+
+                return receivedEnsuredMsgs.equals(sentEnsuredMsgs);
+            }, 10000));
+
+        assertTrue("Custom messages have not been pipelined: " + coordDisco.maxUnacked.get(),
+            coordDisco.maxUnacked.get() > 1);
+    }
+
     /**
      * @param disco Discovery SPI.
      * @param id Message id.
@@ -280,6 +322,35 @@ public class TcpDiscoveryPendingMessageDeliveryTest extends GridCommonAbstractTe
         }
     }
 
+    /**
+     * Discovery SPI, that counts custom messages written to next node before a receipt is read.
+     */
+    private static class PipelineCountingDiscoverySpi extends TcpDiscoverySpi {
+        /** Custom messages written since the last receipt read. */
+        private final AtomicInteger unacked = new AtomicInteger();
+
+        /** Maximal number of custom messages written before a receipt read. */
+        private final AtomicInteger maxUnacked = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override protected void writeToSocket(ClusterNode node, Socket sock, OutputStream out,
+            TcpDiscoveryAbstractMessage msg, long timeout) throws IOException, IgniteCheckedException {
+            super.writeToSocket(node, sock, out, msg, timeout);
+
+            if (msg instanceof TcpDiscoveryCustomEventMessage)
+                unacked.incrementAndGet();
+        }
+
+        /** {@inheritDoc} */
+        @Override protected int readReceipt(Socket sock, long timeout) throws IOException {
+            int cnt = unacked.getAndSet(0);
+
+            maxUnacked.accumulateAndGet(cnt, Math::max);
+
+            return super.readReceipt(sock, timeout);
+        }
+    }
+
     /**
      *
      */
@@ -19,6 +19,8 @@ package org.apache.ignite.spi.discovery.tcp;
 
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.IgniteConfiguration;
@@ -29,6 +31,7 @@ import org.apache.ignite.internal.util.typedef.G;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.apache.ignite.spi.metric.HistogramMetric;
 import org.apache.ignite.spi.metric.IntMetric;
 import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.spi.metric.ObjectMetric;
@@ -40,6 +43,7 @@ import org.junit.Test;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.events.EventType.EVT_NODE_SEGMENTED;
 import static org.apache.ignite.internal.managers.discovery.GridDiscoveryManager.DISCO_METRICS;
+import static org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryStatistics.RING_RTT_METRIC_PREFIX;
 import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
 
 /**
@@ -267,4 +271,46 @@ public class TcpDiscoverySpiMBeanTest extends GridCommonAbstractTest {
             stopAllGrids();
         }
     }
+
+    /**
+     * Tests ring round-trip time metrics collected by coordinator.
+     *
+     * @throws Exception if fails.
+     */
+    @Test
+    public void testRingRoundTripTimeMetrics() throws Exception {
+        int cacheCnt = 10;
+
+        try {
+            IgniteEx crd = startGrids(3);
+
+            AtomicInteger idx = new AtomicInteger();
+
+            GridTestUtils.runMultiThreaded(
+                () -> crd.getOrCreateCache("cache-" + idx.getAndIncrement()), cacheCnt, "create-cache");
+
+            for (int i = 0; i < 3; i++)
+                assertEquals(cacheCnt, grid(i).cacheNames().size());
+
+            MetricRegistry discoReg = crd.context().metric().registry(DISCO_METRICS);
+
+            HistogramMetric nodeAdded = discoReg.findMetric(RING_RTT_METRIC_PREFIX + "TcpDiscoveryNodeAddedMessage");
+
+            assertNotNull(nodeAdded);
+            assertEquals(2, LongStream.of(nodeAdded.value()).sum());
+
+            HistogramMetric cacheChange = discoReg.findMetric(RING_RTT_METRIC_PREFIX + "DynamicCacheChangeBatch");
+
+            assertNotNull(cacheChange);
+            assertEquals(cacheCnt, LongStream.of(cacheChange.value()).sum());
+
+            for (int i = 1; i < 3; i++) {
+                assertNull(grid(i).context().metric().registry(DISCO_METRICS)
+                    .findMetric(RING_RTT_METRIC_PREFIX + "DynamicCacheChangeBatch"));
+            }
+        }
+        finally {
+            stopAllGrids();
+        }
+    }
 }
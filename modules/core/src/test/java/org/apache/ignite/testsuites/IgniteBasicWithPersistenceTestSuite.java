@@ -43,6 +43,8 @@ import org.apache.ignite.internal.processors.cache.persistence.SingleNodePersist
 import org.apache.ignite.internal.processors.performancestatistics.CacheStartTest;
 import org.apache.ignite.internal.processors.performancestatistics.CheckpointTest;
 import org.apache.ignite.internal.processors.performancestatistics.ForwardReadTest;
+import org.apache.ignite.internal.processors.performancestatistics.IndexedPerformanceStatisticsReaderTest;
+import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsFlightRecorderTest;
 import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsMultipleStartTest;
 import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsPropertiesTest;
 import org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsRotateFileTest;
@@ -102,7 +104,9 @@ import org.junit.runners.Suite;
     StringCacheTest.class,
     PerformanceStatisticsPropertiesTest.class,
     PerformanceStatisticsMultipleStartTest.class,
+    PerformanceStatisticsFlightRecorderTest.class,
     ForwardReadTest.class,
+    IndexedPerformanceStatisticsReaderTest.class,
     CacheStartTest.class,
     CheckpointTest.class
 })
@@ -21,6 +21,7 @@ import org.apache.ignite.internal.binary.BinaryArrayIdentityResolverSelfTest;
 import org.apache.ignite.internal.binary.BinaryArraySelfTest;
 import org.apache.ignite.internal.binary.BinaryBasicIdMapperSelfTest;
 import org.apache.ignite.internal.binary.BinaryBasicNameMapperSelfTest;
+import org.apache.ignite.internal.binary.BinaryCompactLayoutSelfTest;
 import org.apache.ignite.internal.binary.BinaryConfigurationConsistencySelfTest;
 import org.apache.ignite.internal.binary.BinaryConfigurationCustomSerializerSelfTest;
 import org.apache.ignite.internal.binary.BinaryContextPredefinedTypesTest;
@@ -46,6 +47,10 @@ import org.apache.ignite.internal.binary.GridBinaryMarshallerCtxDisabledSelfTest
 import org.apache.ignite.internal.binary.GridBinaryWildcardsSelfTest;
 import org.apache.ignite.internal.binary.GridDefaultBinaryMappersBinaryMetaDataSelfTest;
 import org.apache.ignite.internal.binary.GridSimpleLowerCaseBinaryMappersBinaryMetaDataSelfTest;
+import org.apache.ignite.internal.binary.compactlayout.BinaryFieldsHeapCompactLayoutSelfTest;
+import org.apache.ignite.internal.binary.compactlayout.BinaryFieldsOffheapCompactLayoutSelfTest;
+import org.apache.ignite.internal.binary.compactlayout.BinaryFooterOffsetsHeapCompactLayoutSelfTest;
+import org.apache.ignite.internal.binary.compactlayout.BinaryFooterOffsetsOffheapCompactLayoutSelfTest;
 import org.apache.ignite.internal.binary.noncompact.BinaryFieldsHeapNonCompactSelfTest;
 import org.apache.ignite.internal.binary.noncompact.BinaryFieldsOffheapNonCompactSelfTest;
 import org.apache.ignite.internal.binary.noncompact.BinaryFooterOffsetsHeapNonCompactSelfTest;
@@ -141,6 +146,13 @@ import org.junit.runners.Suite;
     BinaryFooterOffsetsHeapNonCompactSelfTest.class,
     BinaryFooterOffsetsOffheapNonCompactSelfTest.class,
 
+    // Tests for objects in the compact layout.
+    BinaryCompactLayoutSelfTest.class,
+    BinaryFieldsHeapCompactLayoutSelfTest.class,
+    BinaryFieldsOffheapCompactLayoutSelfTest.class,
+    BinaryFooterOffsetsHeapCompactLayoutSelfTest.class,
+    BinaryFooterOffsetsOffheapCompactLayoutSelfTest.class,
+
     GridCacheBinaryObjectsReplicatedSelfTest.class,
     GridCacheBinaryObjectsPartitionedSelfTest.class,
     GridCacheBinaryObjectsPartitionedNearDisabledSelfTest.class,
@@ -72,6 +72,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridCachePart
 import org.apache.ignite.internal.processors.cache.distributed.dht.IgniteCacheContainsKeyColocatedSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.IgniteCachePartitionedBackupNodeFailureRecoveryTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.IgniteCrossCacheTxNearEnabledSelfTest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.AtomicCacheFastLocalGetTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.IgniteCacheContainsKeyColocatedAtomicSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.IgniteCacheContainsKeyNearAtomicSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridCacheAtomicNearEvictionEventSelfTest;
@@ -215,6 +216,7 @@ public class IgniteCacheMvccTestSuite2 {
         ignoredTests.add(IgniteCacheContainsKeyNearSelfTest.class);
         ignoredTests.add(IgniteCacheContainsKeyColocatedAtomicSelfTest.class);
         ignoredTests.add(IgniteCacheContainsKeyNearAtomicSelfTest.class);
+        ignoredTests.add(AtomicCacheFastLocalGetTest.class);
         ignoredTests.add(NoPresentCacheInterceptorOnClientTest.class);
 
         List<Class<?>> suite = new ArrayList<>(IgniteCacheTestSuite2.suite(ignoredTests));
@@ -43,6 +43,8 @@ import org.apache.ignite.internal.processors.cache.distributed.IgniteCacheMultiC
 import org.apache.ignite.internal.processors.cache.distributed.IgniteOptimisticTxSuspendResumeTest;
 import org.apache.ignite.internal.processors.cache.distributed.OnePhaseCommitAndNodeLeftTest;
 import org.apache.ignite.internal.processors.cache.distributed.PartitionsExchangeAwareTest;
+import org.apache.ignite.internal.processors.cache.distributed.TxOnePhaseCommitMappingTest;
+import org.apache.ignite.internal.processors.cache.distributed.TxReadOnlySerializableValidationTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.latch.ExchangeLatchManagerTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticOnPartitionExchangeTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticPrepareOnUnstableTopologyTest;
@@ -93,6 +95,8 @@ public class IgniteCacheMvccTestSuite6 {
         ignoredTests.add(IgniteCacheMultiClientsStartTest.class);
         ignoredTests.add(CacheIgniteOutOfMemoryExceptionTest.class);
         ignoredTests.add(OnePhaseCommitAndNodeLeftTest.class);
+        ignoredTests.add(TxOnePhaseCommitMappingTest.class);
+        ignoredTests.add(TxReadOnlySerializableValidationTest.class);
 
         // Skip tests that has Mvcc clones.
         // See PartitionedMvccTxPessimisticCacheGetsDistributionTest.
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.util.IgniteUtilsSelfTest;
 import org.apache.ignite.internal.util.IgniteUtilsUnitTest;
 import org.apache.ignite.internal.util.lang.GridFuncSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioDelimitedBufferSelfTest;
+import org.apache.ignite.internal.util.nio.GridNioMessagePrioritySelfTest;
 import org.apache.ignite.internal.util.nio.GridNioSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioServerTest;
 import org.apache.ignite.internal.util.nio.GridNioSessionMetaKeySelfTest;
@@ -136,6 +137,7 @@ import org.junit.runners.Suite;
     GridNioSessionMetaKeySelfTest.class,
     GridNioSelfTest.class,
     GridNioServerTest.class,
+    GridNioMessagePrioritySelfTest.class,
     GridNioFilterChainSelfTest.class,
     GridNioSslSelfTest.class,
     GridNioDelimitedBufferSelfTest.class,
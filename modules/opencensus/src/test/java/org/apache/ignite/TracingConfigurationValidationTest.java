@@ -119,4 +119,20 @@ public class TracingConfigurationValidationTest extends GridCommonAbstractTest {
             new HashSet<>(Arrays.asList(COMMUNICATION, DISCOVERY, TX, EXCHANGE))})
             new TracingConfigurationParameters.Builder().withIncludedScopes(validincludedScopes).build();
     }
+
+    /**
+     * Ensure that in case of negative latency threshold {@code IllegalArgumentException} is thrown with message
+     * "Specified latency threshold=[invalidVal] has invalid value. Should be non-negative."
+     */
+    @Test
+    public void testThatItsPossibleToSpecifyOnlyNonNegativeLatencyThreshold() {
+        for (long validLatencyThreshold : new long[] {0, 1, Long.MAX_VALUE})
+            new TracingConfigurationParameters.Builder().withLatencyThreshold(validLatencyThreshold).build();
+
+        GridTestUtils.assertThrows(
+            log,
+            () -> new TracingConfigurationParameters.Builder().withLatencyThreshold(-1).build(),
+            IllegalArgumentException.class,
+            "Specified latency threshold=[-1] has invalid value. Should be non-negative.");
+    }
 }
@@ -38,7 +38,8 @@ import org.junit.runners.Suite;
     OpenCensusTracingConfigurationResetAllTest.class,
     OpenCensusDiscoveryTracingTest.class,
     OpenCensusSqlJdbcTracingTest.class,
-    OpenCensusSqlNativeTracingTest.class
+    OpenCensusSqlNativeTracingTest.class,
+    OpenCensusTailSamplingTest.class
 })
 public class IgniteOpenCensusSuite {
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.monitoring.opencensus;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import io.opencensus.trace.SpanId;
+import io.opencensus.trace.export.SpanData;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.lang.IgniteProductVersion;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.tracing.Scope;
+import org.apache.ignite.spi.tracing.TracingConfigurationCoordinates;
+import org.apache.ignite.spi.tracing.TracingConfigurationParameters;
+import org.apache.ignite.spi.tracing.TracingSpi;
+import org.apache.ignite.spi.tracing.opencensus.OpenCensusTracingSpi;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.IgniteFeatures.TRACING_TAIL_SAMPLING;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_IGNITE_FEATURES;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_DURATION;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_START_TIME;
+import static org.apache.ignite.internal.processors.tracing.SpanTags.TAIL_SAMPLED_TRACE_ID;
+import static org.apache.ignite.internal.processors.tracing.SpanType.TX;
+import static org.apache.ignite.internal.processors.tracing.SpanType.TX_COMMIT;
+import static org.apache.ignite.internal.processors.tracing.SpanType.TX_NEAR_ENLIST_WRITE;
+import static org.apache.ignite.spi.tracing.TracingConfigurationParameters.SAMPLING_RATE_NEVER;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
+
+/**
+ * Tests the tail-based sampling of traces.
+ */
+public class OpenCensusTailSamplingTest extends AbstractTracingTest {
+    /** Latency threshold in milliseconds. */
+    private static final long LATENCY_THRESHOLD = 500;
+
+    /** Name of the client node that does not support the tail-based sampling. */
+    private static final String NOT_SUPPORTING_CLIENT = "not-supporting-client";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        if (NOT_SUPPORTING_CLIENT.equals(igniteInstanceName)) {
+            TcpDiscoverySpi discoSpi = new TcpDiscoverySpi() {
+                @Override public void setNodeAttributes(Map<String, Object> attrs, IgniteProductVersion ver) {
+                    Map<String, Object> attrs0 = new HashMap<>(attrs);
+
+                    BitSet features = BitSet.valueOf((byte[])attrs0.get(ATTR_IGNITE_FEATURES));
+
+                    features.clear(TRACING_TAIL_SAMPLING.getFeatureId());
+
+                    attrs0.put(ATTR_IGNITE_FEATURES, features.toByteArray());
+
+                    super.setNodeAttributes(attrs0, ver);
+                }
+            };
+
+            discoSpi.setIpFinder(((TcpDiscoverySpi)cfg.getDiscoverySpi()).getIpFinder());
+
+            cfg.setDiscoverySpi(discoSpi);
+        }
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected TracingSpi getTracingSpi() {
+        return new OpenCensusTracingSpi();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void before() throws Exception {
+        super.before();
+
+        grid(0).tracingConfiguration().set(
+            new TracingConfigurationCoordinates.Builder(Scope.TX).build(),
+            new TracingConfigurationParameters.Builder()
+                .withSamplingRate(SAMPLING_RATE_NEVER)
+                .withLatencyThreshold(LATENCY_THRESHOLD)
+                .build());
+    }
+
+    /**
+     * Checks that the trace of the transaction that is faster than the threshold is not exported.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFastTransactionIsNotExported() throws Exception {
+        IgniteEx client = startGrid("client");
+
+        try (Transaction tx = client.transactions().txStart(PESSIMISTIC, SERIALIZABLE)) {
+            client.cache(DEFAULT_CACHE_NAME).put(1, 1);
+
+            tx.commit();
+        }
+
+        handler().flush();
+
+        checkSpan(TX, null, 0, null);
+    }
+
+    /**
+     * Checks that the trace of the transaction that is slower than the threshold is exported with the buffered spans.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSlowTransactionIsExported() throws Exception {
+        IgniteEx client = startGrid("client");
+
+        try (Transaction tx = client.transactions().txStart(PESSIMISTIC, SERIALIZABLE)) {
+            client.cache(DEFAULT_CACHE_NAME).put(1, 1);
+
+            doSleep(LATENCY_THRESHOLD * 2);
+
+            tx.commit();
+        }
+
+        handler().flush();
+
+        List<SpanId> txSpanIds = checkSpan(TX, null, 1, null);
+
+        SpanData txSpan = handler().spanById(txSpanIds.get(0));
+
+        assertNotNull(attributeValueToString(txSpan.getAttributes().getAttributeMap().get(TAIL_SAMPLED_TRACE_ID)));
+        assertNotNull(attributeValueToString(txSpan.getAttributes().getAttributeMap().get(TAIL_SAMPLED_START_TIME)));
+
+        long duration = Long.parseLong(
+            attributeValueToString(txSpan.getAttributes().getAttributeMap().get(TAIL_SAMPLED_DURATION)));
+
+        assertTrue(duration >= LATENCY_THRESHOLD * 1_000_000L);
+
+        checkSpan(TX_NEAR_ENLIST_WRITE, txSpanIds.get(0), 1, null);
+
+        checkSpan(TX_COMMIT, txSpanIds.get(0), 1, null);
+    }
+
+    /**
+     * Checks that traces are not tail-sampled if a node does not support it.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSlowTransactionIsNotExportedIfNodeDoesNotSupportTailSampling() throws Exception {
+        IgniteEx client = startGrid("client");
+
+        startGrid(NOT_SUPPORTING_CLIENT);
+
+        try (Transaction tx = client.transactions().txStart(PESSIMISTIC, SERIALIZABLE)) {
+            client.cache(DEFAULT_CACHE_NAME).put(1, 1);
+
+            doSleep(LATENCY_THRESHOLD * 2);
+
+            tx.commit();
+        }
+
+        handler().flush();
+
+        checkSpan(TX, null, 0, null);
+    }
+}